@@ -15,6 +15,8 @@
 
 #include <string>
 
+#include <boost/make_shared.hpp>
+
 #include "SessionRpc.hpp"
 #include "SessionHttpMethods.hpp"
 #include "SessionClientEventQueue.hpp"
@@ -43,6 +45,9 @@ int s_rpcDelayMs = -1;
 
 std::set<std::string> s_offlineableUris;
 
+// name of the method used to send a batch of rpc requests in one round trip
+const char * const kBatchMethod = "batch";
+
 // json rpc methods
 core::json::JsonRpcAsyncMethods* s_pJsonRpcMethods = nullptr;
    
@@ -154,6 +159,171 @@ SEXP rs_invokeRpc(SEXP name, SEXP args)
    return result;
 }
 
+// state for one request within a batch. requests normally complete while
+// the batch is being executed; those that don't are converted into async
+// requests whose response is delivered later as an async completion event
+struct BatchedRequest
+{
+   BatchedRequest() : collecting(true), completed(false) {}
+
+   bool collecting;
+   bool completed;
+   std::string asyncHandle;
+   json::JsonRpcResponse response;
+};
+
+void endBatchedRequest(boost::shared_ptr<BatchedRequest> pBatched,
+                       const core::Error& executeError,
+                       json::JsonRpcResponse* pJsonRpcResponse)
+{
+   if (pBatched->collecting)
+   {
+      if (pJsonRpcResponse != nullptr)
+         pBatched->response = *pJsonRpcResponse;
+      if (executeError)
+         pBatched->response.setError(executeError);
+      pBatched->completed = true;
+   }
+   else
+   {
+      // the batch response has already been sent
+      rpc::endHandleRpcRequestIndirect(pBatched->asyncHandle,
+                                       executeError,
+                                       pJsonRpcResponse);
+   }
+}
+
+json::Value executeBatchedRequest(const json::JsonRpcRequest& batchRequest,
+                                  const json::Value& requestValue,
+                                  boost::posix_time::ptime batchStartTime,
+                                  std::vector<json::JsonRpcResponse>* pAfterResponses)
+{
+   json::JsonRpcResponse response;
+
+   // individual requests inherit the identity of the batch request (which
+   // has already been validated)
+   json::JsonRpcRequest request;
+   json::Object requestObject;
+   if (requestValue.isObject())
+      requestObject = requestValue.getObject();
+
+   json::Object::Iterator methodIt = requestObject.find("method");
+   if (methodIt == requestObject.end() || !(*methodIt).getValue().isString())
+   {
+      response.setError(Error(json::errc::InvalidRequest, ERROR_LOCATION));
+      return response.getRawResponse();
+   }
+   request.method = (*methodIt).getValue().getString();
+
+   json::Object::Iterator paramsIt = requestObject.find("params");
+   if (paramsIt != requestObject.end() && (*paramsIt).getValue().isArray())
+      request.params = (*paramsIt).getValue().getArray();
+
+   json::Object::Iterator kwparamsIt = requestObject.find("kwparams");
+   if (kwparamsIt != requestObject.end() && (*kwparamsIt).getValue().isObject())
+      request.kwparams = (*kwparamsIt).getValue().getObject();
+
+   request.sourceWindow = batchRequest.sourceWindow;
+   request.clientId = batchRequest.clientId;
+   request.version = batchRequest.version;
+   request.clientVersion = batchRequest.clientVersion;
+   request.isBackgroundConnection = batchRequest.isBackgroundConnection;
+
+   auto it = s_pJsonRpcMethods->find(request.method);
+   if (it == s_pJsonRpcMethods->end() || request.method == kBatchMethod)
+   {
+      // methods handled outside the rpc method table (e.g. console_input)
+      // can't be batched; the client will send these on their own
+      Error executeError = Error(json::errc::MethodNotFound, ERROR_LOCATION);
+      executeError.addProperty("method", request.method);
+      response.setError(executeError);
+      return response.getRawResponse();
+   }
+
+   std::pair<bool, json::JsonRpcAsyncFunction> reg = it->second;
+   json::JsonRpcAsyncFunction handlerFunction = reg.second;
+
+   if (!reg.first)
+   {
+      // registerAsyncRpc - respond with a handle, then emit the event
+      std::string asyncHandle = core::system::generateUuid(true);
+      response.setAsyncHandle(asyncHandle);
+      response.setField(kEventsPending, "false");
+      handlerFunction(request,
+                      boost::bind(rpc::endHandleRpcRequestIndirect,
+                                  asyncHandle,
+                                  _1,
+                                  _2));
+      return response.getRawResponse();
+   }
+
+   boost::shared_ptr<BatchedRequest> pBatched = boost::make_shared<BatchedRequest>();
+   handlerFunction(request, boost::bind(endBatchedRequest, pBatched, _1, _2));
+
+   if (!pBatched->completed)
+   {
+      // the handler deferred its response; deliver it as an async completion
+      pBatched->collecting = false;
+      pBatched->asyncHandle = core::system::generateUuid(true);
+      response.setAsyncHandle(pBatched->asyncHandle);
+      response.setField(kEventsPending, "false");
+      return response.getRawResponse();
+   }
+
+   pBatched->collecting = false;
+   if (!clientEventQueue().eventAddedSince(batchStartTime) &&
+       !pBatched->response.hasAfterResponse())
+   {
+      pBatched->response.setField(kEventsPending, "false");
+   }
+
+   if (pBatched->response.hasAfterResponse())
+      pAfterResponses->push_back(pBatched->response);
+
+   return pBatched->response.getRawResponse();
+}
+
+void runAfterResponses(boost::shared_ptr<std::vector<json::JsonRpcResponse> > pAfterResponses)
+{
+   for (json::JsonRpcResponse& response : *pAfterResponses)
+      response.runAfterResponse();
+}
+
+// execute a batch of requests sent by the client in a single round trip;
+// the result is the array of responses, in request order
+void handleBatchRequest(const json::JsonRpcRequest& request,
+                        const json::JsonRpcFunctionContinuation& continuation)
+{
+   json::Array requests;
+   Error error = json::readParams(request.params, &requests);
+   if (error)
+   {
+      continuation(error, nullptr);
+      return;
+   }
+
+   using namespace boost::posix_time;
+   ptime batchStartTime = microsec_clock::universal_time();
+
+   boost::shared_ptr<std::vector<json::JsonRpcResponse> > pAfterResponses =
+         boost::make_shared<std::vector<json::JsonRpcResponse> >();
+
+   json::Array responses;
+   for (const json::Value& requestValue : requests)
+   {
+      responses.push_back(executeBatchedRequest(request,
+                                                requestValue,
+                                                batchStartTime,
+                                                pAfterResponses.get()));
+   }
+
+   json::JsonRpcResponse response;
+   response.setResult(responses);
+   if (!pAfterResponses->empty())
+      response.setAfterResponse(boost::bind(runAfterResponses, pAfterResponses));
+   continuation(Success(), &response);
+}
+
 } // anonymous namespace
 
 
@@ -385,6 +555,10 @@ Error initialize()
 
    RS_REGISTER_CALL_METHOD(rs_invokeRpc);
 
+   s_pJsonRpcMethods->insert(
+         std::make_pair(kBatchMethod,
+                        std::make_pair(true, json::JsonRpcAsyncFunction(handleBatchRequest))));
+
    s_offlineableUris.insert("/rpc/save_document");
    s_offlineableUris.insert("/rpc/save_document_diff");
    s_offlineableUris.insert("/rpc/open_document");
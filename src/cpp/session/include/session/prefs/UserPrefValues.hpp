@@ -411,6 +411,7 @@ namespace prefs {
 #define kMemoryQueryIntervalSeconds "memory_query_interval_seconds"
 #define kTerminalPythonIntegration "terminal_python_integration"
 #define kSessionProtocolDebug "session_protocol_debug"
+#define kBatchRpcRequests "batch_rpc_requests"
 #define kPythonProjectEnvironmentAutomaticActivate "python_project_environment_automatic_activate"
 #define kCheckNullExternalPointers "check_null_external_pointers"
 #define kUiLanguage "ui_language"
@@ -1876,6 +1877,12 @@ public:
    bool sessionProtocolDebug();
    core::Error setSessionProtocolDebug(bool val);
 
+   /**
+    * Whether remote procedure calls made at the same time should be combined into a single request to the R session.
+    */
+   bool batchRpcRequests();
+   core::Error setBatchRpcRequests(bool val);
+
    /**
     * When enabled, if the active project contains a Python virtual environment, then RStudio will automatically activate this environment on startup.
     */
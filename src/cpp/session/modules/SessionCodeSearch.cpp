@@ -73,6 +73,11 @@ namespace code_search {
 
 namespace {
 
+// the most files / source items we'll send to the client for it to search
+// itself (beyond this, the client sends each search to the server)
+const std::size_t kCodeSearchIndexMaxFiles = 100000;
+const std::size_t kCodeSearchIndexMaxSourceItems = 100000;
+
 bool isWithinIgnoredDirectory(const FilePath& filePath, const std::vector<FilePath>& ignoreDirs)
 {
    using namespace projects;
@@ -1762,6 +1767,21 @@ json::Array toJsonArray(
 
 
 
+// return rpc array list (wire efficiency)
+json::Object sourceItemsAsJson(const std::vector<SourceItem>& items)
+{
+   json::Object src;
+   src["type"] = toJsonArray<int>(items, &SourceItem::type);
+   src["name"] = toJsonArray<std::string>(items, &SourceItem::name);
+   src["parent_name"] = toJsonArray<std::string>(items, &SourceItem::parentName);
+   src["extra_info"] = toJsonArray<std::string>(items, &SourceItem::extraInfo);
+   src["context"] = toJsonArray<std::string>(items, &SourceItem::context);
+   src["line"] = toJsonArray<int>(items, &SourceItem::line);
+   src["column"] = toJsonArray<int>(items, &SourceItem::column);
+   src["metadata"] = toJsonArray<json::Object>(items, &SourceItem::metadata);
+   return src;
+}
+
 Error searchCode(const json::JsonRpcRequest& request,
                  json::JsonRpcResponse* pResponse)
 {
@@ -1873,17 +1893,7 @@ Error searchCode(const json::JsonRpcRequest& request,
    files["path"] = json::toJsonArray(pathsFiltered);
    result["file_items"] = files;
 
-   // return rpc array list (wire efficiency)
-   json::Object src;
-   src["type"] = toJsonArray<int>(srcItemsFiltered, &SourceItem::type);
-   src["name"] = toJsonArray<std::string>(srcItemsFiltered, &SourceItem::name);
-   src["parent_name"] = toJsonArray<std::string>(srcItemsFiltered, &SourceItem::parentName);
-   src["extra_info"] = toJsonArray<std::string>(srcItemsFiltered, &SourceItem::extraInfo);
-   src["context"] = toJsonArray<std::string>(srcItemsFiltered, &SourceItem::context);
-   src["line"] = toJsonArray<int>(srcItemsFiltered, &SourceItem::line);
-   src["column"] = toJsonArray<int>(srcItemsFiltered, &SourceItem::column);
-   src["metadata"] = toJsonArray<json::Object>(srcItemsFiltered, &SourceItem::metadata);
-   result["source_items"] = src;
+   result["source_items"] = sourceItemsAsJson(srcItemsFiltered);
 
    // set more available bit
    result["more_available"] =
@@ -1895,6 +1905,79 @@ Error searchCode(const json::JsonRpcRequest& request,
 }
 
 
+// Returns everything search_code searches (other than test items): the
+// project's source files and all indexed source items. The client uses
+// this to answer searches itself; 'complete' is false if the index was too
+// large to send in full, in which case the client keeps using search_code.
+Error getCodeSearchIndex(const json::JsonRpcRequest& request,
+                         json::JsonRpcResponse* pResponse)
+{
+   bool includeFiles = true;
+   Error error = json::readParams(request.params, &includeFiles);
+   if (error)
+      return error;
+
+   json::Object result;
+   bool complete = true;
+
+   // files (optional, as these change much less often than source items)
+   if (includeFiles)
+   {
+      std::vector<std::string> names;
+      std::vector<std::string> paths;
+      bool moreFilesAvailable = false;
+      searchFiles(std::string(), kCodeSearchIndexMaxFiles, true,
+                  &names, &paths, &moreFilesAvailable);
+      complete = complete && !moreFilesAvailable;
+
+      json::Object files;
+      files["filename"] = json::toJsonArray(names);
+      files["path"] = json::toJsonArray(paths);
+      result["file_items"] = files;
+   }
+
+   // R source items
+   std::vector<SourceItem> srcItems;
+   std::vector<r_util::RSourceItem> rSrcItems;
+   bool moreSourceItemsAvailable = false;
+   searchSource(std::string(), kCodeSearchIndexMaxSourceItems, false,
+                &rSrcItems, &moreSourceItemsAvailable);
+   complete = complete && !moreSourceItemsAvailable;
+   std::transform(rSrcItems.begin(),
+                  rSrcItems.end(),
+                  std::back_inserter(srcItems),
+                  fromRSourceItem);
+
+   // cpp definitions
+   std::vector<clang::CppDefinition> cppDefinitions;
+   clang::searchDefinitions(std::string(), &cppDefinitions);
+   std::transform(cppDefinitions.begin(),
+                  cppDefinitions.end(),
+                  std::back_inserter(srcItems),
+                  fromCppDefinition);
+
+   // bookdown / quarto cross references
+   fillFromCrossrefs(std::string(), &srcItems);
+
+   // drop hidden items (as search_code does)
+   srcItems.erase(std::remove_if(srcItems.begin(),
+                                 srcItems.end(),
+                                 [](const SourceItem& item) { return item.hidden(); }),
+                  srcItems.end());
+
+   if (srcItems.size() > kCodeSearchIndexMaxSourceItems)
+   {
+      complete = false;
+      srcItems.resize(kCodeSearchIndexMaxSourceItems);
+   }
+
+   result["source_items"] = sourceItemsAsJson(srcItems);
+   result["complete"] = complete;
+
+   pResponse->setResult(result);
+   return Success();
+}
+
 bool namespaceIsPackage(const std::string& namespaceName,
                         std::string* pPackage)
 {
@@ -2693,6 +2776,7 @@ Error initialize()
    ExecBlock initBlock;
    initBlock.addFunctions()
       (bind(registerRpcMethod, "search_code", searchCode))
+      (bind(registerRpcMethod, "get_code_search_index", getCodeSearchIndex))
       (bind(registerRpcMethod, "get_function_definition", getFunctionDefinition))
       (bind(registerRpcMethod, "get_search_path_function_definition", getSearchPathFunctionDefinition))
       (bind(registerRpcMethod, "get_method_definition", getMethodDefinition))
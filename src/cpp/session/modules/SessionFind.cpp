@@ -64,8 +64,12 @@ const std::string& findCategory()
 
 namespace {
 
-// This must be the same as MAX_COUNT in FindOutputPane.java
-const size_t MAX_COUNT = 1000;
+// Find results are sent to the client a page at a time; the client asks
+// for further pages as the user needs them (see find_more_results)
+const int kResultPageSize = 1000;
+
+// Searches stop once this many matching lines have been found
+const int kMaxResultCount = 100000;
 
 const size_t MAX_LINE_LENGTH = 3000;
 
@@ -178,7 +182,10 @@ public:
       replace_(false),
       preview_(false),
       gitFlag_(false),
-      pReplaceProgress_(nullptr)
+      pReplaceProgress_(nullptr),
+      resultLimit_(kResultPageSize),
+      sentCount_(0),
+      moreSent_(false)
    {
    }
 
@@ -249,7 +256,8 @@ public:
                   const json::Array& matchOns,
                   const json::Array& matchOffs,
                   const json::Array& replaceMatchOns,
-                  const json::Array& replaceMatchOffs)
+                  const json::Array& replaceMatchOffs,
+                  const json::Array& errors)
    {
       if (handle_.empty())
          handle_ = handle;
@@ -265,6 +273,59 @@ public:
                std::back_inserter(replaceMatchOns_));
       std::copy(replaceMatchOffs.begin(), replaceMatchOffs.end(),
                 std::back_inserter(replaceMatchOffs_));
+      std::copy(errors.begin(), errors.end(), std::back_inserter(errors_));
+      return true;
+   }
+
+   // lets the client have another page of results
+   void addResultPage(const std::string& handle)
+   {
+      if (handle_ == handle)
+         resultLimit_ += kResultPageSize;
+   }
+
+   // collects the results the client hasn't seen yet (up to its limit);
+   // returns false if there's nothing new to tell the client
+   bool takeResultPage(json::Object* pResult)
+   {
+      int count = resultCount();
+      int end = std::min(count, resultLimit_);
+      bool more = count > resultLimit_;
+      if (sentCount_ >= end && more == moreSent_)
+         return false;
+
+      json::Array files, lineNums, contents, matchOns, matchOffs;
+      json::Array replaceMatchOns, replaceMatchOffs, errors;
+      for (int i = sentCount_; i < end; i++)
+      {
+         files.push_back(files_[i]);
+         lineNums.push_back(lineNums_[i]);
+         contents.push_back(contents_[i]);
+         matchOns.push_back(matchOns_[i]);
+         matchOffs.push_back(matchOffs_[i]);
+         replaceMatchOns.push_back(replaceMatchOns_[i]);
+         replaceMatchOffs.push_back(replaceMatchOffs_[i]);
+         if (i < gsl::narrow_cast<int>(errors_.getSize()))
+            errors.push_back(errors_[i]);
+         else
+            errors.push_back(json::Array());
+      }
+      sentCount_ = std::max(sentCount_, end);
+      moreSent_ = more;
+
+      json::Object results;
+      results["file"] = files;
+      results["line"] = lineNums;
+      results["lineValue"] = contents;
+      results["matchOn"] = matchOns;
+      results["matchOff"] = matchOffs;
+      results["replaceMatchOn"] = replaceMatchOns;
+      results["replaceMatchOff"] = replaceMatchOffs;
+      results["errors"] = errors;
+
+      (*pResult)["handle"] = handle_;
+      (*pResult)["results"] = results;
+      (*pResult)["more"] = more;
       return true;
    }
 
@@ -330,7 +391,11 @@ public:
       replacePattern_.clear();
       replaceMatchOns_.clear();
       replaceMatchOffs_.clear();
+      errors_.clear();
       pReplaceProgress_ = nullptr;
+      resultLimit_ = kResultPageSize;
+      sentCount_ = 0;
+      moreSent_ = false;
    }
 
    Error readFromJson(const json::Object& asJson)
@@ -369,6 +434,15 @@ public:
          contents_.clear();
       }
 
+      // the state holds only the results the client had been sent; the
+      // client receives them with the state
+      errors_.clear();
+      resultLimit_ = std::max(kResultPageSize, resultCount());
+      sentCount_ = resultCount();
+      error = json::getOptionalParam(asJson, "more", false, &moreSent_);
+      if (error)
+         return error;
+
       return Success();
    }
 
@@ -381,15 +455,32 @@ public:
       obj["regex"] = regex_;
       obj["ignoreCase"] = ignoreCase_;
 
+      // include only the results the client has been sent (the rest are
+      // sent a page at a time as it asks for them), along with whether there
+      // were more to send
+      json::Array files, lineNums, contents, matchOns, matchOffs;
+      json::Array replaceMatchOns, replaceMatchOffs;
+      for (int i = 0; i < sentCount_; i++)
+      {
+         files.push_back(files_[i]);
+         lineNums.push_back(lineNums_[i]);
+         contents.push_back(contents_[i]);
+         matchOns.push_back(matchOns_[i]);
+         matchOffs.push_back(matchOffs_[i]);
+         replaceMatchOns.push_back(replaceMatchOns_[i]);
+         replaceMatchOffs.push_back(replaceMatchOffs_[i]);
+      }
+
       json::Object results;
-      results["file"] = files_;
-      results["line"] = lineNums_;
-      results["lineValue"] = contents_;
-      results["matchOn"] = matchOns_;
-      results["matchOff"] = matchOffs_;
-      results["replaceMatchOn"] = replaceMatchOns_;
-      results["replaceMatchOff"] = replaceMatchOffs_;
+      results["file"] = files;
+      results["line"] = lineNums;
+      results["lineValue"] = contents;
+      results["matchOn"] = matchOns;
+      results["matchOff"] = matchOffs;
+      results["replaceMatchOn"] = replaceMatchOns;
+      results["replaceMatchOff"] = replaceMatchOffs;
       obj["results"] = results;
+      obj["more"] = moreSent_;
 
       obj["running"] = running_;
 
@@ -419,9 +510,15 @@ private:
    std::string replacePattern_;
    json::Array replaceMatchOns_;
    json::Array replaceMatchOffs_;
+   json::Array errors_;
    // this is not tracked via json because it exclusively applies to replaces (not previews)
    // which can not currently be paused
    LocalProgress* pReplaceProgress_;
+
+   // the number of results the client has asked for, and has been sent
+   int resultLimit_;
+   int sentCount_;
+   bool moreSent_;
 };
 
 FindInFilesState& findResults()
@@ -990,7 +1087,7 @@ private:
       json::Array replaceMatchOffs;
       json::Array errors;
 
-      int recordsToProcess = MAX_COUNT + 1 - findResults().resultCount();
+      int recordsToProcess = kMaxResultCount - findResults().resultCount();
       if (recordsToProcess < 0)
          recordsToProcess = 0; 
 
@@ -1154,19 +1251,6 @@ private:
 
       if (files.getSize() > 0)
       {
-         json::Object result;
-         result["handle"] = handle();
-         json::Object results;
-         results["file"] = files;
-         results["line"] = lineNums;
-         results["lineValue"] = contents;
-         results["matchOn"] = matchOns;
-         results["matchOff"] = matchOffs;
-         results["replaceMatchOn"] = replaceMatchOns;
-         results["replaceMatchOff"] = replaceMatchOffs;
-         results["errors"] = errors;
-         result["results"] = results;
-
          findResults().addResult(handle(),
                                  files,
                                  lineNums,
@@ -1174,14 +1258,35 @@ private:
                                  matchOns,
                                  matchOffs,
                                  replaceMatchOns,
-                                 replaceMatchOffs);
+                                 replaceMatchOffs,
+                                 errors);
 
          if (!findResults().replace() || findResults().preview())
-            module_context::enqueClientEvent(
-                     ClientEvent(client_events::kFindResult, result));
+         {
+            // the client gets find results a page at a time
+            json::Object result;
+            if (findResults().takeResultPage(&result))
+               module_context::enqueClientEvent(
+                        ClientEvent(client_events::kFindResult, result));
+         }
          else
+         {
+            json::Object result;
+            result["handle"] = handle();
+            json::Object results;
+            results["file"] = files;
+            results["line"] = lineNums;
+            results["lineValue"] = contents;
+            results["matchOn"] = matchOns;
+            results["matchOff"] = matchOffs;
+            results["replaceMatchOn"] = replaceMatchOns;
+            results["replaceMatchOff"] = replaceMatchOffs;
+            results["errors"] = errors;
+            result["results"] = results;
+
             module_context::enqueClientEvent(
                     ClientEvent(client_events::kReplaceResult, result));
+         }
       }
 
       if (recordsToProcess <= 0)
@@ -1698,6 +1803,24 @@ core::Error stopFind(const json::JsonRpcRequest& request,
    return Success();
 }
 
+core::Error findMoreResults(const json::JsonRpcRequest& request,
+                            json::JsonRpcResponse* /*pResponse*/)
+{
+   std::string handle;
+   Error error = json::readParams(request.params, &handle);
+   if (error)
+      return error;
+
+   findResults().addResultPage(handle);
+
+   json::Object result;
+   if (findResults().takeResultPage(&result))
+      module_context::enqueClientEvent(
+               ClientEvent(client_events::kFindResult, result));
+
+   return Success();
+}
+
 core::Error clearFindResults(const json::JsonRpcRequest& /*request*/,
                              json::JsonRpcResponse* /*pResponse*/)
 {
@@ -1854,6 +1977,7 @@ core::Error initialize()
    initBlock.addFunctions()
       (bind(registerRpcMethod, "begin_find", beginFind))
       (bind(registerRpcMethod, "stop_find", stopFind))
+      (bind(registerRpcMethod, "find_more_results", findMoreResults))
       (bind(registerRpcMethod, "clear_find_results", clearFindResults))
       (bind(registerRpcMethod, "preview_replace", previewReplace))
       (bind(registerRpcMethod, "complete_replace", completeReplace))
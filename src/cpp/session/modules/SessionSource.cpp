@@ -19,9 +19,11 @@
 #include <string>
 #include <map>
 #include <fstream>
+#include <sstream>
 
 #include <gsl/gsl>
 
+#include <boost/crc.hpp>
 #include <boost/utility.hpp>
 #include <boost/bind/bind.hpp>
 
@@ -140,18 +142,20 @@ std::string inferDocumentType(const FilePath& documentPath,
 }
 
 void writeDocToJson(boost::shared_ptr<SourceDocument> pDoc,
-                    core::json::Object* pDocJson)
+                    core::json::Object* pDocJson,
+                    bool includeContents = true)
 {
    // write the doc
-   pDoc->writeToJson(pDocJson);
+   pDoc->writeToJson(pDocJson, includeContents);
 
    // derive the extended type property
    (*pDocJson)["extended_type"] = module_context::events()
                                    .onDetectSourceExtendedType(pDoc);
 
-   // amend with chunk definitions if an R Markdown document
+   // amend with chunk definitions if an R Markdown document (these are only
+   // needed by an editor, so omit them along with the contents)
    json::Object notebook;
-   if (pDoc->isRMarkdownDocument())
+   if (includeContents && pDoc->isRMarkdownDocument())
    {
       Error error = rmarkdown::notebook::getChunkValues(
             pDoc->path(), pDoc->id(), &notebook);
@@ -552,6 +556,180 @@ Error saveDocument(const json::JsonRpcRequest& request,
    return Success();
 }
 
+// Advance *pOffset (a byte offset into the UTF-8 encoded 'contents') over
+// 'count' UTF-16 code units, without crossing the end of the line. Returns
+// false if the line is too short (or the position splits a surrogate pair).
+bool advanceUtf16Units(const std::string& contents,
+                       int count,
+                       std::size_t* pOffset)
+{
+   std::size_t offset = *pOffset;
+   while (count > 0)
+   {
+      if (offset >= contents.size() || contents[offset] == '\n')
+         return false;
+
+      unsigned char ch = static_cast<unsigned char>(contents[offset]);
+      if (ch < 0x80)
+      {
+         offset += 1;
+         count -= 1;
+      }
+      else if (ch < 0xE0)
+      {
+         offset += 2;
+         count -= 1;
+      }
+      else if (ch < 0xF0)
+      {
+         offset += 3;
+         count -= 1;
+      }
+      else
+      {
+         // characters outside the BMP are a surrogate pair in UTF-16
+         offset += 4;
+         count -= 2;
+      }
+   }
+
+   if (count < 0 || offset > contents.size())
+      return false;
+
+   *pOffset = offset;
+   return true;
+}
+
+// Convert a (row, column) position as reported by the editor (with the
+// column in UTF-16 code units) to a byte offset into 'contents'
+bool positionToOffset(const std::string& contents,
+                      int row,
+                      int column,
+                      std::size_t* pOffset)
+{
+   if (row < 0 || column < 0)
+      return false;
+
+   std::size_t offset = 0;
+   for (int i = 0; i < row; i++)
+   {
+      offset = contents.find('\n', offset);
+      if (offset == std::string::npos)
+         return false;
+      offset += 1;
+   }
+
+   if (!advanceUtf16Units(contents, column, &offset))
+      return false;
+
+   *pOffset = offset;
+   return true;
+}
+
+// The length of the UTF-8 encoded 'contents' in UTF-16 code units
+std::size_t utf16Length(const std::string& contents)
+{
+   std::size_t length = 0;
+   for (char c : contents)
+   {
+      unsigned char ch = static_cast<unsigned char>(c);
+      if ((ch & 0xC0) != 0x80)
+         length += (ch >= 0xF0) ? 2 : 1;
+   }
+   return length;
+}
+
+// A CRC-32 checksum of the document contents as UTF-16 code units (each
+// unit fed low byte first), as a lower-case hex string. This matches the
+// checksum the client computes for the contents it expects a patch to
+// produce (see DeltaPatch.checksum).
+std::string utf16Checksum(const std::string& contents)
+{
+   boost::crc_32_type result;
+   std::size_t i = 0, n = contents.size();
+   while (i < n)
+   {
+      unsigned char ch = static_cast<unsigned char>(contents[i]);
+
+      // decode the next code point (treating malformed input as Latin-1,
+      // which can only cause a mismatch)
+      unsigned int codePoint = ch;
+      std::size_t count = 0;
+      if (ch >= 0xF0)
+      {
+         codePoint = ch & 0x07;
+         count = 3;
+      }
+      else if (ch >= 0xE0)
+      {
+         codePoint = ch & 0x0F;
+         count = 2;
+      }
+      else if (ch >= 0xC0)
+      {
+         codePoint = ch & 0x1F;
+         count = 1;
+      }
+
+      i += 1;
+      for (; count > 0 && i < n; --count, ++i)
+         codePoint = (codePoint << 6) | (static_cast<unsigned char>(contents[i]) & 0x3F);
+
+      if (codePoint >= 0x10000)
+      {
+         codePoint -= 0x10000;
+         unsigned int high = 0xD800 + (codePoint >> 10);
+         unsigned int low = 0xDC00 + (codePoint & 0x3FF);
+         result.process_byte(static_cast<unsigned char>(high & 0xFF));
+         result.process_byte(static_cast<unsigned char>(high >> 8));
+         result.process_byte(static_cast<unsigned char>(low & 0xFF));
+         result.process_byte(static_cast<unsigned char>(low >> 8));
+      }
+      else
+      {
+         result.process_byte(static_cast<unsigned char>(codePoint & 0xFF));
+         result.process_byte(static_cast<unsigned char>(codePoint >> 8));
+      }
+   }
+
+   std::ostringstream output;
+   output << std::hex << result.checksum();
+   return output.str();
+}
+
+// Apply an ordered list of [startRow, startColumn, endRow, endColumn, text]
+// hunks to the document contents. Returns false if any hunk does not fit
+// the document, in which case the contents are left in an unspecified state.
+bool applyHunks(const json::Array& hunks, std::string* pContents)
+{
+   for (std::size_t i = 0, n = hunks.getSize(); i < n; ++i)
+   {
+      if (!hunks[i].isArray())
+         return false;
+
+      json::Array hunk = hunks[i].getArray();
+      if (hunk.getSize() != 5 ||
+          !hunk[0].isInt() || !hunk[1].isInt() ||
+          !hunk[2].isInt() || !hunk[3].isInt() ||
+          !hunk[4].isString())
+      {
+         return false;
+      }
+
+      std::size_t start, end;
+      if (!positionToOffset(*pContents, hunk[0].getInt(), hunk[1].getInt(), &start))
+         return false;
+      if (!positionToOffset(*pContents, hunk[2].getInt(), hunk[3].getInt(), &end))
+         return false;
+      if (end < start)
+         return false;
+
+      pContents->replace(start, end - start, hunk[4].getString());
+   }
+
+   return true;
+}
+
 Error saveDocumentDiff(const json::JsonRpcRequest& request,
                        json::JsonRpcResponse* pResponse)
 {
@@ -561,9 +739,13 @@ Error saveDocumentDiff(const json::JsonRpcRequest& request,
    std::string id;
    json::Value jsonPath, jsonType, jsonEncoding, jsonFoldSpec, jsonChunkOutput;
    
-   // This is a chunk of text that should be inserted into the
-   // current document. It replaces the subrange [offset, offset+length).
-   std::string replacement;
+   // This is either a chunk of text that should be inserted into the
+   // current document, replacing the subrange [offset, offset+length), or
+   // an array of hunks (as recorded from the editor's change deltas) to be
+   // applied in order. In the latter case, offset is unused and length is
+   // the expected length of the patched document, in UTF-16 code units (and
+   // a checksum of the expected contents follows the other parameters).
+   json::Value jsonReplacement;
    int offset, length;
    bool valid;
    
@@ -586,7 +768,7 @@ Error saveDocumentDiff(const json::JsonRpcRequest& request,
                                   &jsonEncoding,
                                   &jsonFoldSpec,
                                   &jsonChunkOutput,
-                                  &replacement,
+                                  &jsonReplacement,
                                   &offset,
                                   &length,
                                   &valid,
@@ -623,12 +805,32 @@ Error saveDocumentDiff(const json::JsonRpcRequest& request,
       // going down this code path just to ensure that any code that
       // runs in response to a document save (even if that save fails)
       // still has a chance to run
-      if (valid)
+      if (valid && jsonReplacement.isArray())
+      {
+         // the client also sends a checksum of the contents it expects the
+         // hunks to produce; this catches edits that the recorded deltas
+         // missed but which leave the length unchanged
+         std::string checksum;
+         error = json::readParam(request.params, 12, &checksum);
+         if (error)
+            return Success();
+
+         // if the hunks don't apply cleanly, or don't produce the expected
+         // contents, fail without a hash so that the client falls back to
+         // a full save
+         if (!applyHunks(jsonReplacement.getArray(), &contents) ||
+             utf16Length(contents) != static_cast<std::size_t>(length) ||
+             utf16Checksum(contents) != checksum)
+         {
+            return Success();
+         }
+      }
+      else if (valid && jsonReplacement.isString())
       {
          // the offsets we receive are in bytes, so we can replace the contents
          // of the string directly at the supplied offset + length (the contents
          // string itself is already UTF-8 encoded)
-         contents.replace(offset, length, replacement);
+         contents.replace(offset, length, jsonReplacement.getString());
       }
 
       // track if we're updating the document contents
@@ -1469,8 +1671,10 @@ Error clientInitDocuments(core::json::Array* pJsonDocs)
       if (error)
          LOG_ERROR(error);
 
+      // omit the contents; the client restores documents as placeholders
+      // and fetches each one's contents when its editor is first needed
       json::Object jsonDoc;
-      writeDocToJson(pDoc, &jsonDoc);
+      writeDocToJson(pDoc, &jsonDoc, false);
       pJsonDocs->push_back(jsonDoc);
 
       source_database::events().onDocUpdated(pDoc);
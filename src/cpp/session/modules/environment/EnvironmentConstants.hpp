@@ -19,4 +19,8 @@
 #define kEnvironmentLanguageR      "R"
 #define kEnvironmentLanguagePython "Python"
 
+// environments with more objects than this are sent to the client in pages,
+// on demand, rather than all at once
+#define kEnvironmentMaxListSize 1024
+
 #endif /* SESSION_MODULES_ENVIRONMENT_CONSTANTS_HPP */
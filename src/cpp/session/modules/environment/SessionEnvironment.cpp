@@ -26,6 +26,7 @@
 
 #include <core/Exec.hpp>
 #include <core/RecursionGuard.hpp>
+#include <core/StringUtils.hpp>
 #include <core/system/LibraryLoader.hpp>
 
 #include <r/RCntxt.hpp>
@@ -846,13 +847,52 @@ json::Array callFramesAsJson(
    return listFrames;
 }
 
-json::Array environmentListAsJson()
+// Lists the objects in the environment whose names contain the given filter
+// text (ignoring case), ordered by name
+std::vector<r::sexp::Variable> listFilteredEnvironment(SEXP env,
+                                                       const std::string& filter)
+{
+   std::vector<r::sexp::Variable> vars;
+   r::sexp::listEnvironment(env,
+                            false,
+                            prefs::userPrefs().showLastDotValue(),
+                            &vars);
+
+   if (!filter.empty())
+   {
+      std::string needle = string_utils::toLower(filter);
+      auto isFilteredOut = [&](const r::sexp::Variable& var)
+      {
+         return string_utils::toLower(var.first).find(needle) == std::string::npos;
+      };
+
+      vars.erase(std::remove_if(vars.begin(), vars.end(), isFilteredOut),
+                 vars.end());
+   }
+
+   std::sort(vars.begin(), vars.end(),
+             [](const r::sexp::Variable& lhs, const r::sexp::Variable& rhs)
+   {
+      return lhs.first < rhs.first;
+   });
+
+   return vars;
+}
+
+// Returns the objects in the monitored environment. If there are more than
+// kEnvironmentMaxListSize objects, none are returned; the client then
+// requests them in pages (see listEnvironmentPage). The number of objects in
+// the environment is returned in pTotal.
+json::Array environmentListAsJson(int* pTotal = nullptr)
 {
     using namespace rstudio::r::sexp;
     Protect rProtect;
     std::vector<Variable> vars;
     json::Array listJson;
 
+    if (pTotal)
+       *pTotal = 0;
+
     if (s_pEnvironmentMonitor->hasEnvironment())
     {
        SEXP env = s_pEnvironmentMonitor->getMonitoredEnvironment();
@@ -861,6 +901,13 @@ json::Array environmentListAsJson()
                        prefs::userPrefs().showLastDotValue(),
                        &vars);
 
+       if (pTotal)
+       {
+          *pTotal = static_cast<int>(vars.size());
+          if (vars.size() > kEnvironmentMaxListSize)
+             return listJson;
+       }
+
        // get object details and transform to json
        std::transform(vars.begin(),
                       vars.end(),
@@ -880,6 +927,42 @@ Error listEnvironment(boost::shared_ptr<int> pContextDepth,
    return Success();
 }
 
+// Returns a page of the objects in the monitored environment (in name order),
+// optionally restricted to those whose names match a filter, along with the
+// total number of matching objects.
+Error listEnvironmentPage(const json::JsonRpcRequest& request,
+                          json::JsonRpcResponse* pResponse)
+{
+   int offset = 0;
+   int limit = 0;
+   std::string filter;
+   Error error = json::readParams(request.params, &offset, &limit, &filter);
+   if (error)
+      return error;
+
+   json::Array objects;
+   int total = 0;
+
+   if (s_pEnvironmentMonitor->hasEnvironment())
+   {
+      r::sexp::Protect rProtect;
+      SEXP env = s_pEnvironmentMonitor->getMonitoredEnvironment();
+      std::vector<r::sexp::Variable> vars = listFilteredEnvironment(env, filter);
+      total = static_cast<int>(vars.size());
+
+      // only compute details for the objects in the requested page
+      for (int i = std::max(offset, 0); i < total && i < offset + limit; i++)
+         objects.push_back(varToJson(env, vars[i]));
+   }
+
+   json::Object result;
+   result["offset"] = offset;
+   result["total"] = total;
+   result["objects"] = objects;
+   pResponse->setResult(result);
+   return Success();
+}
+
 // Sets an environment by name. Used when the environment can be reliably
 // identified by its name (e.g. package environments).
 Error setEnvironmentName(int contextDepth,
@@ -1110,7 +1193,9 @@ json::Object commonEnvironmentStateData(
    // emit the current list of values in the environment, but only if not monitoring (as the intent
    // of the monitoring switch is to avoid implicit environment listing)
    varJson["environment_monitoring"] = s_monitoring;
-   varJson["environment_list"] = includeContents ? environmentListAsJson() : json::Array();
+   int environmentSize = 0;
+   varJson["environment_list"] = includeContents ? environmentListAsJson(&environmentSize) : json::Array();
+   varJson["environment_size"] = environmentSize;
    
    varJson["context_depth"] = depth;
    varJson["call_frames"] = callFramesJson;
@@ -1862,6 +1947,7 @@ Error initialize()
    initBlock.addFunctions()
       (bind(registerRBrowseFileHandler, handleRBrowseEnv))
       (bind(registerRpcMethod, "list_environment", listEnv))
+      (bind(registerRpcMethod, "list_environment_page", listEnvironmentPage))
       (bind(registerRpcMethod, "set_context_depth", setCtxDepth))
       (bind(registerRpcMethod, "set_environment", setEnvName))
       (bind(registerRpcMethod, "set_environment_frame", setEnvironmentFrame))
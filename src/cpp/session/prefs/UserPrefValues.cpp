@@ -3130,6 +3130,19 @@ core::Error UserPrefValues::setSessionProtocolDebug(bool val)
    return writePref("session_protocol_debug", val);
 }
 
+/**
+ * Whether remote procedure calls made at the same time should be combined into a single request to the R session.
+ */
+bool UserPrefValues::batchRpcRequests()
+{
+   return readPref<bool>("batch_rpc_requests");
+}
+
+core::Error UserPrefValues::setBatchRpcRequests(bool val)
+{
+   return writePref("batch_rpc_requests", val);
+}
+
 /**
  * When enabled, if the active project contains a Python virtual environment, then RStudio will automatically activate this environment on startup.
  */
@@ -3580,6 +3593,7 @@ std::vector<std::string> UserPrefValues::allKeys()
       kMemoryQueryIntervalSeconds,
       kTerminalPythonIntegration,
       kSessionProtocolDebug,
+      kBatchRpcRequests,
       kPythonProjectEnvironmentAutomaticActivate,
       kCheckNullExternalPointers,
       kUiLanguage,
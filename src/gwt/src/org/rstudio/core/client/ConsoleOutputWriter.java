@@ -18,6 +18,7 @@ import java.util.List;
 
 import com.google.gwt.aria.client.Roles;
 import org.rstudio.core.client.dom.DomUtils;
+import org.rstudio.core.client.virtualscroller.VirtualScroller;
 import org.rstudio.core.client.virtualscroller.VirtualScrollerManager;
 import org.rstudio.core.client.widget.PreWidget;
 
@@ -58,8 +59,9 @@ public class ConsoleOutputWriter
    {
       lines_ = 0;
 
-      if (VirtualScrollerManager.scrollerForElement(output_.getElement()) != null)
-         VirtualScrollerManager.clear(output_.getElement());
+      VirtualScroller scroller = VirtualScrollerManager.scrollerForElement(output_.getElement());
+      if (scroller != null)
+         scroller.clear();
       else
       {
          output_.setText("");
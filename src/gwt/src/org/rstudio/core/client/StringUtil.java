@@ -30,6 +30,7 @@ import org.rstudio.core.client.regex.Match;
 import org.rstudio.core.client.regex.Pattern;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArrayString;
 import com.google.gwt.i18n.client.DateTimeFormat;
 import com.google.gwt.i18n.client.NumberFormat;
@@ -1229,6 +1230,41 @@ public class StringUtil
     * @return The checksum value, as a hexadecimal string
     */
    public static native String crc32(String str)/*-{
+      var crcTable = @org.rstudio.core.client.StringUtil::crc32Table()();
+      var crc = 0 ^ (-1);
+
+      for (var i = 0; i < str.length; i++ )
+      {
+         crc = (crc >>> 8) ^ crcTable[(crc ^ str.charCodeAt(i)) & 0xFF];
+      }
+
+      return ((crc ^ (-1)) >>> 0).toString(16);
+   }-*/;
+
+   /**
+    * Computes a 32-bit CRC checksum of a string's UTF-16 code units (each
+    * unit taken low byte first). Unlike crc32(), this accounts for every
+    * bit of non-ASCII characters; the session computes the same checksum
+    * to verify document contents.
+    *
+    * @param str The string on which to compute the checksum
+    * @return The checksum value, as a hexadecimal string
+    */
+   public static native String crc32Utf16(String str)/*-{
+      var crcTable = @org.rstudio.core.client.StringUtil::crc32Table()();
+      var crc = 0 ^ (-1);
+
+      for (var i = 0; i < str.length; i++ )
+      {
+         var code = str.charCodeAt(i);
+         crc = (crc >>> 8) ^ crcTable[(crc ^ code) & 0xFF];
+         crc = (crc >>> 8) ^ crcTable[(crc ^ (code >>> 8)) & 0xFF];
+      }
+
+      return ((crc ^ (-1)) >>> 0).toString(16);
+   }-*/;
+
+   private static native JavaScriptObject crc32Table()/*-{
       // based on: https://stackoverflow.com/questions/18638900/javascript-crc32
       var genCrc32Table = function()
       {
@@ -1245,15 +1281,7 @@ public class StringUtil
          return crcTable;
       }
 
-      var crcTable = $wnd.rs_crc32Table || ($wnd.rs_crc32Table = genCrc32Table());
-      var crc = 0 ^ (-1);
-
-      for (var i = 0; i < str.length; i++ )
-      {
-         crc = (crc >>> 8) ^ crcTable[(crc ^ str.charCodeAt(i)) & 0xFF];
-      }
-
-      return ((crc ^ (-1)) >>> 0).toString(16);
+      return $wnd.rs_crc32Table || ($wnd.rs_crc32Table = genCrc32Table());
    }-*/;
 
    // Count newlines in a string
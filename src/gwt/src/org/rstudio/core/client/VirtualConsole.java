@@ -26,6 +26,7 @@ import java.util.TreeSet;
 import org.rstudio.core.client.hyperlink.Hyperlink;
 import org.rstudio.core.client.regex.Match;
 import org.rstudio.core.client.regex.Pattern;
+import org.rstudio.core.client.virtualscroller.VirtualScroller;
 import org.rstudio.core.client.virtualscroller.VirtualScrollerManager;
 import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.prefs.model.UserPrefsSubset;
@@ -140,7 +141,6 @@ public class VirtualConsole
    {
       prefs_ = prefs;
       parent_ = parent;
-      VirtualScrollerManager.init();
    }
 
    public void clear()
@@ -170,12 +170,23 @@ public class VirtualConsole
 
    public void clearVirtualScroller()
    {
-      if (isVirtualized())
+      if (isVirtualized() && getScroller() != null)
       {
-         VirtualScrollerManager.clear(parent_.getParentElement());
+         getScroller().clear();
       }
    }
 
+   /**
+    * The virtual scroller hosting this console's output. Finding it means
+    * walking up the DOM, so it's looked up once and then kept.
+    */
+   private VirtualScroller getScroller()
+   {
+      if (scroller_ == null)
+         scroller_ = VirtualScrollerManager.scrollerFor(parent_.getParentElement());
+      return scroller_;
+   }
+
    private void backspace()
    {
       clearPartialAnsiCode();
@@ -305,7 +316,7 @@ public class VirtualConsole
       {
          // create a new output range with this class
          final ClassRange newRange = new ClassRange(cursor_, clazz, text, preserveHTML_, hyperlink_);
-         appendChild(newRange.element);
+         appendChild(newRange);
          class_.put(cursor_, newRange);
       }
       else
@@ -350,7 +361,7 @@ public class VirtualConsole
       {
          class_.put(start, range);
          if (parent_ != null)
-            appendChild(range.element);
+            appendChild(range);
          return;
       }
 
@@ -502,15 +513,21 @@ public class VirtualConsole
    }
 
    /**
-    * Add a child to the parent or the virtual scroller, depending on preference
-    * @param element to add
+    * Add a range's element to the parent or the virtual scroller, depending on
+    * preference
+    * @param range range to add
     */
-   private void appendChild(Element element)
+   private void appendChild(ClassRange range)
    {
-      if (isVirtualized())
-         VirtualScrollerManager.append(parent_.getParentElement(), element);
+      if (isVirtualized() && getScroller() != null)
+      {
+         range.truncateLines(MAX_VIRTUALIZED_LINES);
+         getScroller().append(range.element);
+      }
       else
-         parent_.appendChild(element);
+      {
+         parent_.appendChild(range.element);
+      }
    }
 
    /**
@@ -563,8 +580,8 @@ public class VirtualConsole
    public void submit(String data, String clazz, boolean forceNewRange, boolean ariaLiveAnnounce)
    {
       boolean wasAtBottom = false;
-      if (isVirtualized())
-         wasAtBottom = VirtualScrollerManager.scrolledToBottom(parent_.getParentElement());
+      if (isVirtualized() && getScroller() != null)
+         wasAtBottom = getScroller().scrolledToBottom();
 
       // Only capture new elements when dealing with error output, which
       // is the only place that sets forceNewRange to true. This is just an
@@ -737,7 +754,7 @@ public class VirtualConsole
       if (last != null)
       {
          ClassRange range = last.getValue();
-         if (isVirtualized()) VirtualScrollerManager.prune(parent_.getParentElement(), range.element);
+         if (isVirtualized()) range.truncateLines(MAX_VIRTUALIZED_LINES);
       }
 
       // If there was any plain text after the last control character, add it
@@ -745,7 +762,7 @@ public class VirtualConsole
          text(StringUtil.substring(data, tail), currentClazz, forceNewRange);
          
       if (wasAtBottom && isVirtualized())
-         VirtualScrollerManager.scrollToBottom(parent_.getParentElement());
+         getScroller().scrollToBottom();
    }
 
    // Elements added by last submit call; only captured if forceNewRange was true
@@ -764,8 +781,13 @@ public class VirtualConsole
 
    public void ensureStartingOnNewLine()
    {
-      if (isVirtualized())
-         VirtualScrollerManager.ensureStartingOnNewLine(parent_.getParentElement());
+      if (isVirtualized() && getScroller() != null)
+      {
+         // the ranges' elements are rebuilt from their text, so the newline
+         // has to go through the console rather than into the DOM
+         if (output_.length() > 0 && output_.charAt(output_.length() - 1) != '\n')
+            submit("\n");
+      }
       else
       {
          Node child = getParent().getLastChild();
@@ -801,6 +823,10 @@ public class VirtualConsole
       return currentClazz;
    }
 
+   /**
+    * A run of output sharing one style. The range's text is held here (the
+    * model); its element is a view of it, and is only ever written to.
+    */
    private class ClassRange
    {
       public ClassRange(int pos, String className, String text, boolean isHTML, HyperlinkInfo hyperlink)
@@ -823,6 +849,7 @@ public class VirtualConsole
          else 
          {
             element = Hyperlink.create(hyperlink.url_, hyperlink_.params_, text, clazz).getElement();
+            text_ = text;
          }
 
          if (captureNewElements_)
@@ -831,6 +858,7 @@ public class VirtualConsole
 
       private void setText(String text)
       {
+         text_ = text;
          if (isHTML_)
          {
             element.setInnerHTML(text);
@@ -845,45 +873,65 @@ public class VirtualConsole
       {
          length -= delta;
          start += delta;
-         setText(StringUtil.substring(element.getInnerText(), delta));
+         setText(StringUtil.substring(text_, delta));
       }
 
       public void trimRight(int delta)
       {
          length -= delta;
-         String text = element.getInnerText();
-         setText(StringUtil.substring(text, 0, text.length() - delta));
+         setText(StringUtil.substring(text_, 0, text_.length() - delta));
       }
 
       public void appendLeft(String content, int delta)
       {
          length += content.length() - delta;
          start -= (content.length() - delta);
-         setText(content + StringUtil.substring(element.getInnerText(), delta));
+         setText(content + StringUtil.substring(text_, delta));
       }
 
       public void appendRight(String content, int delta)
       {
          length += content.length() - delta;
-         String text = text();
-         setText(StringUtil.substring(text, 0, text.length() - delta) + content);
+         setText(StringUtil.substring(text_, 0, text_.length() - delta) + content);
       }
 
       public void overwrite(String content, int pos)
       {
-         String text = element.getInnerText();
          setText(
-               StringUtil.substring(text, 0, pos) + content +
-               StringUtil.substring(text, pos + content.length()));
+               StringUtil.substring(text_, 0, pos) + content +
+               StringUtil.substring(text_, pos + content.length()));
+      }
+
+      /**
+       * Drops all but the last maxLines lines of the range's text (the server
+       * caps output at this many lines, but overwriting output can get
+       * around that).
+       */
+      public void truncateLines(int maxLines)
+      {
+         int newlines = 0;
+         for (int i = text_.indexOf('\n'); i != -1; i = text_.indexOf('\n', i + 1))
+            newlines++;
+
+         int indexToSlice = 0;
+         for (int toPrune = newlines - maxLines; toPrune > 0; toPrune--)
+            indexToSlice = text_.indexOf('\n', indexToSlice + 1);
+
+         if (indexToSlice > 0)
+         {
+            text_ = "<console output truncated>" + StringUtil.substring(text_, indexToSlice);
+            element.setInnerText(text_);
+         }
       }
 
       public String text()
       {
-         return isHTML_ ? element.getInnerHTML() : element.getInnerText();
+         return text_;
       }
 
       public void clearText()
       {
+         text_ = "";
          element.setInnerText("");
       }
 
@@ -899,6 +947,7 @@ public class VirtualConsole
       public final Element element;
       public final HyperlinkInfo hyperlink_;
       private boolean isHTML_;
+      private String text_;
    }
 
    private class HyperlinkInfo
@@ -914,6 +963,9 @@ public class VirtualConsole
    }
    private static final Pattern CONTROL = Pattern.create("[\r\b\f\n]");
 
+   // the most lines a single range can hold in a virtualized console
+   private static final int MAX_VIRTUALIZED_LINES = 1000;
+
    // only a select few panes should be virtualized. default it to off everywhere.
    private boolean virtualizedDisableOverride_ = true;
 
@@ -923,6 +975,7 @@ public class VirtualConsole
    private final StringBuilder output_ = new StringBuilder();
    private final TreeMap<Integer, ClassRange> class_ = new TreeMap<>();
    private final Element parent_;
+   private VirtualScroller scroller_;
 
    private int cursor_ = 0;
    private AnsiCode ansi_;
@@ -14,7 +14,11 @@
  */
 package org.rstudio.core.client.command;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+
+import com.google.gwt.core.client.Duration;
 
 /**
  * Marker interface for declaring sets of commands
@@ -23,7 +27,10 @@ public abstract class CommandBundle
 {
    public AppCommand getCommandById(String commandId)
    {
-      return commandsById_.get(commandId);
+      AppCommand command = commandsById_.get(commandId);
+      if (command == null && lazyCommandIds_.contains(commandId))
+         command = materializeCommand(commandId);
+      return command;
    }
 
    public void addCommand(String id, AppCommand command)
@@ -31,13 +38,70 @@ public abstract class CommandBundle
       if (commandsById_.containsKey(id))
          throw new IllegalStateException("Command " + id + " already exists");
 
+      lazyCommandIds_.remove(id);
       commandsById_.put(id, command);
    }
 
    public HashMap<String, AppCommand> getCommands()
    {
+      // callers expect the complete set, so create anything not yet used
+      for (String id : new ArrayList<>(lazyCommandIds_))
+         materializeCommand(id);
+
       return commandsById_;
    }
 
+   /**
+    * Returns the number of commands declared in this bundle, whether or not
+    * they have been created yet.
+    */
+   public int getCommandCount()
+   {
+      return commandsById_.size() + lazyCommandIds_.size();
+   }
+
+   /**
+    * Returns the number of commands that have actually been created.
+    */
+   public int getMaterializedCommandCount()
+   {
+      return commandsById_.size();
+   }
+
+   /**
+    * Returns the total time (in milliseconds) spent creating commands; along
+    * with the counts above this gives an estimate of the construction time
+    * saved by deferring the commands that were never used.
+    */
+   public double getMaterializeMillis()
+   {
+      return materializeMillis_;
+   }
+
+   /**
+    * Declares a command that will only be created (and registered with
+    * addCommand) the first time it is requested.
+    */
+   protected void addLazyCommand(String id)
+   {
+      lazyCommandIds_.add(id);
+   }
+
+   /**
+    * Creates and registers the lazily declared command with the given id;
+    * implemented by generated bundles.
+    */
+   protected AppCommand materializeCommand(String id)
+   {
+      return null;
+   }
+
+   protected void recordMaterialization(double startMillis)
+   {
+      materializeMillis_ += Duration.currentTimeMillis() - startMillis;
+   }
+
    private final HashMap<String, AppCommand> commandsById_ = new HashMap<>();
+   private final HashSet<String> lazyCommandIds_ = new HashSet<>();
+   private double materializeMillis_ = 0;
 }
@@ -15,6 +15,8 @@
 
 package org.rstudio.core.client.jsonrpc;
 
+import java.util.List;
+
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.http.client.*;
 import com.google.gwt.json.client.JSONArray;
@@ -34,6 +36,7 @@ import org.rstudio.studio.client.application.Desktop;
 public class RpcRequest 
 {
    public static final boolean TRACE = false;
+   public static final String BATCH_METHOD = "batch";
    
    public RpcRequest(String url, 
                      String method, 
@@ -66,28 +69,14 @@ public class RpcRequest
    
    public void send(RpcRequestCallback callback)
    {
+      cancelled_ = false;
+
       // final references for access from anonymous class
       final RpcRequest enclosingRequest = this;
       final RpcRequestCallback requestCallback = callback;
       
       // build json request object
-      JSONObject request = new JSONObject();
-      request.put("method", new JSONString(method_));
-      if ( params_ != null )
-         request.put("params", params_);  
-      if ( kwparams_ != null)
-         request.put("kwparams", kwparams_);
-      
-      // add src window if we have it
-      if (sourceWindow_ != null)
-         request.put("sourceWnd", sourceWindow_);
-      
-      // add client id if we have it
-      if (clientId_ != null)
-         request.put("clientId", clientId_);
-
-      // add client version
-      request.put("clientVersion", clientVersion_);
+      JSONObject request = toJSONObject();
       
       // configure request builder
       RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url_);
@@ -206,8 +195,80 @@ public class RpcRequest
       }
    }
    
+   /**
+    * Creates a request which carries the given requests to the server in a
+    * single batch envelope. The requests must all target the same scope and
+    * share the same source window and credential refresh behavior.
+    *
+    * @param url The URL of the batch endpoint
+    * @param requests The requests to include in the batch
+    * @return A request whose result is the array of responses to the
+    *         individual requests, in order
+    */
+   public static RpcRequest createBatch(String url, List<RpcRequest> requests)
+   {
+      RpcRequest first = requests.get(0);
+      JSONArray batch = new JSONArray();
+      boolean redactLog = false;
+      for (int i = 0; i < requests.size(); i++)
+      {
+         RpcRequest request = requests.get(i);
+         batch.set(i, request.toJSONObject());
+         redactLog = redactLog || request.getRedactLog();
+      }
+
+      JSONArray params = new JSONArray();
+      params.set(0, batch);
+
+      return new RpcRequest(url,
+                            BATCH_METHOD,
+                            params,
+                            null,
+                            redactLog,
+                            null,
+                            stringValue(first.sourceWindow_),
+                            stringValue(first.clientId_),
+                            stringValue(first.clientVersion_),
+                            first.getRefreshCreds());
+   }
+
+   public JSONObject toJSONObject()
+   {
+      JSONObject request = new JSONObject();
+      request.put("method", new JSONString(method_));
+      if ( params_ != null )
+         request.put("params", params_);  
+      if ( kwparams_ != null)
+         request.put("kwparams", kwparams_);
+      
+      // add src window if we have it
+      if (sourceWindow_ != null)
+         request.put("sourceWnd", sourceWindow_);
+      
+      // add client id if we have it
+      if (clientId_ != null)
+         request.put("clientId", clientId_);
+
+      // add client version
+      request.put("clientVersion", clientVersion_);
+
+      return request;
+   }
+
+   private static String stringValue(JSONString value)
+   {
+      return value == null ? null : value.stringValue();
+   }
+   
+   /**
+    * Cancels the request. If the request is waiting to go out in a batch,
+    * it's dropped from the batch; if the batch has already been sent, the
+    * server will still execute it, but its callback won't be invoked.
+    */
    public void cancel()
    {
+      cancelled_ = true;
+
       if (request_ != null)
       {
          request_.cancel();
@@ -284,6 +345,11 @@ public class RpcRequest
       return refreshCredentials_;
    }
 
+   public boolean isCancelled()
+   {
+      return cancelled_;
+   }
+
    final private String url_;
    final private String method_;
    final private JSONArray params_;
@@ -295,6 +361,7 @@ public class RpcRequest
    final private JSONString clientVersion_;
    final private boolean refreshCredentials_;
    private Request request_ = null;
+   private boolean cancelled_ = false;
    private RequestLogEntry requestLogEntry_ = null;
    private static final CoreClientConstants constants_ = GWT.create(CoreClientConstants.class);
 }
@@ -0,0 +1,245 @@
+/*
+ * RpcRequestBatcher.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.jsonrpc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.Scheduler;
+
+/**
+ * Collects RPC requests issued during the same event loop tick and sends
+ * them to the server as a single batch request. The batch response is
+ * demultiplexed back to the callbacks of the individual requests; an error
+ * returned for one request does not affect the others in the batch.
+ */
+public class RpcRequestBatcher
+{
+   /**
+    * Delivers a (batch or single) request to an endpoint. The default
+    * transport sends the request over HTTP; tests can substitute a local
+    * stand-in endpoint.
+    */
+   public interface Transport
+   {
+      void send(RpcRequest request, RpcRequestCallback callback);
+   }
+
+   /**
+    * Receives batch responses which the server will deliver later (as an
+    * async completion event) rather than in the response to the request.
+    */
+   public interface AsyncResponseHandler
+   {
+      void onAsyncResponse(String asyncHandle,
+                           RpcRequest request,
+                           RpcRequestCallback callback);
+   }
+
+   public RpcRequestBatcher(AsyncResponseHandler asyncHandler)
+   {
+      this((request, callback) -> request.send(callback), asyncHandler);
+   }
+
+   public RpcRequestBatcher(Transport transport,
+                            AsyncResponseHandler asyncHandler)
+   {
+      transport_ = transport;
+      asyncHandler_ = asyncHandler;
+   }
+
+   public void send(RpcRequest request, RpcRequestCallback callback)
+   {
+      if (!enabled_)
+      {
+         transport_.send(request, callback);
+         return;
+      }
+
+      String key = batchKey(request);
+      List<PendingRequest> batch = pending_.get(key);
+      if (batch == null)
+      {
+         batch = new ArrayList<>();
+         pending_.put(key, batch);
+      }
+      batch.add(new PendingRequest(request, callback));
+
+      if (!flushScheduled_)
+      {
+         flushScheduled_ = true;
+         Scheduler.get().scheduleFinally(() -> flush());
+      }
+   }
+
+   public void flush()
+   {
+      flushScheduled_ = false;
+      if (pending_.isEmpty())
+         return;
+
+      List<List<PendingRequest>> batches = new ArrayList<>(pending_.values());
+      pending_.clear();
+
+      for (List<PendingRequest> batch : batches)
+      {
+         // drop requests which were cancelled while waiting
+         batch.removeIf(pending -> pending.request.isCancelled());
+         if (batch.isEmpty())
+            continue;
+
+         // no need for an envelope if there's only one request
+         if (batch.size() == 1)
+         {
+            PendingRequest pending = batch.get(0);
+            transport_.send(pending.request, pending.callback);
+         }
+         else
+         {
+            sendBatch(batch);
+         }
+      }
+   }
+
+   private void sendBatch(final List<PendingRequest> batch)
+   {
+      List<RpcRequest> requests = new ArrayList<>();
+      for (PendingRequest pending : batch)
+         requests.add(pending.request);
+
+      RpcRequest first = requests.get(0);
+      RpcRequest envelope = RpcRequest.createBatch(
+            baseUrl(first) + RpcRequest.BATCH_METHOD,
+            requests);
+
+      transport_.send(envelope, new RpcRequestCallback()
+      {
+         @Override
+         public void onError(RpcRequest request, RpcError error)
+         {
+            // the batch as a whole failed to reach the server (or the
+            // server didn't understand it); report to each request
+            for (PendingRequest pending : batch)
+            {
+               if (!pending.request.isCancelled())
+                  pending.callback.onError(pending.request, error);
+            }
+         }
+
+         @Override
+         public void onResponseReceived(RpcRequest request,
+                                        RpcResponse response)
+         {
+            if (response.getError() != null)
+            {
+               // the server doesn't provide a batch endpoint; stop batching
+               // and send these requests individually
+               if (isMethodNotFound(response))
+               {
+                  enabled_ = false;
+                  for (PendingRequest pending : batch)
+                  {
+                     if (!pending.request.isCancelled())
+                        transport_.send(pending.request, pending.callback);
+                  }
+                  return;
+               }
+
+               onError(request, response.getError());
+               return;
+            }
+
+            if (response.getAsyncHandle() != null)
+            {
+               asyncHandler_.onAsyncResponse(response.getAsyncHandle(),
+                                             request,
+                                             this);
+               return;
+            }
+
+            JsArray<RpcResponse> responses = response.getResult();
+            for (int i = 0; i < batch.size(); i++)
+            {
+               PendingRequest pending = batch.get(i);
+               if (pending.request.isCancelled())
+               {
+                  // the caller is no longer interested in the response
+                  continue;
+               }
+               else if (responses == null || i >= responses.length())
+               {
+                  pending.callback.onError(pending.request, RpcError.create(
+                        RpcError.TRANSMISSION_ERROR,
+                        "No response for batched request '" +
+                        pending.request.getMethod() + "'"));
+               }
+               else if (isMethodNotFound(responses.get(i)))
+               {
+                  // methods which the server handles outside of its RPC
+                  // method table can't be batched; send on their own
+                  transport_.send(pending.request, pending.callback);
+               }
+               else
+               {
+                  pending.callback.onResponseReceived(pending.request,
+                                                      responses.get(i));
+               }
+            }
+         }
+      });
+   }
+
+   private static boolean isMethodNotFound(RpcResponse response)
+   {
+      RpcError error = response.getError();
+      return error != null && error.getCode() == RpcError.METHOD_NOT_FOUND;
+   }
+
+   // requests can only share an envelope if they target the same scope
+   // and have the same source window and credential refresh behavior
+   private static String batchKey(RpcRequest request)
+   {
+      return baseUrl(request) + "|" +
+             request.getSourceWindow() + "|" +
+             request.getRefreshCreds();
+   }
+
+   private static String baseUrl(RpcRequest request)
+   {
+      String url = request.getUrl();
+      return url.substring(0, url.length() - request.getMethod().length());
+   }
+
+   private static class PendingRequest
+   {
+      PendingRequest(RpcRequest request, RpcRequestCallback callback)
+      {
+         this.request = request;
+         this.callback = callback;
+      }
+
+      final RpcRequest request;
+      final RpcRequestCallback callback;
+   }
+
+   private final Transport transport_;
+   private final AsyncResponseHandler asyncHandler_;
+   private final LinkedHashMap<String, List<PendingRequest>> pending_ =
+         new LinkedHashMap<>();
+   private boolean flushScheduled_ = false;
+   private boolean enabled_ = true;
+}
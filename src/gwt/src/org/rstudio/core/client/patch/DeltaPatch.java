@@ -0,0 +1,192 @@
+/*
+ * DeltaPatch.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.patch;
+
+import java.util.ArrayList;
+
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONNumber;
+import com.google.gwt.json.client.JSONString;
+
+/**
+ * An ordered list of edits (hunks) made to a document, recorded from the
+ * editor's change deltas. Each hunk replaces the range between a start and
+ * an end position (row and column, with columns in UTF-16 code units) with
+ * some text; the hunks must be applied in order, each against the document
+ * as modified by the hunks before it.
+ *
+ * Runs of adjacent edits (e.g. typing or backspacing over a word) are
+ * merged into a single hunk as they are recorded.
+ */
+public class DeltaPatch
+{
+   public static class Hunk
+   {
+      Hunk(int startRow, int startColumn,
+           int endRow, int endColumn,
+           String text)
+      {
+         this.startRow = startRow;
+         this.startColumn = startColumn;
+         this.endRow = endRow;
+         this.endColumn = endColumn;
+         this.text = text;
+      }
+
+      public int getStartRow()    { return startRow; }
+      public int getStartColumn() { return startColumn; }
+      public int getEndRow()      { return endRow; }
+      public int getEndColumn()   { return endColumn; }
+      public String getText()     { return text; }
+
+      int startRow;
+      int startColumn;
+      int endRow;
+      int endColumn;
+      String text;
+
+      // the position of the end of the inserted text, once applied
+      int insertEndRow;
+      int insertEndColumn;
+   }
+
+   public void insert(int startRow, int startColumn,
+                      int endRow, int endColumn,
+                      String text)
+   {
+      // typing: extend the previous insertion if this one begins where
+      // that one ended
+      Hunk last = last();
+      if (last != null && last.insertEndRow == startRow &&
+          last.insertEndColumn == startColumn)
+      {
+         last.text = last.text + text;
+         last.insertEndRow = endRow;
+         last.insertEndColumn = endColumn;
+         return;
+      }
+
+      Hunk hunk = new Hunk(startRow, startColumn, startRow, startColumn, text);
+      hunk.insertEndRow = endRow;
+      hunk.insertEndColumn = endColumn;
+      add(hunk);
+   }
+
+   public void remove(int startRow, int startColumn,
+                      int endRow, int endColumn)
+   {
+      Hunk last = last();
+      if (last != null && last.text.length() == 0 &&
+          last.startRow == endRow && last.startColumn == endColumn)
+      {
+         // backspacing: the removed range immediately precedes the range
+         // removed by the previous hunk
+         last.startRow = startRow;
+         last.startColumn = startColumn;
+         last.insertEndRow = startRow;
+         last.insertEndColumn = startColumn;
+         return;
+      }
+
+      if (last != null && last.text.length() == 0 &&
+          last.startRow == startRow && last.startColumn == startColumn)
+      {
+         // forward deleting: the removed range begins where the previous
+         // removal did, so (in terms of the document before that removal)
+         // it extends the previous removal's end
+         int removedRows = endRow - startRow;
+         last.endColumn = removedRows == 0
+               ? last.endColumn + (endColumn - startColumn)
+               : endColumn;
+         last.endRow = last.endRow + removedRows;
+         return;
+      }
+
+      if (last != null && last.text.length() > 0 &&
+          last.text.indexOf('\n') == -1 &&
+          startRow == last.startRow && endRow == last.startRow &&
+          startColumn >= last.startColumn &&
+          endColumn == last.insertEndColumn)
+      {
+         // backspacing over text which was just typed: trim the insertion
+         last.text = last.text.substring(
+               0, last.text.length() - (endColumn - startColumn));
+         last.insertEndColumn = startColumn;
+
+         // drop the hunk entirely if it no longer does anything
+         if (last.text.length() == 0 &&
+             last.startRow == last.endRow &&
+             last.startColumn == last.endColumn)
+         {
+            hunks_.remove(hunks_.size() - 1);
+         }
+         return;
+      }
+
+      Hunk hunk = new Hunk(startRow, startColumn, endRow, endColumn, "");
+      hunk.insertEndRow = startRow;
+      hunk.insertEndColumn = startColumn;
+      add(hunk);
+   }
+
+   public boolean isEmpty()
+   {
+      return hunks_.isEmpty();
+   }
+
+   public int size()
+   {
+      return hunks_.size();
+   }
+
+   public Hunk get(int index)
+   {
+      return hunks_.get(index);
+   }
+
+   /**
+    * Encodes the patch as an array of [startRow, startColumn, endRow,
+    * endColumn, text] tuples, the form accepted by the save_document_diff
+    * RPC.
+    */
+   public JSONArray toJSONArray()
+   {
+      JSONArray result = new JSONArray();
+      for (int i = 0; i < hunks_.size(); i++)
+      {
+         Hunk hunk = hunks_.get(i);
+         JSONArray tuple = new JSONArray();
+         tuple.set(0, new JSONNumber(hunk.startRow));
+         tuple.set(1, new JSONNumber(hunk.startColumn));
+         tuple.set(2, new JSONNumber(hunk.endRow));
+         tuple.set(3, new JSONNumber(hunk.endColumn));
+         tuple.set(4, new JSONString(hunk.text));
+         result.set(i, tuple);
+      }
+      return result;
+   }
+
+   private Hunk last()
+   {
+      return hunks_.isEmpty() ? null : hunks_.get(hunks_.size() - 1);
+   }
+
+   private void add(Hunk hunk)
+   {
+      hunks_.add(hunk);
+   }
+
+   private final ArrayList<Hunk> hunks_ = new ArrayList<>();
+}
@@ -0,0 +1,443 @@
+/*
+ * VirtualScroller.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.virtualscroller;
+
+import java.util.ArrayList;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style.Display;
+import com.google.gwt.dom.client.Style.Unit;
+
+import elemental2.dom.EventListener;
+import elemental2.dom.HTMLElement;
+import jsinterop.base.Js;
+
+/**
+ * Holds the output of a (potentially very long-running) console, keeping only
+ * the output that's on or near the screen in the DOM.
+ *
+ * Output is appended in blocks of up to BLOCK_LINES lines. The blocks within
+ * about a screen of the visible part of the console are kept in the DOM; the
+ * rest are detached from it, with spacers standing in for their height so that
+ * the console scrolls as it would if all of its output were present. Blocks
+ * are swapped in and out of the DOM as the console is scrolled.
+ *
+ * Detached blocks keep their elements (rather than e.g. being serialized to
+ * HTML), since VirtualConsole holds on to the elements for its ranges of
+ * output and may still write to them (e.g. when a carriage return overwrites
+ * the current line while the console is scrolled up).
+ */
+public class VirtualScroller
+{
+   VirtualScroller(Element consoleEle)
+   {
+      consoleEle_ = consoleEle;
+
+      // we adjust the scroll position ourselves when blocks above the
+      // viewport change size, so don't let the browser do it too
+      consoleEle_.getStyle().setProperty("overflowAnchor", "none");
+
+      topSpacer_ = createSpacer();
+      bottomSpacer_ = createSpacer();
+
+      // collect any output written before we were set up into the first block
+      Block block = new Block();
+      while (consoleEle_.getFirstChildElement() != null)
+      {
+         Element child = consoleEle_.getFirstChildElement();
+         child.removeFromParent();
+         block.element.appendChild(child);
+      }
+      blocks_.add(block);
+      last_ = 1;
+
+      consoleEle_.appendChild(topSpacer_);
+      consoleEle_.appendChild(block.element);
+      consoleEle_.appendChild(bottomSpacer_);
+
+      // find the scroll container for the console
+      Element ancestor = consoleEle_.getParentElement();
+      while (ancestor != null && !ancestor.hasClassName("ace_scroller"))
+         ancestor = ancestor.getParentElement();
+      scrollerEle_ = ancestor;
+
+      // without one we can't tell what's visible, so just keep everything in
+      // the DOM
+      if (scrollerEle_ == null)
+         return;
+
+      EventListener onScroll = (evt) -> scheduleUpdate();
+      Js.<HTMLElement>uncheckedCast(scrollerEle_).addEventListener("scroll", onScroll);
+
+      // button to jump back to the latest output
+      Element container = scrollerEle_.getParentElement();
+      if (!hasChildWithClass(container, JUMP_TO_LATEST_CLASS))
+      {
+         jumpToLatestButton_ = Document.get().createDivElement();
+         jumpToLatestButton_.addClassName(JUMP_TO_LATEST_CLASS);
+         jumpToLatestButton_.setInnerText("Latest");
+         jumpToLatestButton_.getStyle().setDisplay(Display.NONE);
+         EventListener onClick = (evt) ->
+         {
+            jumpToBottom();
+            consoleEle_.focus();
+         };
+         Js.<HTMLElement>uncheckedCast(jumpToLatestButton_).addEventListener("click", onClick);
+         container.appendChild(jumpToLatestButton_);
+      }
+   }
+
+   /**
+    * Appends an element to the end of the console's output.
+    */
+   public void append(Element element)
+   {
+      if (element == null)
+         return;
+
+      // new output always brings the latest output into view
+      boolean keepScrolled = scrolledToBottom();
+      if (last_ < blocks_.size())
+      {
+         showBottom();
+         keepScrolled = true;
+      }
+
+      Block tail = blocks_.get(blocks_.size() - 1);
+      if (countNewlines(tail.element) >= BLOCK_LINES)
+      {
+         tail = new Block();
+         consoleEle_.insertBefore(tail.element, bottomSpacer_);
+         blocks_.add(tail);
+         last_ = blocks_.size();
+      }
+
+      tail.element.appendChild(element);
+
+      if (keepScrolled)
+         scrollToBottom();
+      scheduleUpdate();
+   }
+
+   /**
+    * Removes all output from the console.
+    */
+   public void clear()
+   {
+      // remove all blocks from the DOM, along with possible vestigial
+      // contents of the console element
+      while (consoleEle_.getFirstChild() != null)
+         consoleEle_.removeChild(consoleEle_.getFirstChild());
+
+      blocks_.clear();
+      topHeight_ = 0;
+      bottomHeight_ = 0;
+      setHeight(topSpacer_, 0);
+      setHeight(bottomSpacer_, 0);
+
+      Block block = new Block();
+      blocks_.add(block);
+      first_ = 0;
+      last_ = 1;
+
+      consoleEle_.appendChild(topSpacer_);
+      consoleEle_.appendChild(block.element);
+      consoleEle_.appendChild(bottomSpacer_);
+
+      setJumpToLatestVisible(false);
+   }
+
+   public boolean scrolledToBottom()
+   {
+      return scrollerEle_ != null &&
+         Math.abs(scrollerEle_.getScrollHeight() -
+                  scrollerEle_.getOffsetHeight() -
+                  scrollerEle_.getScrollTop()) < 50;
+   }
+
+   public void scrollToBottom()
+   {
+      if (scrollerEle_ != null)
+         scrollerEle_.setScrollTop(scrollerEle_.getScrollHeight());
+   }
+
+   /**
+    * Brings the latest output into view.
+    */
+   private void jumpToBottom()
+   {
+      showBottom();
+      scrollToBottom();
+      setJumpToLatestVisible(false);
+      scheduleUpdate();
+   }
+
+   /**
+    * Moves the window of blocks in the DOM so that it ends with the last
+    * block.
+    */
+   private void showBottom()
+   {
+      if (last_ == blocks_.size())
+         return;
+
+      while (last_ > first_)
+         hideLast();
+
+      // everything is now evicted; move the (empty) window to the end and
+      // bring in the last block
+      moveEmptyWindow(blocks_.size());
+      showPrevious();
+   }
+
+   private void scheduleUpdate()
+   {
+      if (updatePending_ || scrollerEle_ == null)
+         return;
+
+      updatePending_ = true;
+      AnimationScheduler.get().requestAnimationFrame((double timestamp) ->
+      {
+         updatePending_ = false;
+         updateWindow();
+      });
+   }
+
+   /**
+    * Brings the blocks within a screen of the viewport into the DOM, and takes
+    * the others out of it.
+    */
+   private void updateWindow()
+   {
+      // nothing to do while the console isn't showing
+      int viewHeight = scrollerEle_.getClientHeight();
+      if (viewHeight == 0 || !isAttached(consoleEle_))
+         return;
+
+      int viewTop = scrollerEle_.getAbsoluteTop();
+      int top = viewTop - viewHeight;
+      int bottom = viewTop + 2 * viewHeight;
+
+      // if the viewport has moved well away from the blocks we have in the DOM
+      // (e.g. the scrollbar was dragged), start over at the viewport
+      if (first_ == last_ || windowTop() > bottom || windowBottom() < top)
+      {
+         while (last_ > first_)
+            hideLast();
+         moveEmptyWindow(blockAt(viewTop - topSpacer_.getAbsoluteTop()));
+      }
+
+      // move the window a block at a time; if there's more to do than we
+      // want to do in one frame, pick up where we left off in the next one
+      boolean done = false;
+      for (int i = 0; i < MAX_CHANGES_PER_FRAME && !done; i++)
+      {
+         if (first_ > 0 && windowTop() > top)
+            showPrevious();
+         else if (last_ < blocks_.size() && windowBottom() < bottom)
+            showNext();
+         else if (last_ - first_ > 1 && blocks_.get(first_ + 1).element.getAbsoluteTop() < top)
+            hideFirst();
+         else if (last_ - first_ > 1 && blocks_.get(last_ - 1).element.getAbsoluteTop() > bottom)
+            hideLast();
+         else
+            done = true;
+      }
+
+      if (!done)
+         scheduleUpdate();
+
+      setJumpToLatestVisible(last_ < blocks_.size());
+   }
+
+   // The block at the given offset from the top of the console
+   private int blockAt(int offset)
+   {
+      int index = 0;
+      int height = 0;
+      while (index < blocks_.size() - 1 &&
+             height + blocks_.get(index).height <= offset)
+      {
+         height += blocks_.get(index).height;
+         index++;
+      }
+      return index;
+   }
+
+   // Moves the (empty) window so that it starts at the given block
+   private void moveEmptyWindow(int index)
+   {
+      int height = 0;
+      for (int i = 0; i < index; i++)
+         height += blocks_.get(i).height;
+
+      int total = topHeight_ + bottomHeight_;
+      first_ = last_ = index;
+      topHeight_ = height;
+      bottomHeight_ = Math.max(0, total - height);
+      setHeight(topSpacer_, topHeight_);
+      setHeight(bottomSpacer_, bottomHeight_);
+   }
+
+   // The top of the blocks in the DOM (i.e. the bottom of the top spacer)
+   private int windowTop()
+   {
+      return topSpacer_.getAbsoluteTop() + topHeight_;
+   }
+
+   // The bottom of the blocks in the DOM (i.e. the top of the bottom spacer)
+   private int windowBottom()
+   {
+      return bottomSpacer_.getAbsoluteTop();
+   }
+
+   // Brings the block above the window into the DOM, keeping the output in
+   // view where it is
+   private void showPrevious()
+   {
+      Block block = blocks_.get(first_ - 1);
+      int before = windowBottom();
+
+      consoleEle_.insertAfter(block.element, topSpacer_);
+      first_--;
+      topHeight_ = Math.max(0, topHeight_ - block.height);
+      setHeight(topSpacer_, topHeight_);
+
+      // if the block's height has changed since it was last shown (e.g. the
+      // console was resized), the output below it will have moved
+      int shift = windowBottom() - before;
+      if (shift != 0 && scrollerEle_ != null)
+         scrollerEle_.setScrollTop(scrollerEle_.getScrollTop() + shift);
+   }
+
+   // Brings the block below the window into the DOM
+   private void showNext()
+   {
+      Block block = blocks_.get(last_);
+      consoleEle_.insertBefore(block.element, bottomSpacer_);
+      last_++;
+      bottomHeight_ = Math.max(0, bottomHeight_ - block.height);
+      setHeight(bottomSpacer_, bottomHeight_);
+   }
+
+   // Takes the first block in the window out of the DOM, keeping the output
+   // in view where it is
+   private void hideFirst()
+   {
+      Block block = blocks_.get(first_);
+      int before = windowBottom();
+      block.element.removeFromParent();
+      block.height = before - windowBottom();
+      first_++;
+      topHeight_ += block.height;
+      setHeight(topSpacer_, topHeight_);
+   }
+
+   // Takes the last block in the window out of the DOM
+   private void hideLast()
+   {
+      Block block = blocks_.get(last_ - 1);
+      int before = windowBottom();
+      block.element.removeFromParent();
+      block.height = before - windowBottom();
+      last_--;
+      bottomHeight_ += block.height;
+      setHeight(bottomSpacer_, bottomHeight_);
+   }
+
+   private void setJumpToLatestVisible(boolean visible)
+   {
+      if (jumpToLatestButton_ == null)
+         return;
+
+      if (visible)
+         jumpToLatestButton_.getStyle().setDisplay(Display.BLOCK);
+      else
+         jumpToLatestButton_.getStyle().setDisplay(Display.NONE);
+   }
+
+   private static Element createSpacer()
+   {
+      Element spacer = Document.get().createSpanElement();
+      spacer.getStyle().setDisplay(Display.BLOCK);
+      spacer.getStyle().setHeight(0, Unit.PX);
+      return spacer;
+   }
+
+   private static void setHeight(Element spacer, int height)
+   {
+      spacer.getStyle().setHeight(height, Unit.PX);
+   }
+
+   private static boolean hasChildWithClass(Element parent, String className)
+   {
+      for (Element child = parent.getFirstChildElement();
+           child != null;
+           child = child.getNextSiblingElement())
+      {
+         if (child.hasClassName(className))
+            return true;
+      }
+      return false;
+   }
+
+   private static native boolean isAttached(Element element) /*-{
+      return element.ownerDocument.body.contains(element);
+   }-*/;
+
+   private static native int countNewlines(Element element) /*-{
+      var match = element.textContent.match(/\n/g);
+      return match === null ? 0 : match.length;
+   }-*/;
+
+   /**
+    * A block of output; while it's outside the window, its element is
+    * detached from the DOM and its height is the height it had when it was
+    * last in the DOM.
+    */
+   private static class Block
+   {
+      public Block()
+      {
+         element = Document.get().createSpanElement();
+      }
+
+      public final Element element;
+      public int height;
+   }
+
+   private final Element consoleEle_;
+   private final Element scrollerEle_;
+   private final Element topSpacer_;
+   private final Element bottomSpacer_;
+   private Element jumpToLatestButton_;
+
+   // The console's blocks of output; those in [first_, last_) are in the DOM
+   private final ArrayList<Block> blocks_ = new ArrayList<>();
+   private int first_ = 0;
+   private int last_ = 0;
+
+   // The total heights of the blocks above and below the window
+   private int topHeight_ = 0;
+   private int bottomHeight_ = 0;
+
+   private boolean updatePending_ = false;
+
+   private static final int BLOCK_LINES = 50;
+   private static final int MAX_CHANGES_PER_FRAME = 50;
+   private static final String JUMP_TO_LATEST_CLASS = "jump-to-latest-console";
+}
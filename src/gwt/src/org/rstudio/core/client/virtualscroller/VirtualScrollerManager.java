@@ -14,173 +14,54 @@
  */
 package org.rstudio.core.client.virtualscroller;
 
-import com.google.gwt.core.client.JavaScriptException;
-
-import java.util.Date;
-import java.util.HashMap;
-
 import com.google.gwt.dom.client.Element;
-import org.rstudio.core.client.Debug;
-import org.rstudio.core.client.ExternalJavaScriptLoader;
-import org.rstudio.core.client.theme.res.ThemeStyles;
 
 public class VirtualScrollerManager
 {
-   public static void init()
-   {
-      if (!initialized_ && !loading_)
-      {
-         scrollers_ = new HashMap<>();
-         loading_ = true;
-         virtualScrollerLoader_.addCallback(() -> {
-            loading_ = false;
-            try
-            {
-               initialized_ = true;
-            }
-            catch (JavaScriptException e)
-            {
-               // If we get an error initializing the virtualScroller, log
-               // and no-op the error to continue non-virtualized
-               Debug.log(e.getMessage());
-            }
-         });
-      }
-   }
-
-   public static void append(Element parent, Element content)
+   /**
+    * Returns the virtual scroller for the console containing the given element,
+    * creating one for the element if it isn't in a console that has one yet.
+    * This walks the element's ancestors, so callers should hold on to the
+    * result rather than looking it up repeatedly.
+    */
+   public static VirtualScroller scrollerFor(Element parent)
    {
       // wholly degenerate case
-      if (parent == null) {
-         return;
-      }
-
-      // ensure that the element is added to be turned into a bucket later
-      if (!initialized_) {
-         parent.appendChild(content);
-         return;
-      }
-
-      parent = getVirtualScrollerAncestor(parent);
-
-      if (parent.getAttribute(scrollerAttribute_) == null || parent.getAttribute(scrollerAttribute_).length() == 0)
-         parent.setAttribute(scrollerAttribute_, "vs_" + new Date().getTime());
-
-      if (scrollers_.get(parent.getAttribute(scrollerAttribute_)) == null)
-      {
-         VirtualScrollerNative vs = new VirtualScrollerNative();
-         vs.setup(parent, ThemeStyles.INSTANCE.visuallyHidden());
-         scrollers_.put(parent.getAttribute(scrollerAttribute_), vs);
-      }
+      if (parent == null)
+         return null;
 
-      scrollers_.get(parent.getAttribute(scrollerAttribute_)).append(content);
-   }
-
-   public static boolean scrolledToBottom(Element parent)
-   {
-      // if we don't have a connection to that parent there's nothing to clear
-      if (!initialized_ || parent == null ) return false;
-
-      parent = getVirtualScrollerAncestor(parent);
-
-      if (scrollers_.get(parent.getAttribute(scrollerAttribute_)) == null)
-         return false;
-
-      return scrollerForElement(parent).scrolledToBottom();
-   }
-
-   public static void scrollToBottom(Element parent)
-   {
-      // if we don't have a connection to that parent there's nothing to clear
-      if (!initialized_ || parent == null ) return;
-
-      parent = getVirtualScrollerAncestor(parent);
-
-      if (scrollers_.get(parent.getAttribute(scrollerAttribute_)) == null)
-         return;
-
-      scrollerForElement(parent).scrollToBottom();
-   }
-
-   public static void prune(Element parent, Element ele)
-   {
-      // if we don't have a connection to that parent there's nothing to clear
-      if (!initialized_ || parent == null ) return;
-
-      parent = getVirtualScrollerAncestor(parent);
-
-      if (scrollers_.get(parent.getAttribute(scrollerAttribute_)) == null)
-         return;
-
-      scrollers_.get(parent.getAttribute(scrollerAttribute_)).prune(ele);
-   }
-
-   public static void clear(Element parent)
-   {
-      // if we don't have a connection to that parent there's nothing to clear
-      if (!initialized_ || parent == null ) return;
-
-      parent = getVirtualScrollerAncestor(parent);
-
-      if (scrollers_.get(parent.getAttribute(scrollerAttribute_)) == null)
-         return;
-
-      scrollers_.get(parent.getAttribute(scrollerAttribute_)).clear();
-   }
-
-   public static void ensureStartingOnNewLine(Element parent)
-   {
-      if (!initialized_ || parent == null ) return;
-
-      parent = getVirtualScrollerAncestor(parent);
-
-      if (scrollers_.get(parent.getAttribute(scrollerAttribute_)) == null)
-         return;
-
-      scrollerForElement(parent).ensureStartingOnNewLine();
-   }
-
-   public static Element getCurBucket(Element parent)
-   {
-      if (scrollerForElement(parent) == null) return null;
-
-      return scrollerForElement(parent).getCurBucket();
-   }
-
-   public static VirtualScrollerNative scrollerForElement(Element parent)
-   {
-      if (!initialized_ || parent == null) return null;
-
-      return scrollers_.get(parent.getAttribute(scrollerAttribute_));
-   }
-
-   public static Element getVirtualScrollerAncestor(Element parent)
-   {
       // Unfortunately we can't trust the calling code to always pass us the top level container
       // element. There are cases where the VirtualConsole will initialize itself multiple times
       // and pass in elements that are not direct descendants of the container.
-      Element ancestor = parent;
-      while (ancestor != null)
+      for (Element ancestor = parent; ancestor != null; ancestor = ancestor.getParentElement())
       {
-         if (ancestor.getAttribute(scrollerAttribute_).length() > 0)
-         {
-            parent = ancestor;
-            ancestor = null;
-         } else
-         {
-            ancestor = ancestor.getParentElement();
-         }
+         VirtualScroller scroller = getScroller(ancestor);
+         if (scroller != null)
+            return scroller;
       }
 
-      return parent;
+      VirtualScroller scroller = new VirtualScroller(parent);
+      setScroller(parent, scroller);
+      return scroller;
    }
 
-   private static final ExternalJavaScriptLoader virtualScrollerLoader_ =
-      new ExternalJavaScriptLoader(VirtualScrollerResources.INSTANCE.virtualscrollerjs().getSafeUri().asString());
+   /**
+    * Returns the virtual scroller hosted by the given element, if any.
+    */
+   public static VirtualScroller scrollerForElement(Element parent)
+   {
+      if (parent == null)
+         return null;
+
+      return getScroller(parent);
+   }
 
-   private static HashMap<String, VirtualScrollerNative> scrollers_;
-   private static boolean initialized_ = false;
-   private static boolean loading_ = false;
+   // the scroller is kept on its element, so it goes away with it
+   private static native VirtualScroller getScroller(Element element) /*-{
+      return element.__rstudio_virtual_scroller || null;
+   }-*/;
 
-   private static final String scrollerAttribute_ = "scroller_id";
+   private static native void setScroller(Element element, VirtualScroller scroller) /*-{
+      element.__rstudio_virtual_scroller = scroller;
+   }-*/;
 }
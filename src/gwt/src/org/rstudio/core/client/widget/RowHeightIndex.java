@@ -0,0 +1,129 @@
+/*
+ * RowHeightIndex.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.widget;
+
+// Tracks the heights of the rows in a (virtualized) table, so that the offset
+// of any row, and the row at any offset, can be found without walking over
+// every row before it. Rows are assumed to have a default height until
+// their actual height is recorded.
+//
+// Heights are held as differences from the default height in a Fenwick
+// (binary indexed) tree, so resetting the index is cheap and both lookups
+// and updates take O(log n) time.
+public class RowHeightIndex
+{
+   public RowHeightIndex(int defaultHeight)
+   {
+      defaultHeight_ = defaultHeight;
+      reset(0);
+   }
+
+   // discards all recorded heights; all rows take the default height
+   public void reset(int rowCount)
+   {
+      rowCount_ = rowCount;
+      heights_ = new int[rowCount];
+      tree_ = new int[rowCount + 1];
+      for (int i = 0; i < rowCount; i++)
+         heights_[i] = defaultHeight_;
+   }
+
+   public void setDefaultHeight(int defaultHeight)
+   {
+      if (defaultHeight == defaultHeight_)
+         return;
+
+      defaultHeight_ = defaultHeight;
+      reset(rowCount_);
+   }
+
+   public int getDefaultHeight()
+   {
+      return defaultHeight_;
+   }
+
+   public int size()
+   {
+      return rowCount_;
+   }
+
+   public int getHeight(int row)
+   {
+      return heights_[row];
+   }
+
+   public void setHeight(int row, int height)
+   {
+      int delta = height - heights_[row];
+      if (delta == 0)
+         return;
+
+      heights_[row] = height;
+      for (int i = row + 1; i <= rowCount_; i += i & -i)
+         tree_[i] += delta;
+   }
+
+   // the offset of the top of the given row; the offset of the row one past
+   // the last row is the total height of all rows
+   public int offsetOf(int row)
+   {
+      row = Math.max(0, Math.min(row, rowCount_));
+
+      int delta = 0;
+      for (int i = row; i > 0; i -= i & -i)
+         delta += tree_[i];
+      return row * defaultHeight_ + delta;
+   }
+
+   public int getTotalHeight()
+   {
+      return offsetOf(rowCount_);
+   }
+
+   // the row drawn at the given offset (clamped to the first and last rows)
+   public int rowAt(int offset)
+   {
+      if (rowCount_ == 0 || offset <= 0)
+         return 0;
+
+      int step = Integer.highestOneBit(rowCount_);
+
+      // walk down the tree, skipping over blocks of rows which end at or
+      // before the offset; each node at position 'next' covers the 'step'
+      // rows after 'row'
+      int row = 0;
+      int remaining = offset;
+      for (; step > 0; step >>= 1)
+      {
+         int next = row + step;
+         if (next > rowCount_)
+            continue;
+
+         int blockHeight = step * defaultHeight_ + tree_[next];
+         if (blockHeight <= remaining)
+         {
+            row = next;
+            remaining -= blockHeight;
+         }
+      }
+
+      return Math.min(row, rowCount_ - 1);
+   }
+
+   private int defaultHeight_;
+   private int rowCount_;
+   private int[] heights_;
+   private int[] tree_;
+}
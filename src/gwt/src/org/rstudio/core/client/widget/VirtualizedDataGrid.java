@@ -14,24 +14,37 @@
  */
 package org.rstudio.core.client.widget;
 
+import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.theme.RStudioDataGridResources;
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.builder.shared.TableRowBuilder;
+import com.google.gwt.dom.client.NodeList;
+import com.google.gwt.dom.client.TableRowElement;
 import com.google.gwt.event.dom.client.ScrollEvent;
 import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.user.cellview.client.AbstractCellTable;
 import com.google.gwt.user.cellview.client.DefaultCellTableBuilder;
-import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.cellview.client.LoadingStateChangeEvent;
 import com.google.gwt.user.client.ui.HeaderPanel;
 import com.google.gwt.user.client.ui.ScrollPanel;
+import com.google.gwt.view.client.ProvidesKey;
+import com.google.gwt.view.client.Range;
 
 // This class acts as a DOM-virtualized version of a DataGrid, effectively
 // allowing the class to render large tables without overloading the DOM.
-// The main requirement is that all rows within the drawn table have the
-// same height.
+//
+// Only the rows in view (plus some overscan on either side) are handed to
+// the table to be built; the rows above and below are stood in for by
+// padding rows. Rows may vary in height: each row is assumed to have the
+// height given by getRowHeight() until it has been drawn and measured.
+//
+// Because only a slice of the rows is ever part of the table's visible
+// range, keyboard selection should be managed with getKeyboardSelectedIndex()
+// and setKeyboardSelectedIndex(), which work with absolute row indices.
 public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
 {
    public class TableBuilder extends DefaultCellTableBuilder<T>
@@ -44,16 +57,16 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       @Override
       public void buildRowImpl(T data, int index)
       {
-         // if this is the first row, draw padding
-         if (index == 0)
+         // if this is the first row in the window, draw padding for the
+         // rows above it
+         if (index == firstActiveRow_)
             drawTopRowPadding();
          
-         // draw this row if it's in the visibility range
-         if (firstActiveRow_ <= index && index <= lastActiveRow_)
-            super.buildRowImpl(data, index);
+         super.buildRowImpl(data, index);
          
-         // if this is the last row, draw padding
-         if (index == lastActiveRow_)
+         // if this is the last row in the window, draw padding for the
+         // rows below it
+         if (index == getLastActiveRow())
             drawBottomRowPadding();
       }
       
@@ -74,6 +87,7 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
          
          TableRowBuilder tr = startRow();
          tr.attribute("height", heightPx + "px");
+         tr.attribute(PADDING_ROW_ATTRIBUTE, "true");
          for (int i = 0; i < cellTable.getColumnCount(); i++)
             tr.startTD().endTD();
          tr.endTR();
@@ -81,7 +95,8 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
    }
    
    // These two fields allow us to compute the expected
-   // total size of the widget.
+   // total size of the widget. The row height is used
+   // for rows that have not yet been drawn.
    public abstract int getRowHeight();
    public abstract int getTotalNumberOfRows();
    
@@ -97,27 +112,38 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       commonInit();
    }
    
+   public VirtualizedDataGrid(Resources resources, ProvidesKey<T> keyProvider)
+   {
+      super(Integer.MAX_VALUE, resources, keyProvider);
+      commonInit();
+   }
+   
    private void commonInit()
    {
+      heights_ = new RowHeightIndex(Math.max(1, getRowHeight()));
+      
+      // redraw (if the window has moved) on the next animation frame,
+      // coalescing all the scroll events received in the meantime
       addScrollHandler(new ScrollHandler()
       {
          @Override
          public void onScroll(ScrollEvent event)
          {
-            redrawTimer_.schedule(700);
+            scheduleRedrawIfNecessary();
          }
       });
       
+      // once rows have been drawn, record their actual heights
+      addLoadingStateChangeHandler((LoadingStateChangeEvent event) ->
+      {
+         if (event.getLoadingState() == LoadingStateChangeEvent.LoadingState.LOADED)
+            measureRows();
+      });
+      
       setTableBuilder(new TableBuilder(this));
       
-      redrawTimer_ = new Timer()
-      {
-         @Override
-         public void run()
-         {
-            redrawIfNecessary();
-         }
-      };
+      updateActiveRows(true);
+      setActiveRange();
    }
    
    @Override
@@ -130,27 +156,28 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       return true;
    }
    
+   @Override
+   public void onResize()
+   {
+      super.onResize();
+      scheduleRedrawIfNecessary();
+   }
+   
    @Override
    public void redraw()
    {
-      updateActiveRows();
+      updateActiveRows(true);
+      setActiveRange();
       super.redraw();
    }
    
    public void redrawIfNecessary()
    {
-      int oldFirstActiveRow = firstActiveRow_;
-      int oldLastActiveRow = lastActiveRow_;
-      
-      updateActiveRows();
-      
-      boolean changed =
-            (firstActiveRow_ != oldFirstActiveRow) ||
-            (lastActiveRow_ != oldLastActiveRow);
-      
+      boolean changed = updateActiveRows(false);
       if (changed)
       {
-         redraw();
+         setActiveRange();
+         super.redraw();
          Scheduler.get().scheduleDeferred(new ScheduledCommand()
          {
             @Override
@@ -185,19 +212,19 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
    
    public final int getLastActiveRow()
    {
-      return lastActiveRow_;
+      return Math.min(lastActiveRow_, getTotalNumberOfRows() - 1);
    }
    
    public final int getTopPaddingHeight()
    {
-      int pseudoRowCount = firstActiveRow_;
-      return pseudoRowCount * getRowHeight();
+      syncRowHeights();
+      return heights_.offsetOf(firstActiveRow_);
    }
    
    public final int getBottomPaddingHeight()
    {
-      int pseudoRowCount = (getTotalNumberOfRows() - lastActiveRow_) - 1;
-      return pseudoRowCount * getRowHeight();
+      syncRowHeights();
+      return heights_.getTotalHeight() - heights_.offsetOf(getLastActiveRow() + 1);
    }
    
    public final int getVerticalScrollPosition()
@@ -215,30 +242,162 @@ public abstract class VirtualizedDataGrid<T> extends RStudioDataGrid<T>
       panel.setVerticalScrollPosition(position);
    }
    
-   private final void updateActiveRows()
+   // the absolute index of the keyboard selected row
+   public final int getKeyboardSelectedIndex()
+   {
+      return keyboardSelectedIndex_;
+   }
+   
+   public final void setKeyboardSelectedIndex(int index)
+   {
+      setKeyboardSelectedIndex(index, true);
+   }
+   
+   public final void setKeyboardSelectedIndex(int index, boolean stealFocus)
    {
       int n = getTotalNumberOfRows();
-      int rowHeight = getRowHeight();
+      index = Math.max(0, Math.min(index, n - 1));
       
-      // determine how much the table body element has been scrolled
-      int scrollAmount = getVerticalScrollPosition();
+      // if the row isn't in the window, move the window to it first (it'll
+      // be scrolled into view once it receives focus)
+      if (index < firstActiveRow_ || index > getLastActiveRow())
+      {
+         int rowsVisible = getOffsetHeight() / heights_.getDefaultHeight();
+         firstActiveRow_ = Math.max(0, index - ROW_OVERSCAN);
+         lastActiveRow_ = index + rowsVisible + ROW_OVERSCAN;
+         setActiveRange();
+         super.redraw();
+      }
       
-      // determine the number of rows that have been scrolled
-      // (this is, approximately, the first visible row)
-      int numRowsScrolled = scrollAmount / rowHeight;
+      setKeyboardSelectedRow(index - firstActiveRow_, stealFocus);
+   }
+   
+   @Override
+   public void setKeyboardSelectedRow(int row, int subrow, boolean stealFocus)
+   {
+      // the row is relative to the start of the window; remember which row
+      // it is overall so that it stays selected as the window moves
+      keyboardSelectedIndex_ = getPageStart() + row;
+      super.setKeyboardSelectedRow(row, subrow, stealFocus);
+   }
+   
+   private void scheduleRedrawIfNecessary()
+   {
+      if (redrawPending_)
+         return;
       
-      // determine the total number of rows visible
-      int rowsActive = getOffsetHeight() / rowHeight;
+      redrawPending_ = true;
+      AnimationScheduler.get().requestAnimationFrame((double timestamp) ->
+      {
+         redrawPending_ = false;
+         redrawIfNecessary();
+      });
+   }
+   
+   // computes the window of rows to draw; returns true if it has changed
+   private final boolean updateActiveRows(boolean force)
+   {
+      syncRowHeights();
+      int n = getTotalNumberOfRows();
+      
+      // determine which rows are in view
+      int scrollAmount = isAttached() ? getVerticalScrollPosition() : 0;
+      int firstVisible = heights_.rowAt(scrollAmount);
+      int lastVisible = Math.max(
+            heights_.rowAt(scrollAmount + getOffsetHeight()),
+            firstVisible + getOffsetHeight() / heights_.getDefaultHeight());
+      
+      // keep the current window (and the rows already drawn) for as long as
+      // the rows in view stay well inside it
+      int margin = ROW_OVERSCAN / 2;
+      boolean covered =
+            firstActiveRow_ <= Math.max(0, firstVisible - margin) &&
+            Math.min(n - 1, lastVisible + margin) <= lastActiveRow_;
+      
+      if (covered && !force)
+         return false;
+      
+      int oldFirstActiveRow = firstActiveRow_;
+      int oldLastActiveRow = lastActiveRow_;
+      
+      firstActiveRow_ = Math.max(0, firstVisible - ROW_OVERSCAN);
+      lastActiveRow_ = lastVisible + ROW_OVERSCAN;
+      
+      return
+            (firstActiveRow_ != oldFirstActiveRow) ||
+            (lastActiveRow_ != oldLastActiveRow);
+   }
+   
+   // makes the window the table's visible range, so that only the rows in
+   // the window are passed to the table builder
+   private void setActiveRange()
+   {
+      int length = lastActiveRow_ - firstActiveRow_ + 1;
+      Range range = getVisibleRange();
+      if (range.getStart() == firstActiveRow_ && range.getLength() == length)
+         return;
       
-      firstActiveRow_ = Math.max(0, numRowsScrolled - ROW_PADDING);
-      lastActiveRow_ = Math.min(n, numRowsScrolled + rowsActive + ROW_PADDING);
+      setVisibleRange(firstActiveRow_, length);
+      
+      // the keyboard selected row is relative to the start of the visible
+      // range; keep the same row selected
+      int row = keyboardSelectedIndex_ - firstActiveRow_;
+      super.setKeyboardSelectedRow(Math.max(0, Math.min(row, length - 1)), 0, false);
+   }
+   
+   private void syncRowHeights()
+   {
+      heights_.setDefaultHeight(Math.max(1, getRowHeight()));
+      int n = getTotalNumberOfRows();
+      if (heights_.size() != n)
+         heights_.reset(n);
+   }
+   
+   // records the heights of the rows which have been drawn
+   private void measureRows()
+   {
+      if (!isAttached() || getOffsetHeight() == 0)
+         return;
+      
+      syncRowHeights();
+      
+      // rows may be drawn as several row elements; sum their heights
+      int index = -1;
+      int height = 0;
+      NodeList<TableRowElement> rows = getTableBodyElement().getRows();
+      for (int i = 0, n = rows.getLength(); i < n; i++)
+      {
+         TableRowElement row = rows.getItem(i);
+         if (row.hasAttribute(PADDING_ROW_ATTRIBUTE))
+            continue;
+         
+         int rowIndex = StringUtil.parseInt(row.getAttribute(ROW_ATTRIBUTE), -1);
+         if (rowIndex != index)
+         {
+            recordRowHeight(index, height);
+            index = rowIndex;
+            height = 0;
+         }
+         height += row.getOffsetHeight();
+      }
+      recordRowHeight(index, height);
+   }
+   
+   private void recordRowHeight(int index, int height)
+   {
+      if (index >= 0 && index < heights_.size() && height > 0)
+         heights_.setHeight(index, height);
    }
    
    private int firstActiveRow_;
    private int lastActiveRow_;
-   private Timer redrawTimer_;
+   private int keyboardSelectedIndex_;
+   private boolean redrawPending_;
+   private RowHeightIndex heights_;
    
    // Static Members ----
-   private static final int ROW_PADDING = 200;
+   private static final int ROW_OVERSCAN = 60;
+   private static final String ROW_ATTRIBUTE = "__gwt_row";
+   private static final String PADDING_ROW_ATTRIBUTE = "data-virtualized-padding";
    private static final Resources RES = GWT.create(RStudioDataGridResources.class);
 }
@@ -17,6 +17,8 @@ package org.rstudio.core.rebind;
 import java.io.PrintWriter;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.rstudio.core.client.js.JavaScriptSerializable;
@@ -29,6 +31,7 @@ import com.google.gwt.core.ext.TreeLogger;
 import com.google.gwt.core.ext.UnableToCompleteException;
 import com.google.gwt.core.ext.typeinfo.JClassType;
 import com.google.gwt.core.ext.typeinfo.JField;
+import com.google.gwt.core.ext.typeinfo.JPrimitiveType;
 import com.google.gwt.core.ext.typeinfo.TypeOracle;
 import com.google.gwt.user.rebind.ClassSourceFileComposerFactory;
 import com.google.gwt.user.rebind.SourceWriter;
@@ -48,6 +51,17 @@ public class JavaScriptSerializerGenerator extends Generator
           if (isAnnotatedSerializable(classType))
              classes.add(classType);
        }
+
+       // sort so that type ids are stable from one compile to the next
+       Collections.sort(classes, new Comparator<JClassType>()
+       {
+          @Override
+          public int compare(JClassType a, JClassType b)
+          {
+             return a.getQualifiedSourceName().compareTo(
+                   b.getQualifiedSourceName());
+          }
+       });
        
        ClassSourceFileComposerFactory sourceFile = 
              new ClassSourceFileComposerFactory(genPackageName, 
@@ -56,6 +70,7 @@ public class JavaScriptSerializerGenerator extends Generator
              JavaScriptSerializer.class.getCanonicalName());
        sourceFile.addImport("com.google.gwt.core.client.JavaScriptObject");
        sourceFile.addImport("org.rstudio.core.client.js.JsObject;");
+       sourceFile.addImport("java.util.HashMap");
 
        PrintWriter printWriter = context.tryCreate(logger, genPackageName, 
              genClassName);
@@ -66,6 +81,7 @@ public class JavaScriptSerializerGenerator extends Generator
            sourceWriter.println(genClassName + "() {");
            sourceWriter.println("}");
 
+           printTypeIds(classes, sourceWriter);
            printSerializers(classes, sourceWriter);
            printDeserializers(classes, sourceWriter);
 
@@ -74,70 +90,95 @@ public class JavaScriptSerializerGenerator extends Generator
        return sourceFile.getCreatedClassName();
     }
 
+    private void printTypeIds(List<JClassType> classes, SourceWriter w)
+    {
+       // each serializable type gets a small integer id (its index in the
+       // sorted list); the id travels with the serialized object so that
+       // both directions can dispatch with a switch rather than comparing
+       // class names one by one
+       w.println("private static final HashMap<Class<?>, Integer> TYPE_IDS = " +
+                 "new HashMap<>();");
+       w.println("static");
+       w.println("{");
+       w.indent();
+       for (int i = 0; i < classes.size(); i++)
+       {
+          JClassType classType = classes.get(i);
+          if (classType.isAbstract())
+             continue;
+          w.println("TYPE_IDS.put(" + classType.getQualifiedSourceName() +
+                    ".class, " + i + ");");
+       }
+       w.outdent();
+       w.println("}");
+       w.println();
+    }
+
     private void printSerializers(List<JClassType> classes, SourceWriter w)
     {
        // print the method that dispatches to the appropriate serializer
        w.println("public <T> JavaScriptObject serialize(T source)");
        w.println("{");
        w.indent();
-       for (JClassType classType : classes)
+       w.println("Integer id = TYPE_IDS.get(source.getClass());");
+       w.println("if (id == null)");
+       w.indentln("return null;");
+       w.println();
+       w.println("switch (id)");
+       w.println("{");
+       for (int i = 0; i < classes.size(); i++)
        {
+          JClassType classType = classes.get(i);
           if (classType.isAbstract())
               continue;
-          w.println();
-          w.println("if (source.getClass().getName() == " +
-                classType.getQualifiedSourceName() + ".class.getName())");
-          w.println("{");
-          w.indent();
-          w.println("return serializeJso((" + 
+          w.println("case " + i + ":");
+          w.indentln("return serializeJso((" +
              classType.getQualifiedSourceName() + ") source);");
-          w.outdent();
-          w.println("}");
-          w.println();
        }
+       w.println("}");
+       w.println();
        w.println("return null;");
        w.outdent();
        w.println("}");
-       // print individual serializers
-       for (JClassType classType : classes)
+       w.println();
+
+       // print individual serializers; fields holding their type's default
+       // value are left out (the deserializer restores them)
+       for (int i = 0; i < classes.size(); i++)
        {
+          JClassType classType = classes.get(i);
           w.print("private final native JavaScriptObject serializeJso(");
           w.println(classType.getQualifiedSourceName() + " source) /*-{");
           w.indent();
-          w.println("return {");
-          w.indent();
-          w.println("\"class_name\":\"" +  
-                    classType.getQualifiedSourceName() + "\",");
-          w.println("\"class_data\": {");
-          w.indent();
-          JField[] fields = classType.getFields();
-          for (int i = 0; i < fields.length; i++) 
+          w.println("var data = {};");
+          for (JField field : classType.getFields())
           {
-             JField field = fields[i];
-             if (!field.isStatic())
+             if (field.isStatic())
+                continue;
+
+             String value = "source.@" + classType.getQualifiedSourceName() +
+                            "::" + field.getName();
+             w.println("if (" + nonDefaultTest(field, value) + ")");
+             w.indent();
+             w.print("data[\"" + field.getName() + "\"] = ");
+             if (isAnnotatedSerializable(field))
              {
-                w.print("\"" + field.getName() + "\": ");
-                if (isAnnotatedSerializable(field))
-                {
-                   w.print("this.@" + genPackageName + "." + genClassName + 
-                           "::serializeJso(L");
-                   w.print(field.getType().getQualifiedSourceName()
-                                          .replace(".", "/"));
-                   w.print(";)(");
-                }
-                w.println("source.@" + classType.getQualifiedSourceName() +
-                          "::" + field.getName());
-                if (isAnnotatedSerializable(field))
-                {
-                   w.print(")");
-                }
-                if (i < (fields.length - 1))
-                   w.print(", ");
-                w.println();
+                w.print("this.@" + genPackageName + "." + genClassName +
+                        "::serializeJso(L");
+                w.print(field.getType().getQualifiedSourceName()
+                                       .replace(".", "/"));
+                w.println(";)(" + value + ");");
              }
+             else
+             {
+                w.println(value + ";");
+             }
+             w.outdent();
           }
-          w.outdent();
-          w.println("}");
+          w.println("return {");
+          w.indent();
+          w.println("\"class_id\": " + i + ",");
+          w.println("\"class_data\": data");
           w.outdent();
           w.println("};");
           w.outdent();
@@ -146,45 +187,46 @@ public class JavaScriptSerializerGenerator extends Generator
        }
     }
 
-    private void printDeserializers(List<JClassType> classes, 
+    private void printDeserializers(List<JClassType> classes,
           SourceWriter w)
     {
-       w.println("private final native String classFromJso(" + 
+       w.println("private final native int classIdFromJso(" +
                       "JavaScriptObject jso) /*-{");
        w.indent();
-       w.println("return jso.class_name;");
+       w.println("return (jso && jso.class_id != null) ? jso.class_id : -1;");
        w.outdent();
        w.println("}-*/;");
        w.println();
-       
+
        // print the method that dispatches to the appropriate deserializer
        w.println("public <T> T deserialize (JavaScriptObject jso)");
        w.println("{");
        w.indent();
-       for (JClassType classType : classes)
+       w.println("switch (classIdFromJso(jso))");
+       w.println("{");
+       for (int i = 0; i < classes.size(); i++)
        {
           // ignore abstract classes
+          JClassType classType = classes.get(i);
           if (classType.isAbstract())
               continue;
 
-          // determine class name from string
-          w.println();
-          w.println("if (classFromJso(jso) == \"" + 
-                classType.getQualifiedSourceName() + "\")");
+          w.println("case " + i + ":");
           w.println("{");
           w.indent();
-          w.println(classType.getQualifiedSourceName()  + " ret = new " + 
+          w.println(classType.getQualifiedSourceName()  + " ret = new " +
                 classType.getQualifiedSourceName() + "();");
           w.println("deserializeJso(ret, jso);");
           w.println("return (T) ret;");
           w.outdent();
           w.println("}");
-          w.println();
        }
+       w.println("}");
+       w.println();
        w.println("return null;");
        w.outdent();
        w.println("}");
-       
+
        // emit individual deserializer methods (overloads)
        for (JClassType classType : classes)
        {
@@ -195,30 +237,59 @@ public class JavaScriptSerializerGenerator extends Generator
                     classType.getQualifiedSourceName() + " dest, " +
                     "JavaScriptObject source) /*-{");
           w.indent();
+          w.println("var data = source.class_data;");
           for (JField field : classType.getFields())
           {
-             if (!field.isStatic())
+             if (field.isStatic())
+                continue;
+
+             // fields missing from the data held their type's default value
+             // when serialized; assign it explicitly since the constructor
+             // may have initialized the field to something else
+             String name = "\"" + field.getName() + "\"";
+             w.print("dest.@" + classType.getQualifiedSourceName() + "::");
+             w.print(field.getName() + " = data.hasOwnProperty(" + name +
+                     ") ? ");
+             if (isAnnotatedSerializable(field))
+             {
+                w.print("this.@" + genPackageName + "." + genClassName +
+                          "::deserialize(");
+                w.print("Lcom/google/gwt/core/client/JavaScriptObject;)(");
+                w.print("data[" + name + "])");
+             }
+             else
              {
-                w.print("dest.@" + classType.getQualifiedSourceName() + "::");
-                w.print(field.getName() + " = ");
-                if (isAnnotatedSerializable(field))
-                {
-                   w.print("this.@" + genPackageName + "." + genClassName + 
-                             "::deserialize(");
-                   w.print("Lcom/google/gwt/core/client/JavaScriptObject;)(");
-                }
-                w.print("source.class_data[\"" + field.getName() + 
-                           "\"]");
-                if (isAnnotatedSerializable(field))
-                   w.print(")");
-                w.println(";");
+                w.print("data[" + name + "]");
              }
+             w.println(" : " + defaultValue(field) + ";");
           }
           w.outdent();
           w.println("}-*/;");
        }
     }
 
+    private String nonDefaultTest(JField field, String value)
+    {
+       JPrimitiveType primitive = field.getType().isPrimitive();
+       if (primitive == null)
+          return value + " != null";
+       else if (primitive == JPrimitiveType.BOOLEAN)
+          return value;
+       else
+          return value + " != 0";
+    }
+
+    private String defaultValue(JField field)
+    {
+       JPrimitiveType primitive = field.getType().isPrimitive();
+       if (primitive == null)
+          return "null";
+       else if (primitive == JPrimitiveType.BOOLEAN)
+          return "false";
+       else
+          return "0";
+    }
+
     private boolean isAnnotatedSerializable(JField field)
     {
        JClassType classType = field.getType().isClass();
@@ -116,15 +116,18 @@ class CommandBundleGeneratorHelper
          factory.addImport("org.rstudio.core.client.command.MenuCallback");
          factory.addImport("org.rstudio.core.client.command.ShortcutManager");
          factory.addImport("org.rstudio.core.client.resources.ImageResource2x");
+         factory.addImport("com.google.gwt.core.client.Duration");
          factory.addImport("com.google.gwt.core.client.GWT");
          factory.addImport("org.rstudio.studio.client.workbench.commands.CmdConstants");
          SourceWriter writer = factory.createSourceWriter(context_, printWriter);
 
-         emitConstructor(writer, images);
+         emitConstructor(writer);
          emitCommandFields(writer);
+         emitCommandIds(writer);
          emitMenus(writer);
          emitShortcuts(writer);
-         emitCommandAccessors(writer);
+         emitCommandAccessors(writer, images);
+         emitMaterializeCommand(writer);
          emitI18n(writer);
 
          // Close the class and commit it
@@ -135,13 +138,14 @@ class CommandBundleGeneratorHelper
       return packageName_ + "." + simpleName_;
    }
 
-   private void emitConstructor(SourceWriter writer, ImageResourceInfo images)
+   private void emitConstructor(SourceWriter writer)
    {
       writer.println("public " + simpleName_ + "() {");
 
-      // Implement the methods for the commands
-      for (JMethod method : commandMethods_)
-         emitCommandInitializers(writer, method, images);
+      // Commands are created on first use; here we only declare their ids so
+      // that lookups by id can find them
+      writer.indentln("for (String id : __COMMAND_IDS)");
+      writer.indentln("   addLazyCommand(id);");
 
       writer.println();
       writer.indentln("__registerShortcuts();");
@@ -159,6 +163,34 @@ class CommandBundleGeneratorHelper
       }
    }
 
+   private void emitCommandIds(SourceWriter writer)
+   {
+      writer.println("private static final String[] __COMMAND_IDS = {");
+      writer.indent();
+      for (JMethod method : commandMethods_)
+         writer.println("\"" + Generator.escape(method.getName()) + "\",");
+      writer.outdent();
+      writer.println("};");
+   }
+
+   private void emitMaterializeCommand(SourceWriter writer)
+   {
+      writer.println("@Override");
+      writer.println("protected AppCommand materializeCommand(String id) {");
+      writer.indent();
+      writer.println("switch (id) {");
+      for (JMethod method : commandMethods_)
+      {
+         String name = method.getName();
+         writer.println("case \"" + Generator.escape(name) + "\": return " +
+                        name + "();");
+      }
+      writer.println("default: return null;");
+      writer.println("}");
+      writer.outdent();
+      writer.println("}");
+   }
+
    private void emitI18n(SourceWriter writer)
    {
       writer.println("private CmdConstants " + i18n_constants_name + " = GWT.create(CmdConstants.class);");
@@ -319,6 +351,7 @@ class CommandBundleGeneratorHelper
                                   ImageResourceInfo images)
    {
       String name = method.getName();
+      writer.println("double __start = Duration.currentTimeMillis();");
       writer.println(name + "_ = new AppCommand();");
 
       setProperty(writer, name, commandProps_.get(name), "id");
@@ -347,16 +380,22 @@ class CommandBundleGeneratorHelper
       }
 
       writer.println("addCommand(\"" + Generator.escape(name) + "\", " + name + "_);");
-      writer.println();
+      writer.println("recordMaterialization(__start);");
    }
 
-   private void emitCommandAccessors(SourceWriter writer)
+   private void emitCommandAccessors(SourceWriter writer,
+                                     ImageResourceInfo images)
    {
       for (JMethod method : commandMethods_)
       {
          String name = method.getName();
          writer.println("public AppCommand " + name + "() {");
          writer.indent();
+         writer.println("if (" + name + "_ == null) {");
+         writer.indent();
+         emitCommandInitializers(writer, method, images);
+         writer.outdent();
+         writer.println("}");
          writer.println("return " + name + "_;");
          writer.outdent();
          writer.println("}");
@@ -326,28 +326,62 @@ public class RStudio implements EntryPoint
          @Override
          public void onFailure(Throwable reason)
          {
-            dismissProgressAnimation_.execute();
-            Window.alert(constants_.errorText(reason.getMessage()));
+            onDelayLoadFailure(reason);
          }
       });
    }
 
+   private void onDelayLoadFailure(Throwable reason)
+   {
+      dismissProgressAnimation_.execute();
+      Window.alert(constants_.errorText(reason.getMessage()));
+   }
+
    private void onDelayLoadApplication()
    {
       ensureStylesInjected();
 
+      // the satellite-only views (VCS, HTML preview, R Markdown output, and
+      // Plumber) each get their own split point so that none of their code
+      // is downloaded by the main window
       String view = Window.Location.getParameter("view");
       if (VCSApplication.NAME.equals(view))
       {
-         RStudioGinjector.INSTANCE.getVCSApplication().go(
-               RootLayoutPanel.get(),
-               dismissProgressAnimation_);
+         GWT.runAsync(new RunAsyncCallback()
+         {
+            @Override
+            public void onSuccess()
+            {
+               RStudioGinjector.INSTANCE.getVCSApplication().go(
+                     RootLayoutPanel.get(),
+                     dismissProgressAnimation_);
+            }
+
+            @Override
+            public void onFailure(Throwable reason)
+            {
+               onDelayLoadFailure(reason);
+            }
+         });
       }
       else if (HTMLPreviewApplication.NAME.equals(view))
       {
-         RStudioGinjector.INSTANCE.getHTMLPreviewApplication().go(
-               RootLayoutPanel.get(),
-               dismissProgressAnimation_);
+         GWT.runAsync(new RunAsyncCallback()
+         {
+            @Override
+            public void onSuccess()
+            {
+               RStudioGinjector.INSTANCE.getHTMLPreviewApplication().go(
+                     RootLayoutPanel.get(),
+                     dismissProgressAnimation_);
+            }
+
+            @Override
+            public void onFailure(Throwable reason)
+            {
+               onDelayLoadFailure(reason);
+            }
+         });
       }
       else if (view != null && view.startsWith(
             ShinyApplicationSatellite.NAME_PREFIX))
@@ -358,9 +392,22 @@ public class RStudio implements EntryPoint
       }
       else if (RmdOutputSatellite.NAME.equals(view))
       {
-         RStudioGinjector.INSTANCE.getRmdOutputSatellite().go(
-               RootLayoutPanel.get(),
-               dismissProgressAnimation_);
+         GWT.runAsync(new RunAsyncCallback()
+         {
+            @Override
+            public void onSuccess()
+            {
+               RStudioGinjector.INSTANCE.getRmdOutputSatellite().go(
+                     RootLayoutPanel.get(),
+                     dismissProgressAnimation_);
+            }
+
+            @Override
+            public void onFailure(Throwable reason)
+            {
+               onDelayLoadFailure(reason);
+            }
+         });
       }
       else if (view != null &&
             view.startsWith(SourceSatellite.NAME_PREFIX))
@@ -378,9 +425,22 @@ public class RStudio implements EntryPoint
       }
       else if (PlumberAPISatellite.NAME.equals(view))
       {
-         RStudioGinjector.INSTANCE.getPlumberAPISatellite().go(
-               RootLayoutPanel.get(),
-               dismissProgressAnimation_);
+         GWT.runAsync(new RunAsyncCallback()
+         {
+            @Override
+            public void onSuccess()
+            {
+               RStudioGinjector.INSTANCE.getPlumberAPISatellite().go(
+                     RootLayoutPanel.get(),
+                     dismissProgressAnimation_);
+            }
+
+            @Override
+            public void onFailure(Throwable reason)
+            {
+               onDelayLoadFailure(reason);
+            }
+         });
       }
       else
       {
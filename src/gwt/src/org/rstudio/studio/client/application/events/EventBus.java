@@ -21,7 +21,13 @@ import org.rstudio.studio.client.application.Desktop;
 import org.rstudio.studio.client.common.satellite.Satellite;
 import org.rstudio.studio.client.common.satellite.SatelliteManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
 import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.core.shared.GWT;
 import com.google.gwt.event.logical.shared.AttachEvent;
 import com.google.gwt.event.logical.shared.AttachEvent.Handler;
@@ -90,15 +96,41 @@ public class EventBus extends HandlerManager implements FireEvents
          }
          else
          {
-            super.fireEvent(event);
+            fireEventLocally(event);
          }
       }
       else
       {
-         super.fireEvent(event);
+         fireEventLocally(event);
       }
       
    }
+
+   private void fireEventLocally(GwtEvent<?> event)
+   {
+      try
+      {
+         super.fireEvent(event);
+      }
+      finally
+      {
+         if (event instanceof KeyedEvent)
+            fireKeyedEvent(event, ((KeyedEvent) event).getRoutingKey());
+      }
+   }
+
+   private void fireKeyedEvent(GwtEvent<?> event, String key)
+   {
+      if (key == null)
+         return;
+
+      KeyedHandlers handlers = keyedHandlers_.get(key);
+      if (handlers == null || !handlers.manager.isEventHandled(event.getAssociatedType()))
+         return;
+
+      keyedDispatchCount_ += handlers.manager.getHandlerCount(event.getAssociatedType());
+      handlers.manager.fireEvent(event);
+   }
    
    @Override
    public void fireEventToAllSatellites(CrossWindowEvent<?> event)
@@ -110,8 +142,48 @@ public class EventBus extends HandlerManager implements FireEvents
    public void fireEventToSatellite(CrossWindowEvent<?> event,
                                     WindowEx satelliteWindow)
    {
-      fireEventToSatellite(serializer_.serialize(event), 
-            satelliteWindow);
+      queueEventForSatellite(serializer_.serialize(event), satelliteWindow);
+   }
+
+   /**
+    * Fires a cross-window event in each of the given satellite windows. The
+    * event is serialized just once, however many windows it goes to.
+    */
+   public void fireEventToSatellites(CrossWindowEvent<?> event,
+                                     List<WindowEx> satelliteWindows)
+   {
+      if (satelliteWindows.isEmpty())
+         return;
+
+      JavaScriptObject data = serializer_.serialize(event);
+      for (WindowEx window : satelliteWindows)
+         queueEventForSatellite(data, window);
+   }
+
+   /**
+    * Delivers any events waiting to be sent to satellite windows now, e.g.
+    * so that they arrive ahead of something sent to the satellites directly.
+    */
+   public void flushSatelliteEvents()
+   {
+      if (pendingSatelliteEvents_.isEmpty())
+         return;
+
+      ArrayList<PendingSatelliteEvents> pending = pendingSatelliteEvents_;
+      pendingSatelliteEvents_ = new ArrayList<>();
+      for (PendingSatelliteEvents windowEvents : pending)
+      {
+         try
+         {
+            if (!windowEvents.window.isClosed())
+               fireEventsToSatellite(windowEvents.events, windowEvents.window);
+         }
+         catch (Exception e)
+         {
+            // don't let one window keep events from the others
+            Debug.logException(e);
+         }
+      }
    }
    
    @Override
@@ -150,6 +222,69 @@ public class EventBus extends HandlerManager implements FireEvents
       });
    }
    
+   /**
+    * Adds a handler that is only called for events whose routing key (see
+    * KeyedEvent) matches the given key, e.g. a document id. Events of types
+    * that don't implement KeyedEvent are never delivered to keyed handlers.
+    */
+   public <H extends EventHandler> HandlerRegistration addKeyedHandler(
+         Type<H> type, final String key, H handler)
+   {
+      KeyedHandlers handlers = keyedHandlers_.get(key);
+      if (handlers == null)
+      {
+         handlers = new KeyedHandlers();
+         keyedHandlers_.put(key, handlers);
+      }
+
+      final KeyedHandlers target = handlers;
+      final HandlerRegistration reg = target.manager.addHandler(type, handler);
+      target.count++;
+      keyedHandlerCount_++;
+
+      return new HandlerRegistration()
+      {
+         @Override
+         public void removeHandler()
+         {
+            if (removed_)
+               return;
+            removed_ = true;
+
+            reg.removeHandler();
+            keyedHandlerCount_--;
+            if (--target.count == 0 && keyedHandlers_.get(key) == target)
+               keyedHandlers_.remove(key);
+         }
+
+         private boolean removed_ = false;
+      };
+   }
+
+   /**
+    * Returns the number of handler invocations made through keyed
+    * subscriptions so far (for diagnostics).
+    */
+   public int getKeyedDispatchCount()
+   {
+      return keyedDispatchCount_;
+   }
+
+   /**
+    * Returns the number of currently registered keyed handlers (for
+    * diagnostics).
+    */
+   public int getKeyedHandlerCount()
+   {
+      return keyedHandlerCount_;
+   }
+
+   private static class KeyedHandlers
+   {
+      public final HandlerManager manager = new HandlerManager(null);
+      public int count = 0;
+   }
+
    private final native void exportNativeCallbacks() /*-{
       var thiz = this;
       $wnd.fireRStudioEventExternal = $entry(
@@ -157,8 +292,53 @@ public class EventBus extends HandlerManager implements FireEvents
             thiz.@org.rstudio.studio.client.application.events.EventBus::fireEventFromOtherWindow(Lcom/google/gwt/core/client/JavaScriptObject;Ljava/lang/String;)(eventData, windowName);
          }
       ); 
+      $wnd.fireRStudioEventsExternal = $entry(
+         function(eventData, windowName) {
+            thiz.@org.rstudio.studio.client.application.events.EventBus::fireEventsFromOtherWindow(Lcom/google/gwt/core/client/JsArray;Ljava/lang/String;)(eventData, windowName);
+         }
+      );
    }-*/;
    
+   private void fireEventsFromOtherWindow(JsArray<JavaScriptObject> data,
+                                          String windowName)
+   {
+      for (int i = 0, n = data.length(); i < n; i++)
+         fireEventFromOtherWindow(data.get(i), windowName);
+   }
+
+   // events sent to a satellite window are queued, and delivered together
+   // at the end of the current event loop
+   private void queueEventForSatellite(JavaScriptObject data, WindowEx target)
+   {
+      if (pendingSatelliteEvents_.isEmpty())
+         Scheduler.get().scheduleFinally(() -> flushSatelliteEvents());
+
+      for (PendingSatelliteEvents windowEvents : pendingSatelliteEvents_)
+      {
+         if (windowEvents.window == target)
+         {
+            windowEvents.events.push(data);
+            return;
+         }
+      }
+
+      PendingSatelliteEvents windowEvents = new PendingSatelliteEvents(target);
+      windowEvents.events.push(data);
+      pendingSatelliteEvents_.add(windowEvents);
+   }
+
+   private static class PendingSatelliteEvents
+   {
+      public PendingSatelliteEvents(WindowEx window)
+      {
+         this.window = window;
+      }
+
+      public final WindowEx window;
+      public final JsArray<JavaScriptObject> events =
+            JavaScriptObject.createArray().cast();
+   }
+
    private void fireEventFromOtherWindow(JavaScriptObject data, 
          String windowName)
    {
@@ -173,9 +353,9 @@ public class EventBus extends HandlerManager implements FireEvents
       $wnd.opener.fireRStudioEventExternal(data, windowName);
    }-*/;
    
-   private final native void fireEventToSatellite(JavaScriptObject data,
+   private final native void fireEventsToSatellite(JsArray<JavaScriptObject> data,
          WindowEx target) /*-{
-      target.fireRStudioEventExternal(data, "");
+      target.fireRStudioEventsExternal(data, "");
    }-*/;
    
    private void debugLogEvents(GwtEvent<?> event)
@@ -186,4 +366,8 @@ public class EventBus extends HandlerManager implements FireEvents
    private Provider<Satellite> pSatellite_;
    private Provider<SatelliteManager> pManager_;
    private JavaScriptSerializer serializer_;
+   private ArrayList<PendingSatelliteEvents> pendingSatelliteEvents_ = new ArrayList<>();
+   private final HashMap<String, KeyedHandlers> keyedHandlers_ = new HashMap<>();
+   private int keyedHandlerCount_ = 0;
+   private int keyedDispatchCount_ = 0;
 }
@@ -1,5 +1,5 @@
 /*
- * VirtualScrollerResources.java
+ * KeyedEvent.java
  *
  * Copyright (C) 2022 by Posit Software, PBC
  *
@@ -12,18 +12,14 @@
  * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
  *
  */
+package org.rstudio.studio.client.application.events;
 
-package org.rstudio.core.client.virtualscroller;
-
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.resources.client.ClientBundle;
-import org.rstudio.core.client.resources.StaticDataResource;
-
-public interface VirtualScrollerResources extends ClientBundle
+// A KeyedEvent is addressed to a single object (a document, job, terminal,
+// etc.) identified by its routing key. In addition to the ordinary handlers
+// for the event's type, EventBus delivers it to the handlers registered with
+// addKeyedHandler() for that key only, so per-object handlers don't need to
+// see (and discard) events meant for every other object.
+public interface KeyedEvent
 {
-   VirtualScrollerResources INSTANCE = GWT.create(VirtualScrollerResources.class);
-
-   @Source("virtualscroller.js")
-   StaticDataResource virtualscrollerjs();
+   String getRoutingKey();
 }
-
@@ -346,6 +346,9 @@ public class SatelliteManager implements CloseHandler<Window>
    // dispatch an event to all satellites
    public void dispatchClientEvent(JavaScriptObject clientEvent)
    {
+      // keep this event in order with any cross-window events still queued
+      events_.flushSatelliteEvents();
+
       // list of windows to remove (because they were closed)
       ArrayList<ActiveSatellite> removeWindows = null;
 
@@ -420,10 +423,12 @@ public class SatelliteManager implements CloseHandler<Window>
    // dispatch a cross-window event to all satellites
    public void dispatchCrossWindowEvent(CrossWindowEvent<?> event)
    {
+      ArrayList<WindowEx> windows = new ArrayList<>();
       for (ActiveSatellite satellite: satellites_)
       {
-         events_.fireEventToSatellite(event, satellite.getWindow());
+         windows.add(satellite.getWindow());
       }
+      events_.fireEventToSatellites(event, windows);
    }
 
    // close all satellites when we are closed
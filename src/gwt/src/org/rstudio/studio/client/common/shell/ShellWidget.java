@@ -49,6 +49,7 @@ import org.rstudio.studio.client.workbench.views.source.editors.text.events.Past
 import org.rstudio.studio.client.workbench.views.source.editors.text.events.RenderFinishedEvent;
 import org.rstudio.studio.client.workbench.views.source.editors.text.themes.AceTheme;
 
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.core.client.Scheduler.RepeatingCommand;
 import com.google.gwt.dom.client.Document;
@@ -330,6 +331,7 @@ public class ShellWidget extends Composite implements ShellDisplay,
 
    public void consoleWriteError(final String error)
    {
+      flushPendingOutput();
       clearPendingInput();
       output(error, getErrorClass(), true /*isError*/, false /*ignoreLineCount*/,
             isAnnouncementEnabled(AriaLiveService.CONSOLE_LOG));
@@ -353,6 +355,7 @@ public class ShellWidget extends Composite implements ShellDisplay,
          final String error, UnhandledError traceInfo,
          boolean expand, String command)
    {
+      flushPendingOutput();
       if (errorNodes_.containsKey(error))
       {
          List<Element> errorNodes = errorNodes_.get(error);
@@ -396,7 +399,7 @@ public class ShellWidget extends Composite implements ShellDisplay,
    public void consoleWriteOutput(final String output)
    {
       clearPendingInput();
-      output(output, styles_.output(), false /*isError*/, false /*ignoreLineCount*/,
+      bufferOutput(output, styles_.output(),
             isAnnouncementEnabled(AriaLiveService.CONSOLE_LOG));
    }
 
@@ -409,6 +412,7 @@ public class ShellWidget extends Composite implements ShellDisplay,
       if (!StringUtil.isNullOrEmpty(console))
          prompt_.setHTML("");
 
+      flushPendingOutput();
       clearPendingInput();
       output(input, styles_.command() + KEYWORD_CLASS_NAME, false /*isError*/,
             false /*ignoreLineCount*/, isAnnouncementEnabled(AriaLiveService.CONSOLE_COMMAND));
@@ -423,6 +427,7 @@ public class ShellWidget extends Composite implements ShellDisplay,
    @Override
    public void consoleWritePrompt(final String prompt)
    {
+      flushPendingOutput();
       output(prompt, styles_.prompt() + KEYWORD_CLASS_NAME, false /*isError*/,
             false /*ignoreLineCount*/, isAnnouncementEnabled(AriaLiveService.CONSOLE_COMMAND));
       clearErrors_ = true;
@@ -451,6 +456,7 @@ public class ShellWidget extends Composite implements ShellDisplay,
 
       input_.setPasswordMode(!showInput);
       clearErrors_ = true;
+      flushPendingOutput();
       output_.ensureStartingOnNewLine();
    }
 
@@ -510,6 +516,57 @@ public class ShellWidget extends Composite implements ShellDisplay,
       return canContinue;
    }
 
+   /**
+    * Queues output to be written to the console on the next animation frame.
+    * R code that prints in a tight loop sends many small pieces of output;
+    * collecting them means they're parsed, rendered, trimmed and scrolled
+    * to once per frame, rather than once per piece. Other writes to the
+    * console flush any queued output first, so output stays in order.
+    */
+   private void bufferOutput(String text, String className, boolean ariaLiveAnnounce)
+   {
+      if (pendingOutput_.length() > 0 &&
+          (!StringUtil.equals(className, pendingOutputClass_) ||
+           ariaLiveAnnounce != pendingOutputAnnounce_))
+      {
+         flushPendingOutput();
+      }
+
+      pendingOutput_.append(text);
+      pendingOutputClass_ = className;
+      pendingOutputAnnounce_ = ariaLiveAnnounce;
+
+      // don't let output pile up indefinitely (e.g. while the browser isn't
+      // delivering animation frames to a hidden tab); writing it now also
+      // keeps the console trimmed to its line limit
+      if (pendingOutput_.length() >= MAX_PENDING_OUTPUT)
+      {
+         flushPendingOutput();
+         return;
+      }
+
+      if (!flushScheduled_)
+      {
+         flushScheduled_ = true;
+         AnimationScheduler.get().requestAnimationFrame((double timestamp) ->
+         {
+            flushScheduled_ = false;
+            flushPendingOutput();
+         });
+      }
+   }
+
+   private void flushPendingOutput()
+   {
+      if (pendingOutput_.length() == 0)
+         return;
+
+      String text = pendingOutput_.toString();
+      pendingOutput_.setLength(0);
+      output(text, pendingOutputClass_, false /*isError*/, false /*ignoreLineCount*/,
+            pendingOutputAnnounce_);
+   }
+
    private String ensureNewLine(String s)
    {
       if (s.length() == 0 || s.charAt(s.length() - 1) == '\n')
@@ -546,6 +603,8 @@ public class ShellWidget extends Composite implements ShellDisplay,
       if (revIndex < 0)
          revIndex = 0;
 
+      flushPendingOutput();
+
       final int startIndex = revIndex;
       final int endIndex = actions.length() - 1;
 
@@ -783,6 +842,8 @@ public class ShellWidget extends Composite implements ShellDisplay,
    @Override
    public void clearOutput()
    {
+      // queued output would be cleared anyway
+      pendingOutput_.setLength(0);
       output_.clearConsoleOutput();
       clearLiveRegion();
       cleared_ = true;
@@ -797,6 +858,7 @@ public class ShellWidget extends Composite implements ShellDisplay,
    @Override
    public ConsoleOutputWriter getConsoleOutputWriter()
    {
+      flushPendingOutput();
       return output_;
    }
 
@@ -1028,6 +1090,13 @@ public class ShellWidget extends Composite implements ShellDisplay,
    }
 
    private boolean cleared_ = false;
+
+   // Output waiting to be written on the next animation frame
+   private final StringBuilder pendingOutput_ = new StringBuilder();
+   private static final int MAX_PENDING_OUTPUT = 256 * 1024;
+   private String pendingOutputClass_;
+   private boolean pendingOutputAnnounce_;
+   private boolean flushScheduled_ = false;
    private boolean ignoreNextFocus_ = false;
    private final ConsoleOutputWriter output_;
    private final PreWidget pendingInput_;
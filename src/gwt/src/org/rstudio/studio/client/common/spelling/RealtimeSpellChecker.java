@@ -15,7 +15,6 @@
 package org.rstudio.studio.client.common.spelling;
 
 import com.google.gwt.core.client.GWT;
-import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArrayString;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
@@ -35,7 +34,6 @@ import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.views.source.editors.text.spelling.SpellingDoc;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 
 public class RealtimeSpellChecker
@@ -145,85 +143,72 @@ public class RealtimeSpellChecker
 
    public SpellCheckerResult getCachedWords(ArrayList<String> words)
    {
-      SpellCheckerResult result = new SpellCheckerResult();
-      for (String word : words)
-      {
-         if (isWordIgnored(word) || correctWords.contains(word))
-         {
-            result.getCorrect().add(word);
-         }
-         else if (incorrectWords.containsKey(word))
-         {
-            result.getIncorrect().add(word);
-         }
-      }
+      ArrayList<String> unignored = new ArrayList<>();
+      SpellCheckerResult ignored = partitionIgnoredWords(words, unignored);
 
+      SpellCheckerResult result = spellingService_.getCachedResults(unignored);
+      result.getCorrect().addAll(ignored.getCorrect());
       return result;
    }
 
    public void checkWords(ArrayList<String> words,
                           ServerRequestCallback<SpellCheckerResult> callback)
    {
-      SpellCheckerResult knownWords = getCachedWords(words);
+      ArrayList<String> unignored = new ArrayList<>();
+      SpellCheckerResult ignored = partitionIgnoredWords(words, unignored);
 
-      // we've already cached all of the words, don't hit the server
-      if (knownWords.getIncorrect().size() + knownWords.getCorrect().size() == words.size())
-      {
-         callback.onResponseReceived(knownWords);
-      }
-      else
+      // the spelling service answers from its cache where it can, and
+      // batches up the rest with other documents' words
+      spellingService_.checkSpelling(unignored, new ServerRequestCallback<SpellCheckerResult>()
       {
-         spellingService_.checkSpelling(words, new ServerRequestCallback<SpellCheckerResult>()
+         @Override
+         public void onResponseReceived(SpellCheckerResult response)
          {
-            @Override
-            public void onResponseReceived(SpellCheckerResult response)
-            {
-               // cache responses so we don't have to hit the server for these words again in the session
-               correctWords.addAll(response.getCorrect());
-               for (String wrongWord : response.getIncorrect())
-               {
-                  incorrectWords.put(wrongWord, null);
-               }
-
-               response.getCorrect().addAll(knownWords.getCorrect());
-               response.getIncorrect().addAll(knownWords.getIncorrect());
-               callback.onResponseReceived(response);
-            }
-
-            @Override
-            public void onError(ServerError error)
-            {
-               Debug.logError(error);
-            }
-         });
-      }
+            response.getCorrect().addAll(ignored.getCorrect());
+            callback.onResponseReceived(response);
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+            Debug.logError(error);
+         }
+      });
    }
 
    public void suggestionList(String word,
                               ServerRequestCallback<JsArrayString> callback)
    {
-      if (incorrectWords.containsKey(word) && incorrectWords.get(word) != null)
-         callback.onResponseReceived(incorrectWords.get(word));
-      else
-         spellingService_.suggestionList(word, new ServerRequestCallback<JsArrayString>()
+      spellingService_.suggestionList(word, new ServerRequestCallback<JsArrayString>()
+      {
+         @Override
+         public void onResponseReceived(JsArrayString response)
+         {
+            callback.onResponseReceived(response);
+         }
+
+         @Override
+         public void onError(ServerError error)
          {
-            @Override
-            public void onResponseReceived(JsArrayString response)
-            {
-               if (response != null)
-                  incorrectWords.put(word, response);
-               else
-                  incorrectWords.put(word, JavaScriptObject.createArray().cast());
-
-               callback.onResponseReceived(incorrectWords.get(word));
-            }
-
-            @Override
-            public void onError(ServerError error)
-            {
-
-            }
-         });
+
+         }
+      });
+   }
+
+   // returns the ignored words (as correct words), adding the others to
+   // 'unignored'
+   private SpellCheckerResult partitionIgnoredWords(ArrayList<String> words,
+                                                    ArrayList<String> unignored)
+   {
+      SpellCheckerResult result = new SpellCheckerResult();
+      for (String word : words)
+      {
+         if (isWordIgnored(word))
+            result.getCorrect().add(word);
+         else
+            unignored.add(word);
+      }
+      return result;
    }
 
    private boolean isWordIgnored(String word)
@@ -298,9 +283,6 @@ public class RealtimeSpellChecker
    private final HashSet<String> allIgnoredWords_ = new HashSet<>();
    private final HashSet<String> domainSpecificWords_ = new HashSet<>();
 
-   private final HashSet<String> correctWords = new HashSet<>();
-   private final HashMap<String, JsArrayString> incorrectWords = new HashMap<>();
-
    private SpellingService spellingService_;
    private UserPrefs userPrefs_;
 }
@@ -17,6 +17,9 @@ package org.rstudio.studio.client.common.spelling;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import org.rstudio.core.client.js.JsUtil;
@@ -27,6 +30,7 @@ import org.rstudio.studio.client.server.ServerRequestCallback;
 import org.rstudio.studio.client.workbench.prefs.model.SpellingPrefsContext;
 import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 
+import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArrayInteger;
 import com.google.gwt.core.client.JsArrayString;
 import com.google.gwt.dom.client.Document;
@@ -39,6 +43,7 @@ import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.GwtEvent;
 import com.google.gwt.event.shared.HandlerManager;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Timer;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
@@ -71,6 +76,25 @@ public class SpellingService implements HasChangeHandlers
       });
    }
 
+   // returns the cached verdicts for those of the given words which have
+   // already been checked; words not yet checked are left out of the result
+   public SpellCheckerResult getCachedResults(List<String> words)
+   {
+      SpellCheckerResult result = new SpellCheckerResult();
+      for (String word : words)
+      {
+         Entry entry = cache_.get(word);
+         if (entry == null)
+            continue;
+
+         if (entry.correct)
+            result.getCorrect().add(word);
+         else
+            result.getIncorrect().add(word);
+      }
+      return result;
+   }
+
    public void checkSpelling(
                      List<String> words, 
                      final ServerRequestCallback<SpellCheckerResult> callback)
@@ -78,23 +102,37 @@ public class SpellingService implements HasChangeHandlers
       // results to return
       final SpellCheckerResult spellCheckerResult = new SpellCheckerResult();
       
-      // only send words to the server that aren't in the cache
+      // only send words to the server that aren't in the cache (and which
+      // aren't already on their way to the server)
       final ArrayList<String> wordsToCheck = new ArrayList<>();
+      final HashSet<Batch> batches = new HashSet<>();
       for (int i = 0; i<words.size(); i++)
       {
          String word = words.get(i);
-         Boolean isCorrect = previousResults_.get(word);
-         if (isCorrect != null)
+         Entry entry = cache_.get(word);
+         if (entry != null)
          {
-            if (isCorrect)
+            if (entry.correct)
                spellCheckerResult.getCorrect().add(word);
             else
                spellCheckerResult.getIncorrect().add(word);
+            continue;
          }
-         else
+
+         Batch batch = requestedWords_.get(word);
+         if (batch == null)
          {
-            wordsToCheck.add(word);
+            if (pendingBatch_ == null)
+            {
+               pendingBatch_ = new Batch(generation_);
+               batchTimer_.schedule(BATCH_DELAY_MS);
+            }
+            batch = pendingBatch_;
+            batch.words.add(word);
+            requestedWords_.put(word, batch);
          }
+         wordsToCheck.add(word);
+         batches.add(batch);
       }
       
       // if there are no words to check then return
@@ -104,50 +142,109 @@ public class SpellingService implements HasChangeHandlers
          return;
       }
       
-      // hit the server
-      server_.checkSpelling(JsUtil.toJsArrayString(wordsToCheck), 
+      // wait for the batches holding the remaining words
+      PendingCheck check = new PendingCheck(wordsToCheck,
+                                            batches,
+                                            spellCheckerResult,
+                                            callback);
+      for (Batch batch : batches)
+         batch.checks.add(check);
+   }
+
+   // sends the words queued up by checkSpelling (from any number of
+   // documents) to the server in a single request
+   private void sendPendingBatch()
+   {
+      final Batch batch = pendingBatch_;
+      pendingBatch_ = null;
+      if (batch == null)
+         return;
+
+      server_.checkSpelling(JsUtil.toJsArrayString(batch.words), 
                             new ServerRequestCallback<JsArrayInteger>() {
 
          @Override
          public void onResponseReceived(JsArrayInteger result)
          {
             // get misspelled indexes
-            ArrayList<Integer> misspelledIndexes = new ArrayList<>();
+            boolean[] misspelled = new boolean[batch.words.size()];
             for (int i=0; i<result.length(); i++)
-               misspelledIndexes.add(result.get(i));
+            {
+               int index = result.get(i);
+               if (index >= 0 && index < misspelled.length)
+                  misspelled[index] = true;
+            }
             
             // determine correct/incorrect status and populate result & cache
-            for (int i=0; i<wordsToCheck.size(); i++)
+            // (unless the cache was invalidated while we were waiting)
+            boolean current = batch.generation == generation_;
+            for (int i=0; i<batch.words.size(); i++)
             {
-               String word = wordsToCheck.get(i);
-               if (misspelledIndexes.contains(i))
+               String word = batch.words.get(i);
+               batch.results.put(word, !misspelled[i]);
+               if (current)
                {
-                  spellCheckerResult.getIncorrect().add(word);
-                  previousResults_.put(word, false);
-               }
-               else
-               {
-                  spellCheckerResult.getCorrect().add(word);
-                  previousResults_.put(word,  true);
+                  requestedWords_.remove(word);
+                  putCacheEntry(word, new Entry(!misspelled[i]));
                }
             }
             
-            // return result
-            callback.onResponseReceived(spellCheckerResult);     
+            // return results
+            for (PendingCheck check : batch.checks)
+               check.onBatchComplete();
          }
          
          @Override
          public void onError(ServerError error)
          {
-            callback.onError(error);
+            if (batch.generation == generation_)
+            {
+               for (String word : batch.words)
+                  requestedWords_.remove(word);
+            }
+
+            for (PendingCheck check : batch.checks)
+               check.onBatchError(error);
          }
       });
    }
 
-   public void suggestionList(String word,
-                              ServerRequestCallback<JsArrayString> callback)
+   public void suggestionList(final String word,
+                              final ServerRequestCallback<JsArrayString> callback)
    {
-      server_.suggestionList(word, callback);
+      Entry entry = cache_.get(word);
+      if (entry != null && entry.suggestions != null)
+      {
+         callback.onResponseReceived(entry.suggestions);
+         return;
+      }
+
+      final int generation = generation_;
+      server_.suggestionList(word, new ServerRequestCallback<JsArrayString>()
+      {
+         @Override
+         public void onResponseReceived(JsArrayString response)
+         {
+            if (response == null)
+               response = JavaScriptObject.createArray().cast();
+
+            // only words known to be misspelled have suggestions worth
+            // keeping around; words we haven't checked (or know to be
+            // correct) are left alone, so that asking for suggestions never
+            // changes a word's verdict
+            Entry known = cache_.get(word);
+            if (generation == generation_ && known != null && !known.correct)
+               putCacheEntry(word, new Entry(false, response));
+
+            callback.onResponseReceived(response);
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+            callback.onError(error);
+         }
+      });
    }
    
    public void addCustomDictionary(
@@ -172,7 +269,19 @@ public class SpellingService implements HasChangeHandlers
    
    public void invalidateCache()
    {
-      previousResults_.clear();
+      // results for words already on their way to the server may be stale,
+      // so don't cache them (or attach new requests to them)
+      generation_++;
+      cache_.clear();
+      requestedWords_.clear();
+
+      // (words not yet sent will be checked against the new dictionaries)
+      if (pendingBatch_ != null)
+      {
+         pendingBatch_.generation = generation_;
+         for (String word : pendingBatch_.words)
+            requestedWords_.put(word, pendingBatch_);
+      }
       DomEvent.fireNativeEvent(Document.get().createChangeEvent(),
                                handlerManager_);
    }
@@ -189,6 +298,108 @@ public class SpellingService implements HasChangeHandlers
       handlerManager_.fireEvent(event);
    }
    
+   private void putCacheEntry(String word, Entry entry)
+   {
+      cache_.put(word, entry);
+
+      // evict the least recently used words
+      Iterator<String> it = cache_.keySet().iterator();
+      while (cache_.size() > MAX_CACHED_WORDS)
+      {
+         it.next();
+         it.remove();
+      }
+   }
+
+   // the spelling verdict for a word, along with its suggestions (for
+   // misspelled words which have been asked about)
+   private static class Entry
+   {
+      public Entry(boolean correct)
+      {
+         this(correct, null);
+      }
+
+      public Entry(boolean correct, JsArrayString suggestions)
+      {
+         this.correct = correct;
+         this.suggestions = suggestions;
+      }
+
+      public final boolean correct;
+      public final JsArrayString suggestions;
+   }
+
+   // words waiting to be (or being) checked by the server in one request
+   private static class Batch
+   {
+      public Batch(int generation)
+      {
+         this.generation = generation;
+      }
+
+      public int generation;
+      public final ArrayList<String> words = new ArrayList<>();
+      public final HashMap<String, Boolean> results = new HashMap<>();
+      public final ArrayList<PendingCheck> checks = new ArrayList<>();
+   }
+
+   // a checkSpelling call waiting on the server's verdict for some words
+   private static class PendingCheck
+   {
+      public PendingCheck(ArrayList<String> words,
+                          HashSet<Batch> batches,
+                          SpellCheckerResult result,
+                          ServerRequestCallback<SpellCheckerResult> callback)
+      {
+         words_ = words;
+         batches_ = batches;
+         result_ = result;
+         callback_ = callback;
+         remaining_ = batches.size();
+      }
+
+      public void onBatchComplete()
+      {
+         if (failed_ || --remaining_ > 0)
+            return;
+
+         for (String word : words_)
+         {
+            for (Batch batch : batches_)
+            {
+               Boolean isCorrect = batch.results.get(word);
+               if (isCorrect == null)
+                  continue;
+
+               if (isCorrect)
+                  result_.getCorrect().add(word);
+               else
+                  result_.getIncorrect().add(word);
+               break;
+            }
+         }
+
+         callback_.onResponseReceived(result_);
+      }
+
+      public void onBatchError(ServerError error)
+      {
+         if (failed_)
+            return;
+
+         failed_ = true;
+         callback_.onError(error);
+      }
+
+      private final ArrayList<String> words_;
+      private final HashSet<Batch> batches_;
+      private final SpellCheckerResult result_;
+      private final ServerRequestCallback<SpellCheckerResult> callback_;
+      private int remaining_;
+      private boolean failed_ = false;
+   }
+
    private class CustomDictCallback extends ServerRequestCallback<JsArrayString>
    {
       public CustomDictCallback(ServerRequestCallback<JsArrayString> callback)
@@ -225,8 +436,26 @@ public class SpellingService implements HasChangeHandlers
    private final SpellingServerOperations server_;
    private final UserPrefs uiPrefs_;
    
-   private HashMap<String,Boolean> previousResults_ = new HashMap<>();
+   private final Timer batchTimer_ = new Timer()
+   {
+      @Override
+      public void run()
+      {
+         sendPendingBatch();
+      }
+   };
+
+   // spelling results, in least to most recently used order
+   private final LinkedHashMap<String, Entry> cache_ =
+         new LinkedHashMap<>(16, 0.75f, true);
+   private final HashMap<String, Batch> requestedWords_ = new HashMap<>();
+   private Batch pendingBatch_ = null;
+   private int generation_ = 0;
    
    HandlerManager handlerManager_ = new HandlerManager(this);
-   
+
+   private static final int MAX_CACHED_WORDS = 20000;
+
+   // how long to wait for other documents' words before sending a batch
+   private static final int BATCH_DELAY_MS = 50;
 }
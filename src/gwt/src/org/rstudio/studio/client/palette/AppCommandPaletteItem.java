@@ -99,7 +99,7 @@ public class AppCommandPaletteItem extends BasePaletteItem<AppCommandPaletteEntr
    }
    
    @Override
-   public boolean matchesSearch(String[] keywords)
+   public String getSearchText()
    {
       String prefix = "";
 
@@ -109,8 +109,7 @@ public class AppCommandPaletteItem extends BasePaletteItem<AppCommandPaletteEntr
          prefix = command_.getContext().toString() + " ";
       }
 
-      // Matches if the label matches
-      return super.labelMatchesSearch(prefix + label_, keywords);
+      return prefix + label_;
    }
 
    @Override
@@ -82,19 +82,6 @@ public abstract class BasePaletteItem<T extends Widget> implements CommandPalett
       return isMru_;
    }
 
-   protected boolean labelMatchesSearch(String label, String[] keywords)
-   {
-      String hay = label.toLowerCase();
-      for (String needle: keywords)
-      {
-         if (!hay.contains(needle))
-         {
-            return false;
-         }
-      }
-      return true;
-   }
-
    public abstract T createWidget();
    
    protected T widget_;
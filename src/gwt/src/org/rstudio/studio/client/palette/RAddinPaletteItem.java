@@ -59,9 +59,9 @@ public class RAddinPaletteItem extends BasePaletteItem<RAddinCommandPaletteEntry
    }
 
    @Override
-   public boolean matchesSearch(String[] keywords)
+   public String getSearchText()
    {
-      return super.labelMatchesSearch(addin_.getPackage() + " " + label_, keywords);
+      return addin_.getPackage() + " " + label_;
    }
 
    @Override
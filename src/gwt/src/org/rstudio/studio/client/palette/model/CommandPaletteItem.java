@@ -69,13 +69,12 @@ public interface CommandPaletteItem extends IsWidget, HasHandlers
    HandlerRegistration addInvokeHandler(PaletteItemInvokedEvent.Handler handler);
 
    /**
-    * Does this item match the given search keywords?
+    * Gets the text that search keywords are matched against. This is read
+    * once, when the palette builds its search index.
     * 
-    * @param keywords The keywords to match on
-    * 
-    * @return True if the palette item matches; false otherwise
+    * @return The item's searchable text
     */
-   boolean matchesSearch(String[] keywords);
+   String getSearchText();
 
    /**
     * Turns on search highlighting for the item.
@@ -18,7 +18,6 @@ package org.rstudio.studio.client.palette.ui;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.rstudio.core.client.DebouncedCommand;
 import org.rstudio.core.client.ElementIds;
 import org.rstudio.core.client.HandlerRegistrations;
 import org.rstudio.core.client.StringUtil;
@@ -176,7 +175,7 @@ public class CommandPalette extends Composite
             {
                searchText_ = searchText;
                needles_ = searchBox_.getText().toLowerCase().split("\\s+");
-               applyFilter_.nudge();
+               applyFilter();
             }
          }
       });
@@ -237,7 +236,9 @@ public class CommandPalette extends Composite
          }
       });
       
-      // Render the first page of elements
+      // Index the items and render the first page of them
+      buildIndex();
+      matches_ = index_.search(needles_);
       renderNextPage();
       
       // If we are already attached to the DOM at this point, compute the page
@@ -257,7 +258,7 @@ public class CommandPalette extends Composite
    private void computePageSize()
    {
       // Find the first visible entry (we can't measure an invisible one)
-      for (CommandPaletteItem item: items_)
+      for (CommandPaletteItem item: visible_)
       {
          Widget entry = item.asWidget();
          if (entry.isVisible())
@@ -284,21 +285,103 @@ public class CommandPalette extends Composite
       }
    }
    
+   /**
+    * Builds the search index over every item in the palette: first the MRU
+    * items, then the items from each source (less any already in the MRU).
+    */
+   private void buildIndex()
+   {
+      // Start with MRU items
+      if (mru_ != null)
+      {
+         for (CommandPaletteMruEntry mru: mru_)
+         {
+            // Look for the entry provider from which this MRU entry originated
+            for (CommandPaletteEntryProvider provider: sources_)
+            {
+               if (provider != null &&
+                   StringUtil.equals(provider.getProviderScope(), mru.getScope()))
+               {
+                  // Found the entry provider; ask it to supply the command.
+                  CommandPaletteItem item = provider.getCommandPaletteItem(mru.getId());
+                  if (item != null)
+                  {
+                     item.setIsMru(true);
+                     items_.add(item);
+                  }
+
+                  // Command found; no need to look at other providers
+                  break;
+               }
+            }
+         }
+      }
+      int mruCount = items_.size();
+
+      // Then pull in the items from each source
+      for (CommandPaletteEntryProvider provider: sources_)
+      {
+         if (provider == null)
+            continue;
+
+         List<CommandPaletteItem> items = provider.getCommandPaletteItems();
+
+         // Remove any items already present in the MRU
+         if (mru_ != null)
+         {
+            items.removeIf((item) ->
+            {
+               for (CommandPaletteMruEntry entry : mru_)
+               {
+                  if (StringUtil.equals(entry.getScope(), provider.getProviderScope()) &&
+                      StringUtil.equals(entry.getId(), item.getId()))
+                  {
+                     // Item already present in MRU; remove it
+                     return true;
+                  }
+               }
+               // Item not present in MRU; don't remove
+               return false;
+            });
+         }
+
+         for (CommandPaletteItem item: items)
+         {
+            if (item != null)
+               items_.add(item);
+         }
+      }
+
+      // Read each item's search text once, up front
+      List<String> texts = new ArrayList<>(items_.size());
+      for (CommandPaletteItem item: items_)
+         texts.add(item.getSearchText());
+      index_ = new CommandPaletteIndex(texts, mruCount);
+   }
+
    /**
     * Filter the commands by the current contents of the search box
     */
    private void applyFilter()
    {
+      // The palette hasn't been populated yet; it will pick up the search
+      // text when it is
+      if (index_ == null)
+         return;
+
       // Clear the command list and render marker in preparation for a re-render
       commandList_.clear();
       renderedItem_ = 0;
+      renderedMru_ = false;
+      renderGeneration_++;
       if (selected_ >= 0)
          visible_.get(selected_).setSelected(false);
       visible_.clear();
 
       selected_ = -1;
       
-      // Render the next page of command entries
+      // Find the matching commands and render the first page of them
+      matches_ = index_.search(needles_);
       renderNextPage();
    }
    
@@ -418,153 +501,81 @@ public class CommandPalette extends Composite
     */
    private void renderNextPage()
    {
-      // If we have no items yet, start with MRU items
-      if (items_.size() == 0 && mru_ != null)
-      {
-         for (CommandPaletteMruEntry mru: mru_)
-         {
-            // Look for the entry provider from which this MRU entry originated
-            for (CommandPaletteEntryProvider provider: sources_)
-            {
-               if (StringUtil.equals(provider.getProviderScope(), mru.getScope()))
-               {
-                  // Found the entry provider; ask it to supply the command.
-                  CommandPaletteItem item = provider.getCommandPaletteItem(mru.getId());
-                  if (item != null)
-                  {
-                     item.setIsMru(true);
-                     items_.add(item);
-                  }
-
-                  // Command found; no need to look at other providers
-                  break;
-               }
-            }
-         }
-      }
-
-      // If we haven't already pulled items from all our sources and we have
-      // less than a page of data left, pull in data from the next source.
-      if (renderedSource_ < sources_.size() &&
-          items_.size() - renderedItem_ < RENDER_PAGE_SIZE)
-      {
-         // Read the next non-null data source
-         List<CommandPaletteItem> items = null;
-         do
-         {
-            items = null;
-            CommandPaletteEntryProvider provider = sources_.get(renderedSource_);
-            if (provider != null)
-            {
-               items = provider.getCommandPaletteItems();
-
-               // Remove any items already present in the MRU
-               if (mru_ != null)
-               {
-                  items.removeIf((item) ->
-                  {
-                     for (CommandPaletteMruEntry entry : mru_)
-                     {
-                        if (StringUtil.equals(entry.getScope(), provider.getProviderScope()) &&
-                            StringUtil.equals(entry.getId(), item.getId()))
-                        {
-                           // Item already present in MRU; remove it
-                           return true;
-                        }
-                     }
-                     // Item not present in MRU; don't remove
-                     return false;
-                  });
-               }
-            }
-            renderedSource_++;
-         } while (items == null);
-
-         items_.addAll(items);
-      }
-      
       // Set initial conditions for render loop
       int rendered = 0;
       int idx = renderedItem_;
-      boolean mruSeparator = false;
 
-      // Main render loop; render items until we have rendered a full page
-      while (idx < items_.size() && rendered < RENDER_PAGE_SIZE)
+      // Main render loop; render matching items until we have rendered a
+      // full page
+      while (idx < matches_.length && rendered < RENDER_PAGE_SIZE)
       {
-         CommandPaletteItem item = items_.get(idx);
+         CommandPaletteItem item = items_.get(matches_[idx]);
 
-         // Render this item if non-null and matches the search keywords, if we
-         // have them
-         if (item != null && (needles_.length == 0 || item.matchesSearch(needles_)))
+         // Remember whether this item has been rendered
+         boolean isRendered = item.isRendered();
+         
+         // Render the item to a widget (this is the expensive step)
+         Widget widget = item.asWidget();
+         if (widget != null)
          {
-            // Remember whether this item has been rendered
-            boolean isRendered = item.isRendered();
-            
-            // Render the item to a widget (this is the expensive step)
-            Widget widget = item.asWidget();
-            if (widget != null)
+            if (item.getIsMru())
             {
-               if (item.getIsMru())
-               {
-                  // If this item came from the MRU, we need to render a separator to
-                  // delineate the MRU and non MRU entries in the palette
-                  mruSeparator = true;
-               }
-               else if (mruSeparator)
-               {
-                  // Render the MRU separator if we've entered the region of non-MRU items
-                  addMruSeparator();
-                  mruSeparator = false;
-               }
-
-               // Add and highlight the item
-               commandList_.add(item.asWidget());
-               visible_.add(item);
-               item.setSearchHighlight(needles_);
-               
-               // If we just added the first widget to the box, select it
-               if (visible_.size() == 1)
-               {
-                  selectNewCommand(0);
-               }
-               rendered++;
+               // If this item came from the MRU, we need to render a separator to
+               // delineate the MRU and non MRU entries in the palette
+               renderedMru_ = true;
+            }
+            else if (renderedMru_)
+            {
+               // Render the MRU separator if we've entered the region of non-MRU items
+               addMruSeparator();
+               renderedMru_ = false;
             }
+
+            // Add and highlight the item
+            commandList_.add(widget);
+            visible_.add(item);
+            item.setSearchHighlight(needles_);
             
-            // Attach an invocation handler if this is the first time we've
-            // rendered this item
-            if (!isRendered)
+            // If we just added the first widget to the box, select it
+            if (visible_.size() == 1)
             {
-               registrations_.add(item.addInvokeHandler((evt) ->
-               {
-                  if (evt.getItem().dismissOnInvoke())
-                  {
-                     host_.dismiss();
-                  }
-                  evt.getItem().invoke(InvocationSource.Mouse);
-               }));
+               selectNewCommand(0);
             }
+            rendered++;
          }
          
-         // Advance to next command palette item
+         // Attach an invocation handler if this is the first time we've
+         // rendered this item
+         if (!isRendered)
+         {
+            registrations_.add(item.addInvokeHandler((evt) ->
+            {
+               if (evt.getItem().dismissOnInvoke())
+               {
+                  host_.dismiss();
+               }
+               evt.getItem().invoke(InvocationSource.Mouse);
+            }));
+         }
+         
+         // Advance to next matching item
          idx++;
       }
       
       // Save our place so we'll start rendering at the next page
       renderedItem_ = idx;
       
-      // If we didn't render everything, schedule another pass
-      if (renderedItem_ < items_.size() || renderedSource_ < sources_.size())
+      // If we didn't render everything, schedule another pass (unless the
+      // filter changes before it runs, in which case the new filter will
+      // start its own)
+      if (renderedItem_ < matches_.length)
       {
-         // Don't populate while user is typing as dumping more elements into
-         // the DOM is distracting (plus the additional elements will be
-         // discarded once the timer finishes running)
-         if (!applyFilter_.isRunning())
+         final int generation = renderGeneration_;
+         Scheduler.get().scheduleDeferred(() ->
          {
-            Scheduler.get().scheduleDeferred(() ->
-            {
+            if (generation == renderGeneration_)
                renderNextPage();
-            });
-         }
+         });
       }
       else
       {
@@ -597,8 +608,11 @@ public class CommandPalette extends Composite
    private boolean attached_;
    private int pageSize_;
    
-   private int renderedItem_; // The index of the last rendered item
-   private int renderedSource_ = 0; // The index of the last rendered data source
+   private CommandPaletteIndex index_; // Search index over items_
+   private int[] matches_; // Indices into items_ of matching items, ranked
+   private int renderedItem_; // The index of the last rendered match
+   private boolean renderedMru_; // Whether the last rendered item was an MRU item
+   private int renderGeneration_ = 0; // Incremented when the filter changes
    private final int RENDER_PAGE_SIZE = 50;
 
    // These scopes serve two purposes: they ensure IDs are unique across different
@@ -611,15 +625,6 @@ public class CommandPalette extends Composite
    // The delimiter that separates the entry's scope from its ID in the MRU list
    public final static String SCOPE_MRU_DELIMITER = "|";
 
-   DebouncedCommand applyFilter_ = new DebouncedCommand(100)
-   {
-      @Override
-      protected void execute()
-      {
-         applyFilter();
-      }
-   };
-
    @UiField public TextBox searchBox_;
    @UiField public HTMLPanel commandList_;
    @UiField AriaLiveStatusWidget resultsCount_;
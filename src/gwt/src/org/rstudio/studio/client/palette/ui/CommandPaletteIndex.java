@@ -0,0 +1,192 @@
+/*
+ * CommandPaletteIndex.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+
+package org.rstudio.studio.client.palette.ui;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CommandPaletteIndex holds the (lowercased) search text of every item in the
+ * command palette, and finds and ranks the items matching a set of search
+ * keywords.
+ *
+ * Since a search usually extends the one before it (as the user types), the
+ * index remembers its last set of matches and, when the new keywords can only
+ * match a subset of them, searches just those.
+ */
+public class CommandPaletteIndex
+{
+   /**
+    * Constructs a new index.
+    *
+    * @param texts The search text of each item, in display order
+    * @param pinned The number of items at the start of the list (e.g. MRU
+    *   items) which are always ranked ahead of the others
+    */
+   public CommandPaletteIndex(List<String> texts, int pinned)
+   {
+      texts_ = new String[texts.size()];
+      for (int i = 0; i < texts_.length; i++)
+         texts_[i] = texts.get(i) == null ? "" : texts.get(i).toLowerCase();
+      pinned_ = pinned;
+      all_ = new int[texts_.length];
+      for (int i = 0; i < all_.length; i++)
+         all_[i] = i;
+      lastKeywords_ = new String[0];
+      lastMatches_ = all_;
+   }
+
+   /**
+    * Returns the number of items in the index.
+    */
+   public int size()
+   {
+      return texts_.length;
+   }
+
+   /**
+    * Finds the items matching all of the given (lowercase) keywords.
+    *
+    * @param keywords The keywords to search for
+    *
+    * @return The indices of the matching items, best matches first; if there
+    *   are no keywords, all items in display order
+    */
+   public int[] search(String[] keywords)
+   {
+      keywords = nonEmpty(keywords);
+      if (keywords.length == 0)
+      {
+         lastKeywords_ = keywords;
+         lastMatches_ = all_;
+         return all_;
+      }
+
+      // Search within the last set of matches if that's enough to find all
+      // the matches for these keywords
+      int[] candidates = narrows(keywords, lastKeywords_) ? lastMatches_ : all_;
+
+      // Score each matching candidate; the sort key orders pinned items first,
+      // then by score, then by display order
+      int count = 0;
+      int[] matches = new int[candidates.length];
+      double[] keys = new double[candidates.length];
+      for (int candidate : candidates)
+      {
+         int score = score(texts_[candidate], keywords);
+         if (score < 0)
+            continue;
+
+         matches[count] = candidate;
+         keys[count] = (candidate < pinned_ ? 0 : GROUP_WEIGHT) +
+                       Math.min(score, MAX_SCORE) * SCORE_WEIGHT +
+                       candidate;
+         count++;
+      }
+
+      keys = Arrays.copyOf(keys, count);
+      Arrays.sort(keys);
+      int[] ranked = new int[count];
+      for (int i = 0; i < count; i++)
+         ranked[i] = (int) (keys[i] % SCORE_WEIGHT);
+
+      lastKeywords_ = keywords;
+      lastMatches_ = ranked;
+      return ranked;
+   }
+
+   /**
+    * Scores a match of keywords against an item's text; lower is better.
+    *
+    * @return The score, or -1 if the text doesn't contain every keyword
+    */
+   private static int score(String text, String[] keywords)
+   {
+      int score = 0;
+      for (String keyword : keywords)
+      {
+         int idx = text.indexOf(keyword);
+         if (idx < 0)
+            return -1;
+
+         // Prefer keywords found at the start of a word, then keywords found
+         // near the start of the text
+         if (idx > 0 && text.charAt(idx - 1) != ' ')
+            score += MID_WORD_PENALTY;
+         score += idx;
+      }
+      return score;
+   }
+
+   /**
+    * Would any item matching the new keywords also match the old ones? True
+    * when every old keyword is contained in one of the new keywords (e.g.
+    * when the new keywords just extend the old ones).
+    */
+   private static boolean narrows(String[] keywords, String[] oldKeywords)
+   {
+      for (String oldKeyword : oldKeywords)
+      {
+         boolean found = false;
+         for (String keyword : keywords)
+         {
+            if (keyword.contains(oldKeyword))
+            {
+               found = true;
+               break;
+            }
+         }
+         if (!found)
+            return false;
+      }
+      return true;
+   }
+
+   private static String[] nonEmpty(String[] keywords)
+   {
+      int count = 0;
+      for (String keyword : keywords)
+      {
+         if (!keyword.isEmpty())
+            count++;
+      }
+      if (count == keywords.length)
+         return keywords;
+
+      String[] result = new String[count];
+      count = 0;
+      for (String keyword : keywords)
+      {
+         if (!keyword.isEmpty())
+            result[count++] = keyword;
+      }
+      return result;
+   }
+
+   private final String[] texts_;
+   private final int pinned_;
+   private final int[] all_;
+   private String[] lastKeywords_;
+   private int[] lastMatches_;
+
+   // Sort keys pack (pinned, score, index) into a double, which holds
+   // integers exactly up to 2^53; this leaves 20 bits for the index and
+   // 20 bits for the score
+   private static final double SCORE_WEIGHT = 1 << 20;
+   private static final double GROUP_WEIGHT = SCORE_WEIGHT * SCORE_WEIGHT;
+   private static final int MAX_SCORE = (1 << 20) - 1;
+   private static final int MID_WORD_PENALTY = 1000;
+}
@@ -39,9 +39,9 @@ public class PanmirrorCommandPaletteItem extends BasePaletteItem<PanmirrorComman
    }
 
    @Override
-   public boolean matchesSearch(String[] keywords)
+   public String getSearchText()
    {
-      return super.labelMatchesSearch(constants_.visualEditorLabel(cmd_.getFullMenuText()), keywords);
+      return constants_.visualEditorLabel(cmd_.getFullMenuText());
    }
 
    @Override
@@ -15,6 +15,7 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.KeyedEvent;
 import org.rstudio.studio.client.rmarkdown.model.RmdChunkOptions;
 
 import com.google.gwt.core.client.JavaScriptObject;
@@ -23,6 +24,7 @@ import com.google.gwt.event.shared.GwtEvent;
 
 public class ChunkExecStateChangedEvent
              extends GwtEvent<ChunkExecStateChangedEvent.Handler>
+             implements KeyedEvent
 {
    public static class Data extends JavaScriptObject
    {
@@ -78,6 +80,12 @@ public class ChunkExecStateChangedEvent
       return data_.getOptions();
    }
 
+   @Override
+   public String getRoutingKey()
+   {
+      return getDocId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
@@ -15,12 +15,15 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.KeyedEvent;
+
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 
 public class ChunkPlotRefreshedEvent
              extends GwtEvent<ChunkPlotRefreshedEvent.Handler>
+             implements KeyedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -60,6 +63,12 @@ public class ChunkPlotRefreshedEvent
       return data_;
    }
 
+   @Override
+   public String getRoutingKey()
+   {
+      return data_.getDocId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
@@ -15,6 +15,7 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.KeyedEvent;
 import org.rstudio.studio.client.rmarkdown.model.NotebookExecRange;
 
 import com.google.gwt.core.client.JavaScriptObject;
@@ -23,6 +24,7 @@ import com.google.gwt.event.shared.GwtEvent;
 
 public class NotebookRangeExecutedEvent
              extends GwtEvent<NotebookRangeExecutedEvent.Handler>
+             implements KeyedEvent
 {
    public static class Data extends JavaScriptObject
    {
@@ -87,6 +89,12 @@ public class NotebookRangeExecutedEvent
       return data_.getExprMode();
    }
 
+   @Override
+   public String getRoutingKey()
+   {
+      return getDocId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
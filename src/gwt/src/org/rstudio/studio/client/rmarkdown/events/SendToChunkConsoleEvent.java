@@ -15,6 +15,7 @@
 
 package org.rstudio.studio.client.rmarkdown.events;
 
+import org.rstudio.studio.client.application.events.KeyedEvent;
 import org.rstudio.studio.client.rmarkdown.model.NotebookQueueUnit;
 import org.rstudio.studio.client.workbench.views.source.editors.text.Scope;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Range;
@@ -24,6 +25,7 @@ import com.google.gwt.event.shared.GwtEvent;
 
 public class SendToChunkConsoleEvent
              extends GwtEvent<SendToChunkConsoleEvent.Handler>
+             implements KeyedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -78,6 +80,12 @@ public class SendToChunkConsoleEvent
       return execScope_;
    }
 
+   @Override
+   public String getRoutingKey()
+   {
+      return getDocId();
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
@@ -81,10 +81,12 @@ import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
 import com.google.gwt.core.client.JsArrayString;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.user.client.Command;
+import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.HTML;
 import com.google.gwt.user.client.ui.HorizontalPanel;
 import com.google.gwt.user.client.ui.Image;
@@ -535,8 +537,53 @@ public class RSConnect implements SessionInitEvent.Handler,
       publishAsFiles(input.getOriginatingEvent(), source);
    }
 
+   /**
+    * Downloads the code for the deploy dialog and the publish wizard (each
+    * lives in its own fragment) without showing either of them.
+    */
+   public void prefetchPublishUI(final Command continuation)
+   {
+      publishAsFiles(null, null, () ->
+      {
+         publishWithWizard(null, continuation);
+      });
+   }
+
    private void publishAsFiles(RSConnectActionEvent event,
          RSConnectPublishSource source)
+   {
+      publishAsFiles(event, source, null);
+   }
+
+   private void publishAsFiles(final RSConnectActionEvent event,
+         final RSConnectPublishSource source,
+         final Command continuation)
+   {
+      GWT.runAsync(new RunAsyncCallback()
+      {
+         public void onFailure(Throwable reason)
+         {
+            if (event != null)
+               Window.alert(reason.toString());
+
+            if (continuation != null)
+               continuation.execute();
+         }
+
+         public void onSuccess()
+         {
+            // a null event means we're only prefetching the fragment
+            if (event != null)
+               showDeployDialog(event, source);
+
+            if (continuation != null)
+               continuation.execute();
+         }
+      });
+   }
+
+   private void showDeployDialog(RSConnectActionEvent event,
+         RSConnectPublishSource source)
    {
       RSConnectDeployDialog dialog =
             new RSConnectDeployDialog(
@@ -547,7 +594,38 @@ public class RSConnect implements SessionInitEvent.Handler,
       dialog.showModal();
    }
 
-   private void publishWithWizard(final RSConnectPublishInput input)
+   private void publishWithWizard(RSConnectPublishInput input)
+   {
+      publishWithWizard(input, null);
+   }
+
+   private void publishWithWizard(final RSConnectPublishInput input,
+         final Command continuation)
+   {
+      GWT.runAsync(new RunAsyncCallback()
+      {
+         public void onFailure(Throwable reason)
+         {
+            if (input != null)
+               Window.alert(reason.toString());
+
+            if (continuation != null)
+               continuation.execute();
+         }
+
+         public void onSuccess()
+         {
+            // a null input means we're only prefetching the fragment
+            if (input != null)
+               showPublishWizard(input);
+
+            if (continuation != null)
+               continuation.execute();
+         }
+      });
+   }
+
+   private void showPublishWizard(final RSConnectPublishInput input)
    {
       RSConnectPublishWizard wizard =
             new RSConnectPublishWizard(input,
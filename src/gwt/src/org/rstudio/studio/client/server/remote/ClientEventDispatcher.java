@@ -15,8 +15,10 @@
 package org.rstudio.studio.client.server.remote;
 
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.HashMap;
 
+import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.command.CommandCallbacksChangedEvent;
 import org.rstudio.core.client.events.ExecuteAppCommandEvent;
 import org.rstudio.core.client.events.HighlightEvent;
@@ -250,6 +252,7 @@ import org.rstudio.studio.client.workbench.views.vcs.common.events.VcsRefreshEve
 import org.rstudio.studio.client.workbench.views.vcs.common.events.VcsRefreshEvent.Reason;
 import org.rstudio.studio.client.workbench.views.viewer.events.ViewerNavigateEvent;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.core.client.JsArray;
@@ -259,10 +262,30 @@ import com.google.gwt.core.client.Scheduler.RepeatingCommand;
 
 public class ClientEventDispatcher 
 {
+   /**
+    * Converts a server event of a particular type into the corresponding
+    * client-side event(s) and fires them on the event bus.
+    */
+   public interface Handler
+   {
+      void dispatch(EventBus eventBus, ClientEvent event);
+   }
+
    public ClientEventDispatcher(EventBus eventBus)
    {
       eventBus_ = eventBus;
    }
+
+   /**
+    * Register a handler for server events of the given type. Subsystems can
+    * use this to handle their own event types without editing the dispatcher;
+    * registering a type that already has a handler replaces it.
+    */
+   public static void registerHandler(String type, Handler handler)
+   {
+      ensureHandlers();
+      HANDLERS.put(type, handler);
+   }
    
    public void enqueEventAsJso(JavaScriptObject event)
    {
@@ -272,24 +295,79 @@ public class ClientEventDispatcher
 
    public void enqueEvent(ClientEvent event)
    {
-      pendingEvents_.add(event);
-      if (pendingEvents_.size() == 1)
+      if (!coalesce(event))
+         pendingEvents_.add(event);
+
+      if (!pumpScheduled_)
       {
-         Scheduler.get().scheduleIncremental(new RepeatingCommand()
-         {
-            public boolean execute()
-            {
-               for (int i = 0;
-                    i < MAX_EVENTS_AT_ONCE && pendingEvents_.size() > 0;
-                    i++)
-               {
-                  ClientEvent currentEvent = pendingEvents_.remove(0);
-                  dispatchEvent(currentEvent);
-               }
-               return pendingEvents_.size() > 0;
-            }
-         });
+         pumpScheduled_ = true;
+         Scheduler.get().scheduleFixedDelay(pump_, 0);
+      }
+   }
+
+   // try to fold the incoming event into the most recently queued (and not
+   // yet dispatched) event; returns true if the event was absorbed
+   private boolean coalesce(ClientEvent event)
+   {
+      ClientEvent last = pendingEvents_.peekLast();
+      if (last == null)
+         return false;
+
+      String type = event.getType();
+      if (last.getType() != type)
+         return false;
+
+      if (type == ClientEvent.ConsoleOutput || type == ClientEvent.ConsoleError)
+      {
+         ConsoleText previous = last.getData();
+         ConsoleText next = event.getData();
+         if (!StringUtil.equals(previous.console, next.console))
+            return false;
+
+         if (previous.text.length() + next.text.length() > MAX_COALESCED_CONSOLE_CHARS)
+            return false;
+
+         ConsoleText merged = new ConsoleText();
+         merged.text = previous.text + next.text;
+         merged.console = previous.console;
+         replaceLast(ClientEvent.create(event.getId(), type, merged));
+         return true;
+      }
+      else if (type == ClientEvent.ListChanged)
+      {
+         // list events carry the full contents of the list, so a later
+         // update for the same list supersedes an earlier one
+         JsObject previous = last.getData();
+         JsObject next = event.getData();
+         if (!StringUtil.equals(previous.getString("name"), next.getString("name")))
+            return false;
+
+         replaceLast(event);
+         return true;
+      }
+      else if (type == ClientEvent.PlotsStateChanged)
+      {
+         replaceLast(event);
+         return true;
       }
+      else if (type == ClientEvent.EnvironmentAssigned)
+      {
+         RObject previous = last.getData();
+         RObject next = event.getData();
+         if (!StringUtil.equals(previous.getName(), next.getName()))
+            return false;
+
+         replaceLast(event);
+         return true;
+      }
+
+      return false;
+   }
+
+   private void replaceLast(ClientEvent event)
+   {
+      pendingEvents_.pollLast();
+      pendingEvents_.add(event);
    }
    
    private void dispatchEvent(ClientEvent event) 
@@ -297,891 +375,15 @@ public class ClientEventDispatcher
       String type = event.getType();
       try
       {
-         if (type == ClientEvent.Busy)
-         {
-            boolean busy = event.<Bool>getData().getValue();
-            eventBus_.dispatchEvent(new BusyEvent(busy));
-         }
-         else if (type == ClientEvent.ConsoleOutput)
-         {
-            ConsoleText output = event.getData();
-            eventBus_.dispatchEvent(new ConsoleWriteOutputEvent(output));
-         }
-         else if (type == ClientEvent.ConsoleError)
-         {
-            ConsoleText error = event.getData();
-            eventBus_.dispatchEvent(new ConsoleWriteErrorEvent(error));
-         }
-         else if (type == ClientEvent.ConsoleWritePrompt)
-         {
-            String prompt = event.getData();
-            eventBus_.dispatchEvent(new ConsoleWritePromptEvent(prompt));
-         }
-         else if (type == ClientEvent.ConsoleWriteInput)
-         {
-            ConsoleText input = event.getData();
-            eventBus_.dispatchEvent(new ConsoleWriteInputEvent(input));
-         }
-         else if (type == ClientEvent.ConsolePrompt)
-         {
-            ConsolePrompt prompt = event.getData();
-            eventBus_.dispatchEvent(new ConsolePromptEvent(prompt));
-         }
-         else if (type == ClientEvent.ShowEditor)
-         {
-            ShowEditorData data = event.getData();
-            eventBus_.dispatchEvent(new ShowEditorEvent(data));
-         }
-         else if (type == ClientEvent.FileChanged)
-         {
-            FileChange fileChange = event.getData();
-            eventBus_.dispatchEvent(new FileChangeEvent(fileChange));
-         }
-         else if (type == ClientEvent.WorkingDirChanged)
-         {
-            String path = event.getData();
-            eventBus_.dispatchEvent(new WorkingDirChangedEvent(path));
-         }
-         else if (type == ClientEvent.ShowHelp)
-         {
-            String helpUrl = event.getData();
-            eventBus_.dispatchEvent(new ShowHelpEvent(helpUrl));
-         }
-         else if (type == ClientEvent.ShowErrorMessage)
-         {
-            ErrorMessage errorMessage = event.getData();
-            eventBus_.dispatchEvent(new ShowErrorMessageEvent(errorMessage));
-         }
-         else if (type == ClientEvent.ChooseFile)
-         {
-            boolean newFile = event.<Bool>getData().getValue();
-            eventBus_.dispatchEvent(new ChooseFileEvent(newFile));
-         }
-         else if (type == ClientEvent.BrowseUrl)
-         {
-            BrowseUrlInfo urlInfo = event.getData();
-            eventBus_.dispatchEvent(new BrowseUrlEvent(urlInfo));
-         }
-         else if (type == ClientEvent.PlotsStateChanged)
-         {
-            PlotsState plotsState = event.getData();
-            eventBus_.dispatchEvent(new PlotsChangedEvent(plotsState));
-         }
-         else if (type == ClientEvent.PackageStateChanged)
-         {
-            PackageState newState = event.getData();
-            eventBus_.dispatchEvent(new PackageStateChangedEvent(newState));
-         }
-         else if (type == ClientEvent.PackageStatusChanged)
-         {
-            PackageStatus status = event.getData();
-            eventBus_.dispatchEvent(new PackageStatusChangedEvent(status));
-         }
-         else if (type == ClientEvent.Locator)
-         {
-            eventBus_.dispatchEvent(new LocatorEvent());
-         }
-         else if (type == ClientEvent.ConsoleResetHistory)
-         {
-            ConsoleResetHistory reset = event.getData();
-            eventBus_.dispatchEvent(new ConsoleResetHistoryEvent(reset));
-         }
-         else if (type == ClientEvent.SessionSerialization)
-         {
-            SessionSerializationAction action = event.getData();
-            eventBus_.dispatchEvent(new SessionSerializationEvent(action));
-         }
-         else if (type == ClientEvent.HistoryEntriesAdded)
-         {
-            RpcObjectList<HistoryEntry> entries = event.getData();
-            eventBus_.dispatchEvent(new HistoryEntriesAddedEvent(entries));
-         }
-         else if (type == ClientEvent.QuotaStatus)
-         {
-            QuotaStatus quotaStatus = event.getData();
-            eventBus_.dispatchEvent(new QuotaStatusEvent(quotaStatus));
-         }
-         else if (type == ClientEvent.FileEdit)
-         {
-            FileEditEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new FileEditEvent(data));
-         }
-         else if (type == ClientEvent.ShowContent)
-         {
-            ContentItem content = event.getData();
-            eventBus_.dispatchEvent(new ShowContentEvent(content));
-         }
-         else if (type == ClientEvent.ShowData)
-         {
-            DataItem data = event.getData();
-            eventBus_.dispatchEvent(new ShowDataEvent(data));
-         }
-         else if (type == ClientEvent.AbendWarning)
-         {            
-            eventBus_.dispatchEvent(new SessionAbendWarningEvent());
-         }
-         else if (type == ClientEvent.ShowWarningBar)
-         {
-            eventBus_.dispatchEvent(new ShowWarningBarEvent(event.getData()));
-         }
-         else if (type == ClientEvent.OpenProjectError)
-         {
-            OpenProjectError error = event.getData();
-            eventBus_.dispatchEvent(new OpenProjectErrorEvent(error));
-         }
-         else if (type == ClientEvent.VcsRefresh)
-         {
-            JsObject data = event.getData();
-            eventBus_.dispatchEvent(new VcsRefreshEvent(Reason.NA,
-                                                    data.getInteger("delay")));
-         }
-         else if (type == ClientEvent.AskPass)
-         {
-            AskPassEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new AskPassEvent(data));
-         }
-         else if (type == ClientEvent.ConsoleProcessOutput)
-         {
-            ServerConsoleOutputEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ServerConsoleOutputEvent(data.getHandle(),
-                                                            data.getOutput()));
-         }
-         else if (type == ClientEvent.ConsoleProcessPrompt)
-         {
-            ServerConsolePromptEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ServerConsolePromptEvent(data.getHandle(),
-                                                             data.getPrompt()));
-         }
-         else if (type == ClientEvent.ConsoleProcessCreated)
-         {
-            ConsoleProcessCreatedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ConsoleProcessCreatedEvent(data));
-         }
-         else if (type == ClientEvent.ConsoleProcessExit)
-         {
-            ServerProcessExitEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ServerProcessExitEvent(data.getHandle(),
-                                                          data.getExitCode()));
-         }
-         else if (type == ClientEvent.HTMLPreviewStartedEvent)
-         {
-            HTMLPreviewStartedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new HTMLPreviewStartedEvent(data));
-         }
-         else if (type == ClientEvent.HTMLPreviewOutputEvent)
-         {
-            String output = event.getData();
-            eventBus_.dispatchEvent(new HTMLPreviewOutputEvent(output));
-         }
-         else if (type == ClientEvent.HTMLPreviewCompletedEvent)
-         {
-            HTMLPreviewResult result = event.getData();
-            eventBus_.dispatchEvent(new HTMLPreviewCompletedEvent(result));
-         }
-         else if (type == ClientEvent.CompilePdfStartedEvent)
-         {
-            CompilePdfStartedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new CompilePdfStartedEvent(data));
-         }
-         else if (type == ClientEvent.CompilePdfOutputEvent)
-         {
-            CompileOutput output = event.getData();
-            eventBus_.dispatchEvent(new CompilePdfOutputEvent(output));
-         }
-         else if (type == ClientEvent.CompilePdfErrorsEvent)
-         {
-            JsArray<SourceMarker> data = event.getData();
-            eventBus_.dispatchEvent(new CompilePdfErrorsEvent(data));
-         }
-         else if (type == ClientEvent.CompilePdfCompletedEvent)
-         {
-            CompilePdfResult result = event.getData();
-            eventBus_.dispatchEvent(new CompilePdfCompletedEvent(result));
-         }
-         else if (type == ClientEvent.SynctexEditFile)
-         {
-            SourceLocation sourceLocation = event.getData();
-            eventBus_.dispatchEvent(new SynctexEditFileEvent(sourceLocation));
-         }
-         else if (type == ClientEvent.FindResult)
-         {
-            FindResultEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new FindResultEvent(
-                  data.getHandle(), data.getResults().toArrayList()));
-         }
-         else if (type == ClientEvent.FindOperationEnded)
-         {
-            String data = event.getData();
-            eventBus_.dispatchEvent(new FindOperationEndedEvent(data));
-         }
-         else if (type == ClientEvent.ReplaceResult)
-         {
-            ReplaceResultEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ReplaceResultEvent(
-                   data.getHandle(), data.getResults().toArrayList()));
-         }
-         else if (type == ClientEvent.ReplaceProgress)
-         {
-            ReplaceProgressEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(
-               new ReplaceProgressEvent(data.getTotalReplaceCount(), data.getReplacedCount()));
-         }
-         else if (type == ClientEvent.RPubsUploadStatus)
-         {
-            RPubsUploadStatusEvent.Status status = event.getData();
-            eventBus_.dispatchEvent(new RPubsUploadStatusEvent(status));
-         }
-         else if (type == ClientEvent.BuildStarted)
-         {
-            BuildStartedEvent.Data buildStartedData = event.getData();
-            eventBus_.dispatchEvent(new BuildStartedEvent(buildStartedData));
-         }
-         else if (type == ClientEvent.BuildOutput)
-         {
-            CompileOutput data = event.getData();
-            eventBus_.dispatchEvent(new BuildOutputEvent(data));
-         }
-         else if (type == ClientEvent.BuildCompleted)
-         {
-            BuildCompletedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new BuildCompletedEvent(data));
-         }
-         else if (type == ClientEvent.BuildErrors)
-         {
-            BuildErrorsEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new BuildErrorsEvent(data));
-         }
-         else if (type == ClientEvent.DirectoryNavigate)
-         {
-            DirectoryNavigateEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new DirectoryNavigateEvent(data));
-         }
-         else if (type == ClientEvent.DeferredInitCompleted)
-         {
-            eventBus_.dispatchEvent(new DeferredInitCompletedEvent());
-         }
-         else if (type == ClientEvent.PlotsZoomSizeChanged)
-         {
-            PlotsZoomSizeChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new PlotsZoomSizeChangedEvent(data));
-         }
-         else if (type == ClientEvent.SourceCppStarted)
-         {
-            eventBus_.dispatchEvent(new SourceCppStartedEvent());
-         }
-         else if (type == ClientEvent.SourceCppCompleted)
-         {
-            SourceCppState state = event.getData();
-            eventBus_.dispatchEvent(new SourceCppCompletedEvent(state));
-         }
-         else if (type == ClientEvent.LoadedPackageUpdates)
-         {
-            String installCmd = event.getData();
-            eventBus_.dispatchEvent(new LoadedPackageUpdatesEvent(installCmd));
-         }
-         else if (type == ClientEvent.ActivatePane)
-         {
-            String pane = event.getData();
-            eventBus_.dispatchEvent(new ActivatePaneEvent(pane));
-         }
-         else if (type == ClientEvent.ShowPresentationPane)
-         {
-            PresentationState state = event.getData();
-            eventBus_.dispatchEvent(new ShowPresentationPaneEvent(state));
-         }
-         else if (type == ClientEvent.EnvironmentRefresh)
-         {
-            eventBus_.dispatchEvent(new EnvironmentRefreshEvent());
-         }
-         else if (type == ClientEvent.ListChanged)
-         {
-            eventBus_.dispatchEvent(new ListChangedEvent(event.<JsObject>getData()));
-         }
-         else if (type == ClientEvent.UserPrefsChanged)
-         {
-            PrefLayer data = event.getData();
-            eventBus_.dispatchEvent(new UserPrefsChangedEvent(data));
-         }
-         else if (type == ClientEvent.UserStateChanged)
-         {
-            PrefLayer data = event.getData();
-            eventBus_.dispatchEvent(new UserStateChangedEvent(data));
-         }
-         else if (type == ClientEvent.ContextDepthChanged)
-         {
-            EnvironmentContextData data = event.getData();
-            eventBus_.dispatchEvent(new ContextDepthChangedEvent(data, true));
-         }
-         else if (type == ClientEvent.HandleUnsavedChanges)
-         {
-            eventBus_.dispatchEvent(new HandleUnsavedChangesEvent());
-         }
-         else if (type == ClientEvent.Quit)
-         {
-            QuitEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new QuitEvent(data));
-         }
-         else if (type == ClientEvent.Suicide)
-         {
-            // NOTE: we don't explicitly stop listening for events here
-            // for the reasons cited above in ClientEvent.Quit
-            
-            // fire event
-            String message = event.getData();
-            eventBus_.dispatchEvent(new SuicideEvent(message));
-         }
-         else if (type == ClientEvent.SaveActionChanged)
-         {
-            SaveAction action = event.getData();
-            eventBus_.dispatchEvent(new SaveActionChangedEvent(action));
-         }
-         else if (type == ClientEvent.EnvironmentAssigned)
-         {
-            RObject objectInfo = event.getData();
-            eventBus_.dispatchEvent(new EnvironmentObjectAssignedEvent(objectInfo));
-         }
-         else if (type == ClientEvent.EnvironmentRemoved)
-         {
-            String objectName = event.getData();
-            eventBus_.dispatchEvent(new EnvironmentObjectRemovedEvent(objectName));
-         }
-         else if (type == ClientEvent.EnvironmentChanged)
-         {
-            EnvironmentChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new EnvironmentChangedEvent(data));
-         }
-         else if (type == ClientEvent.BrowserLineChanged)
-         {
-            LineData lineData = event.getData();
-            eventBus_.dispatchEvent(new BrowserLineChangedEvent(lineData));
-         }
-         else if (type == ClientEvent.PackageLoaded)
-         {
-            eventBus_.dispatchEvent(new PackageLoadedEvent(
-                  (String)event.getData()));
-         }
-         else if (type == ClientEvent.PackageUnloaded)
-         {
-            eventBus_.dispatchEvent(new PackageUnloadedEvent(
-                  (String)event.getData()));
-         }
-         else if (type == ClientEvent.PresentationPaneRequestCompleted)
-         {
-            eventBus_.dispatchEvent(new PresentationPaneRequestCompletedEvent());
-         }
-         else if (type == ClientEvent.UnhandledError)
-         {
-            UnhandledError err = event.getData();
-            eventBus_.dispatchEvent(new UnhandledErrorEvent(err));
-         }
-         else if (type == ClientEvent.ErrorHandlerChanged)
-         {
-            ErrorHandlerChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ErrorHandlerChangedEvent(data));
-         }
-         else if (type == ClientEvent.ViewerNavigate)
-         {
-            ViewerNavigateEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ViewerNavigateEvent(data));
-         }
-         else if (type == ClientEvent.SourceExtendedTypeDetected)
-         {
-            SourceExtendedTypeDetectedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SourceExtendedTypeDetectedEvent(data));
-         }
-         else if (type == ClientEvent.ShinyViewer)
-         {
-            ShinyApplicationParams data = event.getData();
-            eventBus_.dispatchEvent(new ShinyApplicationStatusEvent(data, true));
-         }
-         else if (type == ClientEvent.DebugSourceCompleted)
-         {
-            DebugSourceResult result = (DebugSourceResult)event.getData();
-            eventBus_.dispatchEvent(new DebugSourceCompletedEvent(result));
-         }
-         else if (type == ClientEvent.RmdRenderStarted)
-         {
-            RmdRenderStartedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RmdRenderStartedEvent(data));
-         }
-         else if (type == ClientEvent.RmdRenderOutput)
-         {
-            CompileOutput data = event.getData();
-            eventBus_.dispatchEvent(new RmdRenderOutputEvent(data));
-         }
-         else if (type == ClientEvent.RmdRenderCompleted)
-         {
-            RmdRenderResult result = event.getData();
-            eventBus_.dispatchEvent(new RmdRenderCompletedEvent(result));
-         }
-         else if (type == ClientEvent.RmdShinyDocStarted)
-         {
-            RmdShinyDocInfo docInfo = event.getData();
-            eventBus_.dispatchEvent(new RmdShinyDocStartedEvent(docInfo));
-         }
-         else if (type == ClientEvent.RSConnectDeploymentOutput)
-         {
-            CompileOutput output = event.getData();
-            eventBus_.dispatchEvent(new RSConnectDeploymentOutputEvent(output));
-         }
-         else if (type == ClientEvent.RSConnectDeploymentCompleted)
-         {
-            String url = event.getData();
-            eventBus_.dispatchEvent(new RSConnectDeploymentCompletedEvent(url));
-         }
-         else if (type == ClientEvent.RSConnectDeploymentFailed)
-         {
-            RSConnectDeploymentFailedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RSConnectDeploymentFailedEvent(data));
-         }
-         else if (type == ClientEvent.UserPrompt)
-         {
-            UserPrompt prompt = event.getData();
-            eventBus_.dispatchEvent(new UserPromptEvent(prompt));
-         }
-         else if (type == ClientEvent.InstallRtools)
-         {
-            InstallRtoolsEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new InstallRtoolsEvent(data));
-         }
-         else if (type == ClientEvent.InstallShiny)
-         {
-            String userAction = event.getData();
-            eventBus_.dispatchEvent(new InstallShinyEvent(userAction));
-         }
-         else if (type == ClientEvent.SuspendAndRestart)
-         {
-            SuspendAndRestartEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SuspendAndRestartEvent(data));
-         }
-         else if (type == ClientEvent.DataViewChanged)
-         {
-            DataViewChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new DataViewChangedEvent(data));
-         }
-         else if (type == ClientEvent.ViewFunction)
-         {
-            SearchPathFunctionDefinition data = event.getData();
-            eventBus_.dispatchEvent(new CodeBrowserNavigationEvent(
-                  data, null, false, true, false));
-         }
-         else if (type == ClientEvent.MarkersChanged)
-         {
-            MarkersChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new MarkersChangedEvent(data));
-         }
-         else if (type == ClientEvent.EnableRStudioConnect)
-         {
-            EnableRStudioConnectUIEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new EnableRStudioConnectUIEvent(data));
-         }
-         else if (type == ClientEvent.UpdateGutterMarkers)
-         {
-            LintEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new LintEvent(data));
-         }
-         else if (type == ClientEvent.SnippetsChanged)
-         {
-            SnippetsChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SnippetsChangedEvent(data));
-         }
-         else if (type == ClientEvent.JumpToFunction)
-         {
-            JumpToFunctionEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new JumpToFunctionEvent(data));
-         }
-         else if (type == ClientEvent.CollabEditStarted)
-         {
-            CollabEditStartParams params = event.getData();
-            eventBus_.dispatchEvent(new CollabEditStartedEvent(params));
-         }
-         else if (type == ClientEvent.SessionCountChanged)
-         {
-            SessionCountChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SessionCountChangedEvent(data));
-         }
-         else if (type == ClientEvent.SessionLabelChanged)
-         {
-            SessionLabelChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SessionLabelChangedEvent(data));
-         }
-         else if (type == ClientEvent.CollabEditEnded)
-         {
-            CollabEditEndedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new CollabEditEndedEvent(data));
-         }
-         else if (type == ClientEvent.ProjectUsersChanged)
-         {
-            ProjectUserChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ProjectUserChangedEvent(data));
-         }
-         else if (type == ClientEvent.RVersionsChanged)
-         {
-            RVersionsInfo versions = event.getData();
-            eventBus_.dispatchEvent(new RVersionsChangedEvent(versions));
-         }
-         else if (type == ClientEvent.ShinyGadgetDialog)
-         {
-            ShinyGadgetDialogEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ShinyGadgetDialogEvent(data));
-         }
-         else if (type == ClientEvent.RmdParamsReady)
-         {
-            String paramsFile = event.getData();
-            eventBus_.dispatchEvent(new RmdParamsReadyEvent(paramsFile));
-         }
-         else if (type == ClientEvent.RegisterUserCommand)
-         {
-            RegisterUserCommandEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RegisterUserCommandEvent(data));
-         }
-         else if (type == ClientEvent.SendToConsole)
-         {
-            SendToConsoleEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SendToConsoleEvent(data));
-         }
-         else if (type == ClientEvent.UserFollowStarted)
-         {
-            ProjectUser user = event.getData();
-            eventBus_.dispatchEvent(new FollowUserEvent(user, true));
-         }
-         else if (type == ClientEvent.UserFollowEnded)
-         {
-            ProjectUser user = event.getData();
-            eventBus_.dispatchEvent(new FollowUserEvent(user, false));
-         }
-         else if (type == ClientEvent.ProjectAccessRevoked)
-         {
-            eventBus_.dispatchEvent(new ProjectAccessRevokedEvent());
-         }
-         else if (type == ClientEvent.CollabEditSaved)
+         ensureHandlers();
+         Handler handler = HANDLERS.get(type);
+         if (handler != null)
          {
-            CollabEditSavedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new CollabEditSavedEvent(data));
+            handler.dispatch(eventBus_, event);
          }
-         else if (type == ClientEvent.AddinRegistryUpdated)
+         else
          {
-            RAddins data = event.getData();
-            eventBus_.dispatchEvent(new AddinRegistryUpdatedEvent(data));
-         }
-         else if (type == ClientEvent.ChunkOutput)
-         {
-            RmdChunkOutput data = event.getData();
-            eventBus_.dispatchEvent(new RmdChunkOutputEvent(data));
-         }
-         else if (type == ClientEvent.ChunkOutputFinished)
-         {
-            RmdChunkOutputFinishedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RmdChunkOutputFinishedEvent(data));
-         }
-         else if (type == ClientEvent.RprofStarted)
-         {
-            eventBus_.dispatchEvent(new RprofEvent(RprofEvent.RprofEventType.START, null));
-         }
-         else if (type == ClientEvent.RprofStopped)
-         {
-            eventBus_.dispatchEvent(new RprofEvent(RprofEvent.RprofEventType.STOP, null));
-         }
-         else if (type == ClientEvent.RprofCreated)
-         {
-            RprofEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RprofEvent(RprofEvent.RprofEventType.CREATE, data));
-         }
-         else if (type == ClientEvent.EditorCommand)
-         {
-            EditorCommandEvent.Data data = event.getData();
-            EditorCommandEvent payload = new EditorCommandEvent(data);
-            eventBus_.dispatchEvent(new EditorCommandDispatchEvent(payload));
-         }
-         else if (type == ClientEvent.PreviewRmd)
-         {
-            PreviewRmdEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new PreviewRmdEvent(data));
-         }
-         else if (type == ClientEvent.WebsiteFileSaved)
-         {
-            FileSystemItem fsi = event.getData();
-            eventBus_.dispatchEvent(new WebsiteFileSavedEvent(fsi));
-         }
-         else if (type == ClientEvent.ChunkPlotRefreshed)
-         {
-            ChunkPlotRefreshedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ChunkPlotRefreshedEvent(data));
-         }
-         else if (type == ClientEvent.ChunkPlotRefreshFinished)
-         {
-            ChunkPlotRefreshFinishedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ChunkPlotRefreshFinishedEvent(data));
-         }
-         else if (type == ClientEvent.ReloadWithLastChanceSave)
-         {
-            eventBus_.dispatchEvent(new ReloadWithLastChanceSaveEvent());
-         }
-         else if (type == ClientEvent.ConnectionUpdated)
-         {
-            ConnectionUpdatedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ConnectionUpdatedEvent(data));
-         }
-         else if (type == ClientEvent.EnableConnections)
-         {
-            eventBus_.dispatchEvent(new EnableConnectionsEvent());
-         }
-         else if (type == ClientEvent.ConnectionListChanged)
-         {
-            JsArray<Connection> connections = event.getData();
-            eventBus_.dispatchEvent(new ConnectionListChangedEvent(connections));
-         }
-         else if (type == ClientEvent.ActiveConnectionsChanged)
-         {
-            JsArray<ConnectionId> connections = event.getData();
-            eventBus_.dispatchEvent(new ActiveConnectionsChangedEvent(connections));
-         }
-         else if (type == ClientEvent.ConnectionOpened)
-         {
-            Connection connection = event.getData();
-            eventBus_.dispatchEvent(new ConnectionOpenedEvent(connection));
-         }
-         else if (type == ClientEvent.NotebookRangeExecuted)
-         {
-            NotebookRangeExecutedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new NotebookRangeExecutedEvent(data));
-         }
-         else if (type == ClientEvent.ChunkExecStateChanged)
-         {
-            ChunkExecStateChangedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ChunkExecStateChangedEvent(data));
-         }
-         else if (type == ClientEvent.NavigateShinyFrame)
-         {
-            ShinyFrameNavigatedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ShinyFrameNavigatedEvent(data));
-         }
-         else if (type == ClientEvent.UpdateNewConnectionDialog)
-         {
-            NewConnectionDialogUpdatedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new NewConnectionDialogUpdatedEvent(data));
-         }
-         else if (type == ClientEvent.ProjectTemplateRegistryUpdated)
-         {
-            ProjectTemplateRegistry data = event.getData();
-            eventBus_.dispatchEvent(new ProjectTemplateRegistryUpdatedEvent(data));
-         }
-         else if (type == ClientEvent.TerminalSubProcs)
-         {
-            TerminalSubprocEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new TerminalSubprocEvent(data));
-         }
-         else if (type == ClientEvent.PackageExtensionIndexingCompleted)
-         {
-            PackageProvidedExtensions.Data data = event.getData();
-            eventBus_.dispatchEvent(new PackageExtensionIndexingCompletedEvent(data));
-         }
-         else if (type == ClientEvent.RStudioAPIShowDialog)
-         {
-            RStudioAPIShowDialogEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RStudioAPIShowDialogEvent(data));
-         }
-         else if (type == ClientEvent.ObjectExplorerEvent)
-         {
-            ObjectExplorerEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ObjectExplorerEvent(data));
-         }
-         else if (type == ClientEvent.SendToTerminal)
-         {
-            SendToTerminalEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SendToTerminalEvent(data));
-         }
-         else if (type == ClientEvent.ClearTerminal)
-         {
-            ClearTerminalEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ClearTerminalEvent(data));
-         }
-         else if (type == ClientEvent.AddTerminal)
-         {
-            AddTerminalEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new AddTerminalEvent(data));
-         }
-         else if (type == ClientEvent.RemoveTerminal)
-         {
-            RemoveTerminalEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RemoveTerminalEvent(data));
-         }
-         else if (type == ClientEvent.ActivateTerminal)
-         {
-            ActivateNamedTerminalEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ActivateNamedTerminalEvent(data));
-         }
-         else if (type == ClientEvent.TerminalCwd)
-         {
-            TerminalCwdEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new TerminalCwdEvent(data));
-         }
-         else if (type == ClientEvent.AdminNotification)
-         {
-            AdminNotification notification = event.getData();
-            eventBus_.dispatchEvent(new AdminNotificationEvent(notification));
-         }
-         else if (type == ClientEvent.RequestDocumentSave)
-         {
-            RequestDocumentSaveEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RequestDocumentSaveEvent(data));
-         }
-         else if (type == ClientEvent.RequestOpenProject)
-         {
-            RequestOpenProjectEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RequestOpenProjectEvent(data));
-         }
-         else if (type == ClientEvent.OpenFileDialog)
-         {
-            OpenFileDialogEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new OpenFileDialogEvent(data));
-         }
-         else if (type == ClientEvent.ShowPageViewer)
-         {
-            HTMLPreviewParams params = event.getData();
-            eventBus_.dispatchEvent(new ShowPageViewerEvent(params));
-         }
-         else if (type == ClientEvent.AskSecret)
-         {
-            AskSecretEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new AskSecretEvent(data));
-         }
-         else if (type == ClientEvent.TestsStarted)
-         {
-            TestsStartedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new TestsStartedEvent(data));
-         }
-         else if (type == ClientEvent.TestsOutput)
-         {
-            CompileOutput data = event.getData();
-            eventBus_.dispatchEvent(new TestsOutputEvent(data));
-         }
-         else if (type == ClientEvent.TestsCompleted)
-         {
-            TestsResult result = event.getData();
-            eventBus_.dispatchEvent(new TestsCompletedEvent(result));
-         }
-         else if (type == ClientEvent.JobUpdated)
-         {
-            JobUpdate data = event.getData();
-            eventBus_.dispatchEvent(new JobUpdatedEvent(data));
-         }
-         else if (type == ClientEvent.JobRefresh)
-         {
-            JobState data = event.getData();
-            eventBus_.dispatchEvent(new JobRefreshEvent(data));
-         }
-         else if (type == ClientEvent.JobOutput)
-         {
-            JobOutputEvent.Data output = event.getData();
-            eventBus_.dispatchEvent(new JobOutputEvent(output));
-         }
-         else if (type == ClientEvent.DataOutputCompleted)
-         {
-            DataOutputResult result = event.getData();
-            eventBus_.dispatchEvent(new DataOutputCompletedEvent(result));
-         }
-         else if (type == ClientEvent.NewDocumentWithCode)
-         {
-            NewDocumentWithCodeEvent.Data result = event.getData();
-            eventBus_.dispatchEvent(new NewDocumentWithCodeEvent(result));
-         }
-         else if (type == ClientEvent.AvailablePackagesReady)
-         {
-            AvailablePackagesReadyEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new AvailablePackagesReadyEvent(data));
-         }
-         else if (type == ClientEvent.PlumberViewer)
-         {
-            PlumberAPIParams data = event.getData();
-            eventBus_.dispatchEvent(new PlumberAPIStatusEvent(data, true));
-         }
-         else if (type == ClientEvent.ComputeThemeColors)
-         {
-            eventBus_.dispatchEvent(new ComputeThemeColorsEvent());
-         }
-         else if (type == ClientEvent.RequestDocumentClose)
-         {
-            RequestDocumentCloseEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RequestDocumentCloseEvent(data));
-         }
-         else if (type == ClientEvent.ExecuteAppCommand)
-         {
-            ExecuteAppCommandEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ExecuteAppCommandEvent(data));
-         }
-         else if (type == ClientEvent.HighlightUi)
-         {
-            HighlightEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new HighlightEvent(data));
-         }
-         else if (type == ClientEvent.TutorialCommand)
-         {
-            TutorialCommandEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new TutorialCommandEvent(data));
-         }
-         else if (type == ClientEvent.TutorialLaunch)
-         {
-            TutorialLaunchEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new TutorialLaunchEvent(data));
-         }
-         else if (type == ClientEvent.ReticulateEvent)
-         {
-            ReticulateEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ReticulateEvent(data));
-         }
-         else if (type == ClientEvent.RStudioApiRequest)
-         {
-            RStudioApiRequestEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new RStudioApiRequestEvent(data));
-         }
-         else if (type == ClientEvent.DocumentCloseAllNoSave)
-         {
-            eventBus_.dispatchEvent(new DocumentCloseAllNoSaveEvent());
-         }
-         else if (type == ClientEvent.MemoryUsageChanged)
-         {
-            MemoryUsage data = event.getData();
-            eventBus_.dispatchEvent(new MemoryUsageChangedEvent(data));
-         }
-         else if (type == ClientEvent.CommandCallbacksChanged)
-         {
-            JsArrayString commands = event.getData();
-            eventBus_.dispatchEvent(new CommandCallbacksChangedEvent(commands));
-         }
-         else if (type == ClientEvent.ConsoleActivate)
-         {
-            boolean focusWindow = event.<Bool>getData().getValue();
-            eventBus_.dispatchEvent(new ConsoleActivateEvent(focusWindow));
-         }
-         else if (type == ClientEvent.JobsActivate)
-         {
-            JobsActivateEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new JobsActivateEvent(data));
-         }
-         else if (type == ClientEvent.PresentationPreview)
-         {
-            PresentationPreviewEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new PresentationPreviewEvent(data));
-         }
-         else if (type == ClientEvent.SuspendBlocked)
-         {
-            SessionSuspendBlockedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new SessionSuspendBlockedEvent(data));
-         }
-         else if (type == ClientEvent.ClipboardAction)
-         {
-            ClipboardActionEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new ClipboardActionEvent(data));
-         }
-         else if (type == ClientEvent.DeploymentRecordsUpdated)
-         {
-            DeploymentRecordsUpdatedEvent.Data data = event.getData();
-            eventBus_.dispatchEvent(new DeploymentRecordsUpdatedEvent(data));
-         }
-         else
-         {
-            GWT.log("WARNING: Server event not dispatched: " + type, null);
+            GWT.log("WARNING: Server event not dispatched: " + type, null);
          }
       }
       catch(Throwable e)
@@ -1189,12 +391,1111 @@ public class ClientEventDispatcher
          GWT.log("WARNING: Exception occurred dispatching event: " + type, e);
       }
    }
-   
+
+   private static void register(String type, Handler handler)
+   {
+      HANDLERS.put(type, handler);
+   }
+
+   // the handler table is built once, the first time it's needed (by either
+   // the main window or a satellite's dispatcher)
+   private static void ensureHandlers()
+   {
+      if (handlersRegistered_)
+         return;
+
+      handlersRegistered_ = true;
+      registerBuiltinHandlers();
+   }
+
+   private static void registerBuiltinHandlers()
+   {
+      register(ClientEvent.Busy, (eventBus, event) ->
+      {
+         boolean busy = event.<Bool>getData().getValue();
+         eventBus.dispatchEvent(new BusyEvent(busy));
+      });
+
+      register(ClientEvent.ConsoleOutput, (eventBus, event) ->
+      {
+         ConsoleText output = event.getData();
+         eventBus.dispatchEvent(new ConsoleWriteOutputEvent(output));
+      });
+
+      register(ClientEvent.ConsoleError, (eventBus, event) ->
+      {
+         ConsoleText error = event.getData();
+         eventBus.dispatchEvent(new ConsoleWriteErrorEvent(error));
+      });
+
+      register(ClientEvent.ConsoleWritePrompt, (eventBus, event) ->
+      {
+         String prompt = event.getData();
+         eventBus.dispatchEvent(new ConsoleWritePromptEvent(prompt));
+      });
+
+      register(ClientEvent.ConsoleWriteInput, (eventBus, event) ->
+      {
+         ConsoleText input = event.getData();
+         eventBus.dispatchEvent(new ConsoleWriteInputEvent(input));
+      });
+
+      register(ClientEvent.ConsolePrompt, (eventBus, event) ->
+      {
+         ConsolePrompt prompt = event.getData();
+         eventBus.dispatchEvent(new ConsolePromptEvent(prompt));
+      });
+
+      register(ClientEvent.ShowEditor, (eventBus, event) ->
+      {
+         ShowEditorData data = event.getData();
+         eventBus.dispatchEvent(new ShowEditorEvent(data));
+      });
+
+      register(ClientEvent.FileChanged, (eventBus, event) ->
+      {
+         FileChange fileChange = event.getData();
+         eventBus.dispatchEvent(new FileChangeEvent(fileChange));
+      });
+
+      register(ClientEvent.WorkingDirChanged, (eventBus, event) ->
+      {
+         String path = event.getData();
+         eventBus.dispatchEvent(new WorkingDirChangedEvent(path));
+      });
+
+      register(ClientEvent.ShowHelp, (eventBus, event) ->
+      {
+         String helpUrl = event.getData();
+         eventBus.dispatchEvent(new ShowHelpEvent(helpUrl));
+      });
+
+      register(ClientEvent.ShowErrorMessage, (eventBus, event) ->
+      {
+         ErrorMessage errorMessage = event.getData();
+         eventBus.dispatchEvent(new ShowErrorMessageEvent(errorMessage));
+      });
+
+      register(ClientEvent.ChooseFile, (eventBus, event) ->
+      {
+         boolean newFile = event.<Bool>getData().getValue();
+         eventBus.dispatchEvent(new ChooseFileEvent(newFile));
+      });
+
+      register(ClientEvent.BrowseUrl, (eventBus, event) ->
+      {
+         BrowseUrlInfo urlInfo = event.getData();
+         eventBus.dispatchEvent(new BrowseUrlEvent(urlInfo));
+      });
+
+      register(ClientEvent.PlotsStateChanged, (eventBus, event) ->
+      {
+         PlotsState plotsState = event.getData();
+         eventBus.dispatchEvent(new PlotsChangedEvent(plotsState));
+      });
+
+      register(ClientEvent.PackageStateChanged, (eventBus, event) ->
+      {
+         PackageState newState = event.getData();
+         eventBus.dispatchEvent(new PackageStateChangedEvent(newState));
+      });
+
+      register(ClientEvent.PackageStatusChanged, (eventBus, event) ->
+      {
+         PackageStatus status = event.getData();
+         eventBus.dispatchEvent(new PackageStatusChangedEvent(status));
+      });
+
+      register(ClientEvent.Locator, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new LocatorEvent());
+      });
+
+      register(ClientEvent.ConsoleResetHistory, (eventBus, event) ->
+      {
+         ConsoleResetHistory reset = event.getData();
+         eventBus.dispatchEvent(new ConsoleResetHistoryEvent(reset));
+      });
+
+      register(ClientEvent.SessionSerialization, (eventBus, event) ->
+      {
+         SessionSerializationAction action = event.getData();
+         eventBus.dispatchEvent(new SessionSerializationEvent(action));
+      });
+
+      register(ClientEvent.HistoryEntriesAdded, (eventBus, event) ->
+      {
+         RpcObjectList<HistoryEntry> entries = event.getData();
+         eventBus.dispatchEvent(new HistoryEntriesAddedEvent(entries));
+      });
+
+      register(ClientEvent.QuotaStatus, (eventBus, event) ->
+      {
+         QuotaStatus quotaStatus = event.getData();
+         eventBus.dispatchEvent(new QuotaStatusEvent(quotaStatus));
+      });
+
+      register(ClientEvent.FileEdit, (eventBus, event) ->
+      {
+         FileEditEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new FileEditEvent(data));
+      });
+
+      register(ClientEvent.ShowContent, (eventBus, event) ->
+      {
+         ContentItem content = event.getData();
+         eventBus.dispatchEvent(new ShowContentEvent(content));
+      });
+
+      register(ClientEvent.ShowData, (eventBus, event) ->
+      {
+         DataItem data = event.getData();
+         eventBus.dispatchEvent(new ShowDataEvent(data));
+      });
+
+      register(ClientEvent.AbendWarning, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new SessionAbendWarningEvent());
+      });
+
+      register(ClientEvent.ShowWarningBar, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new ShowWarningBarEvent(event.getData()));
+      });
+
+      register(ClientEvent.OpenProjectError, (eventBus, event) ->
+      {
+         OpenProjectError error = event.getData();
+         eventBus.dispatchEvent(new OpenProjectErrorEvent(error));
+      });
+
+      register(ClientEvent.VcsRefresh, (eventBus, event) ->
+      {
+         JsObject data = event.getData();
+         eventBus.dispatchEvent(new VcsRefreshEvent(Reason.NA,
+                                                 data.getInteger("delay")));
+      });
+
+      register(ClientEvent.AskPass, (eventBus, event) ->
+      {
+         AskPassEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new AskPassEvent(data));
+      });
+
+      register(ClientEvent.ConsoleProcessOutput, (eventBus, event) ->
+      {
+         ServerConsoleOutputEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ServerConsoleOutputEvent(data.getHandle(),
+                                                         data.getOutput()));
+      });
+
+      register(ClientEvent.ConsoleProcessPrompt, (eventBus, event) ->
+      {
+         ServerConsolePromptEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ServerConsolePromptEvent(data.getHandle(),
+                                                          data.getPrompt()));
+      });
+
+      register(ClientEvent.ConsoleProcessCreated, (eventBus, event) ->
+      {
+         ConsoleProcessCreatedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ConsoleProcessCreatedEvent(data));
+      });
+
+      register(ClientEvent.ConsoleProcessExit, (eventBus, event) ->
+      {
+         ServerProcessExitEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ServerProcessExitEvent(data.getHandle(),
+                                                       data.getExitCode()));
+      });
+
+      register(ClientEvent.HTMLPreviewStartedEvent, (eventBus, event) ->
+      {
+         HTMLPreviewStartedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new HTMLPreviewStartedEvent(data));
+      });
+
+      register(ClientEvent.HTMLPreviewOutputEvent, (eventBus, event) ->
+      {
+         String output = event.getData();
+         eventBus.dispatchEvent(new HTMLPreviewOutputEvent(output));
+      });
+
+      register(ClientEvent.HTMLPreviewCompletedEvent, (eventBus, event) ->
+      {
+         HTMLPreviewResult result = event.getData();
+         eventBus.dispatchEvent(new HTMLPreviewCompletedEvent(result));
+      });
+
+      register(ClientEvent.CompilePdfStartedEvent, (eventBus, event) ->
+      {
+         CompilePdfStartedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new CompilePdfStartedEvent(data));
+      });
+
+      register(ClientEvent.CompilePdfOutputEvent, (eventBus, event) ->
+      {
+         CompileOutput output = event.getData();
+         eventBus.dispatchEvent(new CompilePdfOutputEvent(output));
+      });
+
+      register(ClientEvent.CompilePdfErrorsEvent, (eventBus, event) ->
+      {
+         JsArray<SourceMarker> data = event.getData();
+         eventBus.dispatchEvent(new CompilePdfErrorsEvent(data));
+      });
+
+      register(ClientEvent.CompilePdfCompletedEvent, (eventBus, event) ->
+      {
+         CompilePdfResult result = event.getData();
+         eventBus.dispatchEvent(new CompilePdfCompletedEvent(result));
+      });
+
+      register(ClientEvent.SynctexEditFile, (eventBus, event) ->
+      {
+         SourceLocation sourceLocation = event.getData();
+         eventBus.dispatchEvent(new SynctexEditFileEvent(sourceLocation));
+      });
+
+      register(ClientEvent.FindResult, (eventBus, event) ->
+      {
+         FindResultEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new FindResultEvent(
+               data.getHandle(),
+               data.getResults().toArrayList(),
+               data.getMore()));
+      });
+
+      register(ClientEvent.FindOperationEnded, (eventBus, event) ->
+      {
+         String data = event.getData();
+         eventBus.dispatchEvent(new FindOperationEndedEvent(data));
+      });
+
+      register(ClientEvent.ReplaceResult, (eventBus, event) ->
+      {
+         ReplaceResultEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ReplaceResultEvent(
+                data.getHandle(), data.getResults().toArrayList()));
+      });
+
+      register(ClientEvent.ReplaceProgress, (eventBus, event) ->
+      {
+         ReplaceProgressEvent.Data data = event.getData();
+         eventBus.dispatchEvent(
+            new ReplaceProgressEvent(data.getTotalReplaceCount(), data.getReplacedCount()));
+      });
+
+      register(ClientEvent.RPubsUploadStatus, (eventBus, event) ->
+      {
+         RPubsUploadStatusEvent.Status status = event.getData();
+         eventBus.dispatchEvent(new RPubsUploadStatusEvent(status));
+      });
+
+      register(ClientEvent.BuildStarted, (eventBus, event) ->
+      {
+         BuildStartedEvent.Data buildStartedData = event.getData();
+         eventBus.dispatchEvent(new BuildStartedEvent(buildStartedData));
+      });
+
+      register(ClientEvent.BuildOutput, (eventBus, event) ->
+      {
+         CompileOutput data = event.getData();
+         eventBus.dispatchEvent(new BuildOutputEvent(data));
+      });
+
+      register(ClientEvent.BuildCompleted, (eventBus, event) ->
+      {
+         BuildCompletedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new BuildCompletedEvent(data));
+      });
+
+      register(ClientEvent.BuildErrors, (eventBus, event) ->
+      {
+         BuildErrorsEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new BuildErrorsEvent(data));
+      });
+
+      register(ClientEvent.DirectoryNavigate, (eventBus, event) ->
+      {
+         DirectoryNavigateEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new DirectoryNavigateEvent(data));
+      });
+
+      register(ClientEvent.DeferredInitCompleted, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new DeferredInitCompletedEvent());
+      });
+
+      register(ClientEvent.PlotsZoomSizeChanged, (eventBus, event) ->
+      {
+         PlotsZoomSizeChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new PlotsZoomSizeChangedEvent(data));
+      });
+
+      register(ClientEvent.SourceCppStarted, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new SourceCppStartedEvent());
+      });
+
+      register(ClientEvent.SourceCppCompleted, (eventBus, event) ->
+      {
+         SourceCppState state = event.getData();
+         eventBus.dispatchEvent(new SourceCppCompletedEvent(state));
+      });
+
+      register(ClientEvent.LoadedPackageUpdates, (eventBus, event) ->
+      {
+         String installCmd = event.getData();
+         eventBus.dispatchEvent(new LoadedPackageUpdatesEvent(installCmd));
+      });
+
+      register(ClientEvent.ActivatePane, (eventBus, event) ->
+      {
+         String pane = event.getData();
+         eventBus.dispatchEvent(new ActivatePaneEvent(pane));
+      });
+
+      register(ClientEvent.ShowPresentationPane, (eventBus, event) ->
+      {
+         PresentationState state = event.getData();
+         eventBus.dispatchEvent(new ShowPresentationPaneEvent(state));
+      });
+
+      register(ClientEvent.EnvironmentRefresh, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new EnvironmentRefreshEvent());
+      });
+
+      register(ClientEvent.ListChanged, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new ListChangedEvent(event.<JsObject>getData()));
+      });
+
+      register(ClientEvent.UserPrefsChanged, (eventBus, event) ->
+      {
+         PrefLayer data = event.getData();
+         eventBus.dispatchEvent(new UserPrefsChangedEvent(data));
+      });
+
+      register(ClientEvent.UserStateChanged, (eventBus, event) ->
+      {
+         PrefLayer data = event.getData();
+         eventBus.dispatchEvent(new UserStateChangedEvent(data));
+      });
+
+      register(ClientEvent.ContextDepthChanged, (eventBus, event) ->
+      {
+         EnvironmentContextData data = event.getData();
+         eventBus.dispatchEvent(new ContextDepthChangedEvent(data, true));
+      });
+
+      register(ClientEvent.HandleUnsavedChanges, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new HandleUnsavedChangesEvent());
+      });
+
+      register(ClientEvent.Quit, (eventBus, event) ->
+      {
+         QuitEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new QuitEvent(data));
+      });
+
+      register(ClientEvent.Suicide, (eventBus, event) ->
+      {
+         // NOTE: we don't explicitly stop listening for events here
+         // for the reasons cited above in ClientEvent.Quit
+
+         // fire event
+         String message = event.getData();
+         eventBus.dispatchEvent(new SuicideEvent(message));
+      });
+
+      register(ClientEvent.SaveActionChanged, (eventBus, event) ->
+      {
+         SaveAction action = event.getData();
+         eventBus.dispatchEvent(new SaveActionChangedEvent(action));
+      });
+
+      register(ClientEvent.EnvironmentAssigned, (eventBus, event) ->
+      {
+         RObject objectInfo = event.getData();
+         eventBus.dispatchEvent(new EnvironmentObjectAssignedEvent(objectInfo));
+      });
+
+      register(ClientEvent.EnvironmentRemoved, (eventBus, event) ->
+      {
+         String objectName = event.getData();
+         eventBus.dispatchEvent(new EnvironmentObjectRemovedEvent(objectName));
+      });
+
+      register(ClientEvent.EnvironmentChanged, (eventBus, event) ->
+      {
+         EnvironmentChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new EnvironmentChangedEvent(data));
+      });
+
+      register(ClientEvent.BrowserLineChanged, (eventBus, event) ->
+      {
+         LineData lineData = event.getData();
+         eventBus.dispatchEvent(new BrowserLineChangedEvent(lineData));
+      });
+
+      register(ClientEvent.PackageLoaded, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new PackageLoadedEvent(
+               (String)event.getData()));
+      });
+
+      register(ClientEvent.PackageUnloaded, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new PackageUnloadedEvent(
+               (String)event.getData()));
+      });
+
+      register(ClientEvent.PresentationPaneRequestCompleted, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new PresentationPaneRequestCompletedEvent());
+      });
+
+      register(ClientEvent.UnhandledError, (eventBus, event) ->
+      {
+         UnhandledError err = event.getData();
+         eventBus.dispatchEvent(new UnhandledErrorEvent(err));
+      });
+
+      register(ClientEvent.ErrorHandlerChanged, (eventBus, event) ->
+      {
+         ErrorHandlerChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ErrorHandlerChangedEvent(data));
+      });
+
+      register(ClientEvent.ViewerNavigate, (eventBus, event) ->
+      {
+         ViewerNavigateEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ViewerNavigateEvent(data));
+      });
+
+      register(ClientEvent.SourceExtendedTypeDetected, (eventBus, event) ->
+      {
+         SourceExtendedTypeDetectedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SourceExtendedTypeDetectedEvent(data));
+      });
+
+      register(ClientEvent.ShinyViewer, (eventBus, event) ->
+      {
+         ShinyApplicationParams data = event.getData();
+         eventBus.dispatchEvent(new ShinyApplicationStatusEvent(data, true));
+      });
+
+      register(ClientEvent.DebugSourceCompleted, (eventBus, event) ->
+      {
+         DebugSourceResult result = (DebugSourceResult)event.getData();
+         eventBus.dispatchEvent(new DebugSourceCompletedEvent(result));
+      });
+
+      register(ClientEvent.RmdRenderStarted, (eventBus, event) ->
+      {
+         RmdRenderStartedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RmdRenderStartedEvent(data));
+      });
+
+      register(ClientEvent.RmdRenderOutput, (eventBus, event) ->
+      {
+         CompileOutput data = event.getData();
+         eventBus.dispatchEvent(new RmdRenderOutputEvent(data));
+      });
+
+      register(ClientEvent.RmdRenderCompleted, (eventBus, event) ->
+      {
+         RmdRenderResult result = event.getData();
+         eventBus.dispatchEvent(new RmdRenderCompletedEvent(result));
+      });
+
+      register(ClientEvent.RmdShinyDocStarted, (eventBus, event) ->
+      {
+         RmdShinyDocInfo docInfo = event.getData();
+         eventBus.dispatchEvent(new RmdShinyDocStartedEvent(docInfo));
+      });
+
+      register(ClientEvent.RSConnectDeploymentOutput, (eventBus, event) ->
+      {
+         CompileOutput output = event.getData();
+         eventBus.dispatchEvent(new RSConnectDeploymentOutputEvent(output));
+      });
+
+      register(ClientEvent.RSConnectDeploymentCompleted, (eventBus, event) ->
+      {
+         String url = event.getData();
+         eventBus.dispatchEvent(new RSConnectDeploymentCompletedEvent(url));
+      });
+
+      register(ClientEvent.RSConnectDeploymentFailed, (eventBus, event) ->
+      {
+         RSConnectDeploymentFailedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RSConnectDeploymentFailedEvent(data));
+      });
+
+      register(ClientEvent.UserPrompt, (eventBus, event) ->
+      {
+         UserPrompt prompt = event.getData();
+         eventBus.dispatchEvent(new UserPromptEvent(prompt));
+      });
+
+      register(ClientEvent.InstallRtools, (eventBus, event) ->
+      {
+         InstallRtoolsEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new InstallRtoolsEvent(data));
+      });
+
+      register(ClientEvent.InstallShiny, (eventBus, event) ->
+      {
+         String userAction = event.getData();
+         eventBus.dispatchEvent(new InstallShinyEvent(userAction));
+      });
+
+      register(ClientEvent.SuspendAndRestart, (eventBus, event) ->
+      {
+         SuspendAndRestartEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SuspendAndRestartEvent(data));
+      });
+
+      register(ClientEvent.DataViewChanged, (eventBus, event) ->
+      {
+         DataViewChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new DataViewChangedEvent(data));
+      });
+
+      register(ClientEvent.ViewFunction, (eventBus, event) ->
+      {
+         SearchPathFunctionDefinition data = event.getData();
+         eventBus.dispatchEvent(new CodeBrowserNavigationEvent(
+               data, null, false, true, false));
+      });
+
+      register(ClientEvent.MarkersChanged, (eventBus, event) ->
+      {
+         MarkersChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new MarkersChangedEvent(data));
+      });
+
+      register(ClientEvent.EnableRStudioConnect, (eventBus, event) ->
+      {
+         EnableRStudioConnectUIEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new EnableRStudioConnectUIEvent(data));
+      });
+
+      register(ClientEvent.UpdateGutterMarkers, (eventBus, event) ->
+      {
+         LintEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new LintEvent(data));
+      });
+
+      register(ClientEvent.SnippetsChanged, (eventBus, event) ->
+      {
+         SnippetsChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SnippetsChangedEvent(data));
+      });
+
+      register(ClientEvent.JumpToFunction, (eventBus, event) ->
+      {
+         JumpToFunctionEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new JumpToFunctionEvent(data));
+      });
+
+      register(ClientEvent.CollabEditStarted, (eventBus, event) ->
+      {
+         CollabEditStartParams params = event.getData();
+         eventBus.dispatchEvent(new CollabEditStartedEvent(params));
+      });
+
+      register(ClientEvent.SessionCountChanged, (eventBus, event) ->
+      {
+         SessionCountChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SessionCountChangedEvent(data));
+      });
+
+      register(ClientEvent.SessionLabelChanged, (eventBus, event) ->
+      {
+         SessionLabelChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SessionLabelChangedEvent(data));
+      });
+
+      register(ClientEvent.CollabEditEnded, (eventBus, event) ->
+      {
+         CollabEditEndedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new CollabEditEndedEvent(data));
+      });
+
+      register(ClientEvent.ProjectUsersChanged, (eventBus, event) ->
+      {
+         ProjectUserChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ProjectUserChangedEvent(data));
+      });
+
+      register(ClientEvent.RVersionsChanged, (eventBus, event) ->
+      {
+         RVersionsInfo versions = event.getData();
+         eventBus.dispatchEvent(new RVersionsChangedEvent(versions));
+      });
+
+      register(ClientEvent.ShinyGadgetDialog, (eventBus, event) ->
+      {
+         ShinyGadgetDialogEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ShinyGadgetDialogEvent(data));
+      });
+
+      register(ClientEvent.RmdParamsReady, (eventBus, event) ->
+      {
+         String paramsFile = event.getData();
+         eventBus.dispatchEvent(new RmdParamsReadyEvent(paramsFile));
+      });
+
+      register(ClientEvent.RegisterUserCommand, (eventBus, event) ->
+      {
+         RegisterUserCommandEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RegisterUserCommandEvent(data));
+      });
+
+      register(ClientEvent.SendToConsole, (eventBus, event) ->
+      {
+         SendToConsoleEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SendToConsoleEvent(data));
+      });
+
+      register(ClientEvent.UserFollowStarted, (eventBus, event) ->
+      {
+         ProjectUser user = event.getData();
+         eventBus.dispatchEvent(new FollowUserEvent(user, true));
+      });
+
+      register(ClientEvent.UserFollowEnded, (eventBus, event) ->
+      {
+         ProjectUser user = event.getData();
+         eventBus.dispatchEvent(new FollowUserEvent(user, false));
+      });
+
+      register(ClientEvent.ProjectAccessRevoked, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new ProjectAccessRevokedEvent());
+      });
+
+      register(ClientEvent.CollabEditSaved, (eventBus, event) ->
+      {
+         CollabEditSavedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new CollabEditSavedEvent(data));
+      });
+
+      register(ClientEvent.AddinRegistryUpdated, (eventBus, event) ->
+      {
+         RAddins data = event.getData();
+         eventBus.dispatchEvent(new AddinRegistryUpdatedEvent(data));
+      });
+
+      register(ClientEvent.ChunkOutput, (eventBus, event) ->
+      {
+         RmdChunkOutput data = event.getData();
+         eventBus.dispatchEvent(new RmdChunkOutputEvent(data));
+      });
+
+      register(ClientEvent.ChunkOutputFinished, (eventBus, event) ->
+      {
+         RmdChunkOutputFinishedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RmdChunkOutputFinishedEvent(data));
+      });
+
+      register(ClientEvent.RprofStarted, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new RprofEvent(RprofEvent.RprofEventType.START, null));
+      });
+
+      register(ClientEvent.RprofStopped, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new RprofEvent(RprofEvent.RprofEventType.STOP, null));
+      });
+
+      register(ClientEvent.RprofCreated, (eventBus, event) ->
+      {
+         RprofEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RprofEvent(RprofEvent.RprofEventType.CREATE, data));
+      });
+
+      register(ClientEvent.EditorCommand, (eventBus, event) ->
+      {
+         EditorCommandEvent.Data data = event.getData();
+         EditorCommandEvent payload = new EditorCommandEvent(data);
+         eventBus.dispatchEvent(new EditorCommandDispatchEvent(payload));
+      });
+
+      register(ClientEvent.PreviewRmd, (eventBus, event) ->
+      {
+         PreviewRmdEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new PreviewRmdEvent(data));
+      });
+
+      register(ClientEvent.WebsiteFileSaved, (eventBus, event) ->
+      {
+         FileSystemItem fsi = event.getData();
+         eventBus.dispatchEvent(new WebsiteFileSavedEvent(fsi));
+      });
+
+      register(ClientEvent.ChunkPlotRefreshed, (eventBus, event) ->
+      {
+         ChunkPlotRefreshedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ChunkPlotRefreshedEvent(data));
+      });
+
+      register(ClientEvent.ChunkPlotRefreshFinished, (eventBus, event) ->
+      {
+         ChunkPlotRefreshFinishedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ChunkPlotRefreshFinishedEvent(data));
+      });
+
+      register(ClientEvent.ReloadWithLastChanceSave, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new ReloadWithLastChanceSaveEvent());
+      });
+
+      register(ClientEvent.ConnectionUpdated, (eventBus, event) ->
+      {
+         ConnectionUpdatedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ConnectionUpdatedEvent(data));
+      });
+
+      register(ClientEvent.EnableConnections, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new EnableConnectionsEvent());
+      });
+
+      register(ClientEvent.ConnectionListChanged, (eventBus, event) ->
+      {
+         JsArray<Connection> connections = event.getData();
+         eventBus.dispatchEvent(new ConnectionListChangedEvent(connections));
+      });
+
+      register(ClientEvent.ActiveConnectionsChanged, (eventBus, event) ->
+      {
+         JsArray<ConnectionId> connections = event.getData();
+         eventBus.dispatchEvent(new ActiveConnectionsChangedEvent(connections));
+      });
+
+      register(ClientEvent.ConnectionOpened, (eventBus, event) ->
+      {
+         Connection connection = event.getData();
+         eventBus.dispatchEvent(new ConnectionOpenedEvent(connection));
+      });
+
+      register(ClientEvent.NotebookRangeExecuted, (eventBus, event) ->
+      {
+         NotebookRangeExecutedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new NotebookRangeExecutedEvent(data));
+      });
+
+      register(ClientEvent.ChunkExecStateChanged, (eventBus, event) ->
+      {
+         ChunkExecStateChangedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ChunkExecStateChangedEvent(data));
+      });
+
+      register(ClientEvent.NavigateShinyFrame, (eventBus, event) ->
+      {
+         ShinyFrameNavigatedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ShinyFrameNavigatedEvent(data));
+      });
+
+      register(ClientEvent.UpdateNewConnectionDialog, (eventBus, event) ->
+      {
+         NewConnectionDialogUpdatedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new NewConnectionDialogUpdatedEvent(data));
+      });
+
+      register(ClientEvent.ProjectTemplateRegistryUpdated, (eventBus, event) ->
+      {
+         ProjectTemplateRegistry data = event.getData();
+         eventBus.dispatchEvent(new ProjectTemplateRegistryUpdatedEvent(data));
+      });
+
+      register(ClientEvent.TerminalSubProcs, (eventBus, event) ->
+      {
+         TerminalSubprocEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new TerminalSubprocEvent(data));
+      });
+
+      register(ClientEvent.PackageExtensionIndexingCompleted, (eventBus, event) ->
+      {
+         PackageProvidedExtensions.Data data = event.getData();
+         eventBus.dispatchEvent(new PackageExtensionIndexingCompletedEvent(data));
+      });
+
+      register(ClientEvent.RStudioAPIShowDialog, (eventBus, event) ->
+      {
+         RStudioAPIShowDialogEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RStudioAPIShowDialogEvent(data));
+      });
+
+      register(ClientEvent.ObjectExplorerEvent, (eventBus, event) ->
+      {
+         ObjectExplorerEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ObjectExplorerEvent(data));
+      });
+
+      register(ClientEvent.SendToTerminal, (eventBus, event) ->
+      {
+         SendToTerminalEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SendToTerminalEvent(data));
+      });
+
+      register(ClientEvent.ClearTerminal, (eventBus, event) ->
+      {
+         ClearTerminalEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ClearTerminalEvent(data));
+      });
+
+      register(ClientEvent.AddTerminal, (eventBus, event) ->
+      {
+         AddTerminalEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new AddTerminalEvent(data));
+      });
+
+      register(ClientEvent.RemoveTerminal, (eventBus, event) ->
+      {
+         RemoveTerminalEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RemoveTerminalEvent(data));
+      });
+
+      register(ClientEvent.ActivateTerminal, (eventBus, event) ->
+      {
+         ActivateNamedTerminalEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ActivateNamedTerminalEvent(data));
+      });
+
+      register(ClientEvent.TerminalCwd, (eventBus, event) ->
+      {
+         TerminalCwdEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new TerminalCwdEvent(data));
+      });
+
+      register(ClientEvent.AdminNotification, (eventBus, event) ->
+      {
+         AdminNotification notification = event.getData();
+         eventBus.dispatchEvent(new AdminNotificationEvent(notification));
+      });
+
+      register(ClientEvent.RequestDocumentSave, (eventBus, event) ->
+      {
+         RequestDocumentSaveEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RequestDocumentSaveEvent(data));
+      });
+
+      register(ClientEvent.RequestOpenProject, (eventBus, event) ->
+      {
+         RequestOpenProjectEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RequestOpenProjectEvent(data));
+      });
+
+      register(ClientEvent.OpenFileDialog, (eventBus, event) ->
+      {
+         OpenFileDialogEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new OpenFileDialogEvent(data));
+      });
+
+      register(ClientEvent.ShowPageViewer, (eventBus, event) ->
+      {
+         HTMLPreviewParams params = event.getData();
+         eventBus.dispatchEvent(new ShowPageViewerEvent(params));
+      });
+
+      register(ClientEvent.AskSecret, (eventBus, event) ->
+      {
+         AskSecretEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new AskSecretEvent(data));
+      });
+
+      register(ClientEvent.TestsStarted, (eventBus, event) ->
+      {
+         TestsStartedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new TestsStartedEvent(data));
+      });
+
+      register(ClientEvent.TestsOutput, (eventBus, event) ->
+      {
+         CompileOutput data = event.getData();
+         eventBus.dispatchEvent(new TestsOutputEvent(data));
+      });
+
+      register(ClientEvent.TestsCompleted, (eventBus, event) ->
+      {
+         TestsResult result = event.getData();
+         eventBus.dispatchEvent(new TestsCompletedEvent(result));
+      });
+
+      register(ClientEvent.JobUpdated, (eventBus, event) ->
+      {
+         JobUpdate data = event.getData();
+         eventBus.dispatchEvent(new JobUpdatedEvent(data));
+      });
+
+      register(ClientEvent.JobRefresh, (eventBus, event) ->
+      {
+         JobState data = event.getData();
+         eventBus.dispatchEvent(new JobRefreshEvent(data));
+      });
+
+      register(ClientEvent.JobOutput, (eventBus, event) ->
+      {
+         JobOutputEvent.Data output = event.getData();
+         eventBus.dispatchEvent(new JobOutputEvent(output));
+      });
+
+      register(ClientEvent.DataOutputCompleted, (eventBus, event) ->
+      {
+         DataOutputResult result = event.getData();
+         eventBus.dispatchEvent(new DataOutputCompletedEvent(result));
+      });
+
+      register(ClientEvent.NewDocumentWithCode, (eventBus, event) ->
+      {
+         NewDocumentWithCodeEvent.Data result = event.getData();
+         eventBus.dispatchEvent(new NewDocumentWithCodeEvent(result));
+      });
+
+      register(ClientEvent.AvailablePackagesReady, (eventBus, event) ->
+      {
+         AvailablePackagesReadyEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new AvailablePackagesReadyEvent(data));
+      });
+
+      register(ClientEvent.PlumberViewer, (eventBus, event) ->
+      {
+         PlumberAPIParams data = event.getData();
+         eventBus.dispatchEvent(new PlumberAPIStatusEvent(data, true));
+      });
+
+      register(ClientEvent.ComputeThemeColors, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new ComputeThemeColorsEvent());
+      });
+
+      register(ClientEvent.RequestDocumentClose, (eventBus, event) ->
+      {
+         RequestDocumentCloseEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RequestDocumentCloseEvent(data));
+      });
+
+      register(ClientEvent.ExecuteAppCommand, (eventBus, event) ->
+      {
+         ExecuteAppCommandEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ExecuteAppCommandEvent(data));
+      });
+
+      register(ClientEvent.HighlightUi, (eventBus, event) ->
+      {
+         HighlightEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new HighlightEvent(data));
+      });
+
+      register(ClientEvent.TutorialCommand, (eventBus, event) ->
+      {
+         TutorialCommandEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new TutorialCommandEvent(data));
+      });
+
+      register(ClientEvent.TutorialLaunch, (eventBus, event) ->
+      {
+         TutorialLaunchEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new TutorialLaunchEvent(data));
+      });
+
+      register(ClientEvent.ReticulateEvent, (eventBus, event) ->
+      {
+         ReticulateEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ReticulateEvent(data));
+      });
+
+      register(ClientEvent.RStudioApiRequest, (eventBus, event) ->
+      {
+         RStudioApiRequestEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new RStudioApiRequestEvent(data));
+      });
+
+      register(ClientEvent.DocumentCloseAllNoSave, (eventBus, event) ->
+      {
+         eventBus.dispatchEvent(new DocumentCloseAllNoSaveEvent());
+      });
+
+      register(ClientEvent.MemoryUsageChanged, (eventBus, event) ->
+      {
+         MemoryUsage data = event.getData();
+         eventBus.dispatchEvent(new MemoryUsageChangedEvent(data));
+      });
+
+      register(ClientEvent.CommandCallbacksChanged, (eventBus, event) ->
+      {
+         JsArrayString commands = event.getData();
+         eventBus.dispatchEvent(new CommandCallbacksChangedEvent(commands));
+      });
+
+      register(ClientEvent.ConsoleActivate, (eventBus, event) ->
+      {
+         boolean focusWindow = event.<Bool>getData().getValue();
+         eventBus.dispatchEvent(new ConsoleActivateEvent(focusWindow));
+      });
+
+      register(ClientEvent.JobsActivate, (eventBus, event) ->
+      {
+         JobsActivateEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new JobsActivateEvent(data));
+      });
+
+      register(ClientEvent.PresentationPreview, (eventBus, event) ->
+      {
+         PresentationPreviewEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new PresentationPreviewEvent(data));
+      });
+
+      register(ClientEvent.SuspendBlocked, (eventBus, event) ->
+      {
+         SessionSuspendBlockedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new SessionSuspendBlockedEvent(data));
+      });
+
+      register(ClientEvent.ClipboardAction, (eventBus, event) ->
+      {
+         ClipboardActionEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new ClipboardActionEvent(data));
+      });
+
+      register(ClientEvent.DeploymentRecordsUpdated, (eventBus, event) ->
+      {
+         DeploymentRecordsUpdatedEvent.Data data = event.getData();
+         eventBus.dispatchEvent(new DeploymentRecordsUpdatedEvent(data));
+      });
+   }
 
    private final EventBus eventBus_;
 
-   private final ArrayList<ClientEvent> pendingEvents_ = new ArrayList<>();
+   private final ArrayDeque<ClientEvent> pendingEvents_ = new ArrayDeque<>();
+   private boolean pumpScheduled_ = false;
+
+   // dispatch queued events until the time budget for this slice is used up,
+   // then yield so the browser can render / handle input before continuing
+   private final RepeatingCommand pump_ = () ->
+   {
+      double deadline = Duration.currentTimeMillis() + DISPATCH_BUDGET_MS;
+      do
+      {
+         dispatchEvent(pendingEvents_.poll());
+      }
+      while (!pendingEvents_.isEmpty() && Duration.currentTimeMillis() < deadline);
+
+      pumpScheduled_ = !pendingEvents_.isEmpty();
+      return pumpScheduled_;
+   };
+
+   private static final double DISPATCH_BUDGET_MS = 12;
+   private static final int MAX_COALESCED_CONSOLE_CHARS = 65536;
 
-   private static final int MAX_EVENTS_AT_ONCE = 200;
+   private static final HashMap<String, Handler> HANDLERS = new HashMap<>();
+   private static boolean handlersRegistered_ = false;
 
 }
@@ -16,9 +16,12 @@
 package org.rstudio.studio.client.server.remote;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.rstudio.core.client.BrowseCap;
 import org.rstudio.core.client.Debug;
@@ -35,9 +38,12 @@ import org.rstudio.core.client.jsonrpc.RequestLogEntry.ResponseType;
 import org.rstudio.core.client.jsonrpc.RpcError;
 import org.rstudio.core.client.jsonrpc.RpcObjectList;
 import org.rstudio.core.client.jsonrpc.RpcRequest;
+import org.rstudio.core.client.jsonrpc.RpcRequestBatcher;
 import org.rstudio.core.client.jsonrpc.RpcRequestCallback;
 import org.rstudio.core.client.jsonrpc.RpcResponse;
 import org.rstudio.core.client.jsonrpc.RpcResponseHandler;
+import org.rstudio.core.client.patch.DeltaPatch;
+import org.rstudio.studio.client.RStudioGinjector;
 import org.rstudio.studio.client.application.ApplicationTutorialEvent;
 import org.rstudio.studio.client.application.Desktop;
 import org.rstudio.studio.client.application.events.ClientDisconnectedEvent;
@@ -173,6 +179,7 @@ import org.rstudio.studio.client.workbench.model.TerminalOptions;
 import org.rstudio.studio.client.workbench.model.TexCapabilities;
 import org.rstudio.studio.client.workbench.model.WorkbenchMetrics;
 import org.rstudio.studio.client.workbench.prefs.model.SpellingPrefsContext;
+import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.prefs.views.PythonInterpreter;
 import org.rstudio.studio.client.workbench.prefs.views.PythonInterpreters;
 import org.rstudio.studio.client.workbench.projects.RenvAction;
@@ -197,6 +204,7 @@ import org.rstudio.studio.client.workbench.views.environment.model.DataPreviewRe
 import org.rstudio.studio.client.workbench.views.environment.model.DownloadInfo;
 import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentContextData;
 import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentFrame;
+import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentObjectPage;
 import org.rstudio.studio.client.workbench.views.environment.model.MemoryUsageReport;
 import org.rstudio.studio.client.workbench.views.environment.model.ObjectContents;
 import org.rstudio.studio.client.workbench.views.environment.model.RObject;
@@ -289,10 +297,19 @@ public class RemoteServer implements Server
       eventBus_.addHandler(SessionInitEvent.TYPE, (SessionInitEvent sie) ->
       {
          userHomePath_ = getUserHomePath(session_.getSessionInfo());
+
+         // opt-in batching of rpc requests
+         UserPrefs prefs = RStudioGinjector.INSTANCE.getUserPrefs();
+         batchRpcRequests_ = prefs.batchRpcRequests().getValue();
+         prefs.batchRpcRequests().addValueChangeHandler(event ->
+         {
+            batchRpcRequests_ = event.getValue();
+         });
       });
 
       // create server event listener
       serverEventListener_ = new RemoteServerEventListener(this, externalListener);
+      rpcBatcher_ = new RpcRequestBatcher(serverEventListener_::registerAsyncHandle);
       
       // create JS callback for requests
       if (Desktop.isDesktop())
@@ -755,6 +772,15 @@ public class RemoteServer implements Server
       sendRequest(RPC_SCOPE, SEARCH_CODE, params, requestCallback);
    }
 
+   public void getCodeSearchIndex(
+         boolean includeFiles,
+         ServerRequestCallback<CodeSearchResults> requestCallback)
+   {
+      JSONArray params = new JSONArray();
+      params.set(0, JSONBoolean.getInstance(includeFiles));
+      sendRequest(RPC_SCOPE, GET_CODE_SEARCH_INDEX, params, requestCallback);
+   }
+
    public void getObjectDefinition(
          String line,
          int pos,
@@ -2358,6 +2384,38 @@ public class RemoteServer implements Server
       sendRequest(RPC_SCOPE, SAVE_DOCUMENT_DIFF, params, requestCallback);
    }
 
+   public void saveDocumentDiff(String id,
+                                String path,
+                                String fileType,
+                                String encoding,
+                                String foldSpec,
+                                JsArray<ChunkDefinition> chunkDefs,
+                                DeltaPatch patch,
+                                int length,
+                                String checksum,
+                                String hash,
+                                boolean retryWrite,
+                                ServerRequestCallback<String> requestCallback)
+   {
+      eventBus_.fireEvent(new ApplicationTutorialEvent(ApplicationTutorialEvent.FILE_SAVE));
+
+      JSONArray params = new JSONArray();
+      params.set(0, new JSONString(id));
+      params.set(1, path == null ? JSONNull.getInstance() : new JSONString(path));
+      params.set(2, fileType == null ? JSONNull.getInstance() : new JSONString(fileType));
+      params.set(3, encoding == null ? JSONNull.getInstance() : new JSONString(encoding));
+      params.set(4, new JSONString(StringUtil.notNull(foldSpec)));
+      params.set(5, chunkDefs == null ? JSONNull.getInstance() : new JSONObject(chunkDefs));
+      params.set(6, patch.toJSONArray());
+      params.set(7, new JSONNumber(0));
+      params.set(8, new JSONNumber(length));
+      params.set(9, JSONBoolean.getInstance(true));
+      params.set(10, new JSONString(hash));
+      params.set(11, JSONBoolean.getInstance(retryWrite));
+      params.set(12, new JSONString(checksum));
+      sendRequest(RPC_SCOPE, SAVE_DOCUMENT_DIFF, params, requestCallback);
+   }
+
    public void checkForExternalEdit(
          String id,
          ServerRequestCallback<CheckForExternalEditResult> requestCallback)
@@ -3600,7 +3658,7 @@ public class RemoteServer implements Server
          return rpcRequest;
 
       // send the request
-      rpcRequest.send(new RpcRequestCallback() {
+      sendRpcRequest(rpcRequest, new RpcRequestCallback() {
          public void onError(RpcRequest request, RpcError error)
          {
             // ignore errors if we are disconnected
@@ -3677,6 +3735,16 @@ public class RemoteServer implements Server
       return rpcRequest;
    }
 
+   private void sendRpcRequest(RpcRequest request, RpcRequestCallback callback)
+   {
+      // requests issued in the same event loop tick are combined into
+      // a single round trip when batching is enabled
+      if (batchRpcRequests_ && !UNBATCHED_METHODS.contains(request.getMethod()))
+         rpcBatcher_.send(request, callback);
+      else
+         request.send(callback);
+   }
+
    private void ensureListeningForEvents()
    {
       // don't do this if we are disconnected
@@ -4671,6 +4739,13 @@ public class RemoteServer implements Server
       sendRequest(RPC_SCOPE, STOP_FIND, findOperationHandle, requestCallback);
    }
 
+   @Override
+   public void findMoreResults(String findOperationHandle,
+                               ServerRequestCallback<Void> requestCallback)
+   {
+      sendRequest(RPC_SCOPE, FIND_MORE_RESULTS, findOperationHandle, requestCallback);
+   }
+
    @Override
    public void clearFindResults(ServerRequestCallback<Void> requestCallback)
    {
@@ -4800,6 +4875,19 @@ public class RemoteServer implements Server
       sendRequest(RPC_SCOPE, LIST_ENVIRONMENT, callback);
    }
 
+   @Override
+   public void listEnvironmentPage(int offset,
+                                   int limit,
+                                   String filter,
+                                   ServerRequestCallback<EnvironmentObjectPage> callback)
+   {
+      JSONArray params = new JSONArray();
+      params.set(0, new JSONNumber(offset));
+      params.set(1, new JSONNumber(limit));
+      params.set(2, new JSONString(StringUtil.notNull(filter)));
+      sendRequest(RPC_SCOPE, LIST_ENVIRONMENT_PAGE, params, callback);
+   }
+
    @Override
    public void setContextDepth(int newContextDepth,
                                ServerRequestCallback<Void> requestCallback)
@@ -6721,6 +6809,8 @@ public class RemoteServer implements Server
    private JsObject launchParameters_;
    private String userHomePath_;
    private boolean listeningForEvents_;
+   private boolean batchRpcRequests_ = false;
+   private final RpcRequestBatcher rpcBatcher_;
    private boolean disconnected_;
    private boolean sessionRelaunchPending_;
 
@@ -6732,6 +6822,44 @@ public class RemoteServer implements Server
    protected final Session session_;
    protected final EventBus eventBus_;
 
+   // methods which the session handles outside of its rpc method table (or
+   // which must not wait on other requests) are never batched; this
+   // includes the methods the session can service while R is busy (see
+   // isOfflineableRequest in SessionRpc.cpp), since batching them would make
+   // them wait behind any long-running request in the same batch
+   private static final Set<String> UNBATCHED_METHODS = new HashSet<>(Arrays.asList(
+         "client_init",
+         "console_input",
+         "interrupt",
+         "quit_session",
+         "suspend_session",
+         "suspend_for_restart",
+         "ping",
+         "abort",
+         "edit_completed",
+         "choose_file_completed",
+         "locator_completed",
+         "user_prompt_completed",
+         "handle_unsaved_changes_completed",
+         "admin_notification_acknowledged",
+         "rstudio_api_show_dialog",
+         "save_document",
+         "save_document_diff",
+         "open_document",
+         "set_client_state",
+         "list_files",
+         "modify_document_properties",
+         "check_for_external_edit",
+         "start_terminal",
+         "process_start",
+         "process_notify_start",
+         "process_notify_visible",
+         "process_get_buffer_chunk",
+         "process_erase_buffer",
+         "process_set_size",
+         "get_source_template",
+         "new_document"));
+
    // url scopes
    protected static final String RPC_SCOPE = "rpc";
    private static final String FILES_SCOPE = "files";
@@ -6766,6 +6894,7 @@ public class RemoteServer implements Server
    private static final String GET_TERMINAL_SHELLS = "get_terminal_shells";
    private static final String START_TERMINAL = "start_terminal";
    private static final String SEARCH_CODE = "search_code";
+   private static final String GET_CODE_SEARCH_INDEX = "get_code_search_index";
    private static final String GET_SEARCH_PATH_FUNCTION_DEFINITION = "get_search_path_function_definition";
    private static final String GET_METHOD_DEFINITION = "get_method_definition";
    private static final String GET_FUNCTION_DEFINITION = "get_function_definition";
@@ -7041,6 +7170,7 @@ public class RemoteServer implements Server
 
    private static final String BEGIN_FIND = "begin_find";
    private static final String STOP_FIND = "stop_find";
+   private static final String FIND_MORE_RESULTS = "find_more_results";
 
    private static final String PREVIEW_REPLACE = "preview_replace";
    private static final String COMPLETE_REPLACE = "complete_replace";
@@ -7071,6 +7201,7 @@ public class RemoteServer implements Server
    private static final String DEVTOOLS_LOAD_ALL_PATH = "devtools_load_all_path";
 
    private static final String LIST_ENVIRONMENT = "list_environment";
+   private static final String LIST_ENVIRONMENT_PAGE = "list_environment_page";
    private static final String SET_CONTEXT_DEPTH = "set_context_depth";
    private static final String SET_ENVIRONMENT = "set_environment";
    private static final String SET_ENVIRONMENT_FRAME = "set_environment_frame";
@@ -144,6 +144,7 @@ public class CodeSearch
         public void onFocus(FocusEvent event)
         {
            display_.getSearchOracle().clear();
+           display_.getSearchOracle().onSearchStarted();
         }
      });
 
@@ -0,0 +1,376 @@
+/*
+ * CodeSearchIndex.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.codesearch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.files.FileSystemItem;
+import org.rstudio.core.client.jsonrpc.RpcObjectList;
+import org.rstudio.core.client.regex.Match;
+import org.rstudio.core.client.regex.Pattern;
+import org.rstudio.studio.client.application.events.EventBus;
+import org.rstudio.studio.client.server.ServerError;
+import org.rstudio.studio.client.server.ServerRequestCallback;
+import org.rstudio.studio.client.workbench.WorkbenchContext;
+import org.rstudio.studio.client.workbench.codesearch.model.CodeSearchResults;
+import org.rstudio.studio.client.workbench.codesearch.model.CodeSearchServerOperations;
+import org.rstudio.studio.client.workbench.codesearch.model.FileItem;
+import org.rstudio.studio.client.workbench.codesearch.model.SourceItem;
+import org.rstudio.studio.client.workbench.views.files.events.FileChangeEvent;
+import org.rstudio.studio.client.workbench.views.files.model.FileChange;
+import org.rstudio.studio.client.workbench.views.source.events.DocTabClosedEvent;
+import org.rstudio.studio.client.workbench.views.source.events.SourceDocAddedEvent;
+
+import com.google.gwt.user.client.Timer;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+// A client-side copy of everything the session's code search looks through
+// (the project's files, and the functions etc. defined in them), so that
+// Go to File/Function can answer searches without a round trip to the
+// server. The index is fetched the first time it's needed, and then kept up
+// to date as files change: removed files are dropped right away, while
+// added files and changed sources are re-fetched in the background.
+@Singleton
+public class CodeSearchIndex
+{
+   @Inject
+   public CodeSearchIndex(CodeSearchServerOperations server,
+                          WorkbenchContext workbenchContext,
+                          EventBus events)
+   {
+      server_ = server;
+      workbenchContext_ = workbenchContext;
+
+      refreshTimer_ = new Timer()
+      {
+         @Override
+         public void run()
+         {
+            refresh(filesStale_);
+         }
+      };
+
+      events.addHandler(FileChangeEvent.TYPE, (FileChangeEvent event) ->
+      {
+         onFileChange(event.getFileChange());
+      });
+
+      // without a project, the files searched are the open documents
+      events.addHandler(SourceDocAddedEvent.TYPE, (SourceDocAddedEvent event) ->
+      {
+         onOpenDocumentsChanged();
+      });
+      events.addHandler(DocTabClosedEvent.TYPE, (DocTabClosedEvent event) ->
+      {
+         onOpenDocumentsChanged();
+      });
+   }
+
+   // whether the given query can be answered from the index
+   public boolean canSearch(String query)
+   {
+      // test items aren't indexed
+      return loaded_ && complete_ && !query.startsWith("t ");
+   }
+
+   // fetches the index, if we don't yet have it
+   public void ensureLoaded()
+   {
+      if (!loaded_ && !refreshing_)
+         refresh(true);
+   }
+
+   // re-fetches the source items, which may have changed in ways we don't
+   // hear about (e.g. unsaved edits to open documents)
+   public void refreshSources()
+   {
+      if (loaded_)
+         refresh(filesStale_);
+   }
+
+   // returns up to 'limit' of the best matches for the query, with file
+   // matches first. sets moreAvailable[0] if some matches were left out.
+   public ArrayList<CodeSearchSuggestion> search(String query,
+                                                 int limit,
+                                                 boolean[] moreAvailable)
+   {
+      // we allow queries of the form <query>:<row>:<column>; only match on
+      // the part before the ':'
+      int colonIndex = query.indexOf(":");
+      if (colonIndex != -1)
+         query = StringUtil.substring(query, 0, colonIndex);
+      String queryLower = query.toLowerCase();
+
+      Pattern pattern = null;
+      if (queryLower.indexOf('*') != -1)
+         pattern = CodeSearchOracle.patternForTerm(queryLower);
+
+      // keep the best 'limit' matches, across both files and source items
+      Matches matches = new Matches(limit);
+      int n = fileNamesLower_.length;
+      for (int i = 0; i < n; i++)
+      {
+         if (!matches(fileNamesLower_[i], queryLower, pattern))
+            continue;
+
+         FileItem item = files_.get(i);
+         if (removedPaths_.contains(item.getPath()))
+            continue;
+
+         matches.add(i, CodeSearchOracle.scoreMatch(
+               item.getFilename(), fileNamesLower_[i],
+               query, queryLower,
+               true));
+      }
+
+      n = sourceNamesLower_.length;
+      for (int i = 0; i < n; i++)
+      {
+         if (!matches(sourceNamesLower_[i], queryLower, pattern))
+            continue;
+
+         SourceItem item = sources_.get(i);
+         if (removedPaths_.contains(item.getContext()))
+            continue;
+
+         // source items are numbered after the files
+         matches.add(fileNamesLower_.length + i, CodeSearchOracle.scoreMatch(
+               item.getName(), sourceNamesLower_[i],
+               query, queryLower,
+               false));
+      }
+
+      moreAvailable[0] = matches.overflowed;
+
+      // build suggestions for the matches, files first
+      ArrayList<CodeSearchSuggestion> suggestions = new ArrayList<>();
+      FileSystemItem context = workbenchContext_.getActiveProjectDir();
+      for (int pass = 0; pass < 2; pass++)
+      {
+         for (int i = 0; i < matches.count; i++)
+         {
+            int index = matches.indices[i];
+            boolean isFile = index < fileNamesLower_.length;
+            if (isFile && pass == 0)
+            {
+               suggestions.add(new CodeSearchSuggestion(files_.get(index)));
+            }
+            else if (!isFile && pass == 1)
+            {
+               SourceItem item = sources_.get(index - fileNamesLower_.length);
+               suggestions.add(new CodeSearchSuggestion(item, context));
+            }
+         }
+      }
+
+      return suggestions;
+   }
+
+   private static boolean matches(String nameLower,
+                                  String queryLower,
+                                  Pattern pattern)
+   {
+      if (pattern != null)
+      {
+         Match match = pattern.match(nameLower, 0);
+         return match != null && match.getIndex() == 0;
+      }
+
+      return queryLower.isEmpty() ||
+             StringUtil.isSubsequence(nameLower, queryLower);
+   }
+
+   // the best-scoring (lowest) matches seen so far, in score order
+   private static class Matches
+   {
+      public Matches(int limit)
+      {
+         this.limit = limit;
+         this.indices = new int[limit];
+         this.scores = new int[limit];
+      }
+
+      public void add(int index, int score)
+      {
+         if (count == limit)
+         {
+            overflowed = true;
+            if (limit == 0 || score >= scores[count - 1])
+               return;
+            count--;
+         }
+
+         // insert in score order (after any matches with the same score)
+         int i = count;
+         while (i > 0 && scores[i - 1] > score)
+         {
+            indices[i] = indices[i - 1];
+            scores[i] = scores[i - 1];
+            i--;
+         }
+         indices[i] = index;
+         scores[i] = score;
+         count++;
+      }
+
+      public final int limit;
+      public final int[] indices;
+      public final int[] scores;
+      public int count = 0;
+      public boolean overflowed = false;
+   }
+
+   private void onFileChange(FileChange change)
+   {
+      if (!loaded_)
+         return;
+
+      FileSystemItem file = change.getFile();
+      String path = file.getPath();
+      switch (change.getType())
+      {
+         case FileChange.DELETE:
+            if (file.isDirectory())
+               filesStale_ = true;
+            else
+               removedPaths_.add(path);
+            break;
+
+         case FileChange.ADD:
+            removedPaths_.remove(path);
+            if (isProjectFile(file))
+               filesStale_ = true;
+            break;
+
+         case FileChange.MODIFIED:
+            break;
+
+         default:
+            return;
+      }
+
+      // the definitions in the file may have changed; re-fetch once
+      // things have settled down
+      if (filesStale_ || isIndexedSource(file))
+         refreshTimer_.schedule(REFRESH_DELAY_MS);
+   }
+
+   private void onOpenDocumentsChanged()
+   {
+      if (!loaded_ || workbenchContext_.getActiveProjectDir() != null)
+         return;
+
+      filesStale_ = true;
+      refreshTimer_.schedule(REFRESH_DELAY_MS);
+   }
+
+   private boolean isProjectFile(FileSystemItem file)
+   {
+      FileSystemItem projectDir = workbenchContext_.getActiveProjectDir();
+      return projectDir != null &&
+             file.getPath().startsWith(projectDir.getPath() + "/");
+   }
+
+   private static boolean isIndexedSource(FileSystemItem file)
+   {
+      String ext = file.getExtension().toLowerCase();
+      return ext == ".r" || ext == ".s" ||
+             ext == ".c" || ext == ".cpp" || ext == ".h" || ext == ".hpp" ||
+             ext == ".rmd" || ext == ".qmd";
+   }
+
+   private void refresh(final boolean includeFiles)
+   {
+      if (refreshing_)
+      {
+         // pick up whatever changed once the current refresh is done
+         refreshPending_ = true;
+         return;
+      }
+
+      refreshing_ = true;
+      refreshTimer_.cancel();
+      if (includeFiles)
+         filesStale_ = false;
+
+      server_.getCodeSearchIndex(
+            includeFiles,
+            new ServerRequestCallback<CodeSearchResults>()
+      {
+         @Override
+         public void onResponseReceived(CodeSearchResults response)
+         {
+            refreshing_ = false;
+
+            if (includeFiles)
+            {
+               files_ = response.getFileItems();
+               int n = files_.length();
+               fileNamesLower_ = new String[n];
+               for (int i = 0; i < n; i++)
+                  fileNamesLower_[i] = files_.get(i).getFilename().toLowerCase();
+               removedPaths_.clear();
+            }
+
+            sources_ = response.getSourceItems();
+            int n = sources_.length();
+            sourceNamesLower_ = new String[n];
+            for (int i = 0; i < n; i++)
+               sourceNamesLower_[i] = sources_.get(i).getName().toLowerCase();
+
+            complete_ = response.isComplete();
+            loaded_ = true;
+
+            if (refreshPending_)
+            {
+               refreshPending_ = false;
+               refresh(filesStale_);
+            }
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+            // searches continue to go to the server; the files we asked for
+            // are still stale
+            refreshing_ = false;
+            refreshPending_ = false;
+            if (includeFiles)
+               filesStale_ = true;
+         }
+      });
+   }
+
+   private final CodeSearchServerOperations server_;
+   private final WorkbenchContext workbenchContext_;
+   private final Timer refreshTimer_;
+
+   private RpcObjectList<FileItem> files_;
+   private String[] fileNamesLower_ = new String[0];
+   private RpcObjectList<SourceItem> sources_;
+   private String[] sourceNamesLower_ = new String[0];
+   private final HashSet<String> removedPaths_ = new HashSet<>();
+
+   private boolean loaded_ = false;
+   private boolean complete_ = false;
+   private boolean refreshing_ = false;
+   private boolean refreshPending_ = false;
+   private boolean filesStale_ = false;
+
+   private static final int REFRESH_DELAY_MS = 1000;
+}
@@ -16,7 +16,6 @@ package org.rstudio.studio.client.workbench.codesearch;
 
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
 
 import com.google.gwt.core.client.GWT;
 import org.rstudio.core.client.CodeNavigationTarget;
@@ -44,10 +43,12 @@ public class CodeSearchOracle extends SuggestOracle
 {
    @Inject
    public CodeSearchOracle(CodeSearchServerOperations server,
-                           WorkbenchContext workbenchContext)
+                           WorkbenchContext workbenchContext,
+                           CodeSearchIndex index)
    {
       server_ = server;
       workbenchContext_ = workbenchContext;
+      index_ = index;
    }
    
    private static int scoreMatch(CodeSearchSuggestion suggestion, String query)
@@ -60,22 +61,35 @@ public class CodeSearchOracle extends SuggestOracle
    // (see: SessionCodeSearch.cpp)
    public static int scoreMatch(String suggestion, String query, boolean isFile)
    {
-      String suggestionLower = suggestion.toLowerCase();
-      String queryLower = query.toLowerCase();
-      
+      return scoreMatch(suggestion, suggestion.toLowerCase(),
+                        query, query.toLowerCase(),
+                        isFile);
+   }
+   
+   // As above, but for callers which already have the lower-cased forms of
+   // the suggestion and query (e.g. when scoring many suggestions against
+   // one query)
+   public static int scoreMatch(String suggestion,
+                                String suggestionLower,
+                                String query,
+                                String queryLower,
+                                boolean isFile)
+   {
       // No penalty for identical results
       if (suggestion == query)
          return 0;
       
       int totalPenalty = 0;
       
-      // Get query matches in string (ordered)
-      List<Integer> matches = StringUtil.subsequenceIndices(suggestionLower, queryLower);
-      
-      // Loop over the matches and assign a score
-      for (int j = 0, n = matches.size(); j < n; j++)
+      // Loop over the query matches in string (ordered) and assign a score
+      int j = 0;
+      int prevMatchPos = -1;
+      for (int i = 0, n = queryLower.length(); i < n; i++)
       {
-         int matchPos = matches.get(j);
+         int matchPos = suggestionLower.indexOf(queryLower.charAt(i), prevMatchPos + 1);
+         if (matchPos == -1)
+            continue;
+         prevMatchPos = matchPos;
          
          // The initial penalty is equal to the match position
          int penalty = matchPos;
@@ -94,6 +108,7 @@ public class CodeSearchOracle extends SuggestOracle
             penalty--;
             
          totalPenalty += penalty;
+         j++;
       }
       
       // Penalize file targets
@@ -107,7 +122,7 @@ public class CodeSearchOracle extends SuggestOracle
       }
       
       // Penalize unmatched characters
-      totalPenalty += (query.length() - matches.size()) * query.length();
+      totalPenalty += (query.length() - j) * query.length();
       
       return totalPenalty;
    }
@@ -200,6 +215,22 @@ public class CodeSearchOracle extends SuggestOracle
          } 
       }
       
+      // next, see if we can search the client-side index
+      if (index_.canSearch(request.getQuery()))
+      {
+         boolean[] moreAvailable = new boolean[1];
+         ArrayList<CodeSearchSuggestion> suggestions = index_.search(
+               request.getQuery(), request.getLimit(), moreAvailable);
+         
+         suggestions = processSuggestions(request, suggestions, moreAvailable[0]);
+         sortSuggestions(suggestions, request.getQuery());
+         callback.onSuggestionsReady(request, new Response(suggestions));
+         return;
+      }
+      
+      // make sure the index is on its way for subsequent searches
+      index_.ensureLoaded();
+      
       // failed to short-circuit via the cache, hit the server
       codeSearch_.enqueRequest(request, callback); 
    }
@@ -247,6 +278,12 @@ public class CodeSearchOracle extends SuggestOracle
       searchInvalidation_.invalidate();
    }
    
+   // called when the user starts a new search
+   public void onSearchStarted()
+   {
+      index_.refreshSources();
+   }
+   
    public boolean hasCachedResults()
    {
       return !resultCache_.isEmpty();
@@ -263,7 +300,7 @@ public class CodeSearchOracle extends SuggestOracle
       return true;
    }
    
-   private Pattern patternForTerm(String term)
+   static Pattern patternForTerm(String term)
    {
       // split the term on *
       StringBuilder regex = new StringBuilder();
@@ -446,6 +483,7 @@ public class CodeSearchOracle extends SuggestOracle
    
    private final CodeSearchServerOperations server_;
    private final WorkbenchContext workbenchContext_;
+   private final CodeSearchIndex index_;
    private final CodeSearchCommand codeSearch_ = new CodeSearchCommand();
    
    private final ArrayList<SearchResult> resultCache_ = new ArrayList<>();
@@ -37,4 +37,10 @@ public class CodeSearchResults extends JavaScriptObject
       return this.more_available;
    }-*/;
 
+   // for the code search index: false if the index holds only some of the
+   // files and source items known to the session
+   public final native boolean isComplete() /*-{
+      return !!this.complete;
+   }-*/;
+
 }
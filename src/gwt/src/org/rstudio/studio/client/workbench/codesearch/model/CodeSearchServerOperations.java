@@ -27,6 +27,15 @@ public interface CodeSearchServerOperations
          int maxResults,
          ServerRequestCallback<CodeSearchResults> requestCallback);
    
+   /*
+    * Get everything searchCode would search (the project's files, and all
+    * indexed source items), so that searches can be answered on the client.
+    * Files are only included if requested.
+    */
+   void getCodeSearchIndex(
+         boolean includeFiles,
+         ServerRequestCallback<CodeSearchResults> requestCallback);
+   
    /**
     * Get the definition of the specified object (if known).
     * We pass a line and pos rather than a function name because that is
@@ -132,41 +132,60 @@ public abstract class Prefs
       
       public boolean hasValue()
       {
-         for (PrefLayer layer: JsUtil.asReverseIterable(layers_))
-         {
-            if (layer.getValues().hasKey(name_))
-            {
-               return true;
-            }
-         }
-         return false;
+         resolve();
+         return hasValue_;
       }
       
       public T getValue()
       {
-         // Work backwards through all layers, starting with the most specific
-         // and working towards the most general.
-         for (PrefLayer layer: JsUtil.asReverseIterable(layers_))
-         {
-            if (layer.getValues().hasKey(name_))
-            {
-               return doGetValue(layer.getValues());
-            }
-         }
-         return defaultValue_;
+         resolve();
+         return value_;
       }
 
       public T getGlobalValue()
       {
-         // Skip the project layer if it exists by starting at the user layer.
-         for (int i = userLayer(); i >= 0; i--)
+         resolve();
+         return globalValue_;
+      }
+      
+      // looks up the value in the layers, if they've changed since the last
+      // lookup; values are otherwise read from the last lookup
+      private void resolve()
+      {
+         if (resolvedVersion_ == layersVersion_)
+            return;
+         
+         hasValue_ = false;
+         value_ = defaultValue_;
+         globalValue_ = defaultValue_;
+         
+         // Work backwards through all layers, starting with the most specific
+         // and working towards the most general. The global value skips the
+         // project layer if it exists by starting at the user layer.
+         for (int i = layers_.length() - 1; i >= 0; i--)
          {
-            if (layers_.get(i).getValues().hasKey(name_))
+            JsObject values = layers_.get(i).getValues();
+            if (!values.hasKey(name_))
+               continue;
+            
+            if (!hasValue_)
             {
-               return doGetValue(layers_.get(i).getValues());
+               hasValue_ = true;
+               value_ = doGetValue(values);
+               if (i <= userLayer())
+               {
+                  globalValue_ = value_;
+                  break;
+               }
+            }
+            else if (i <= userLayer())
+            {
+               globalValue_ = doGetValue(values);
+               break;
             }
          }
-         return defaultValue_;
+         
+         resolvedVersion_ = layersVersion_;
       }
 
       public abstract T doGetValue(JsObject root);
@@ -195,6 +214,9 @@ public abstract class Prefs
             }
          }
          
+         if (wasUnset)
+            layersChanged();
+         
          if (fireEvents && wasUnset)
             ValueChangeEvent.fire(this, getValue());
       }
@@ -227,6 +249,7 @@ public abstract class Prefs
          if (projValues.hasKey(name_))
          {
             projValues.unset(name_);
+            layersChanged();
             if (fireEvents)
                ValueChangeEvent.fire(this, getValue());
          }
@@ -255,6 +278,7 @@ public abstract class Prefs
             return;
 
          doSetValue(root, name_, value);
+         layersChanged();
          if (fireEvents)
             ValueChangeEvent.fire(this, getValue());
          
@@ -274,6 +298,13 @@ public abstract class Prefs
       private final String description_;
       private final T defaultValue_;
       private final HandlerManager handlerManager_ = new HandlerManager(this);
+      
+      // the values found by the last lookup, and the version of the layers
+      // they were found in
+      private int resolvedVersion_ = -1;
+      private boolean hasValue_;
+      private T value_;
+      private T globalValue_;
    }
 
    public class BooleanValue extends JsonValue<Boolean>
@@ -535,8 +566,17 @@ public abstract class Prefs
    protected void updatePrefs(JsArray<PrefLayer> layers)
    {
       layers_ = layers;
+      layersChanged();
+   }
+   
+   // Called whenever a value in any layer changes, so that the next read of
+   // each pref looks it up again.
+   protected void layersChanged()
+   {
+      layersVersion_++;
    }
    
    private JsArray<PrefLayer> layers_;
+   private int layersVersion_ = 0;
    private final HashMap<String, PrefValue<?>> values_ = new HashMap<>();
 }
@@ -49,30 +49,38 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> runRprofileOnResume()
    {
-      return bool(
-         "run_rprofile_on_resume",
-         _constants.runRprofileOnResumeTitle(), 
-         _constants.runRprofileOnResumeDescription(), 
-         false);
+      if (runRprofileOnResume_ == null)
+         runRprofileOnResume_ = bool(
+            "run_rprofile_on_resume",
+            _constants.runRprofileOnResumeTitle(), 
+            _constants.runRprofileOnResumeDescription(), 
+            false);
+      return runRprofileOnResume_;
    }
 
+   private PrefValue<Boolean> runRprofileOnResume_;
+
    /**
     * Whether to save the workspace to an .Rdata file after the R session ends.
     */
    public PrefValue<String> saveWorkspace()
    {
-      return enumeration(
-         "save_workspace",
-         _constants.saveWorkspaceTitle(), 
-         _constants.saveWorkspaceDescription(), 
-         new String[] {
-            SAVE_WORKSPACE_ALWAYS,
-            SAVE_WORKSPACE_NEVER,
-            SAVE_WORKSPACE_ASK
-         },
-         "ask");
+      if (saveWorkspace_ == null)
+         saveWorkspace_ = enumeration(
+            "save_workspace",
+            _constants.saveWorkspaceTitle(), 
+            _constants.saveWorkspaceDescription(), 
+            new String[] {
+               SAVE_WORKSPACE_ALWAYS,
+               SAVE_WORKSPACE_NEVER,
+               SAVE_WORKSPACE_ASK
+            },
+            "ask");
+      return saveWorkspace_;
    }
 
+   private PrefValue<String> saveWorkspace_;
+
    public final static String SAVE_WORKSPACE_ALWAYS = "always";
    public final static String SAVE_WORKSPACE_NEVER = "never";
    public final static String SAVE_WORKSPACE_ASK = "ask";
@@ -82,37 +90,49 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> loadWorkspace()
    {
-      return bool(
-         "load_workspace",
-         _constants.loadWorkspaceTitle(), 
-         _constants.loadWorkspaceDescription(), 
-         true);
+      if (loadWorkspace_ == null)
+         loadWorkspace_ = bool(
+            "load_workspace",
+            _constants.loadWorkspaceTitle(), 
+            _constants.loadWorkspaceDescription(), 
+            true);
+      return loadWorkspace_;
    }
 
+   private PrefValue<Boolean> loadWorkspace_;
+
    /**
     * The initial working directory for new R sessions.
     */
    public PrefValue<String> initialWorkingDirectory()
    {
-      return string(
-         "initial_working_directory",
-         _constants.initialWorkingDirectoryTitle(), 
-         _constants.initialWorkingDirectoryDescription(), 
-         "");
+      if (initialWorkingDirectory_ == null)
+         initialWorkingDirectory_ = string(
+            "initial_working_directory",
+            _constants.initialWorkingDirectoryTitle(), 
+            _constants.initialWorkingDirectoryDescription(), 
+            "");
+      return initialWorkingDirectory_;
    }
 
+   private PrefValue<String> initialWorkingDirectory_;
+
    /**
     * The CRAN mirror to use.
     */
    public PrefValue<CranMirror> cranMirror()
    {
-      return object(
-         "cran_mirror",
-         _constants.cranMirrorTitle(), 
-         _constants.cranMirrorDescription(), 
-         null);
+      if (cranMirror_ == null)
+         cranMirror_ = object(
+            "cran_mirror",
+            _constants.cranMirrorTitle(), 
+            _constants.cranMirrorDescription(), 
+            null);
+      return cranMirror_;
    }
 
+   private PrefValue<CranMirror> cranMirror_;
+
    public static class CranMirror extends JavaScriptObject
    {
       protected CranMirror() {} 
@@ -148,80 +168,104 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> bioconductorMirrorName()
    {
-      return string(
-         "bioconductor_mirror_name",
-         _constants.bioconductorMirrorNameTitle(), 
-         _constants.bioconductorMirrorNameDescription(), 
-         "Seattle (USA)");
+      if (bioconductorMirrorName_ == null)
+         bioconductorMirrorName_ = string(
+            "bioconductor_mirror_name",
+            _constants.bioconductorMirrorNameTitle(), 
+            _constants.bioconductorMirrorNameDescription(), 
+            "Seattle (USA)");
+      return bioconductorMirrorName_;
    }
 
+   private PrefValue<String> bioconductorMirrorName_;
+
    /**
     * The URL of the default Bioconductor mirror.
     */
    public PrefValue<String> bioconductorMirrorUrl()
    {
-      return string(
-         "bioconductor_mirror_url",
-         _constants.bioconductorMirrorUrlTitle(), 
-         _constants.bioconductorMirrorUrlDescription(), 
-         "http://www.bioconductor.org");
+      if (bioconductorMirrorUrl_ == null)
+         bioconductorMirrorUrl_ = string(
+            "bioconductor_mirror_url",
+            _constants.bioconductorMirrorUrlTitle(), 
+            _constants.bioconductorMirrorUrlDescription(), 
+            "http://www.bioconductor.org");
+      return bioconductorMirrorUrl_;
    }
 
+   private PrefValue<String> bioconductorMirrorUrl_;
+
    /**
     * Whether to always save the R console history.
     */
    public PrefValue<Boolean> alwaysSaveHistory()
    {
-      return bool(
-         "always_save_history",
-         _constants.alwaysSaveHistoryTitle(), 
-         _constants.alwaysSaveHistoryDescription(), 
-         true);
+      if (alwaysSaveHistory_ == null)
+         alwaysSaveHistory_ = bool(
+            "always_save_history",
+            _constants.alwaysSaveHistoryTitle(), 
+            _constants.alwaysSaveHistoryDescription(), 
+            true);
+      return alwaysSaveHistory_;
    }
 
+   private PrefValue<Boolean> alwaysSaveHistory_;
+
    /**
     * Whether to remove duplicate entries from the R console history.
     */
    public PrefValue<Boolean> removeHistoryDuplicates()
    {
-      return bool(
-         "remove_history_duplicates",
-         _constants.removeHistoryDuplicatesTitle(), 
-         _constants.removeHistoryDuplicatesDescription(), 
-         false);
+      if (removeHistoryDuplicates_ == null)
+         removeHistoryDuplicates_ = bool(
+            "remove_history_duplicates",
+            _constants.removeHistoryDuplicatesTitle(), 
+            _constants.removeHistoryDuplicatesDescription(), 
+            false);
+      return removeHistoryDuplicates_;
    }
 
+   private PrefValue<Boolean> removeHistoryDuplicates_;
+
    /**
     * Show the result of the last expression (.Last.value) in the Environment pane.
     */
    public PrefValue<Boolean> showLastDotValue()
    {
-      return bool(
-         "show_last_dot_value",
-         _constants.showLastDotValueTitle(), 
-         _constants.showLastDotValueDescription(), 
-         false);
+      if (showLastDotValue_ == null)
+         showLastDotValue_ = bool(
+            "show_last_dot_value",
+            _constants.showLastDotValueTitle(), 
+            _constants.showLastDotValueDescription(), 
+            false);
+      return showLastDotValue_;
    }
 
+   private PrefValue<Boolean> showLastDotValue_;
+
    /**
     * The line ending format to use when saving files.
     */
    public PrefValue<String> lineEndingConversion()
    {
-      return enumeration(
-         "line_ending_conversion",
-         _constants.lineEndingConversionTitle(), 
-         _constants.lineEndingConversionDescription(), 
-         new String[] {
-            LINE_ENDING_CONVERSION_DEFAULT,
-            LINE_ENDING_CONVERSION_WINDOWS,
-            LINE_ENDING_CONVERSION_POSIX,
-            LINE_ENDING_CONVERSION_NATIVE,
-            LINE_ENDING_CONVERSION_PASSTHROUGH
-         },
-         "native");
+      if (lineEndingConversion_ == null)
+         lineEndingConversion_ = enumeration(
+            "line_ending_conversion",
+            _constants.lineEndingConversionTitle(), 
+            _constants.lineEndingConversionDescription(), 
+            new String[] {
+               LINE_ENDING_CONVERSION_DEFAULT,
+               LINE_ENDING_CONVERSION_WINDOWS,
+               LINE_ENDING_CONVERSION_POSIX,
+               LINE_ENDING_CONVERSION_NATIVE,
+               LINE_ENDING_CONVERSION_PASSTHROUGH
+            },
+            "native");
+      return lineEndingConversion_;
    }
 
+   private PrefValue<String> lineEndingConversion_;
+
    public final static String LINE_ENDING_CONVERSION_DEFAULT = "default";
    public final static String LINE_ENDING_CONVERSION_WINDOWS = "windows";
    public final static String LINE_ENDING_CONVERSION_POSIX = "posix";
@@ -233,34 +277,42 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> useNewlinesInMakefiles()
    {
-      return bool(
-         "use_newlines_in_makefiles",
-         _constants.useNewlinesInMakefilesTitle(), 
-         _constants.useNewlinesInMakefilesDescription(), 
-         true);
+      if (useNewlinesInMakefiles_ == null)
+         useNewlinesInMakefiles_ = bool(
+            "use_newlines_in_makefiles",
+            _constants.useNewlinesInMakefilesTitle(), 
+            _constants.useNewlinesInMakefilesDescription(), 
+            true);
+      return useNewlinesInMakefiles_;
    }
 
+   private PrefValue<Boolean> useNewlinesInMakefiles_;
+
    /**
     * The terminal shell to use on Windows.
     */
    public PrefValue<String> windowsTerminalShell()
    {
-      return enumeration(
-         "windows_terminal_shell",
-         _constants.windowsTerminalShellTitle(), 
-         _constants.windowsTerminalShellDescription(), 
-         new String[] {
-            WINDOWS_TERMINAL_SHELL_DEFAULT,
-            WINDOWS_TERMINAL_SHELL_WIN_GIT_BASH,
-            WINDOWS_TERMINAL_SHELL_WIN_WSL_BASH,
-            WINDOWS_TERMINAL_SHELL_WIN_CMD,
-            WINDOWS_TERMINAL_SHELL_WIN_PS,
-            WINDOWS_TERMINAL_SHELL_PS_CORE,
-            WINDOWS_TERMINAL_SHELL_CUSTOM,
-            WINDOWS_TERMINAL_SHELL_NONE
-         },
-         "default");
-   }
+      if (windowsTerminalShell_ == null)
+         windowsTerminalShell_ = enumeration(
+            "windows_terminal_shell",
+            _constants.windowsTerminalShellTitle(), 
+            _constants.windowsTerminalShellDescription(), 
+            new String[] {
+               WINDOWS_TERMINAL_SHELL_DEFAULT,
+               WINDOWS_TERMINAL_SHELL_WIN_GIT_BASH,
+               WINDOWS_TERMINAL_SHELL_WIN_WSL_BASH,
+               WINDOWS_TERMINAL_SHELL_WIN_CMD,
+               WINDOWS_TERMINAL_SHELL_WIN_PS,
+               WINDOWS_TERMINAL_SHELL_PS_CORE,
+               WINDOWS_TERMINAL_SHELL_CUSTOM,
+               WINDOWS_TERMINAL_SHELL_NONE
+            },
+            "default");
+      return windowsTerminalShell_;
+   }
+
+   private PrefValue<String> windowsTerminalShell_;
 
    public final static String WINDOWS_TERMINAL_SHELL_DEFAULT = "default";
    public final static String WINDOWS_TERMINAL_SHELL_WIN_GIT_BASH = "win-git-bash";
@@ -276,20 +328,24 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> posixTerminalShell()
    {
-      return enumeration(
-         "posix_terminal_shell",
-         _constants.posixTerminalShellTitle(), 
-         _constants.posixTerminalShellDescription(), 
-         new String[] {
-            POSIX_TERMINAL_SHELL_DEFAULT,
-            POSIX_TERMINAL_SHELL_BASH,
-            POSIX_TERMINAL_SHELL_ZSH,
-            POSIX_TERMINAL_SHELL_CUSTOM,
-            POSIX_TERMINAL_SHELL_NONE
-         },
-         "default");
+      if (posixTerminalShell_ == null)
+         posixTerminalShell_ = enumeration(
+            "posix_terminal_shell",
+            _constants.posixTerminalShellTitle(), 
+            _constants.posixTerminalShellDescription(), 
+            new String[] {
+               POSIX_TERMINAL_SHELL_DEFAULT,
+               POSIX_TERMINAL_SHELL_BASH,
+               POSIX_TERMINAL_SHELL_ZSH,
+               POSIX_TERMINAL_SHELL_CUSTOM,
+               POSIX_TERMINAL_SHELL_NONE
+            },
+            "default");
+      return posixTerminalShell_;
    }
 
+   private PrefValue<String> posixTerminalShell_;
+
    public final static String POSIX_TERMINAL_SHELL_DEFAULT = "default";
    public final static String POSIX_TERMINAL_SHELL_BASH = "bash";
    public final static String POSIX_TERMINAL_SHELL_ZSH = "zsh";
@@ -301,85 +357,113 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> customShellCommand()
    {
-      return string(
-         "custom_shell_command",
-         _constants.customShellCommandTitle(), 
-         _constants.customShellCommandDescription(), 
-         "");
+      if (customShellCommand_ == null)
+         customShellCommand_ = string(
+            "custom_shell_command",
+            _constants.customShellCommandTitle(), 
+            _constants.customShellCommandDescription(), 
+            "");
+      return customShellCommand_;
    }
 
+   private PrefValue<String> customShellCommand_;
+
    /**
     * The command-line options to pass to the custom shell command.
     */
    public PrefValue<String> customShellOptions()
    {
-      return string(
-         "custom_shell_options",
-         _constants.customShellOptionsTitle(), 
-         _constants.customShellOptionsDescription(), 
-         "");
+      if (customShellOptions_ == null)
+         customShellOptions_ = string(
+            "custom_shell_options",
+            _constants.customShellOptionsTitle(), 
+            _constants.customShellOptionsDescription(), 
+            "");
+      return customShellOptions_;
    }
 
+   private PrefValue<String> customShellOptions_;
+
    /**
     * Show line numbers in RStudio's code editor.
     */
    public PrefValue<Boolean> showLineNumbers()
    {
-      return bool(
-         "show_line_numbers",
-         _constants.showLineNumbersTitle(), 
-         _constants.showLineNumbersDescription(), 
-         true);
+      if (showLineNumbers_ == null)
+         showLineNumbers_ = bool(
+            "show_line_numbers",
+            _constants.showLineNumbersTitle(), 
+            _constants.showLineNumbersDescription(), 
+            true);
+      return showLineNumbers_;
    }
 
+   private PrefValue<Boolean> showLineNumbers_;
+
    /**
     * Show relative, rather than absolute, line numbers in RStudio's code editor.
     */
    public PrefValue<Boolean> relativeLineNumbers()
    {
-      return bool(
-         "relative_line_numbers",
-         _constants.relativeLineNumbersTitle(), 
-         _constants.relativeLineNumbersDescription(), 
-         false);
+      if (relativeLineNumbers_ == null)
+         relativeLineNumbers_ = bool(
+            "relative_line_numbers",
+            _constants.relativeLineNumbersTitle(), 
+            _constants.relativeLineNumbersDescription(), 
+            false);
+      return relativeLineNumbers_;
    }
 
+   private PrefValue<Boolean> relativeLineNumbers_;
+
    /**
     * Highlight the selected word in RStudio's code editor.
     */
    public PrefValue<Boolean> highlightSelectedWord()
    {
-      return bool(
-         "highlight_selected_word",
-         _constants.highlightSelectedWordTitle(), 
-         _constants.highlightSelectedWordDescription(), 
-         true);
+      if (highlightSelectedWord_ == null)
+         highlightSelectedWord_ = bool(
+            "highlight_selected_word",
+            _constants.highlightSelectedWordTitle(), 
+            _constants.highlightSelectedWordDescription(), 
+            true);
+      return highlightSelectedWord_;
    }
 
+   private PrefValue<Boolean> highlightSelectedWord_;
+
    /**
     * Highlight the selected line in RStudio's code editor.
     */
    public PrefValue<Boolean> highlightSelectedLine()
    {
-      return bool(
-         "highlight_selected_line",
-         _constants.highlightSelectedLineTitle(), 
-         _constants.highlightSelectedLineDescription(), 
-         false);
+      if (highlightSelectedLine_ == null)
+         highlightSelectedLine_ = bool(
+            "highlight_selected_line",
+            _constants.highlightSelectedLineTitle(), 
+            _constants.highlightSelectedLineDescription(), 
+            false);
+      return highlightSelectedLine_;
    }
 
+   private PrefValue<Boolean> highlightSelectedLine_;
+
    /**
     * Layout of panes in the RStudio workbench.
     */
    public PrefValue<Panes> panes()
    {
-      return object(
-         "panes",
-         _constants.panesTitle(), 
-         _constants.panesDescription(), 
-         null);
+      if (panes_ == null)
+         panes_ = object(
+            "panes",
+            _constants.panesTitle(), 
+            _constants.panesDescription(), 
+            null);
+      return panes_;
    }
 
+   private PrefValue<Panes> panes_;
+
    public static class Panes extends JavaScriptObject
    {
       protected Panes() {} 
@@ -425,120 +509,156 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> allowSourceColumns()
    {
-      return bool(
-         "allow_source_columns",
-         _constants.allowSourceColumnsTitle(), 
-         _constants.allowSourceColumnsDescription(), 
-         true);
+      if (allowSourceColumns_ == null)
+         allowSourceColumns_ = bool(
+            "allow_source_columns",
+            _constants.allowSourceColumnsTitle(), 
+            _constants.allowSourceColumnsDescription(), 
+            true);
+      return allowSourceColumns_;
    }
 
+   private PrefValue<Boolean> allowSourceColumns_;
+
    /**
     * Whether to insert spaces when pressing the Tab key.
     */
    public PrefValue<Boolean> useSpacesForTab()
    {
-      return bool(
-         "use_spaces_for_tab",
-         _constants.useSpacesForTabTitle(), 
-         _constants.useSpacesForTabDescription(), 
-         true);
+      if (useSpacesForTab_ == null)
+         useSpacesForTab_ = bool(
+            "use_spaces_for_tab",
+            _constants.useSpacesForTabTitle(), 
+            _constants.useSpacesForTabDescription(), 
+            true);
+      return useSpacesForTab_;
    }
 
+   private PrefValue<Boolean> useSpacesForTab_;
+
    /**
     * The number of spaces to insert when pressing the Tab key.
     */
    public PrefValue<Integer> numSpacesForTab()
    {
-      return integer(
-         "num_spaces_for_tab",
-         _constants.numSpacesForTabTitle(), 
-         _constants.numSpacesForTabDescription(), 
-         2);
+      if (numSpacesForTab_ == null)
+         numSpacesForTab_ = integer(
+            "num_spaces_for_tab",
+            _constants.numSpacesForTabTitle(), 
+            _constants.numSpacesForTabDescription(), 
+            2);
+      return numSpacesForTab_;
    }
 
+   private PrefValue<Integer> numSpacesForTab_;
+
    /**
     * Whether to automatically detect indentation settings from file contents.
     */
    public PrefValue<Boolean> autoDetectIndentation()
    {
-      return bool(
-         "auto_detect_indentation",
-         _constants.autoDetectIndentationTitle(), 
-         _constants.autoDetectIndentationDescription(), 
-         false);
+      if (autoDetectIndentation_ == null)
+         autoDetectIndentation_ = bool(
+            "auto_detect_indentation",
+            _constants.autoDetectIndentationTitle(), 
+            _constants.autoDetectIndentationDescription(), 
+            false);
+      return autoDetectIndentation_;
    }
 
+   private PrefValue<Boolean> autoDetectIndentation_;
+
    /**
     * Whether to show the margin guide in the RStudio code editor.
     */
    public PrefValue<Boolean> showMargin()
    {
-      return bool(
-         "show_margin",
-         _constants.showMarginTitle(), 
-         _constants.showMarginDescription(), 
-         true);
+      if (showMargin_ == null)
+         showMargin_ = bool(
+            "show_margin",
+            _constants.showMarginTitle(), 
+            _constants.showMarginDescription(), 
+            true);
+      return showMargin_;
    }
 
+   private PrefValue<Boolean> showMargin_;
+
    /**
     * Whether to flash the cursor off and on.
     */
    public PrefValue<Boolean> blinkingCursor()
    {
-      return bool(
-         "blinking_cursor",
-         _constants.blinkingCursorTitle(), 
-         _constants.blinkingCursorDescription(), 
-         true);
+      if (blinkingCursor_ == null)
+         blinkingCursor_ = bool(
+            "blinking_cursor",
+            _constants.blinkingCursorTitle(), 
+            _constants.blinkingCursorDescription(), 
+            true);
+      return blinkingCursor_;
    }
 
+   private PrefValue<Boolean> blinkingCursor_;
+
    /**
     * The number of columns of text after which the margin is shown.
     */
    public PrefValue<Integer> marginColumn()
    {
-      return integer(
-         "margin_column",
-         _constants.marginColumnTitle(), 
-         _constants.marginColumnDescription(), 
-         80);
+      if (marginColumn_ == null)
+         marginColumn_ = integer(
+            "margin_column",
+            _constants.marginColumnTitle(), 
+            _constants.marginColumnDescription(), 
+            80);
+      return marginColumn_;
    }
 
+   private PrefValue<Integer> marginColumn_;
+
    /**
     * Whether to show invisible characters, such as spaces and tabs, in the RStudio code editor.
     */
    public PrefValue<Boolean> showInvisibles()
    {
-      return bool(
-         "show_invisibles",
-         _constants.showInvisiblesTitle(), 
-         _constants.showInvisiblesDescription(), 
-         false);
+      if (showInvisibles_ == null)
+         showInvisibles_ = bool(
+            "show_invisibles",
+            _constants.showInvisiblesTitle(), 
+            _constants.showInvisiblesDescription(), 
+            false);
+      return showInvisibles_;
    }
 
+   private PrefValue<Boolean> showInvisibles_;
+
    /**
     * Style for indentation guides in the RStudio code editor.
     */
    public PrefValue<String> indentGuides()
    {
-      return enumeration(
-         "indent_guides",
-         _constants.indentGuidesTitle(), 
-         _constants.indentGuidesDescription(), 
-         new String[] {
-            INDENT_GUIDES_NONE,
-            INDENT_GUIDES_GRAY,
-            INDENT_GUIDES_RAINBOWLINES,
-            INDENT_GUIDES_RAINBOWFILLS
-         },
-         "none",
-         new String[] {
-            _constants.indentGuidesEnum_none(),
-            _constants.indentGuidesEnum_gray(),
-            _constants.indentGuidesEnum_rainbowlines(),
-            _constants.indentGuidesEnum_rainbowfills()
-         });
-   }
+      if (indentGuides_ == null)
+         indentGuides_ = enumeration(
+            "indent_guides",
+            _constants.indentGuidesTitle(), 
+            _constants.indentGuidesDescription(), 
+            new String[] {
+               INDENT_GUIDES_NONE,
+               INDENT_GUIDES_GRAY,
+               INDENT_GUIDES_RAINBOWLINES,
+               INDENT_GUIDES_RAINBOWFILLS
+            },
+            "none",
+            new String[] {
+               _constants.indentGuidesEnum_none(),
+               _constants.indentGuidesEnum_gray(),
+               _constants.indentGuidesEnum_rainbowlines(),
+               _constants.indentGuidesEnum_rainbowfills()
+            });
+      return indentGuides_;
+   }
+
+   private PrefValue<String> indentGuides_;
 
    public final static String INDENT_GUIDES_NONE = "none";
    public final static String INDENT_GUIDES_GRAY = "gray";
@@ -550,48 +670,60 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> continueCommentsOnNewline()
    {
-      return bool(
-         "continue_comments_on_newline",
-         _constants.continueCommentsOnNewlineTitle(), 
-         _constants.continueCommentsOnNewlineDescription(), 
-         false);
+      if (continueCommentsOnNewline_ == null)
+         continueCommentsOnNewline_ = bool(
+            "continue_comments_on_newline",
+            _constants.continueCommentsOnNewlineTitle(), 
+            _constants.continueCommentsOnNewlineDescription(), 
+            false);
+      return continueCommentsOnNewline_;
    }
 
+   private PrefValue<Boolean> continueCommentsOnNewline_;
+
    /**
     * Whether web links in comments are clickable.
     */
    public PrefValue<Boolean> highlightWebLink()
    {
-      return bool(
-         "highlight_web_link",
-         _constants.highlightWebLinkTitle(), 
-         _constants.highlightWebLinkDescription(), 
-         true);
+      if (highlightWebLink_ == null)
+         highlightWebLink_ = bool(
+            "highlight_web_link",
+            _constants.highlightWebLinkTitle(), 
+            _constants.highlightWebLinkDescription(), 
+            true);
+      return highlightWebLink_;
    }
 
+   private PrefValue<Boolean> highlightWebLink_;
+
    /**
     * The keybindings to use in the RStudio code editor.
     */
    public PrefValue<String> editorKeybindings()
    {
-      return enumeration(
-         "editor_keybindings",
-         _constants.editorKeybindingsTitle(), 
-         _constants.editorKeybindingsDescription(), 
-         new String[] {
-            EDITOR_KEYBINDINGS_DEFAULT,
-            EDITOR_KEYBINDINGS_VIM,
-            EDITOR_KEYBINDINGS_EMACS,
-            EDITOR_KEYBINDINGS_SUBLIME
-         },
-         "default",
-         new String[] {
-            _constants.editorKeybindingsEnum_default(),
-            _constants.editorKeybindingsEnum_vim(),
-            _constants.editorKeybindingsEnum_emacs(),
-            _constants.editorKeybindingsEnum_sublime()
-         });
-   }
+      if (editorKeybindings_ == null)
+         editorKeybindings_ = enumeration(
+            "editor_keybindings",
+            _constants.editorKeybindingsTitle(), 
+            _constants.editorKeybindingsDescription(), 
+            new String[] {
+               EDITOR_KEYBINDINGS_DEFAULT,
+               EDITOR_KEYBINDINGS_VIM,
+               EDITOR_KEYBINDINGS_EMACS,
+               EDITOR_KEYBINDINGS_SUBLIME
+            },
+            "default",
+            new String[] {
+               _constants.editorKeybindingsEnum_default(),
+               _constants.editorKeybindingsEnum_vim(),
+               _constants.editorKeybindingsEnum_emacs(),
+               _constants.editorKeybindingsEnum_sublime()
+            });
+      return editorKeybindings_;
+   }
+
+   private PrefValue<String> editorKeybindings_;
 
    public final static String EDITOR_KEYBINDINGS_DEFAULT = "default";
    public final static String EDITOR_KEYBINDINGS_VIM = "vim";
@@ -603,94 +735,122 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> insertMatching()
    {
-      return bool(
-         "insert_matching",
-         _constants.insertMatchingTitle(), 
-         _constants.insertMatchingDescription(), 
-         true);
+      if (insertMatching_ == null)
+         insertMatching_ = bool(
+            "insert_matching",
+            _constants.insertMatchingTitle(), 
+            _constants.insertMatchingDescription(), 
+            true);
+      return insertMatching_;
    }
 
+   private PrefValue<Boolean> insertMatching_;
+
    /**
     * Whether to insert spaces around the equals sign in R code.
     */
    public PrefValue<Boolean> insertSpacesAroundEquals()
    {
-      return bool(
-         "insert_spaces_around_equals",
-         _constants.insertSpacesAroundEqualsTitle(), 
-         _constants.insertSpacesAroundEqualsDescription(), 
-         true);
+      if (insertSpacesAroundEquals_ == null)
+         insertSpacesAroundEquals_ = bool(
+            "insert_spaces_around_equals",
+            _constants.insertSpacesAroundEqualsTitle(), 
+            _constants.insertSpacesAroundEqualsDescription(), 
+            true);
+      return insertSpacesAroundEquals_;
    }
 
+   private PrefValue<Boolean> insertSpacesAroundEquals_;
+
    /**
     * Whether to insert parentheses after function completions.
     */
    public PrefValue<Boolean> insertParensAfterFunctionCompletion()
    {
-      return bool(
-         "insert_parens_after_function_completion",
-         _constants.insertParensAfterFunctionCompletionTitle(), 
-         _constants.insertParensAfterFunctionCompletionDescription(), 
-         true);
+      if (insertParensAfterFunctionCompletion_ == null)
+         insertParensAfterFunctionCompletion_ = bool(
+            "insert_parens_after_function_completion",
+            _constants.insertParensAfterFunctionCompletionTitle(), 
+            _constants.insertParensAfterFunctionCompletionDescription(), 
+            true);
+      return insertParensAfterFunctionCompletion_;
    }
 
+   private PrefValue<Boolean> insertParensAfterFunctionCompletion_;
+
    /**
     * Whether to attempt completion of multiple-line statements when pressing Tab.
     */
    public PrefValue<Boolean> tabMultilineCompletion()
    {
-      return bool(
-         "tab_multiline_completion",
-         _constants.tabMultilineCompletionTitle(), 
-         _constants.tabMultilineCompletionDescription(), 
-         false);
+      if (tabMultilineCompletion_ == null)
+         tabMultilineCompletion_ = bool(
+            "tab_multiline_completion",
+            _constants.tabMultilineCompletionTitle(), 
+            _constants.tabMultilineCompletionDescription(), 
+            false);
+      return tabMultilineCompletion_;
    }
 
+   private PrefValue<Boolean> tabMultilineCompletion_;
+
    /**
     * Whether to attempt completion of statements when pressing Tab.
     */
    public PrefValue<Boolean> tabCompletion()
    {
-      return bool(
-         "tab_completion",
-         _constants.tabCompletionTitle(), 
-         _constants.tabCompletionDescription(), 
-         true);
+      if (tabCompletion_ == null)
+         tabCompletion_ = bool(
+            "tab_completion",
+            _constants.tabCompletionTitle(), 
+            _constants.tabCompletionDescription(), 
+            true);
+      return tabCompletion_;
    }
 
+   private PrefValue<Boolean> tabCompletion_;
+
    /**
     * Whether to show help tooltips for functions when the cursor has not been recently moved.
     */
    public PrefValue<Boolean> showHelpTooltipOnIdle()
    {
-      return bool(
-         "show_help_tooltip_on_idle",
-         _constants.showHelpTooltipOnIdleTitle(), 
-         _constants.showHelpTooltipOnIdleDescription(), 
-         false);
+      if (showHelpTooltipOnIdle_ == null)
+         showHelpTooltipOnIdle_ = bool(
+            "show_help_tooltip_on_idle",
+            _constants.showHelpTooltipOnIdleTitle(), 
+            _constants.showHelpTooltipOnIdleDescription(), 
+            false);
+      return showHelpTooltipOnIdle_;
    }
 
+   private PrefValue<Boolean> showHelpTooltipOnIdle_;
+
    /**
     * Which kinds of delimiters can be used to surround the current selection.
     */
    public PrefValue<String> surroundSelection()
    {
-      return enumeration(
-         "surround_selection",
-         _constants.surroundSelectionTitle(), 
-         _constants.surroundSelectionDescription(), 
-         new String[] {
-            SURROUND_SELECTION_NEVER,
-            SURROUND_SELECTION_QUOTES,
-            SURROUND_SELECTION_QUOTES_AND_BRACKETS
-         },
-         "quotes_and_brackets",
-         new String[] {
-            _constants.surroundSelectionEnum_never(),
-            _constants.surroundSelectionEnum_quotes(),
-            _constants.surroundSelectionEnum_quotes_and_brackets()
-         });
-   }
+      if (surroundSelection_ == null)
+         surroundSelection_ = enumeration(
+            "surround_selection",
+            _constants.surroundSelectionTitle(), 
+            _constants.surroundSelectionDescription(), 
+            new String[] {
+               SURROUND_SELECTION_NEVER,
+               SURROUND_SELECTION_QUOTES,
+               SURROUND_SELECTION_QUOTES_AND_BRACKETS
+            },
+            "quotes_and_brackets",
+            new String[] {
+               _constants.surroundSelectionEnum_never(),
+               _constants.surroundSelectionEnum_quotes(),
+               _constants.surroundSelectionEnum_quotes_and_brackets()
+            });
+      return surroundSelection_;
+   }
+
+   private PrefValue<String> surroundSelection_;
 
    public final static String SURROUND_SELECTION_NEVER = "never";
    public final static String SURROUND_SELECTION_QUOTES = "quotes";
@@ -701,36 +861,44 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> enableSnippets()
    {
-      return bool(
-         "enable_snippets",
-         _constants.enableSnippetsTitle(), 
-         _constants.enableSnippetsDescription(), 
-         true);
+      if (enableSnippets_ == null)
+         enableSnippets_ = bool(
+            "enable_snippets",
+            _constants.enableSnippetsTitle(), 
+            _constants.enableSnippetsDescription(), 
+            true);
+      return enableSnippets_;
    }
 
+   private PrefValue<Boolean> enableSnippets_;
+
    /**
     * When to use auto-completion for R code in the RStudio code editor.
     */
    public PrefValue<String> codeCompletion()
    {
-      return enumeration(
-         "code_completion",
-         _constants.codeCompletionTitle(), 
-         _constants.codeCompletionDescription(), 
-         new String[] {
-            CODE_COMPLETION_ALWAYS,
-            CODE_COMPLETION_NEVER,
-            CODE_COMPLETION_TRIGGERED,
-            CODE_COMPLETION_MANUAL
-         },
-         "always",
-         new String[] {
-            _constants.codeCompletionEnum_always(),
-            _constants.codeCompletionEnum_never(),
-            _constants.codeCompletionEnum_triggered(),
-            _constants.codeCompletionEnum_manual()
-         });
-   }
+      if (codeCompletion_ == null)
+         codeCompletion_ = enumeration(
+            "code_completion",
+            _constants.codeCompletionTitle(), 
+            _constants.codeCompletionDescription(), 
+            new String[] {
+               CODE_COMPLETION_ALWAYS,
+               CODE_COMPLETION_NEVER,
+               CODE_COMPLETION_TRIGGERED,
+               CODE_COMPLETION_MANUAL
+            },
+            "always",
+            new String[] {
+               _constants.codeCompletionEnum_always(),
+               _constants.codeCompletionEnum_never(),
+               _constants.codeCompletionEnum_triggered(),
+               _constants.codeCompletionEnum_manual()
+            });
+      return codeCompletion_;
+   }
+
+   private PrefValue<String> codeCompletion_;
 
    public final static String CODE_COMPLETION_ALWAYS = "always";
    public final static String CODE_COMPLETION_NEVER = "never";
@@ -742,22 +910,26 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> codeCompletionOther()
    {
-      return enumeration(
-         "code_completion_other",
-         _constants.codeCompletionOtherTitle(), 
-         _constants.codeCompletionOtherDescription(), 
-         new String[] {
-            CODE_COMPLETION_OTHER_ALWAYS,
-            CODE_COMPLETION_OTHER_TRIGGERED,
-            CODE_COMPLETION_OTHER_MANUAL
-         },
-         "always",
-         new String[] {
-            _constants.codeCompletionOtherEnum_always(),
-            _constants.codeCompletionOtherEnum_triggered(),
-            _constants.codeCompletionOtherEnum_manual()
-         });
-   }
+      if (codeCompletionOther_ == null)
+         codeCompletionOther_ = enumeration(
+            "code_completion_other",
+            _constants.codeCompletionOtherTitle(), 
+            _constants.codeCompletionOtherDescription(), 
+            new String[] {
+               CODE_COMPLETION_OTHER_ALWAYS,
+               CODE_COMPLETION_OTHER_TRIGGERED,
+               CODE_COMPLETION_OTHER_MANUAL
+            },
+            "always",
+            new String[] {
+               _constants.codeCompletionOtherEnum_always(),
+               _constants.codeCompletionOtherEnum_triggered(),
+               _constants.codeCompletionOtherEnum_manual()
+            });
+      return codeCompletionOther_;
+   }
+
+   private PrefValue<String> codeCompletionOther_;
 
    public final static String CODE_COMPLETION_OTHER_ALWAYS = "always";
    public final static String CODE_COMPLETION_OTHER_TRIGGERED = "triggered";
@@ -768,344 +940,456 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> consoleCodeCompletion()
    {
-      return bool(
-         "console_code_completion",
-         _constants.consoleCodeCompletionTitle(), 
-         _constants.consoleCodeCompletionDescription(), 
-         true);
+      if (consoleCodeCompletion_ == null)
+         consoleCodeCompletion_ = bool(
+            "console_code_completion",
+            _constants.consoleCodeCompletionTitle(), 
+            _constants.consoleCodeCompletionDescription(), 
+            true);
+      return consoleCodeCompletion_;
    }
 
+   private PrefValue<Boolean> consoleCodeCompletion_;
+
    /**
     * The number of milliseconds to wait before offering code suggestions.
     */
    public PrefValue<Integer> codeCompletionDelay()
    {
-      return integer(
-         "code_completion_delay",
-         _constants.codeCompletionDelayTitle(), 
-         _constants.codeCompletionDelayDescription(), 
-         250);
+      if (codeCompletionDelay_ == null)
+         codeCompletionDelay_ = integer(
+            "code_completion_delay",
+            _constants.codeCompletionDelayTitle(), 
+            _constants.codeCompletionDelayDescription(), 
+            250);
+      return codeCompletionDelay_;
    }
 
+   private PrefValue<Integer> codeCompletionDelay_;
+
    /**
     * The number of characters in a symbol that can be entered before completions are offered.
     */
    public PrefValue<Integer> codeCompletionCharacters()
    {
-      return integer(
-         "code_completion_characters",
-         _constants.codeCompletionCharactersTitle(), 
-         _constants.codeCompletionCharactersDescription(), 
-         3);
+      if (codeCompletionCharacters_ == null)
+         codeCompletionCharacters_ = integer(
+            "code_completion_characters",
+            _constants.codeCompletionCharactersTitle(), 
+            _constants.codeCompletionCharactersDescription(), 
+            3);
+      return codeCompletionCharacters_;
    }
 
+   private PrefValue<Integer> codeCompletionCharacters_;
+
    /**
     * Whether to show function signature tooltips during autocompletion.
     */
    public PrefValue<Boolean> showFunctionSignatureTooltips()
    {
-      return bool(
-         "show_function_signature_tooltips",
-         _constants.showFunctionSignatureTooltipsTitle(), 
-         _constants.showFunctionSignatureTooltipsDescription(), 
-         true);
+      if (showFunctionSignatureTooltips_ == null)
+         showFunctionSignatureTooltips_ = bool(
+            "show_function_signature_tooltips",
+            _constants.showFunctionSignatureTooltipsTitle(), 
+            _constants.showFunctionSignatureTooltipsDescription(), 
+            true);
+      return showFunctionSignatureTooltips_;
    }
 
+   private PrefValue<Boolean> showFunctionSignatureTooltips_;
+
    /**
     * Whether a data preview is shown in the autocompletion help popup for datasets and values.
     */
    public PrefValue<Boolean> showDataPreview()
    {
-      return bool(
-         "show_data_preview",
-         _constants.showDataPreviewTitle(), 
-         _constants.showDataPreviewDescription(), 
-         true);
+      if (showDataPreview_ == null)
+         showDataPreview_ = bool(
+            "show_data_preview",
+            _constants.showDataPreviewTitle(), 
+            _constants.showDataPreviewDescription(), 
+            true);
+      return showDataPreview_;
    }
 
+   private PrefValue<Boolean> showDataPreview_;
+
    /**
     * Whether to show diagnostic messages (such as syntax and usage errors) for R code as you type.
     */
    public PrefValue<Boolean> showDiagnosticsR()
    {
-      return bool(
-         "show_diagnostics_r",
-         _constants.showDiagnosticsRTitle(), 
-         _constants.showDiagnosticsRDescription(), 
-         true);
+      if (showDiagnosticsR_ == null)
+         showDiagnosticsR_ = bool(
+            "show_diagnostics_r",
+            _constants.showDiagnosticsRTitle(), 
+            _constants.showDiagnosticsRDescription(), 
+            true);
+      return showDiagnosticsR_;
    }
 
+   private PrefValue<Boolean> showDiagnosticsR_;
+
    /**
     * Whether to show diagnostic messages for C++ code as you type.
     */
    public PrefValue<Boolean> showDiagnosticsCpp()
    {
-      return bool(
-         "show_diagnostics_cpp",
-         _constants.showDiagnosticsCppTitle(), 
-         _constants.showDiagnosticsCppDescription(), 
-         true);
+      if (showDiagnosticsCpp_ == null)
+         showDiagnosticsCpp_ = bool(
+            "show_diagnostics_cpp",
+            _constants.showDiagnosticsCppTitle(), 
+            _constants.showDiagnosticsCppDescription(), 
+            true);
+      return showDiagnosticsCpp_;
    }
 
+   private PrefValue<Boolean> showDiagnosticsCpp_;
+
    /**
     * Whether to show diagnostic messages for YAML code as you type.
     */
    public PrefValue<Boolean> showDiagnosticsYaml()
    {
-      return bool(
-         "show_diagnostics_yaml",
-         _constants.showDiagnosticsYamlTitle(), 
-         _constants.showDiagnosticsYamlDescription(), 
-         true);
+      if (showDiagnosticsYaml_ == null)
+         showDiagnosticsYaml_ = bool(
+            "show_diagnostics_yaml",
+            _constants.showDiagnosticsYamlTitle(), 
+            _constants.showDiagnosticsYamlDescription(), 
+            true);
+      return showDiagnosticsYaml_;
    }
 
+   private PrefValue<Boolean> showDiagnosticsYaml_;
+
    /**
     * Whether to show diagnostic messages for other types of code (not R, C++, or YAML).
     */
    public PrefValue<Boolean> showDiagnosticsOther()
    {
-      return bool(
-         "show_diagnostics_other",
-         _constants.showDiagnosticsOtherTitle(), 
-         _constants.showDiagnosticsOtherDescription(), 
-         false);
+      if (showDiagnosticsOther_ == null)
+         showDiagnosticsOther_ = bool(
+            "show_diagnostics_other",
+            _constants.showDiagnosticsOtherTitle(), 
+            _constants.showDiagnosticsOtherDescription(), 
+            false);
+      return showDiagnosticsOther_;
    }
 
+   private PrefValue<Boolean> showDiagnosticsOther_;
+
    /**
     * Whether to show style diagnostics (suggestions for improving R code style)
     */
    public PrefValue<Boolean> styleDiagnostics()
    {
-      return bool(
-         "style_diagnostics",
-         _constants.styleDiagnosticsTitle(), 
-         _constants.styleDiagnosticsDescription(), 
-         false);
+      if (styleDiagnostics_ == null)
+         styleDiagnostics_ = bool(
+            "style_diagnostics",
+            _constants.styleDiagnosticsTitle(), 
+            _constants.styleDiagnosticsDescription(), 
+            false);
+      return styleDiagnostics_;
    }
 
+   private PrefValue<Boolean> styleDiagnostics_;
+
    /**
     * Whether to check code for problems after saving it.
     */
    public PrefValue<Boolean> diagnosticsOnSave()
    {
-      return bool(
-         "diagnostics_on_save",
-         _constants.diagnosticsOnSaveTitle(), 
-         _constants.diagnosticsOnSaveDescription(), 
-         true);
+      if (diagnosticsOnSave_ == null)
+         diagnosticsOnSave_ = bool(
+            "diagnostics_on_save",
+            _constants.diagnosticsOnSaveTitle(), 
+            _constants.diagnosticsOnSaveDescription(), 
+            true);
+      return diagnosticsOnSave_;
    }
 
+   private PrefValue<Boolean> diagnosticsOnSave_;
+
    /**
     * Whether to run code diagnostics in the background, as you type.
     */
    public PrefValue<Boolean> backgroundDiagnostics()
    {
-      return bool(
-         "background_diagnostics",
-         _constants.backgroundDiagnosticsTitle(), 
-         _constants.backgroundDiagnosticsDescription(), 
-         true);
+      if (backgroundDiagnostics_ == null)
+         backgroundDiagnostics_ = bool(
+            "background_diagnostics",
+            _constants.backgroundDiagnosticsTitle(), 
+            _constants.backgroundDiagnosticsDescription(), 
+            true);
+      return backgroundDiagnostics_;
    }
 
+   private PrefValue<Boolean> backgroundDiagnostics_;
+
    /**
     * The number of milliseconds to delay before running code diagnostics in the background.
     */
    public PrefValue<Integer> backgroundDiagnosticsDelayMs()
    {
-      return integer(
-         "background_diagnostics_delay_ms",
-         _constants.backgroundDiagnosticsDelayMsTitle(), 
-         _constants.backgroundDiagnosticsDelayMsDescription(), 
-         2000);
+      if (backgroundDiagnosticsDelayMs_ == null)
+         backgroundDiagnosticsDelayMs_ = integer(
+            "background_diagnostics_delay_ms",
+            _constants.backgroundDiagnosticsDelayMsTitle(), 
+            _constants.backgroundDiagnosticsDelayMsDescription(), 
+            2000);
+      return backgroundDiagnosticsDelayMs_;
    }
 
+   private PrefValue<Integer> backgroundDiagnosticsDelayMs_;
+
    /**
     * Whether to run diagnostics in R function calls.
     */
    public PrefValue<Boolean> diagnosticsInRFunctionCalls()
    {
-      return bool(
-         "diagnostics_in_r_function_calls",
-         _constants.diagnosticsInRFunctionCallsTitle(), 
-         _constants.diagnosticsInRFunctionCallsDescription(), 
-         true);
+      if (diagnosticsInRFunctionCalls_ == null)
+         diagnosticsInRFunctionCalls_ = bool(
+            "diagnostics_in_r_function_calls",
+            _constants.diagnosticsInRFunctionCallsTitle(), 
+            _constants.diagnosticsInRFunctionCallsDescription(), 
+            true);
+      return diagnosticsInRFunctionCalls_;
    }
 
+   private PrefValue<Boolean> diagnosticsInRFunctionCalls_;
+
    /**
     * Whether to check arguments to R function calls.
     */
    public PrefValue<Boolean> checkArgumentsToRFunctionCalls()
    {
-      return bool(
-         "check_arguments_to_r_function_calls",
-         _constants.checkArgumentsToRFunctionCallsTitle(), 
-         _constants.checkArgumentsToRFunctionCallsDescription(), 
-         false);
+      if (checkArgumentsToRFunctionCalls_ == null)
+         checkArgumentsToRFunctionCalls_ = bool(
+            "check_arguments_to_r_function_calls",
+            _constants.checkArgumentsToRFunctionCallsTitle(), 
+            _constants.checkArgumentsToRFunctionCallsDescription(), 
+            false);
+      return checkArgumentsToRFunctionCalls_;
    }
 
+   private PrefValue<Boolean> checkArgumentsToRFunctionCalls_;
+
    /**
     * Whether to check for unexpected variable assignments inside R function calls.
     */
    public PrefValue<Boolean> checkUnexpectedAssignmentInFunctionCall()
    {
-      return bool(
-         "check_unexpected_assignment_in_function_call",
-         _constants.checkUnexpectedAssignmentInFunctionCallTitle(), 
-         _constants.checkUnexpectedAssignmentInFunctionCallDescription(), 
-         false);
+      if (checkUnexpectedAssignmentInFunctionCall_ == null)
+         checkUnexpectedAssignmentInFunctionCall_ = bool(
+            "check_unexpected_assignment_in_function_call",
+            _constants.checkUnexpectedAssignmentInFunctionCallTitle(), 
+            _constants.checkUnexpectedAssignmentInFunctionCallDescription(), 
+            false);
+      return checkUnexpectedAssignmentInFunctionCall_;
    }
 
+   private PrefValue<Boolean> checkUnexpectedAssignmentInFunctionCall_;
+
    /**
     * Whether to generate a warning if a variable is used without being defined in the current scope.
     */
    public PrefValue<Boolean> warnIfNoSuchVariableInScope()
    {
-      return bool(
-         "warn_if_no_such_variable_in_scope",
-         _constants.warnIfNoSuchVariableInScopeTitle(), 
-         _constants.warnIfNoSuchVariableInScopeDescription(), 
-         false);
+      if (warnIfNoSuchVariableInScope_ == null)
+         warnIfNoSuchVariableInScope_ = bool(
+            "warn_if_no_such_variable_in_scope",
+            _constants.warnIfNoSuchVariableInScopeTitle(), 
+            _constants.warnIfNoSuchVariableInScopeDescription(), 
+            false);
+      return warnIfNoSuchVariableInScope_;
    }
 
+   private PrefValue<Boolean> warnIfNoSuchVariableInScope_;
+
    /**
     * Whether to generate a warning if a variable is defined without being used in the current scope
     */
    public PrefValue<Boolean> warnVariableDefinedButNotUsed()
    {
-      return bool(
-         "warn_variable_defined_but_not_used",
-         _constants.warnVariableDefinedButNotUsedTitle(), 
-         _constants.warnVariableDefinedButNotUsedDescription(), 
-         false);
+      if (warnVariableDefinedButNotUsed_ == null)
+         warnVariableDefinedButNotUsed_ = bool(
+            "warn_variable_defined_but_not_used",
+            _constants.warnVariableDefinedButNotUsedTitle(), 
+            _constants.warnVariableDefinedButNotUsedDescription(), 
+            false);
+      return warnVariableDefinedButNotUsed_;
    }
 
+   private PrefValue<Boolean> warnVariableDefinedButNotUsed_;
+
    /**
     * Whether to automatically discover and offer to install missing R package dependencies.
     */
    public PrefValue<Boolean> autoDiscoverPackageDependencies()
    {
-      return bool(
-         "auto_discover_package_dependencies",
-         _constants.autoDiscoverPackageDependenciesTitle(), 
-         _constants.autoDiscoverPackageDependenciesDescription(), 
-         true);
+      if (autoDiscoverPackageDependencies_ == null)
+         autoDiscoverPackageDependencies_ = bool(
+            "auto_discover_package_dependencies",
+            _constants.autoDiscoverPackageDependenciesTitle(), 
+            _constants.autoDiscoverPackageDependenciesDescription(), 
+            true);
+      return autoDiscoverPackageDependencies_;
    }
 
+   private PrefValue<Boolean> autoDiscoverPackageDependencies_;
+
    /**
     * Whether to ensure that source files end with a newline character.
     */
    public PrefValue<Boolean> autoAppendNewline()
    {
-      return bool(
-         "auto_append_newline",
-         _constants.autoAppendNewlineTitle(), 
-         _constants.autoAppendNewlineDescription(), 
-         false);
+      if (autoAppendNewline_ == null)
+         autoAppendNewline_ = bool(
+            "auto_append_newline",
+            _constants.autoAppendNewlineTitle(), 
+            _constants.autoAppendNewlineDescription(), 
+            false);
+      return autoAppendNewline_;
    }
 
+   private PrefValue<Boolean> autoAppendNewline_;
+
    /**
     * Whether to strip trailing whitespace from each line when saving.
     */
    public PrefValue<Boolean> stripTrailingWhitespace()
    {
-      return bool(
-         "strip_trailing_whitespace",
-         _constants.stripTrailingWhitespaceTitle(), 
-         _constants.stripTrailingWhitespaceDescription(), 
-         false);
+      if (stripTrailingWhitespace_ == null)
+         stripTrailingWhitespace_ = bool(
+            "strip_trailing_whitespace",
+            _constants.stripTrailingWhitespaceTitle(), 
+            _constants.stripTrailingWhitespaceDescription(), 
+            false);
+      return stripTrailingWhitespace_;
    }
 
+   private PrefValue<Boolean> stripTrailingWhitespace_;
+
    /**
     * Whether to save the position of the cursor when a file is closed, restore it when the file is opened.
     */
    public PrefValue<Boolean> restoreSourceDocumentCursorPosition()
    {
-      return bool(
-         "restore_source_document_cursor_position",
-         _constants.restoreSourceDocumentCursorPositionTitle(), 
-         _constants.restoreSourceDocumentCursorPositionDescription(), 
-         true);
+      if (restoreSourceDocumentCursorPosition_ == null)
+         restoreSourceDocumentCursorPosition_ = bool(
+            "restore_source_document_cursor_position",
+            _constants.restoreSourceDocumentCursorPositionTitle(), 
+            _constants.restoreSourceDocumentCursorPositionDescription(), 
+            true);
+      return restoreSourceDocumentCursorPosition_;
    }
 
+   private PrefValue<Boolean> restoreSourceDocumentCursorPosition_;
+
    /**
     * Whether to automatically re-indent code when it's pasted into RStudio.
     */
    public PrefValue<Boolean> reindentOnPaste()
    {
-      return bool(
-         "reindent_on_paste",
-         _constants.reindentOnPasteTitle(), 
-         _constants.reindentOnPasteDescription(), 
-         true);
+      if (reindentOnPaste_ == null)
+         reindentOnPaste_ = bool(
+            "reindent_on_paste",
+            _constants.reindentOnPasteTitle(), 
+            _constants.reindentOnPasteDescription(), 
+            true);
+      return reindentOnPaste_;
    }
 
+   private PrefValue<Boolean> reindentOnPaste_;
+
    /**
     * Whether to vertically align arguments to R function calls during automatic indentation.
     */
    public PrefValue<Boolean> verticallyAlignArgumentsIndent()
    {
-      return bool(
-         "vertically_align_arguments_indent",
-         _constants.verticallyAlignArgumentsIndentTitle(), 
-         _constants.verticallyAlignArgumentsIndentDescription(), 
-         true);
+      if (verticallyAlignArgumentsIndent_ == null)
+         verticallyAlignArgumentsIndent_ = bool(
+            "vertically_align_arguments_indent",
+            _constants.verticallyAlignArgumentsIndentTitle(), 
+            _constants.verticallyAlignArgumentsIndentDescription(), 
+            true);
+      return verticallyAlignArgumentsIndent_;
    }
 
+   private PrefValue<Boolean> verticallyAlignArgumentsIndent_;
+
    /**
     * Whether to soft-wrap R source files, wrapping the text for display without inserting newline characters.
     */
    public PrefValue<Boolean> softWrapRFiles()
    {
-      return bool(
-         "soft_wrap_r_files",
-         _constants.softWrapRFilesTitle(), 
-         _constants.softWrapRFilesDescription(), 
-         false);
+      if (softWrapRFiles_ == null)
+         softWrapRFiles_ = bool(
+            "soft_wrap_r_files",
+            _constants.softWrapRFilesTitle(), 
+            _constants.softWrapRFilesDescription(), 
+            false);
+      return softWrapRFiles_;
    }
 
+   private PrefValue<Boolean> softWrapRFiles_;
+
    /**
     * Whether to soft-wrap R Markdown files (and similar types such as R HTML and R Notebooks)
     */
    public PrefValue<Boolean> softWrapRmdFiles()
    {
-      return bool(
-         "soft_wrap_rmd_files",
-         _constants.softWrapRmdFilesTitle(), 
-         _constants.softWrapRmdFilesDescription(), 
-         true);
+      if (softWrapRmdFiles_ == null)
+         softWrapRmdFiles_ = bool(
+            "soft_wrap_rmd_files",
+            _constants.softWrapRmdFilesTitle(), 
+            _constants.softWrapRmdFilesDescription(), 
+            true);
+      return softWrapRmdFiles_;
    }
 
+   private PrefValue<Boolean> softWrapRmdFiles_;
+
    /**
     * Whether to focus the R console after executing an R command from a script.
     */
    public PrefValue<Boolean> focusConsoleAfterExec()
    {
-      return bool(
-         "focus_console_after_exec",
-         _constants.focusConsoleAfterExecTitle(), 
-         _constants.focusConsoleAfterExecDescription(), 
-         false);
+      if (focusConsoleAfterExec_ == null)
+         focusConsoleAfterExec_ = bool(
+            "focus_console_after_exec",
+            _constants.focusConsoleAfterExecTitle(), 
+            _constants.focusConsoleAfterExecDescription(), 
+            false);
+      return focusConsoleAfterExec_;
    }
 
+   private PrefValue<Boolean> focusConsoleAfterExec_;
+
    /**
     * The style of folding to use.
     */
    public PrefValue<String> foldStyle()
    {
-      return enumeration(
-         "fold_style",
-         _constants.foldStyleTitle(), 
-         _constants.foldStyleDescription(), 
-         new String[] {
-            FOLD_STYLE_BEGIN_ONLY,
-            FOLD_STYLE_BEGIN_AND_END
-         },
-         "begin-and-end",
-         new String[] {
-            _constants.foldStyleEnum_begin_only(),
-            _constants.foldStyleEnum_begin_and_end()
-         });
-   }
+      if (foldStyle_ == null)
+         foldStyle_ = enumeration(
+            "fold_style",
+            _constants.foldStyleTitle(), 
+            _constants.foldStyleDescription(), 
+            new String[] {
+               FOLD_STYLE_BEGIN_ONLY,
+               FOLD_STYLE_BEGIN_AND_END
+            },
+            "begin-and-end",
+            new String[] {
+               _constants.foldStyleEnum_begin_only(),
+               _constants.foldStyleEnum_begin_and_end()
+            });
+      return foldStyle_;
+   }
+
+   private PrefValue<String> foldStyle_;
 
    public final static String FOLD_STYLE_BEGIN_ONLY = "begin-only";
    public final static String FOLD_STYLE_BEGIN_AND_END = "begin-and-end";
@@ -1115,138 +1399,182 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> saveBeforeSourcing()
    {
-      return bool(
-         "save_before_sourcing",
-         _constants.saveBeforeSourcingTitle(), 
-         _constants.saveBeforeSourcingDescription(), 
-         true);
+      if (saveBeforeSourcing_ == null)
+         saveBeforeSourcing_ = bool(
+            "save_before_sourcing",
+            _constants.saveBeforeSourcingTitle(), 
+            _constants.saveBeforeSourcingDescription(), 
+            true);
+      return saveBeforeSourcing_;
    }
 
+   private PrefValue<Boolean> saveBeforeSourcing_;
+
    /**
     * Whether to use syntax highlighting in the R console.
     */
    public PrefValue<Boolean> syntaxColorConsole()
    {
-      return bool(
-         "syntax_color_console",
-         _constants.syntaxColorConsoleTitle(), 
-         _constants.syntaxColorConsoleDescription(), 
-         false);
+      if (syntaxColorConsole_ == null)
+         syntaxColorConsole_ = bool(
+            "syntax_color_console",
+            _constants.syntaxColorConsoleTitle(), 
+            _constants.syntaxColorConsoleDescription(), 
+            false);
+      return syntaxColorConsole_;
    }
 
+   private PrefValue<Boolean> syntaxColorConsole_;
+
    /**
     * Whether to display error, warning, and message output in a different color.
     */
    public PrefValue<Boolean> highlightConsoleErrors()
    {
-      return bool(
-         "highlight_console_errors",
-         _constants.highlightConsoleErrorsTitle(), 
-         _constants.highlightConsoleErrorsDescription(), 
-         true);
+      if (highlightConsoleErrors_ == null)
+         highlightConsoleErrors_ = bool(
+            "highlight_console_errors",
+            _constants.highlightConsoleErrorsTitle(), 
+            _constants.highlightConsoleErrorsDescription(), 
+            true);
+      return highlightConsoleErrors_;
    }
 
+   private PrefValue<Boolean> highlightConsoleErrors_;
+
    /**
     * Whether to allow scrolling past the end of a file.
     */
    public PrefValue<Boolean> scrollPastEndOfDocument()
    {
-      return bool(
-         "scroll_past_end_of_document",
-         _constants.scrollPastEndOfDocumentTitle(), 
-         _constants.scrollPastEndOfDocumentDescription(), 
-         false);
+      if (scrollPastEndOfDocument_ == null)
+         scrollPastEndOfDocument_ = bool(
+            "scroll_past_end_of_document",
+            _constants.scrollPastEndOfDocumentTitle(), 
+            _constants.scrollPastEndOfDocumentDescription(), 
+            false);
+      return scrollPastEndOfDocument_;
    }
 
+   private PrefValue<Boolean> scrollPastEndOfDocument_;
+
    /**
     * Whether to highlight R function calls in the code editor.
     */
    public PrefValue<Boolean> highlightRFunctionCalls()
    {
-      return bool(
-         "highlight_r_function_calls",
-         _constants.highlightRFunctionCallsTitle(), 
-         _constants.highlightRFunctionCallsDescription(), 
-         false);
+      if (highlightRFunctionCalls_ == null)
+         highlightRFunctionCalls_ = bool(
+            "highlight_r_function_calls",
+            _constants.highlightRFunctionCallsTitle(), 
+            _constants.highlightRFunctionCallsDescription(), 
+            false);
+      return highlightRFunctionCalls_;
    }
 
+   private PrefValue<Boolean> highlightRFunctionCalls_;
+
    /**
     * Whether to show preview for named and hexadecimal colors.
     */
    public PrefValue<Boolean> colorPreview()
    {
-      return bool(
-         "color_preview",
-         _constants.colorPreviewTitle(), 
-         _constants.colorPreviewDescription(), 
-         true);
+      if (colorPreview_ == null)
+         colorPreview_ = bool(
+            "color_preview",
+            _constants.colorPreviewTitle(), 
+            _constants.colorPreviewDescription(), 
+            true);
+      return colorPreview_;
    }
 
+   private PrefValue<Boolean> colorPreview_;
+
    /**
     * Whether to highlight parentheses in a variety of colors.
     */
    public PrefValue<Boolean> rainbowParentheses()
    {
-      return bool(
-         "rainbow_parentheses",
-         _constants.rainbowParenthesesTitle(), 
-         _constants.rainbowParenthesesDescription(), 
-         false);
+      if (rainbowParentheses_ == null)
+         rainbowParentheses_ = bool(
+            "rainbow_parentheses",
+            _constants.rainbowParenthesesTitle(), 
+            _constants.rainbowParenthesesDescription(), 
+            false);
+      return rainbowParentheses_;
    }
 
+   private PrefValue<Boolean> rainbowParentheses_;
+
    /**
     * Whether to highlight fenced divs in a variety of colors.
     */
    public PrefValue<Boolean> rainbowFencedDivs()
    {
-      return bool(
-         "rainbow_fenced_divs",
-         _constants.rainbowFencedDivsTitle(), 
-         _constants.rainbowFencedDivsDescription(), 
-         true);
+      if (rainbowFencedDivs_ == null)
+         rainbowFencedDivs_ = bool(
+            "rainbow_fenced_divs",
+            _constants.rainbowFencedDivsTitle(), 
+            _constants.rainbowFencedDivsDescription(), 
+            true);
+      return rainbowFencedDivs_;
    }
 
+   private PrefValue<Boolean> rainbowFencedDivs_;
+
    /**
     * The maximum number of characters to display in a single line in the R console.
     */
    public PrefValue<Integer> consoleLineLengthLimit()
    {
-      return integer(
-         "console_line_length_limit",
-         _constants.consoleLineLengthLimitTitle(), 
-         _constants.consoleLineLengthLimitDescription(), 
-         1000);
+      if (consoleLineLengthLimit_ == null)
+         consoleLineLengthLimit_ = integer(
+            "console_line_length_limit",
+            _constants.consoleLineLengthLimitTitle(), 
+            _constants.consoleLineLengthLimitDescription(), 
+            1000);
+      return consoleLineLengthLimit_;
    }
 
+   private PrefValue<Integer> consoleLineLengthLimit_;
+
    /**
     * The maximum number of console actions to store and display in the console scrollback buffer.
     */
    public PrefValue<Integer> consoleMaxLines()
    {
-      return integer(
-         "console_max_lines",
-         _constants.consoleMaxLinesTitle(), 
-         _constants.consoleMaxLinesDescription(), 
-         1000);
+      if (consoleMaxLines_ == null)
+         consoleMaxLines_ = integer(
+            "console_max_lines",
+            _constants.consoleMaxLinesTitle(), 
+            _constants.consoleMaxLinesDescription(), 
+            1000);
+      return consoleMaxLines_;
    }
 
+   private PrefValue<Integer> consoleMaxLines_;
+
    /**
     * How to treat ANSI escape codes in the console.
     */
    public PrefValue<String> ansiConsoleMode()
    {
-      return enumeration(
-         "ansi_console_mode",
-         _constants.ansiConsoleModeTitle(), 
-         _constants.ansiConsoleModeDescription(), 
-         new String[] {
-            ANSI_CONSOLE_MODE_OFF,
-            ANSI_CONSOLE_MODE_ON,
-            ANSI_CONSOLE_MODE_STRIP
-         },
-         "on");
+      if (ansiConsoleMode_ == null)
+         ansiConsoleMode_ = enumeration(
+            "ansi_console_mode",
+            _constants.ansiConsoleModeTitle(), 
+            _constants.ansiConsoleModeDescription(), 
+            new String[] {
+               ANSI_CONSOLE_MODE_OFF,
+               ANSI_CONSOLE_MODE_ON,
+               ANSI_CONSOLE_MODE_STRIP
+            },
+            "on");
+      return ansiConsoleMode_;
    }
 
+   private PrefValue<String> ansiConsoleMode_;
+
    public final static String ANSI_CONSOLE_MODE_OFF = "off";
    public final static String ANSI_CONSOLE_MODE_ON = "on";
    public final static String ANSI_CONSOLE_MODE_STRIP = "strip";
@@ -1256,248 +1584,328 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> limitVisibleConsole()
    {
-      return bool(
-         "limit_visible_console",
-         _constants.limitVisibleConsoleTitle(), 
-         _constants.limitVisibleConsoleDescription(), 
-         false);
+      if (limitVisibleConsole_ == null)
+         limitVisibleConsole_ = bool(
+            "limit_visible_console",
+            _constants.limitVisibleConsoleTitle(), 
+            _constants.limitVisibleConsoleDescription(), 
+            false);
+      return limitVisibleConsole_;
    }
 
+   private PrefValue<Boolean> limitVisibleConsole_;
+
    /**
     * Whether to show a toolbar on code chunks in R Markdown documents.
     */
    public PrefValue<Boolean> showInlineToolbarForRCodeChunks()
    {
-      return bool(
-         "show_inline_toolbar_for_r_code_chunks",
-         _constants.showInlineToolbarForRCodeChunksTitle(), 
-         _constants.showInlineToolbarForRCodeChunksDescription(), 
-         true);
+      if (showInlineToolbarForRCodeChunks_ == null)
+         showInlineToolbarForRCodeChunks_ = bool(
+            "show_inline_toolbar_for_r_code_chunks",
+            _constants.showInlineToolbarForRCodeChunksTitle(), 
+            _constants.showInlineToolbarForRCodeChunksDescription(), 
+            true);
+      return showInlineToolbarForRCodeChunks_;
    }
 
+   private PrefValue<Boolean> showInlineToolbarForRCodeChunks_;
+
    /**
     * Whether to highlight code chunks in R Markdown documents with a different background color.
     */
    public PrefValue<Boolean> highlightCodeChunks()
    {
-      return bool(
-         "highlight_code_chunks",
-         _constants.highlightCodeChunksTitle(), 
-         _constants.highlightCodeChunksDescription(), 
-         true);
+      if (highlightCodeChunks_ == null)
+         highlightCodeChunks_ = bool(
+            "highlight_code_chunks",
+            _constants.highlightCodeChunksTitle(), 
+            _constants.highlightCodeChunksDescription(), 
+            true);
+      return highlightCodeChunks_;
    }
 
+   private PrefValue<Boolean> highlightCodeChunks_;
+
    /**
     * Whether to save all open, unsaved files before building the project.
     */
    public PrefValue<Boolean> saveFilesBeforeBuild()
    {
-      return bool(
-         "save_files_before_build",
-         _constants.saveFilesBeforeBuildTitle(), 
-         _constants.saveFilesBeforeBuildDescription(), 
-         false);
+      if (saveFilesBeforeBuild_ == null)
+         saveFilesBeforeBuild_ = bool(
+            "save_files_before_build",
+            _constants.saveFilesBeforeBuildTitle(), 
+            _constants.saveFilesBeforeBuildDescription(), 
+            false);
+      return saveFilesBeforeBuild_;
    }
 
+   private PrefValue<Boolean> saveFilesBeforeBuild_;
+
    /**
     * Whether RStudio should save and reload the R workspace when building the project.
     */
    public PrefValue<Boolean> saveAndReloadWorkspaceOnBuild()
    {
-      return bool(
-         "save_and_reload_workspace_on_build",
-         _constants.saveAndReloadWorkspaceOnBuildTitle(), 
-         _constants.saveAndReloadWorkspaceOnBuildDescription(), 
-         true);
+      if (saveAndReloadWorkspaceOnBuild_ == null)
+         saveAndReloadWorkspaceOnBuild_ = bool(
+            "save_and_reload_workspace_on_build",
+            _constants.saveAndReloadWorkspaceOnBuildTitle(), 
+            _constants.saveAndReloadWorkspaceOnBuildDescription(), 
+            true);
+      return saveAndReloadWorkspaceOnBuild_;
    }
 
+   private PrefValue<Boolean> saveAndReloadWorkspaceOnBuild_;
+
    /**
     * The default editor font size, in points.
     */
    public PrefValue<Double> fontSizePoints()
    {
-      return dbl(
-         "font_size_points",
-         _constants.fontSizePointsTitle(), 
-         _constants.fontSizePointsDescription(), 
-         10.0);
+      if (fontSizePoints_ == null)
+         fontSizePoints_ = dbl(
+            "font_size_points",
+            _constants.fontSizePointsTitle(), 
+            _constants.fontSizePointsDescription(), 
+            10.0);
+      return fontSizePoints_;
    }
 
+   private PrefValue<Double> fontSizePoints_;
+
    /**
     * The help panel font size, in points.
     */
    public PrefValue<Double> helpFontSizePoints()
    {
-      return dbl(
-         "help_font_size_points",
-         _constants.helpFontSizePointsTitle(), 
-         _constants.helpFontSizePointsDescription(), 
-         10.0);
+      if (helpFontSizePoints_ == null)
+         helpFontSizePoints_ = dbl(
+            "help_font_size_points",
+            _constants.helpFontSizePointsTitle(), 
+            _constants.helpFontSizePointsDescription(), 
+            10.0);
+      return helpFontSizePoints_;
    }
 
+   private PrefValue<Double> helpFontSizePoints_;
+
    /**
     * The name of the color theme to apply to the text editor in RStudio.
     */
    public PrefValue<String> editorTheme()
    {
-      return string(
-         "editor_theme",
-         _constants.editorThemeTitle(), 
-         _constants.editorThemeDescription(), 
-         "Textmate (default)");
+      if (editorTheme_ == null)
+         editorTheme_ = string(
+            "editor_theme",
+            _constants.editorThemeTitle(), 
+            _constants.editorThemeDescription(), 
+            "Textmate (default)");
+      return editorTheme_;
    }
 
+   private PrefValue<String> editorTheme_;
+
    /**
     * Whether to use a custom editor font in RStudio Server.
     */
    public PrefValue<Boolean> serverEditorFontEnabled()
    {
-      return bool(
-         "server_editor_font_enabled",
-         _constants.serverEditorFontEnabledTitle(), 
-         _constants.serverEditorFontEnabledDescription(), 
-         false);
+      if (serverEditorFontEnabled_ == null)
+         serverEditorFontEnabled_ = bool(
+            "server_editor_font_enabled",
+            _constants.serverEditorFontEnabledTitle(), 
+            _constants.serverEditorFontEnabledDescription(), 
+            false);
+      return serverEditorFontEnabled_;
    }
 
+   private PrefValue<Boolean> serverEditorFontEnabled_;
+
    /**
     * The name of the fixed-width editor font to use with RStudio Server.
     */
    public PrefValue<String> serverEditorFont()
    {
-      return string(
-         "server_editor_font",
-         _constants.serverEditorFontTitle(), 
-         _constants.serverEditorFontDescription(), 
-         "");
+      if (serverEditorFont_ == null)
+         serverEditorFont_ = string(
+            "server_editor_font",
+            _constants.serverEditorFontTitle(), 
+            _constants.serverEditorFontDescription(), 
+            "");
+      return serverEditorFont_;
    }
 
+   private PrefValue<String> serverEditorFont_;
+
    /**
     * The default character encoding to use when saving files.
     */
    public PrefValue<String> defaultEncoding()
    {
-      return string(
-         "default_encoding",
-         _constants.defaultEncodingTitle(), 
-         _constants.defaultEncodingDescription(), 
-         "");
+      if (defaultEncoding_ == null)
+         defaultEncoding_ = string(
+            "default_encoding",
+            _constants.defaultEncodingTitle(), 
+            _constants.defaultEncodingDescription(), 
+            "");
+      return defaultEncoding_;
    }
 
+   private PrefValue<String> defaultEncoding_;
+
    /**
     * Whether to show the toolbar at the top of the RStudio workbench.
     */
    public PrefValue<Boolean> toolbarVisible()
    {
-      return bool(
-         "toolbar_visible",
-         _constants.toolbarVisibleTitle(), 
-         _constants.toolbarVisibleDescription(), 
-         true);
+      if (toolbarVisible_ == null)
+         toolbarVisible_ = bool(
+            "toolbar_visible",
+            _constants.toolbarVisibleTitle(), 
+            _constants.toolbarVisibleDescription(), 
+            true);
+      return toolbarVisible_;
    }
 
+   private PrefValue<Boolean> toolbarVisible_;
+
    /**
     * The directory path under which to place new projects by default.
     */
    public PrefValue<String> defaultProjectLocation()
    {
-      return string(
-         "default_project_location",
-         _constants.defaultProjectLocationTitle(), 
-         _constants.defaultProjectLocationDescription(), 
-         "");
+      if (defaultProjectLocation_ == null)
+         defaultProjectLocation_ = string(
+            "default_project_location",
+            _constants.defaultProjectLocationTitle(), 
+            _constants.defaultProjectLocationDescription(), 
+            "");
+      return defaultProjectLocation_;
    }
 
+   private PrefValue<String> defaultProjectLocation_;
+
    /**
     * The default directory to use in file dialogs when opening a project.
     */
    public PrefValue<String> defaultOpenProjectLocation()
    {
-      return string(
-         "default_open_project_location",
-         _constants.defaultOpenProjectLocationTitle(), 
-         _constants.defaultOpenProjectLocationDescription(), 
-         "~");
+      if (defaultOpenProjectLocation_ == null)
+         defaultOpenProjectLocation_ = string(
+            "default_open_project_location",
+            _constants.defaultOpenProjectLocationTitle(), 
+            _constants.defaultOpenProjectLocationDescription(), 
+            "~");
+      return defaultOpenProjectLocation_;
    }
 
+   private PrefValue<String> defaultOpenProjectLocation_;
+
    /**
     * Whether to echo R code when sourcing it.
     */
    public PrefValue<Boolean> sourceWithEcho()
    {
-      return bool(
-         "source_with_echo",
-         _constants.sourceWithEchoTitle(), 
-         _constants.sourceWithEchoDescription(), 
-         false);
+      if (sourceWithEcho_ == null)
+         sourceWithEcho_ = bool(
+            "source_with_echo",
+            _constants.sourceWithEchoTitle(), 
+            _constants.sourceWithEchoDescription(), 
+            false);
+      return sourceWithEcho_;
    }
 
+   private PrefValue<Boolean> sourceWithEcho_;
+
    /**
     * The default engine to use when processing Sweave documents.
     */
    public PrefValue<String> defaultSweaveEngine()
    {
-      return string(
-         "default_sweave_engine",
-         _constants.defaultSweaveEngineTitle(), 
-         _constants.defaultSweaveEngineDescription(), 
-         "Sweave");
+      if (defaultSweaveEngine_ == null)
+         defaultSweaveEngine_ = string(
+            "default_sweave_engine",
+            _constants.defaultSweaveEngineTitle(), 
+            _constants.defaultSweaveEngineDescription(), 
+            "Sweave");
+      return defaultSweaveEngine_;
    }
 
+   private PrefValue<String> defaultSweaveEngine_;
+
    /**
     * The default program to use when processing LaTeX documents.
     */
    public PrefValue<String> defaultLatexProgram()
    {
-      return string(
-         "default_latex_program",
-         _constants.defaultLatexProgramTitle(), 
-         _constants.defaultLatexProgramDescription(), 
-         "pdfLaTeX");
+      if (defaultLatexProgram_ == null)
+         defaultLatexProgram_ = string(
+            "default_latex_program",
+            _constants.defaultLatexProgramTitle(), 
+            _constants.defaultLatexProgramDescription(), 
+            "pdfLaTeX");
+      return defaultLatexProgram_;
    }
 
+   private PrefValue<String> defaultLatexProgram_;
+
    /**
     * Whether to use Roxygen for documentation.
     */
    public PrefValue<Boolean> useRoxygen()
    {
-      return bool(
-         "use_roxygen",
-         _constants.useRoxygenTitle(), 
-         _constants.useRoxygenDescription(), 
-         false);
+      if (useRoxygen_ == null)
+         useRoxygen_ = bool(
+            "use_roxygen",
+            _constants.useRoxygenTitle(), 
+            _constants.useRoxygenDescription(), 
+            false);
+      return useRoxygen_;
    }
 
+   private PrefValue<Boolean> useRoxygen_;
+
    /**
     * Whether to use RStudio's data import feature.
     */
    public PrefValue<Boolean> useDataimport()
    {
-      return bool(
-         "use_dataimport",
-         _constants.useDataimportTitle(), 
-         _constants.useDataimportDescription(), 
-         true);
+      if (useDataimport_ == null)
+         useDataimport_ = bool(
+            "use_dataimport",
+            _constants.useDataimportTitle(), 
+            _constants.useDataimportDescription(), 
+            true);
+      return useDataimport_;
    }
 
+   private PrefValue<Boolean> useDataimport_;
+
    /**
     * The program to use to preview PDF files after generation.
     */
    public PrefValue<String> pdfPreviewer()
    {
-      return enumeration(
-         "pdf_previewer",
-         _constants.pdfPreviewerTitle(), 
-         _constants.pdfPreviewerDescription(), 
-         new String[] {
-            PDF_PREVIEWER_NONE,
-            PDF_PREVIEWER_DEFAULT,
-            PDF_PREVIEWER_RSTUDIO,
-            PDF_PREVIEWER_DESKTOP_SYNCTEX,
-            PDF_PREVIEWER_SYSTEM
-         },
-         "default");
+      if (pdfPreviewer_ == null)
+         pdfPreviewer_ = enumeration(
+            "pdf_previewer",
+            _constants.pdfPreviewerTitle(), 
+            _constants.pdfPreviewerDescription(), 
+            new String[] {
+               PDF_PREVIEWER_NONE,
+               PDF_PREVIEWER_DEFAULT,
+               PDF_PREVIEWER_RSTUDIO,
+               PDF_PREVIEWER_DESKTOP_SYNCTEX,
+               PDF_PREVIEWER_SYSTEM
+            },
+            "default");
+      return pdfPreviewer_;
    }
 
+   private PrefValue<String> pdfPreviewer_;
+
    public final static String PDF_PREVIEWER_NONE = "none";
    public final static String PDF_PREVIEWER_DEFAULT = "default";
    public final static String PDF_PREVIEWER_RSTUDIO = "rstudio";
@@ -1509,212 +1917,280 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> alwaysEnableRnwConcordance()
    {
-      return bool(
-         "always_enable_rnw_concordance",
-         _constants.alwaysEnableRnwConcordanceTitle(), 
-         _constants.alwaysEnableRnwConcordanceDescription(), 
-         true);
+      if (alwaysEnableRnwConcordance_ == null)
+         alwaysEnableRnwConcordance_ = bool(
+            "always_enable_rnw_concordance",
+            _constants.alwaysEnableRnwConcordanceTitle(), 
+            _constants.alwaysEnableRnwConcordanceDescription(), 
+            true);
+      return alwaysEnableRnwConcordance_;
    }
 
+   private PrefValue<Boolean> alwaysEnableRnwConcordance_;
+
    /**
     * Whether to insert numbered sections in LaTeX.
     */
    public PrefValue<Boolean> insertNumberedLatexSections()
    {
-      return bool(
-         "insert_numbered_latex_sections",
-         _constants.insertNumberedLatexSectionsTitle(), 
-         _constants.insertNumberedLatexSectionsDescription(), 
-         false);
+      if (insertNumberedLatexSections_ == null)
+         insertNumberedLatexSections_ = bool(
+            "insert_numbered_latex_sections",
+            _constants.insertNumberedLatexSectionsTitle(), 
+            _constants.insertNumberedLatexSectionsDescription(), 
+            false);
+      return insertNumberedLatexSections_;
    }
 
+   private PrefValue<Boolean> insertNumberedLatexSections_;
+
    /**
     * The language of the spelling dictionary to use for spell checking.
     */
    public PrefValue<String> spellingDictionaryLanguage()
    {
-      return string(
-         "spelling_dictionary_language",
-         _constants.spellingDictionaryLanguageTitle(), 
-         _constants.spellingDictionaryLanguageDescription(), 
-         "en_US");
+      if (spellingDictionaryLanguage_ == null)
+         spellingDictionaryLanguage_ = string(
+            "spelling_dictionary_language",
+            _constants.spellingDictionaryLanguageTitle(), 
+            _constants.spellingDictionaryLanguageDescription(), 
+            "en_US");
+      return spellingDictionaryLanguage_;
    }
 
+   private PrefValue<String> spellingDictionaryLanguage_;
+
    /**
     * The list of custom dictionaries to use when spell checking.
     */
    public PrefValue<JsArrayString> spellingCustomDictionaries()
    {
-      return object(
-         "spelling_custom_dictionaries",
-         _constants.spellingCustomDictionariesTitle(), 
-         _constants.spellingCustomDictionariesDescription(), 
-         JsArrayUtil.createStringArray());
+      if (spellingCustomDictionaries_ == null)
+         spellingCustomDictionaries_ = object(
+            "spelling_custom_dictionaries",
+            _constants.spellingCustomDictionariesTitle(), 
+            _constants.spellingCustomDictionariesDescription(), 
+            JsArrayUtil.createStringArray());
+      return spellingCustomDictionaries_;
    }
 
+   private PrefValue<JsArrayString> spellingCustomDictionaries_;
+
    /**
     * The number of milliseconds to wait before linting a document after it is loaded.
     */
    public PrefValue<Integer> documentLoadLintDelay()
    {
-      return integer(
-         "document_load_lint_delay",
-         _constants.documentLoadLintDelayTitle(), 
-         _constants.documentLoadLintDelayDescription(), 
-         5000);
+      if (documentLoadLintDelay_ == null)
+         documentLoadLintDelay_ = integer(
+            "document_load_lint_delay",
+            _constants.documentLoadLintDelayTitle(), 
+            _constants.documentLoadLintDelayDescription(), 
+            5000);
+      return documentLoadLintDelay_;
    }
 
+   private PrefValue<Integer> documentLoadLintDelay_;
+
    /**
     * Whether to ignore words in uppercase when spell checking.
     */
    public PrefValue<Boolean> ignoreUppercaseWords()
    {
-      return bool(
-         "ignore_uppercase_words",
-         _constants.ignoreUppercaseWordsTitle(), 
-         _constants.ignoreUppercaseWordsDescription(), 
-         true);
+      if (ignoreUppercaseWords_ == null)
+         ignoreUppercaseWords_ = bool(
+            "ignore_uppercase_words",
+            _constants.ignoreUppercaseWordsTitle(), 
+            _constants.ignoreUppercaseWordsDescription(), 
+            true);
+      return ignoreUppercaseWords_;
    }
 
+   private PrefValue<Boolean> ignoreUppercaseWords_;
+
    /**
     * Whether to ignore words with numbers in them when spell checking.
     */
    public PrefValue<Boolean> ignoreWordsWithNumbers()
    {
-      return bool(
-         "ignore_words_with_numbers",
-         _constants.ignoreWordsWithNumbersTitle(), 
-         _constants.ignoreWordsWithNumbersDescription(), 
-         true);
+      if (ignoreWordsWithNumbers_ == null)
+         ignoreWordsWithNumbers_ = bool(
+            "ignore_words_with_numbers",
+            _constants.ignoreWordsWithNumbersTitle(), 
+            _constants.ignoreWordsWithNumbersDescription(), 
+            true);
+      return ignoreWordsWithNumbers_;
    }
 
+   private PrefValue<Boolean> ignoreWordsWithNumbers_;
+
    /**
     * Whether to enable real-time spellchecking by default.
     */
    public PrefValue<Boolean> realTimeSpellchecking()
    {
-      return bool(
-         "real_time_spellchecking",
-         _constants.realTimeSpellcheckingTitle(), 
-         _constants.realTimeSpellcheckingDescription(), 
-         true);
+      if (realTimeSpellchecking_ == null)
+         realTimeSpellchecking_ = bool(
+            "real_time_spellchecking",
+            _constants.realTimeSpellcheckingTitle(), 
+            _constants.realTimeSpellcheckingDescription(), 
+            true);
+      return realTimeSpellchecking_;
    }
 
+   private PrefValue<Boolean> realTimeSpellchecking_;
+
    /**
     * Whether to navigate to build errors.
     */
    public PrefValue<Boolean> navigateToBuildError()
    {
-      return bool(
-         "navigate_to_build_error",
-         _constants.navigateToBuildErrorTitle(), 
-         _constants.navigateToBuildErrorDescription(), 
-         true);
+      if (navigateToBuildError_ == null)
+         navigateToBuildError_ = bool(
+            "navigate_to_build_error",
+            _constants.navigateToBuildErrorTitle(), 
+            _constants.navigateToBuildErrorDescription(), 
+            true);
+      return navigateToBuildError_;
    }
 
+   private PrefValue<Boolean> navigateToBuildError_;
+
    /**
     * Whether to enable RStudio's Packages pane.
     */
    public PrefValue<Boolean> packagesPaneEnabled()
    {
-      return bool(
-         "packages_pane_enabled",
-         _constants.packagesPaneEnabledTitle(), 
-         _constants.packagesPaneEnabledDescription(), 
-         true);
+      if (packagesPaneEnabled_ == null)
+         packagesPaneEnabled_ = bool(
+            "packages_pane_enabled",
+            _constants.packagesPaneEnabledTitle(), 
+            _constants.packagesPaneEnabledDescription(), 
+            true);
+      return packagesPaneEnabled_;
    }
 
+   private PrefValue<Boolean> packagesPaneEnabled_;
+
    /**
     * C++ template.
     */
    public PrefValue<String> cppTemplate()
    {
-      return string(
-         "cpp_template",
-         _constants.cppTemplateTitle(), 
-         _constants.cppTemplateDescription(), 
-         "Rcpp");
+      if (cppTemplate_ == null)
+         cppTemplate_ = string(
+            "cpp_template",
+            _constants.cppTemplateTitle(), 
+            _constants.cppTemplateDescription(), 
+            "Rcpp");
+      return cppTemplate_;
    }
 
+   private PrefValue<String> cppTemplate_;
+
    /**
     * Whether to restore the last opened source documents when RStudio starts up.
     */
    public PrefValue<Boolean> restoreSourceDocuments()
    {
-      return bool(
-         "restore_source_documents",
-         _constants.restoreSourceDocumentsTitle(), 
-         _constants.restoreSourceDocumentsDescription(), 
-         true);
+      if (restoreSourceDocuments_ == null)
+         restoreSourceDocuments_ = bool(
+            "restore_source_documents",
+            _constants.restoreSourceDocumentsTitle(), 
+            _constants.restoreSourceDocumentsDescription(), 
+            true);
+      return restoreSourceDocuments_;
    }
 
+   private PrefValue<Boolean> restoreSourceDocuments_;
+
    /**
     * Whether to handle errors only when user code is on the stack.
     */
    public PrefValue<Boolean> handleErrorsInUserCodeOnly()
    {
-      return bool(
-         "handle_errors_in_user_code_only",
-         _constants.handleErrorsInUserCodeOnlyTitle(), 
-         _constants.handleErrorsInUserCodeOnlyDescription(), 
-         true);
+      if (handleErrorsInUserCodeOnly_ == null)
+         handleErrorsInUserCodeOnly_ = bool(
+            "handle_errors_in_user_code_only",
+            _constants.handleErrorsInUserCodeOnlyTitle(), 
+            _constants.handleErrorsInUserCodeOnlyDescription(), 
+            true);
+      return handleErrorsInUserCodeOnly_;
    }
 
+   private PrefValue<Boolean> handleErrorsInUserCodeOnly_;
+
    /**
     * Whether to automatically expand tracebacks when an error occurs.
     */
    public PrefValue<Boolean> autoExpandErrorTracebacks()
    {
-      return bool(
-         "auto_expand_error_tracebacks",
-         _constants.autoExpandErrorTracebacksTitle(), 
-         _constants.autoExpandErrorTracebacksDescription(), 
-         false);
+      if (autoExpandErrorTracebacks_ == null)
+         autoExpandErrorTracebacks_ = bool(
+            "auto_expand_error_tracebacks",
+            _constants.autoExpandErrorTracebacksTitle(), 
+            _constants.autoExpandErrorTracebacksDescription(), 
+            false);
+      return autoExpandErrorTracebacks_;
    }
 
+   private PrefValue<Boolean> autoExpandErrorTracebacks_;
+
    /**
     * Whether to check for new versions of RStudio when RStudio starts.
     */
    public PrefValue<Boolean> checkForUpdates()
    {
-      return bool(
-         "check_for_updates",
-         _constants.checkForUpdatesTitle(), 
-         _constants.checkForUpdatesDescription(), 
-         true);
+      if (checkForUpdates_ == null)
+         checkForUpdates_ = bool(
+            "check_for_updates",
+            _constants.checkForUpdatesTitle(), 
+            _constants.checkForUpdatesDescription(), 
+            true);
+      return checkForUpdates_;
    }
 
+   private PrefValue<Boolean> checkForUpdates_;
+
    /**
     * Whether to show functions without source references in the Traceback pane while debugging.
     */
    public PrefValue<Boolean> showInternalFunctions()
    {
-      return bool(
-         "show_internal_functions",
-         _constants.showInternalFunctionsTitle(), 
-         _constants.showInternalFunctionsDescription(), 
-         false);
+      if (showInternalFunctions_ == null)
+         showInternalFunctions_ = bool(
+            "show_internal_functions",
+            _constants.showInternalFunctionsTitle(), 
+            _constants.showInternalFunctionsDescription(), 
+            false);
+      return showInternalFunctions_;
    }
 
+   private PrefValue<Boolean> showInternalFunctions_;
+
    /**
     * Where to display Shiny applications when they are run.
     */
    public PrefValue<String> shinyViewerType()
    {
-      return enumeration(
-         "shiny_viewer_type",
-         _constants.shinyViewerTypeTitle(), 
-         _constants.shinyViewerTypeDescription(), 
-         new String[] {
-            SHINY_VIEWER_TYPE_USER,
-            SHINY_VIEWER_TYPE_NONE,
-            SHINY_VIEWER_TYPE_PANE,
-            SHINY_VIEWER_TYPE_WINDOW,
-            SHINY_VIEWER_TYPE_BROWSER
-         },
-         "window");
+      if (shinyViewerType_ == null)
+         shinyViewerType_ = enumeration(
+            "shiny_viewer_type",
+            _constants.shinyViewerTypeTitle(), 
+            _constants.shinyViewerTypeDescription(), 
+            new String[] {
+               SHINY_VIEWER_TYPE_USER,
+               SHINY_VIEWER_TYPE_NONE,
+               SHINY_VIEWER_TYPE_PANE,
+               SHINY_VIEWER_TYPE_WINDOW,
+               SHINY_VIEWER_TYPE_BROWSER
+            },
+            "window");
+      return shinyViewerType_;
    }
 
+   private PrefValue<String> shinyViewerType_;
+
    public final static String SHINY_VIEWER_TYPE_USER = "user";
    public final static String SHINY_VIEWER_TYPE_NONE = "none";
    public final static String SHINY_VIEWER_TYPE_PANE = "pane";
@@ -1726,32 +2202,40 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> shinyBackgroundJobs()
    {
-      return bool(
-         "shiny_background_jobs",
-         _constants.shinyBackgroundJobsTitle(), 
-         _constants.shinyBackgroundJobsDescription(), 
-         false);
+      if (shinyBackgroundJobs_ == null)
+         shinyBackgroundJobs_ = bool(
+            "shiny_background_jobs",
+            _constants.shinyBackgroundJobsTitle(), 
+            _constants.shinyBackgroundJobsDescription(), 
+            false);
+      return shinyBackgroundJobs_;
    }
 
+   private PrefValue<Boolean> shinyBackgroundJobs_;
+
    /**
     * Where to display Shiny applications when they are run.
     */
    public PrefValue<String> plumberViewerType()
    {
-      return enumeration(
-         "plumber_viewer_type",
-         _constants.plumberViewerTypeTitle(), 
-         _constants.plumberViewerTypeDescription(), 
-         new String[] {
-            PLUMBER_VIEWER_TYPE_USER,
-            PLUMBER_VIEWER_TYPE_NONE,
-            PLUMBER_VIEWER_TYPE_PANE,
-            PLUMBER_VIEWER_TYPE_WINDOW,
-            PLUMBER_VIEWER_TYPE_BROWSER
-         },
-         "window");
+      if (plumberViewerType_ == null)
+         plumberViewerType_ = enumeration(
+            "plumber_viewer_type",
+            _constants.plumberViewerTypeTitle(), 
+            _constants.plumberViewerTypeDescription(), 
+            new String[] {
+               PLUMBER_VIEWER_TYPE_USER,
+               PLUMBER_VIEWER_TYPE_NONE,
+               PLUMBER_VIEWER_TYPE_PANE,
+               PLUMBER_VIEWER_TYPE_WINDOW,
+               PLUMBER_VIEWER_TYPE_BROWSER
+            },
+            "window");
+      return plumberViewerType_;
    }
 
+   private PrefValue<String> plumberViewerType_;
+
    public final static String PLUMBER_VIEWER_TYPE_USER = "user";
    public final static String PLUMBER_VIEWER_TYPE_NONE = "none";
    public final static String PLUMBER_VIEWER_TYPE_PANE = "pane";
@@ -1763,54 +2247,70 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> documentAuthor()
    {
-      return string(
-         "document_author",
-         _constants.documentAuthorTitle(), 
-         _constants.documentAuthorDescription(), 
-         "");
+      if (documentAuthor_ == null)
+         documentAuthor_ = string(
+            "document_author",
+            _constants.documentAuthorTitle(), 
+            _constants.documentAuthorDescription(), 
+            "");
+      return documentAuthor_;
    }
 
+   private PrefValue<String> documentAuthor_;
+
    /**
     * Use current date when rendering document
     */
    public PrefValue<Boolean> rmdAutoDate()
    {
-      return bool(
-         "rmd_auto_date",
-         _constants.rmdAutoDateTitle(), 
-         _constants.rmdAutoDateDescription(), 
-         false);
+      if (rmdAutoDate_ == null)
+         rmdAutoDate_ = bool(
+            "rmd_auto_date",
+            _constants.rmdAutoDateTitle(), 
+            _constants.rmdAutoDateDescription(), 
+            false);
+      return rmdAutoDate_;
    }
 
+   private PrefValue<Boolean> rmdAutoDate_;
+
    /**
     * The path to the preferred R Markdown template.
     */
    public PrefValue<String> rmdPreferredTemplatePath()
    {
-      return string(
-         "rmd_preferred_template_path",
-         _constants.rmdPreferredTemplatePathTitle(), 
-         _constants.rmdPreferredTemplatePathDescription(), 
-         "");
+      if (rmdPreferredTemplatePath_ == null)
+         rmdPreferredTemplatePath_ = string(
+            "rmd_preferred_template_path",
+            _constants.rmdPreferredTemplatePathTitle(), 
+            _constants.rmdPreferredTemplatePathDescription(), 
+            "");
+      return rmdPreferredTemplatePath_;
    }
 
+   private PrefValue<String> rmdPreferredTemplatePath_;
+
    /**
     * Where to display R Markdown documents when they have completed rendering.
     */
    public PrefValue<String> rmdViewerType()
    {
-      return enumeration(
-         "rmd_viewer_type",
-         _constants.rmdViewerTypeTitle(), 
-         _constants.rmdViewerTypeDescription(), 
-         new String[] {
-            RMD_VIEWER_TYPE_WINDOW,
-            RMD_VIEWER_TYPE_PANE,
-            RMD_VIEWER_TYPE_NONE
-         },
-         "window");
+      if (rmdViewerType_ == null)
+         rmdViewerType_ = enumeration(
+            "rmd_viewer_type",
+            _constants.rmdViewerTypeTitle(), 
+            _constants.rmdViewerTypeDescription(), 
+            new String[] {
+               RMD_VIEWER_TYPE_WINDOW,
+               RMD_VIEWER_TYPE_PANE,
+               RMD_VIEWER_TYPE_NONE
+            },
+            "window");
+      return rmdViewerType_;
    }
 
+   private PrefValue<String> rmdViewerType_;
+
    public final static String RMD_VIEWER_TYPE_WINDOW = "window";
    public final static String RMD_VIEWER_TYPE_PANE = "pane";
    public final static String RMD_VIEWER_TYPE_NONE = "none";
@@ -1820,130 +2320,170 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> showPublishDiagnostics()
    {
-      return bool(
-         "show_publish_diagnostics",
-         _constants.showPublishDiagnosticsTitle(), 
-         _constants.showPublishDiagnosticsDescription(), 
-         false);
+      if (showPublishDiagnostics_ == null)
+         showPublishDiagnostics_ = bool(
+            "show_publish_diagnostics",
+            _constants.showPublishDiagnosticsTitle(), 
+            _constants.showPublishDiagnosticsDescription(), 
+            false);
+      return showPublishDiagnostics_;
    }
 
+   private PrefValue<Boolean> showPublishDiagnostics_;
+
    /**
     * Whether to show UI for publishing content to Posit Cloud.
     */
    public PrefValue<Boolean> enableCloudPublishUi()
    {
-      return bool(
-         "enable_cloud_publish_ui",
-         _constants.enableCloudPublishUiTitle(), 
-         _constants.enableCloudPublishUiDescription(), 
-         true);
+      if (enableCloudPublishUi_ == null)
+         enableCloudPublishUi_ = bool(
+            "enable_cloud_publish_ui",
+            _constants.enableCloudPublishUiTitle(), 
+            _constants.enableCloudPublishUiDescription(), 
+            true);
+      return enableCloudPublishUi_;
    }
 
+   private PrefValue<Boolean> enableCloudPublishUi_;
+
    /**
     * Whether to check remote server SSL certificates when publishing content.
     */
    public PrefValue<Boolean> publishCheckCertificates()
    {
-      return bool(
-         "publish_check_certificates",
-         _constants.publishCheckCertificatesTitle(), 
-         _constants.publishCheckCertificatesDescription(), 
-         true);
+      if (publishCheckCertificates_ == null)
+         publishCheckCertificates_ = bool(
+            "publish_check_certificates",
+            _constants.publishCheckCertificatesTitle(), 
+            _constants.publishCheckCertificatesDescription(), 
+            true);
+      return publishCheckCertificates_;
    }
 
+   private PrefValue<Boolean> publishCheckCertificates_;
+
    /**
     * Whether to use a custom certificate authority (CA) bundle when publishing content.
     */
    public PrefValue<Boolean> usePublishCaBundle()
    {
-      return bool(
-         "use_publish_ca_bundle",
-         _constants.usePublishCaBundleTitle(), 
-         _constants.usePublishCaBundleDescription(), 
-         false);
+      if (usePublishCaBundle_ == null)
+         usePublishCaBundle_ = bool(
+            "use_publish_ca_bundle",
+            _constants.usePublishCaBundleTitle(), 
+            _constants.usePublishCaBundleDescription(), 
+            false);
+      return usePublishCaBundle_;
    }
 
+   private PrefValue<Boolean> usePublishCaBundle_;
+
    /**
     * The path to the custom certificate authority (CA) bundle to use when publishing content.
     */
    public PrefValue<String> publishCaBundle()
    {
-      return string(
-         "publish_ca_bundle",
-         _constants.publishCaBundleTitle(), 
-         _constants.publishCaBundleDescription(), 
-         "");
+      if (publishCaBundle_ == null)
+         publishCaBundle_ = string(
+            "publish_ca_bundle",
+            _constants.publishCaBundleTitle(), 
+            _constants.publishCaBundleDescription(), 
+            "");
+      return publishCaBundle_;
    }
 
+   private PrefValue<String> publishCaBundle_;
+
    /**
     * Whether to show chunk output inline for ordinary R Markdown documents.
     */
    public PrefValue<Boolean> rmdChunkOutputInline()
    {
-      return bool(
-         "rmd_chunk_output_inline",
-         _constants.rmdChunkOutputInlineTitle(), 
-         _constants.rmdChunkOutputInlineDescription(), 
-         true);
+      if (rmdChunkOutputInline_ == null)
+         rmdChunkOutputInline_ = bool(
+            "rmd_chunk_output_inline",
+            _constants.rmdChunkOutputInlineTitle(), 
+            _constants.rmdChunkOutputInlineDescription(), 
+            true);
+      return rmdChunkOutputInline_;
    }
 
+   private PrefValue<Boolean> rmdChunkOutputInline_;
+
    /**
     * Whether to show the document outline by default when opening R Markdown documents.
     */
    public PrefValue<Boolean> showDocOutlineRmd()
    {
-      return bool(
-         "show_doc_outline_rmd",
-         _constants.showDocOutlineRmdTitle(), 
-         _constants.showDocOutlineRmdDescription(), 
-         false);
+      if (showDocOutlineRmd_ == null)
+         showDocOutlineRmd_ = bool(
+            "show_doc_outline_rmd",
+            _constants.showDocOutlineRmdTitle(), 
+            _constants.showDocOutlineRmdDescription(), 
+            false);
+      return showDocOutlineRmd_;
    }
 
+   private PrefValue<Boolean> showDocOutlineRmd_;
+
    /**
     * Whether to automatically run an R Markdown document's Setup chunk before running other chunks.
     */
    public PrefValue<Boolean> autoRunSetupChunk()
    {
-      return bool(
-         "auto_run_setup_chunk",
-         _constants.autoRunSetupChunkTitle(), 
-         _constants.autoRunSetupChunkDescription(), 
-         true);
+      if (autoRunSetupChunk_ == null)
+         autoRunSetupChunk_ = bool(
+            "auto_run_setup_chunk",
+            _constants.autoRunSetupChunkTitle(), 
+            _constants.autoRunSetupChunkDescription(), 
+            true);
+      return autoRunSetupChunk_;
    }
 
+   private PrefValue<Boolean> autoRunSetupChunk_;
+
    /**
     * Whether to hide the R console when executing inline R Markdown chunks.
     */
    public PrefValue<Boolean> hideConsoleOnChunkExecute()
    {
-      return bool(
-         "hide_console_on_chunk_execute",
-         _constants.hideConsoleOnChunkExecuteTitle(), 
-         _constants.hideConsoleOnChunkExecuteDescription(), 
-         true);
+      if (hideConsoleOnChunkExecute_ == null)
+         hideConsoleOnChunkExecute_ = bool(
+            "hide_console_on_chunk_execute",
+            _constants.hideConsoleOnChunkExecuteTitle(), 
+            _constants.hideConsoleOnChunkExecuteDescription(), 
+            true);
+      return hideConsoleOnChunkExecute_;
    }
 
+   private PrefValue<Boolean> hideConsoleOnChunkExecute_;
+
    /**
     * The unit of R code to execute when the Execute command is invoked.
     */
    public PrefValue<String> executionBehavior()
    {
-      return enumeration(
-         "execution_behavior",
-         _constants.executionBehaviorTitle(), 
-         _constants.executionBehaviorDescription(), 
-         new String[] {
-            EXECUTION_BEHAVIOR_LINE,
-            EXECUTION_BEHAVIOR_STATEMENT,
-            EXECUTION_BEHAVIOR_PARAGRAPH
-         },
-         "statement",
-         new String[] {
-            _constants.executionBehaviorEnum_line(),
-            _constants.executionBehaviorEnum_statement(),
-            _constants.executionBehaviorEnum_paragraph()
-         });
-   }
+      if (executionBehavior_ == null)
+         executionBehavior_ = enumeration(
+            "execution_behavior",
+            _constants.executionBehaviorTitle(), 
+            _constants.executionBehaviorDescription(), 
+            new String[] {
+               EXECUTION_BEHAVIOR_LINE,
+               EXECUTION_BEHAVIOR_STATEMENT,
+               EXECUTION_BEHAVIOR_PARAGRAPH
+            },
+            "statement",
+            new String[] {
+               _constants.executionBehaviorEnum_line(),
+               _constants.executionBehaviorEnum_statement(),
+               _constants.executionBehaviorEnum_paragraph()
+            });
+      return executionBehavior_;
+   }
+
+   private PrefValue<String> executionBehavior_;
 
    public final static String EXECUTION_BEHAVIOR_LINE = "line";
    public final static String EXECUTION_BEHAVIOR_STATEMENT = "statement";
@@ -1954,54 +2494,70 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> showTerminalTab()
    {
-      return bool(
-         "show_terminal_tab",
-         _constants.showTerminalTabTitle(), 
-         _constants.showTerminalTabDescription(), 
-         true);
+      if (showTerminalTab_ == null)
+         showTerminalTab_ = bool(
+            "show_terminal_tab",
+            _constants.showTerminalTabTitle(), 
+            _constants.showTerminalTabDescription(), 
+            true);
+      return showTerminalTab_;
    }
 
+   private PrefValue<Boolean> showTerminalTab_;
+
    /**
     * Whether to use local echo in the Terminal.
     */
    public PrefValue<Boolean> terminalLocalEcho()
    {
-      return bool(
-         "terminal_local_echo",
-         _constants.terminalLocalEchoTitle(), 
-         _constants.terminalLocalEchoDescription(), 
-         true);
+      if (terminalLocalEcho_ == null)
+         terminalLocalEcho_ = bool(
+            "terminal_local_echo",
+            _constants.terminalLocalEchoTitle(), 
+            _constants.terminalLocalEchoDescription(), 
+            true);
+      return terminalLocalEcho_;
    }
 
+   private PrefValue<Boolean> terminalLocalEcho_;
+
    /**
     * Whether to use websockets to communicate with the shell in the Terminal tab.
     */
    public PrefValue<Boolean> terminalWebsockets()
    {
-      return bool(
-         "terminal_websockets",
-         _constants.terminalWebsocketsTitle(), 
-         _constants.terminalWebsocketsDescription(), 
-         true);
+      if (terminalWebsockets_ == null)
+         terminalWebsockets_ = bool(
+            "terminal_websockets",
+            _constants.terminalWebsocketsTitle(), 
+            _constants.terminalWebsocketsDescription(), 
+            true);
+      return terminalWebsockets_;
    }
 
+   private PrefValue<Boolean> terminalWebsockets_;
+
    /**
     * Whether to close the terminal pane after the shell exits.
     */
    public PrefValue<String> terminalCloseBehavior()
    {
-      return enumeration(
-         "terminal_close_behavior",
-         _constants.terminalCloseBehaviorTitle(), 
-         _constants.terminalCloseBehaviorDescription(), 
-         new String[] {
-            TERMINAL_CLOSE_BEHAVIOR_ALWAYS,
-            TERMINAL_CLOSE_BEHAVIOR_CLEAN,
-            TERMINAL_CLOSE_BEHAVIOR_NEVER
-         },
-         "always");
+      if (terminalCloseBehavior_ == null)
+         terminalCloseBehavior_ = enumeration(
+            "terminal_close_behavior",
+            _constants.terminalCloseBehaviorTitle(), 
+            _constants.terminalCloseBehaviorDescription(), 
+            new String[] {
+               TERMINAL_CLOSE_BEHAVIOR_ALWAYS,
+               TERMINAL_CLOSE_BEHAVIOR_CLEAN,
+               TERMINAL_CLOSE_BEHAVIOR_NEVER
+            },
+            "always");
+      return terminalCloseBehavior_;
    }
 
+   private PrefValue<String> terminalCloseBehavior_;
+
    public final static String TERMINAL_CLOSE_BEHAVIOR_ALWAYS = "always";
    public final static String TERMINAL_CLOSE_BEHAVIOR_CLEAN = "clean";
    public final static String TERMINAL_CLOSE_BEHAVIOR_NEVER = "never";
@@ -2011,53 +2567,69 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> terminalTrackEnvironment()
    {
-      return bool(
-         "terminal_track_environment",
-         _constants.terminalTrackEnvironmentTitle(), 
-         _constants.terminalTrackEnvironmentDescription(), 
-         true);
+      if (terminalTrackEnvironment_ == null)
+         terminalTrackEnvironment_ = bool(
+            "terminal_track_environment",
+            _constants.terminalTrackEnvironmentTitle(), 
+            _constants.terminalTrackEnvironmentDescription(), 
+            true);
+      return terminalTrackEnvironment_;
    }
 
+   private PrefValue<Boolean> terminalTrackEnvironment_;
+
    /**
     * Environment variables which should be ignored when tracking changed to environment variables within a Terminal. Environment variables in this list will not be saved when a Terminal instance is saved and restored.
     */
    public PrefValue<JsArrayString> terminalIgnoredEnvironmentVariables()
    {
-      return object(
-         "terminal_ignored_environment_variables",
-         _constants.terminalIgnoredEnvironmentVariablesTitle(), 
-         _constants.terminalIgnoredEnvironmentVariablesDescription(), 
-         JsArrayUtil.createStringArray());
+      if (terminalIgnoredEnvironmentVariables_ == null)
+         terminalIgnoredEnvironmentVariables_ = object(
+            "terminal_ignored_environment_variables",
+            _constants.terminalIgnoredEnvironmentVariablesTitle(), 
+            _constants.terminalIgnoredEnvironmentVariablesDescription(), 
+            JsArrayUtil.createStringArray());
+      return terminalIgnoredEnvironmentVariables_;
    }
 
+   private PrefValue<JsArrayString> terminalIgnoredEnvironmentVariables_;
+
    /**
     * Enabled Terminal hooks? Required for Python terminal integration, which places the active version of Python on the PATH in new Terminal sessions.
     */
    public PrefValue<Boolean> terminalHooks()
    {
-      return bool(
-         "terminal_hooks",
-         _constants.terminalHooksTitle(), 
-         _constants.terminalHooksDescription(), 
-         true);
+      if (terminalHooks_ == null)
+         terminalHooks_ = bool(
+            "terminal_hooks",
+            _constants.terminalHooksTitle(), 
+            _constants.terminalHooksDescription(), 
+            true);
+      return terminalHooks_;
    }
 
+   private PrefValue<Boolean> terminalHooks_;
+
    /**
     * Terminal bell style
     */
    public PrefValue<String> terminalBellStyle()
    {
-      return enumeration(
-         "terminal_bell_style",
-         _constants.terminalBellStyleTitle(), 
-         _constants.terminalBellStyleDescription(), 
-         new String[] {
-            TERMINAL_BELL_STYLE_NONE,
-            TERMINAL_BELL_STYLE_SOUND
-         },
-         "sound");
+      if (terminalBellStyle_ == null)
+         terminalBellStyle_ = enumeration(
+            "terminal_bell_style",
+            _constants.terminalBellStyleTitle(), 
+            _constants.terminalBellStyleDescription(), 
+            new String[] {
+               TERMINAL_BELL_STYLE_NONE,
+               TERMINAL_BELL_STYLE_SOUND
+            },
+            "sound");
+      return terminalBellStyle_;
    }
 
+   private PrefValue<String> terminalBellStyle_;
+
    public final static String TERMINAL_BELL_STYLE_NONE = "none";
    public final static String TERMINAL_BELL_STYLE_SOUND = "sound";
 
@@ -2066,17 +2638,21 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> terminalRenderer()
    {
-      return enumeration(
-         "terminal_renderer",
-         _constants.terminalRendererTitle(), 
-         _constants.terminalRendererDescription(), 
-         new String[] {
-            TERMINAL_RENDERER_CANVAS,
-            TERMINAL_RENDERER_DOM
-         },
-         "canvas");
+      if (terminalRenderer_ == null)
+         terminalRenderer_ = enumeration(
+            "terminal_renderer",
+            _constants.terminalRendererTitle(), 
+            _constants.terminalRendererDescription(), 
+            new String[] {
+               TERMINAL_RENDERER_CANVAS,
+               TERMINAL_RENDERER_DOM
+            },
+            "canvas");
+      return terminalRenderer_;
    }
 
+   private PrefValue<String> terminalRenderer_;
+
    public final static String TERMINAL_RENDERER_CANVAS = "canvas";
    public final static String TERMINAL_RENDERER_DOM = "dom";
 
@@ -2085,114 +2661,150 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> terminalWeblinks()
    {
-      return bool(
-         "terminal_weblinks",
-         _constants.terminalWeblinksTitle(), 
-         _constants.terminalWeblinksDescription(), 
-         true);
+      if (terminalWeblinks_ == null)
+         terminalWeblinks_ = bool(
+            "terminal_weblinks",
+            _constants.terminalWeblinksTitle(), 
+            _constants.terminalWeblinksDescription(), 
+            true);
+      return terminalWeblinks_;
    }
 
+   private PrefValue<Boolean> terminalWeblinks_;
+
    /**
     * Whether to print the render command use to knit R Markdown documents in the R Markdown tab.
     */
    public PrefValue<Boolean> showRmdRenderCommand()
    {
-      return bool(
-         "show_rmd_render_command",
-         _constants.showRmdRenderCommandTitle(), 
-         _constants.showRmdRenderCommandDescription(), 
-         false);
+      if (showRmdRenderCommand_ == null)
+         showRmdRenderCommand_ = bool(
+            "show_rmd_render_command",
+            _constants.showRmdRenderCommandTitle(), 
+            _constants.showRmdRenderCommandDescription(), 
+            false);
+      return showRmdRenderCommand_;
    }
 
+   private PrefValue<Boolean> showRmdRenderCommand_;
+
    /**
     * Whether to enable moving text on the editing surface by clicking and dragging it.
     */
    public PrefValue<Boolean> enableTextDrag()
    {
-      return bool(
-         "enable_text_drag",
-         _constants.enableTextDragTitle(), 
-         _constants.enableTextDragDescription(), 
-         true);
+      if (enableTextDrag_ == null)
+         enableTextDrag_ = bool(
+            "enable_text_drag",
+            _constants.enableTextDragTitle(), 
+            _constants.enableTextDragDescription(), 
+            true);
+      return enableTextDrag_;
    }
 
+   private PrefValue<Boolean> enableTextDrag_;
+
    /**
     * Whether to show hidden files in the Files pane.
     */
    public PrefValue<Boolean> showHiddenFiles()
    {
-      return bool(
-         "show_hidden_files",
-         _constants.showHiddenFilesTitle(), 
-         _constants.showHiddenFilesDescription(), 
-         false);
+      if (showHiddenFiles_ == null)
+         showHiddenFiles_ = bool(
+            "show_hidden_files",
+            _constants.showHiddenFilesTitle(), 
+            _constants.showHiddenFilesDescription(), 
+            false);
+      return showHiddenFiles_;
    }
 
+   private PrefValue<Boolean> showHiddenFiles_;
+
    /**
     * List of file names (case sensitive) that are always shown in the Files Pane, regardless of whether hidden files are shown
     */
    public PrefValue<JsArrayString> alwaysShownFiles()
    {
-      return object(
-         "always_shown_files",
-         _constants.alwaysShownFilesTitle(), 
-         _constants.alwaysShownFilesDescription(), 
-         JsArrayUtil.createStringArray(".build.yml", ".gitlab-ci.yml", ".travis.yml"));
+      if (alwaysShownFiles_ == null)
+         alwaysShownFiles_ = object(
+            "always_shown_files",
+            _constants.alwaysShownFilesTitle(), 
+            _constants.alwaysShownFilesDescription(), 
+            JsArrayUtil.createStringArray(".build.yml", ".gitlab-ci.yml", ".travis.yml"));
+      return alwaysShownFiles_;
    }
 
+   private PrefValue<JsArrayString> alwaysShownFiles_;
+
    /**
     * List of file extensions (beginning with ., not case sensitive) that are always shown in the Files Pane, regardless of whether hidden files are shown
     */
    public PrefValue<JsArrayString> alwaysShownExtensions()
    {
-      return object(
-         "always_shown_extensions",
-         _constants.alwaysShownExtensionsTitle(), 
-         _constants.alwaysShownExtensionsDescription(), 
-         JsArrayUtil.createStringArray(".circleci", ".gitattributes", ".github", ".gitignore", ".httr-oauth", ".lintr", ".quartoignore", ".r", ".rbuildignore", ".rdata", ".renvignore", ".renviron", ".rhistory", ".rprofile", ".ruserdata"));
+      if (alwaysShownExtensions_ == null)
+         alwaysShownExtensions_ = object(
+            "always_shown_extensions",
+            _constants.alwaysShownExtensionsTitle(), 
+            _constants.alwaysShownExtensionsDescription(), 
+            JsArrayUtil.createStringArray(".circleci", ".gitattributes", ".github", ".gitignore", ".httr-oauth", ".lintr", ".quartoignore", ".r", ".rbuildignore", ".rdata", ".renvignore", ".renviron", ".rhistory", ".rprofile", ".ruserdata"));
+      return alwaysShownExtensions_;
    }
 
+   private PrefValue<JsArrayString> alwaysShownExtensions_;
+
    /**
     * Whether to sort file names naturally, so that e.g., file10.R comes after file9.R
     */
    public PrefValue<Boolean> sortFileNamesNaturally()
    {
-      return bool(
-         "sort_file_names_naturally",
-         _constants.sortFileNamesNaturallyTitle(), 
-         _constants.sortFileNamesNaturallyDescription(), 
-         true);
+      if (sortFileNamesNaturally_ == null)
+         sortFileNamesNaturally_ = bool(
+            "sort_file_names_naturally",
+            _constants.sortFileNamesNaturallyTitle(), 
+            _constants.sortFileNamesNaturallyDescription(), 
+            true);
+      return sortFileNamesNaturally_;
    }
 
+   private PrefValue<Boolean> sortFileNamesNaturally_;
+
    /**
     * Whether to change the directory in the Files pane automatically when the working directory in R changes.
     */
    public PrefValue<Boolean> syncFilesPaneWorkingDir()
    {
-      return bool(
-         "sync_files_pane_working_dir",
-         _constants.syncFilesPaneWorkingDirTitle(), 
-         _constants.syncFilesPaneWorkingDirDescription(), 
-         false);
+      if (syncFilesPaneWorkingDir_ == null)
+         syncFilesPaneWorkingDir_ = bool(
+            "sync_files_pane_working_dir",
+            _constants.syncFilesPaneWorkingDirTitle(), 
+            _constants.syncFilesPaneWorkingDirDescription(), 
+            false);
+      return syncFilesPaneWorkingDir_;
    }
 
+   private PrefValue<Boolean> syncFilesPaneWorkingDir_;
+
    /**
     * The visibility of the Jobs tab.
     */
    public PrefValue<String> jobsTabVisibility()
    {
-      return enumeration(
-         "jobs_tab_visibility",
-         _constants.jobsTabVisibilityTitle(), 
-         _constants.jobsTabVisibilityDescription(), 
-         new String[] {
-            JOBS_TAB_VISIBILITY_CLOSED,
-            JOBS_TAB_VISIBILITY_SHOWN,
-            JOBS_TAB_VISIBILITY_DEFAULT
-         },
-         "default");
+      if (jobsTabVisibility_ == null)
+         jobsTabVisibility_ = enumeration(
+            "jobs_tab_visibility",
+            _constants.jobsTabVisibilityTitle(), 
+            _constants.jobsTabVisibilityDescription(), 
+            new String[] {
+               JOBS_TAB_VISIBILITY_CLOSED,
+               JOBS_TAB_VISIBILITY_SHOWN,
+               JOBS_TAB_VISIBILITY_DEFAULT
+            },
+            "default");
+      return jobsTabVisibility_;
    }
 
+   private PrefValue<String> jobsTabVisibility_;
+
    public final static String JOBS_TAB_VISIBILITY_CLOSED = "closed";
    public final static String JOBS_TAB_VISIBILITY_SHOWN = "shown";
    public final static String JOBS_TAB_VISIBILITY_DEFAULT = "default";
@@ -2202,29 +2814,37 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> showLauncherJobsTab()
    {
-      return bool(
-         "show_launcher_jobs_tab",
-         _constants.showLauncherJobsTabTitle(), 
-         _constants.showLauncherJobsTabDescription(), 
-         true);
+      if (showLauncherJobsTab_ == null)
+         showLauncherJobsTab_ = bool(
+            "show_launcher_jobs_tab",
+            _constants.showLauncherJobsTabTitle(), 
+            _constants.showLauncherJobsTabDescription(), 
+            true);
+      return showLauncherJobsTab_;
    }
 
+   private PrefValue<Boolean> showLauncherJobsTab_;
+
    /**
     * How to sort jobs in the Workbench Jobs tab in RStudio Pro and RStudio Workbench.
     */
    public PrefValue<String> launcherJobsSort()
    {
-      return enumeration(
-         "launcher_jobs_sort",
-         _constants.launcherJobsSortTitle(), 
-         _constants.launcherJobsSortDescription(), 
-         new String[] {
-            LAUNCHER_JOBS_SORT_RECORDED,
-            LAUNCHER_JOBS_SORT_STATE
-         },
-         "recorded");
+      if (launcherJobsSort_ == null)
+         launcherJobsSort_ = enumeration(
+            "launcher_jobs_sort",
+            _constants.launcherJobsSortTitle(), 
+            _constants.launcherJobsSortDescription(), 
+            new String[] {
+               LAUNCHER_JOBS_SORT_RECORDED,
+               LAUNCHER_JOBS_SORT_STATE
+            },
+            "recorded");
+      return launcherJobsSort_;
    }
 
+   private PrefValue<String> launcherJobsSort_;
+
    public final static String LAUNCHER_JOBS_SORT_RECORDED = "recorded";
    public final static String LAUNCHER_JOBS_SORT_STATE = "state";
 
@@ -2233,18 +2853,22 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> busyDetection()
    {
-      return enumeration(
-         "busy_detection",
-         _constants.busyDetectionTitle(), 
-         _constants.busyDetectionDescription(), 
-         new String[] {
-            BUSY_DETECTION_ALWAYS,
-            BUSY_DETECTION_NEVER,
-            BUSY_DETECTION_LIST
-         },
-         "always");
+      if (busyDetection_ == null)
+         busyDetection_ = enumeration(
+            "busy_detection",
+            _constants.busyDetectionTitle(), 
+            _constants.busyDetectionDescription(), 
+            new String[] {
+               BUSY_DETECTION_ALWAYS,
+               BUSY_DETECTION_NEVER,
+               BUSY_DETECTION_LIST
+            },
+            "always");
+      return busyDetection_;
    }
 
+   private PrefValue<String> busyDetection_;
+
    public final static String BUSY_DETECTION_ALWAYS = "always";
    public final static String BUSY_DETECTION_NEVER = "never";
    public final static String BUSY_DETECTION_LIST = "list";
@@ -2254,30 +2878,38 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<JsArrayString> busyExclusionList()
    {
-      return object(
-         "busy_exclusion_list",
-         _constants.busyExclusionListTitle(), 
-         _constants.busyExclusionListDescription(), 
-         JsArrayUtil.createStringArray("tmux", "screen"));
+      if (busyExclusionList_ == null)
+         busyExclusionList_ = object(
+            "busy_exclusion_list",
+            _constants.busyExclusionListTitle(), 
+            _constants.busyExclusionListDescription(), 
+            JsArrayUtil.createStringArray("tmux", "screen"));
+      return busyExclusionList_;
    }
 
+   private PrefValue<JsArrayString> busyExclusionList_;
+
    /**
     * The working directory to use when knitting R Markdown documents.
     */
    public PrefValue<String> knitWorkingDir()
    {
-      return enumeration(
-         "knit_working_dir",
-         _constants.knitWorkingDirTitle(), 
-         _constants.knitWorkingDirDescription(), 
-         new String[] {
-            KNIT_WORKING_DIR_DEFAULT,
-            KNIT_WORKING_DIR_CURRENT,
-            KNIT_WORKING_DIR_PROJECT
-         },
-         "default");
+      if (knitWorkingDir_ == null)
+         knitWorkingDir_ = enumeration(
+            "knit_working_dir",
+            _constants.knitWorkingDirTitle(), 
+            _constants.knitWorkingDirDescription(), 
+            new String[] {
+               KNIT_WORKING_DIR_DEFAULT,
+               KNIT_WORKING_DIR_CURRENT,
+               KNIT_WORKING_DIR_PROJECT
+            },
+            "default");
+      return knitWorkingDir_;
    }
 
+   private PrefValue<String> knitWorkingDir_;
+
    public final static String KNIT_WORKING_DIR_DEFAULT = "default";
    public final static String KNIT_WORKING_DIR_CURRENT = "current";
    public final static String KNIT_WORKING_DIR_PROJECT = "project";
@@ -2287,18 +2919,22 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> docOutlineShow()
    {
-      return enumeration(
-         "doc_outline_show",
-         _constants.docOutlineShowTitle(), 
-         _constants.docOutlineShowDescription(), 
-         new String[] {
-            DOC_OUTLINE_SHOW_SECTIONS_ONLY,
-            DOC_OUTLINE_SHOW_SECTIONS_AND_CHUNKS,
-            DOC_OUTLINE_SHOW_ALL
-         },
-         "sections_only");
+      if (docOutlineShow_ == null)
+         docOutlineShow_ = enumeration(
+            "doc_outline_show",
+            _constants.docOutlineShowTitle(), 
+            _constants.docOutlineShowDescription(), 
+            new String[] {
+               DOC_OUTLINE_SHOW_SECTIONS_ONLY,
+               DOC_OUTLINE_SHOW_SECTIONS_AND_CHUNKS,
+               DOC_OUTLINE_SHOW_ALL
+            },
+            "sections_only");
+      return docOutlineShow_;
    }
 
+   private PrefValue<String> docOutlineShow_;
+
    public final static String DOC_OUTLINE_SHOW_SECTIONS_ONLY = "sections_only";
    public final static String DOC_OUTLINE_SHOW_SECTIONS_AND_CHUNKS = "sections_and_chunks";
    public final static String DOC_OUTLINE_SHOW_ALL = "all";
@@ -2308,18 +2944,22 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> latexPreviewOnCursorIdle()
    {
-      return enumeration(
-         "latex_preview_on_cursor_idle",
-         _constants.latexPreviewOnCursorIdleTitle(), 
-         _constants.latexPreviewOnCursorIdleDescription(), 
-         new String[] {
-            LATEX_PREVIEW_ON_CURSOR_IDLE_NEVER,
-            LATEX_PREVIEW_ON_CURSOR_IDLE_INLINE_ONLY,
-            LATEX_PREVIEW_ON_CURSOR_IDLE_ALWAYS
-         },
-         "always");
+      if (latexPreviewOnCursorIdle_ == null)
+         latexPreviewOnCursorIdle_ = enumeration(
+            "latex_preview_on_cursor_idle",
+            _constants.latexPreviewOnCursorIdleTitle(), 
+            _constants.latexPreviewOnCursorIdleDescription(), 
+            new String[] {
+               LATEX_PREVIEW_ON_CURSOR_IDLE_NEVER,
+               LATEX_PREVIEW_ON_CURSOR_IDLE_INLINE_ONLY,
+               LATEX_PREVIEW_ON_CURSOR_IDLE_ALWAYS
+            },
+            "always");
+      return latexPreviewOnCursorIdle_;
    }
 
+   private PrefValue<String> latexPreviewOnCursorIdle_;
+
    public final static String LATEX_PREVIEW_ON_CURSOR_IDLE_NEVER = "never";
    public final static String LATEX_PREVIEW_ON_CURSOR_IDLE_INLINE_ONLY = "inline_only";
    public final static String LATEX_PREVIEW_ON_CURSOR_IDLE_ALWAYS = "always";
@@ -2329,29 +2969,37 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> wrapTabNavigation()
    {
-      return bool(
-         "wrap_tab_navigation",
-         _constants.wrapTabNavigationTitle(), 
-         _constants.wrapTabNavigationDescription(), 
-         true);
+      if (wrapTabNavigation_ == null)
+         wrapTabNavigation_ = bool(
+            "wrap_tab_navigation",
+            _constants.wrapTabNavigationTitle(), 
+            _constants.wrapTabNavigationDescription(), 
+            true);
+      return wrapTabNavigation_;
    }
 
+   private PrefValue<Boolean> wrapTabNavigation_;
+
    /**
     * The theme to use for the main RStudio user interface.
     */
    public PrefValue<String> globalTheme()
    {
-      return enumeration(
-         "global_theme",
-         _constants.globalThemeTitle(), 
-         _constants.globalThemeDescription(), 
-         new String[] {
-            GLOBAL_THEME_DEFAULT,
-            GLOBAL_THEME_ALTERNATE
-         },
-         "default");
+      if (globalTheme_ == null)
+         globalTheme_ = enumeration(
+            "global_theme",
+            _constants.globalThemeTitle(), 
+            _constants.globalThemeDescription(), 
+            new String[] {
+               GLOBAL_THEME_DEFAULT,
+               GLOBAL_THEME_ALTERNATE
+            },
+            "default");
+      return globalTheme_;
    }
 
+   private PrefValue<String> globalTheme_;
+
    public final static String GLOBAL_THEME_DEFAULT = "default";
    public final static String GLOBAL_THEME_ALTERNATE = "alternate";
 
@@ -2360,114 +3008,150 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> gitDiffIgnoreWhitespace()
    {
-      return bool(
-         "git_diff_ignore_whitespace",
-         _constants.gitDiffIgnoreWhitespaceTitle(), 
-         _constants.gitDiffIgnoreWhitespaceDescription(), 
-         false);
+      if (gitDiffIgnoreWhitespace_ == null)
+         gitDiffIgnoreWhitespace_ = bool(
+            "git_diff_ignore_whitespace",
+            _constants.gitDiffIgnoreWhitespaceTitle(), 
+            _constants.gitDiffIgnoreWhitespaceDescription(), 
+            false);
+      return gitDiffIgnoreWhitespace_;
    }
 
+   private PrefValue<Boolean> gitDiffIgnoreWhitespace_;
+
    /**
     * Whether to sign git commits.
     */
    public PrefValue<Boolean> gitSignedCommits()
    {
-      return bool(
-         "git_signed_commits",
-         _constants.gitSignedCommitsTitle(), 
-         _constants.gitSignedCommitsDescription(), 
-         false);
+      if (gitSignedCommits_ == null)
+         gitSignedCommits_ = bool(
+            "git_signed_commits",
+            _constants.gitSignedCommitsTitle(), 
+            _constants.gitSignedCommitsDescription(), 
+            false);
+      return gitSignedCommits_;
    }
 
+   private PrefValue<Boolean> gitSignedCommits_;
+
    /**
     * Whether double-clicking should select a word in the Console pane.
     */
    public PrefValue<Boolean> consoleDoubleClickSelect()
    {
-      return bool(
-         "console_double_click_select",
-         _constants.consoleDoubleClickSelectTitle(), 
-         _constants.consoleDoubleClickSelectDescription(), 
-         false);
+      if (consoleDoubleClickSelect_ == null)
+         consoleDoubleClickSelect_ = bool(
+            "console_double_click_select",
+            _constants.consoleDoubleClickSelectTitle(), 
+            _constants.consoleDoubleClickSelectDescription(), 
+            false);
+      return consoleDoubleClickSelect_;
    }
 
+   private PrefValue<Boolean> consoleDoubleClickSelect_;
+
    /**
     * Whether the 'Auto Suspension Blocked' icon should appear in the R Console toolbar.
     */
    public PrefValue<Boolean> consoleSuspendBlockedNotice()
    {
-      return bool(
-         "console_suspend_blocked_notice",
-         _constants.consoleSuspendBlockedNoticeTitle(), 
-         _constants.consoleSuspendBlockedNoticeDescription(), 
-         true);
+      if (consoleSuspendBlockedNotice_ == null)
+         consoleSuspendBlockedNotice_ = bool(
+            "console_suspend_blocked_notice",
+            _constants.consoleSuspendBlockedNoticeTitle(), 
+            _constants.consoleSuspendBlockedNoticeDescription(), 
+            true);
+      return consoleSuspendBlockedNotice_;
    }
 
+   private PrefValue<Boolean> consoleSuspendBlockedNotice_;
+
    /**
     * How long to wait before warning that automatic session suspension has been paused. Higher values for less frequent notices.
     */
    public PrefValue<Integer> consoleSuspendBlockedNoticeDelay()
    {
-      return integer(
-         "console_suspend_blocked_notice_delay",
-         _constants.consoleSuspendBlockedNoticeDelayTitle(), 
-         _constants.consoleSuspendBlockedNoticeDelayDescription(), 
-         5);
+      if (consoleSuspendBlockedNoticeDelay_ == null)
+         consoleSuspendBlockedNoticeDelay_ = integer(
+            "console_suspend_blocked_notice_delay",
+            _constants.consoleSuspendBlockedNoticeDelayTitle(), 
+            _constants.consoleSuspendBlockedNoticeDelayDescription(), 
+            5);
+      return consoleSuspendBlockedNoticeDelay_;
    }
 
+   private PrefValue<Integer> consoleSuspendBlockedNoticeDelay_;
+
    /**
     * Whether a git repo should be initialized inside new projects by default.
     */
    public PrefValue<Boolean> newProjGitInit()
    {
-      return bool(
-         "new_proj_git_init",
-         _constants.newProjGitInitTitle(), 
-         _constants.newProjGitInitDescription(), 
-         false);
+      if (newProjGitInit_ == null)
+         newProjGitInit_ = bool(
+            "new_proj_git_init",
+            _constants.newProjGitInitTitle(), 
+            _constants.newProjGitInitDescription(), 
+            false);
+      return newProjGitInit_;
    }
 
+   private PrefValue<Boolean> newProjGitInit_;
+
    /**
     * Whether an renv environment should be created inside new projects by default.
     */
    public PrefValue<Boolean> newProjUseRenv()
    {
-      return bool(
-         "new_proj_use_renv",
-         _constants.newProjUseRenvTitle(), 
-         _constants.newProjUseRenvDescription(), 
-         false);
+      if (newProjUseRenv_ == null)
+         newProjUseRenv_ = bool(
+            "new_proj_use_renv",
+            _constants.newProjUseRenvTitle(), 
+            _constants.newProjUseRenvDescription(), 
+            false);
+      return newProjUseRenv_;
    }
 
+   private PrefValue<Boolean> newProjUseRenv_;
+
    /**
     * The root document to use when compiling PDF documents.
     */
    public PrefValue<String> rootDocument()
    {
-      return string(
-         "root_document",
-         _constants.rootDocumentTitle(), 
-         _constants.rootDocumentDescription(), 
-         "");
+      if (rootDocument_ == null)
+         rootDocument_ = string(
+            "root_document",
+            _constants.rootDocumentTitle(), 
+            _constants.rootDocumentDescription(), 
+            "");
+      return rootDocument_;
    }
 
+   private PrefValue<String> rootDocument_;
+
    /**
     * When to show the server home page in RStudio Workbench.
     */
    public PrefValue<String> showUserHomePage()
    {
-      return enumeration(
-         "show_user_home_page",
-         _constants.showUserHomePageTitle(), 
-         _constants.showUserHomePageDescription(), 
-         new String[] {
-            SHOW_USER_HOME_PAGE_ALWAYS,
-            SHOW_USER_HOME_PAGE_NEVER,
-            SHOW_USER_HOME_PAGE_SESSIONS
-         },
-         "sessions");
+      if (showUserHomePage_ == null)
+         showUserHomePage_ = enumeration(
+            "show_user_home_page",
+            _constants.showUserHomePageTitle(), 
+            _constants.showUserHomePageDescription(), 
+            new String[] {
+               SHOW_USER_HOME_PAGE_ALWAYS,
+               SHOW_USER_HOME_PAGE_NEVER,
+               SHOW_USER_HOME_PAGE_SESSIONS
+            },
+            "sessions");
+      return showUserHomePage_;
    }
 
+   private PrefValue<String> showUserHomePage_;
+
    public final static String SHOW_USER_HOME_PAGE_ALWAYS = "always";
    public final static String SHOW_USER_HOME_PAGE_NEVER = "never";
    public final static String SHOW_USER_HOME_PAGE_SESSIONS = "sessions";
@@ -2477,104 +3161,136 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> reuseSessionsForProjectLinks()
    {
-      return bool(
-         "reuse_sessions_for_project_links",
-         _constants.reuseSessionsForProjectLinksTitle(), 
-         _constants.reuseSessionsForProjectLinksDescription(), 
-         false);
+      if (reuseSessionsForProjectLinks_ == null)
+         reuseSessionsForProjectLinks_ = bool(
+            "reuse_sessions_for_project_links",
+            _constants.reuseSessionsForProjectLinksTitle(), 
+            _constants.reuseSessionsForProjectLinksDescription(), 
+            false);
+      return reuseSessionsForProjectLinks_;
    }
 
+   private PrefValue<Boolean> reuseSessionsForProjectLinks_;
+
    /**
     * Whether to enable RStudio's version control system interface.
     */
    public PrefValue<Boolean> vcsEnabled()
    {
-      return bool(
-         "vcs_enabled",
-         _constants.vcsEnabledTitle(), 
-         _constants.vcsEnabledDescription(), 
-         true);
+      if (vcsEnabled_ == null)
+         vcsEnabled_ = bool(
+            "vcs_enabled",
+            _constants.vcsEnabledTitle(), 
+            _constants.vcsEnabledDescription(), 
+            true);
+      return vcsEnabled_;
    }
 
+   private PrefValue<Boolean> vcsEnabled_;
+
    /**
     * Automatically refresh VCS status?
     */
    public PrefValue<Boolean> vcsAutorefresh()
    {
-      return bool(
-         "vcs_autorefresh",
-         _constants.vcsAutorefreshTitle(), 
-         _constants.vcsAutorefreshDescription(), 
-         true);
+      if (vcsAutorefresh_ == null)
+         vcsAutorefresh_ = bool(
+            "vcs_autorefresh",
+            _constants.vcsAutorefreshTitle(), 
+            _constants.vcsAutorefreshDescription(), 
+            true);
+      return vcsAutorefresh_;
    }
 
+   private PrefValue<Boolean> vcsAutorefresh_;
+
    /**
     * The path to the Git executable to use.
     */
    public PrefValue<String> gitExePath()
    {
-      return string(
-         "git_exe_path",
-         _constants.gitExePathTitle(), 
-         _constants.gitExePathDescription(), 
-         "");
+      if (gitExePath_ == null)
+         gitExePath_ = string(
+            "git_exe_path",
+            _constants.gitExePathTitle(), 
+            _constants.gitExePathDescription(), 
+            "");
+      return gitExePath_;
    }
 
+   private PrefValue<String> gitExePath_;
+
    /**
     * The path to the Subversion executable to use.
     */
    public PrefValue<String> svnExePath()
    {
-      return string(
-         "svn_exe_path",
-         _constants.svnExePathTitle(), 
-         _constants.svnExePathDescription(), 
-         "");
+      if (svnExePath_ == null)
+         svnExePath_ = string(
+            "svn_exe_path",
+            _constants.svnExePathTitle(), 
+            _constants.svnExePathDescription(), 
+            "");
+      return svnExePath_;
    }
 
+   private PrefValue<String> svnExePath_;
+
    /**
     * The path to the terminal executable to use.
     */
    public PrefValue<String> terminalPath()
    {
-      return string(
-         "terminal_path",
-         _constants.terminalPathTitle(), 
-         _constants.terminalPathDescription(), 
-         "");
+      if (terminalPath_ == null)
+         terminalPath_ = string(
+            "terminal_path",
+            _constants.terminalPathTitle(), 
+            _constants.terminalPathDescription(), 
+            "");
+      return terminalPath_;
    }
 
+   private PrefValue<String> terminalPath_;
+
    /**
     * The path to the SSH key file to use.
     */
    public PrefValue<String> rsaKeyPath()
    {
-      return string(
-         "rsa_key_path",
-         _constants.rsaKeyPathTitle(), 
-         _constants.rsaKeyPathDescription(), 
-         "");
+      if (rsaKeyPath_ == null)
+         rsaKeyPath_ = string(
+            "rsa_key_path",
+            _constants.rsaKeyPathTitle(), 
+            _constants.rsaKeyPathDescription(), 
+            "");
+      return rsaKeyPath_;
    }
 
+   private PrefValue<String> rsaKeyPath_;
+
    /**
     * The encryption type to use for the SSH key file.
     */
    public PrefValue<String> sshKeyType()
    {
-      return enumeration(
-         "ssh_key_type",
-         _constants.sshKeyTypeTitle(), 
-         _constants.sshKeyTypeDescription(), 
-         new String[] {
-            SSH_KEY_TYPE_ED25519,
-            SSH_KEY_TYPE_RSA
-         },
-         "ed25519",
-         new String[] {
-            _constants.sshKeyTypeEnum_ed25519(),
-            _constants.sshKeyTypeEnum_rsa()
-         });
-   }
+      if (sshKeyType_ == null)
+         sshKeyType_ = enumeration(
+            "ssh_key_type",
+            _constants.sshKeyTypeTitle(), 
+            _constants.sshKeyTypeDescription(), 
+            new String[] {
+               SSH_KEY_TYPE_ED25519,
+               SSH_KEY_TYPE_RSA
+            },
+            "ed25519",
+            new String[] {
+               _constants.sshKeyTypeEnum_ed25519(),
+               _constants.sshKeyTypeEnum_rsa()
+            });
+      return sshKeyType_;
+   }
+
+   private PrefValue<String> sshKeyType_;
 
    public final static String SSH_KEY_TYPE_ED25519 = "ed25519";
    public final static String SSH_KEY_TYPE_RSA = "rsa";
@@ -2584,181 +3300,241 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> useDevtools()
    {
-      return bool(
-         "use_devtools",
-         _constants.useDevtoolsTitle(), 
-         _constants.useDevtoolsDescription(), 
-         true);
+      if (useDevtools_ == null)
+         useDevtools_ = bool(
+            "use_devtools",
+            _constants.useDevtoolsTitle(), 
+            _constants.useDevtoolsDescription(), 
+            true);
+      return useDevtools_;
    }
 
+   private PrefValue<Boolean> useDevtools_;
+
    /**
     * Always use --preclean when installing package.
     */
    public PrefValue<Boolean> cleanBeforeInstall()
    {
-      return bool(
-         "clean_before_install",
-         _constants.cleanBeforeInstallTitle(), 
-         _constants.cleanBeforeInstallDescription(), 
-         true);
+      if (cleanBeforeInstall_ == null)
+         cleanBeforeInstall_ = bool(
+            "clean_before_install",
+            _constants.cleanBeforeInstallTitle(), 
+            _constants.cleanBeforeInstallDescription(), 
+            true);
+      return cleanBeforeInstall_;
    }
 
+   private PrefValue<Boolean> cleanBeforeInstall_;
+
    /**
     * Whether to use secure downloads when fetching R packages.
     */
    public PrefValue<Boolean> useSecureDownload()
    {
-      return bool(
-         "use_secure_download",
-         _constants.useSecureDownloadTitle(), 
-         _constants.useSecureDownloadDescription(), 
-         true);
+      if (useSecureDownload_ == null)
+         useSecureDownload_ = bool(
+            "use_secure_download",
+            _constants.useSecureDownloadTitle(), 
+            _constants.useSecureDownloadDescription(), 
+            true);
+      return useSecureDownload_;
    }
 
+   private PrefValue<Boolean> useSecureDownload_;
+
    /**
     * Whether to clean up temporary files after running R CMD CHECK.
     */
    public PrefValue<Boolean> cleanupAfterRCmdCheck()
    {
-      return bool(
-         "cleanup_after_r_cmd_check",
-         _constants.cleanupAfterRCmdCheckTitle(), 
-         _constants.cleanupAfterRCmdCheckDescription(), 
-         true);
+      if (cleanupAfterRCmdCheck_ == null)
+         cleanupAfterRCmdCheck_ = bool(
+            "cleanup_after_r_cmd_check",
+            _constants.cleanupAfterRCmdCheckTitle(), 
+            _constants.cleanupAfterRCmdCheckDescription(), 
+            true);
+      return cleanupAfterRCmdCheck_;
    }
 
+   private PrefValue<Boolean> cleanupAfterRCmdCheck_;
+
    /**
     * Whether to view the directory after running R CMD CHECK.
     */
    public PrefValue<Boolean> viewDirAfterRCmdCheck()
    {
-      return bool(
-         "view_dir_after_r_cmd_check",
-         _constants.viewDirAfterRCmdCheckTitle(), 
-         _constants.viewDirAfterRCmdCheckDescription(), 
-         false);
+      if (viewDirAfterRCmdCheck_ == null)
+         viewDirAfterRCmdCheck_ = bool(
+            "view_dir_after_r_cmd_check",
+            _constants.viewDirAfterRCmdCheckTitle(), 
+            _constants.viewDirAfterRCmdCheckDescription(), 
+            false);
+      return viewDirAfterRCmdCheck_;
    }
 
+   private PrefValue<Boolean> viewDirAfterRCmdCheck_;
+
    /**
     * Whether to hide object files in the Files pane.
     */
    public PrefValue<Boolean> hideObjectFiles()
    {
-      return bool(
-         "hide_object_files",
-         _constants.hideObjectFilesTitle(), 
-         _constants.hideObjectFilesDescription(), 
-         true);
+      if (hideObjectFiles_ == null)
+         hideObjectFiles_ = bool(
+            "hide_object_files",
+            _constants.hideObjectFilesTitle(), 
+            _constants.hideObjectFilesDescription(), 
+            true);
+      return hideObjectFiles_;
    }
 
+   private PrefValue<Boolean> hideObjectFiles_;
+
    /**
     * Whether to restore the last project when starting RStudio.
     */
    public PrefValue<Boolean> restoreLastProject()
    {
-      return bool(
-         "restore_last_project",
-         _constants.restoreLastProjectTitle(), 
-         _constants.restoreLastProjectDescription(), 
-         true);
+      if (restoreLastProject_ == null)
+         restoreLastProject_ = bool(
+            "restore_last_project",
+            _constants.restoreLastProjectTitle(), 
+            _constants.restoreLastProjectDescription(), 
+            true);
+      return restoreLastProject_;
    }
 
+   private PrefValue<Boolean> restoreLastProject_;
+
    /**
     * The number of seconds after which a project is deemed to have successfully started.
     */
    public PrefValue<Integer> projectSafeStartupSeconds()
    {
-      return integer(
-         "project_safe_startup_seconds",
-         _constants.projectSafeStartupSecondsTitle(), 
-         _constants.projectSafeStartupSecondsDescription(), 
-         30);
+      if (projectSafeStartupSeconds_ == null)
+         projectSafeStartupSeconds_ = integer(
+            "project_safe_startup_seconds",
+            _constants.projectSafeStartupSecondsTitle(), 
+            _constants.projectSafeStartupSecondsDescription(), 
+            30);
+      return projectSafeStartupSeconds_;
    }
 
+   private PrefValue<Integer> projectSafeStartupSeconds_;
+
    /**
     * Use tinytex to compile .tex files.
     */
    public PrefValue<Boolean> useTinytex()
    {
-      return bool(
-         "use_tinytex",
-         _constants.useTinytexTitle(), 
-         _constants.useTinytexDescription(), 
-         false);
+      if (useTinytex_ == null)
+         useTinytex_ = bool(
+            "use_tinytex",
+            _constants.useTinytexTitle(), 
+            _constants.useTinytexDescription(), 
+            false);
+      return useTinytex_;
    }
 
+   private PrefValue<Boolean> useTinytex_;
+
    /**
     * Whether to clean output after running Texi2Dvi.
     */
    public PrefValue<Boolean> cleanTexi2dviOutput()
    {
-      return bool(
-         "clean_texi2dvi_output",
-         _constants.cleanTexi2dviOutputTitle(), 
-         _constants.cleanTexi2dviOutputDescription(), 
-         true);
+      if (cleanTexi2dviOutput_ == null)
+         cleanTexi2dviOutput_ = bool(
+            "clean_texi2dvi_output",
+            _constants.cleanTexi2dviOutputTitle(), 
+            _constants.cleanTexi2dviOutputDescription(), 
+            true);
+      return cleanTexi2dviOutput_;
    }
 
+   private PrefValue<Boolean> cleanTexi2dviOutput_;
+
    /**
     * Whether to enable shell escaping with LaTeX documents.
     */
    public PrefValue<Boolean> latexShellEscape()
    {
-      return bool(
-         "latex_shell_escape",
-         _constants.latexShellEscapeTitle(), 
-         _constants.latexShellEscapeDescription(), 
-         false);
+      if (latexShellEscape_ == null)
+         latexShellEscape_ = bool(
+            "latex_shell_escape",
+            _constants.latexShellEscapeTitle(), 
+            _constants.latexShellEscapeDescription(), 
+            false);
+      return latexShellEscape_;
    }
 
+   private PrefValue<Boolean> latexShellEscape_;
+
    /**
     * Whether to restore the last version of R used by the project in RStudio Pro and RStudio Workbench.
     */
    public PrefValue<Boolean> restoreProjectRVersion()
    {
-      return bool(
-         "restore_project_r_version",
-         _constants.restoreProjectRVersionTitle(), 
-         _constants.restoreProjectRVersionDescription(), 
-         true);
+      if (restoreProjectRVersion_ == null)
+         restoreProjectRVersion_ = bool(
+            "restore_project_r_version",
+            _constants.restoreProjectRVersionTitle(), 
+            _constants.restoreProjectRVersionDescription(), 
+            true);
+      return restoreProjectRVersion_;
    }
 
+   private PrefValue<Boolean> restoreProjectRVersion_;
+
    /**
     * The verbosity level to use with Clang (0 - 2)
     */
    public PrefValue<Integer> clangVerbose()
    {
-      return integer(
-         "clang_verbose",
-         _constants.clangVerboseTitle(), 
-         _constants.clangVerboseDescription(), 
-         0);
+      if (clangVerbose_ == null)
+         clangVerbose_ = integer(
+            "clang_verbose",
+            _constants.clangVerboseTitle(), 
+            _constants.clangVerboseDescription(), 
+            0);
+      return clangVerbose_;
    }
 
+   private PrefValue<Integer> clangVerbose_;
+
    /**
     * Whether to automatically submit crash reports to RStudio.
     */
    public PrefValue<Boolean> submitCrashReports()
    {
-      return bool(
-         "submit_crash_reports",
-         _constants.submitCrashReportsTitle(), 
-         _constants.submitCrashReportsDescription(), 
-         true);
+      if (submitCrashReports_ == null)
+         submitCrashReports_ = bool(
+            "submit_crash_reports",
+            _constants.submitCrashReportsTitle(), 
+            _constants.submitCrashReportsDescription(), 
+            true);
+      return submitCrashReports_;
    }
 
+   private PrefValue<Boolean> submitCrashReports_;
+
    /**
     * The R version to use by default.
     */
    public PrefValue<DefaultRVersion> defaultRVersion()
    {
-      return object(
-         "default_r_version",
-         _constants.defaultRVersionTitle(), 
-         _constants.defaultRVersionDescription(), 
-         null);
+      if (defaultRVersion_ == null)
+         defaultRVersion_ = object(
+            "default_r_version",
+            _constants.defaultRVersionTitle(), 
+            _constants.defaultRVersionDescription(), 
+            null);
+      return defaultRVersion_;
    }
 
+   private PrefValue<DefaultRVersion> defaultRVersion_;
+
    public static class DefaultRVersion extends JavaScriptObject
    {
       protected DefaultRVersion() {} 
@@ -2786,130 +3562,170 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Integer> dataViewerMaxColumns()
    {
-      return integer(
-         "data_viewer_max_columns",
-         _constants.dataViewerMaxColumnsTitle(), 
-         _constants.dataViewerMaxColumnsDescription(), 
-         50);
+      if (dataViewerMaxColumns_ == null)
+         dataViewerMaxColumns_ = integer(
+            "data_viewer_max_columns",
+            _constants.dataViewerMaxColumnsTitle(), 
+            _constants.dataViewerMaxColumnsDescription(), 
+            50);
+      return dataViewerMaxColumns_;
    }
 
+   private PrefValue<Integer> dataViewerMaxColumns_;
+
    /**
     * The maximum number of characters to show in a data viewer cell.
     */
    public PrefValue<Integer> dataViewerMaxCellSize()
    {
-      return integer(
-         "data_viewer_max_cell_size",
-         _constants.dataViewerMaxCellSizeTitle(), 
-         _constants.dataViewerMaxCellSizeDescription(), 
-         50);
+      if (dataViewerMaxCellSize_ == null)
+         dataViewerMaxCellSize_ = integer(
+            "data_viewer_max_cell_size",
+            _constants.dataViewerMaxCellSizeTitle(), 
+            _constants.dataViewerMaxCellSizeDescription(), 
+            50);
+      return dataViewerMaxCellSize_;
    }
 
+   private PrefValue<Integer> dataViewerMaxCellSize_;
+
    /**
     * Support accessibility aids such as screen readers.
     */
    public PrefValue<Boolean> enableScreenReader()
    {
-      return bool(
-         "enable_screen_reader",
-         _constants.enableScreenReaderTitle(), 
-         _constants.enableScreenReaderDescription(), 
-         false);
+      if (enableScreenReader_ == null)
+         enableScreenReader_ = bool(
+            "enable_screen_reader",
+            _constants.enableScreenReaderTitle(), 
+            _constants.enableScreenReaderDescription(), 
+            false);
+      return enableScreenReader_;
    }
 
+   private PrefValue<Boolean> enableScreenReader_;
+
    /**
     * Number of milliseconds to wait after last keystroke before updating live region.
     */
    public PrefValue<Integer> typingStatusDelayMs()
    {
-      return integer(
-         "typing_status_delay_ms",
-         _constants.typingStatusDelayMsTitle(), 
-         _constants.typingStatusDelayMsDescription(), 
-         2000);
+      if (typingStatusDelayMs_ == null)
+         typingStatusDelayMs_ = integer(
+            "typing_status_delay_ms",
+            _constants.typingStatusDelayMsTitle(), 
+            _constants.typingStatusDelayMsDescription(), 
+            2000);
+      return typingStatusDelayMs_;
    }
 
+   private PrefValue<Integer> typingStatusDelayMs_;
+
    /**
     * Reduce use of animations in the user interface.
     */
    public PrefValue<Boolean> reducedMotion()
    {
-      return bool(
-         "reduced_motion",
-         _constants.reducedMotionTitle(), 
-         _constants.reducedMotionDescription(), 
-         false);
+      if (reducedMotion_ == null)
+         reducedMotion_ = bool(
+            "reduced_motion",
+            _constants.reducedMotionTitle(), 
+            _constants.reducedMotionDescription(), 
+            false);
+      return reducedMotion_;
    }
 
+   private PrefValue<Boolean> reducedMotion_;
+
    /**
     * Tab key moves focus out of text editing controls instead of inserting tabs.
     */
    public PrefValue<Boolean> tabKeyMoveFocus()
    {
-      return bool(
-         "tab_key_move_focus",
-         _constants.tabKeyMoveFocusTitle(), 
-         _constants.tabKeyMoveFocusDescription(), 
-         false);
+      if (tabKeyMoveFocus_ == null)
+         tabKeyMoveFocus_ = bool(
+            "tab_key_move_focus",
+            _constants.tabKeyMoveFocusTitle(), 
+            _constants.tabKeyMoveFocusDescription(), 
+            false);
+      return tabKeyMoveFocus_;
    }
 
+   private PrefValue<Boolean> tabKeyMoveFocus_;
+
    /**
     * In source editor find panel, tab key moves focus directly from find text to replace text.
     */
    public PrefValue<Boolean> findPanelLegacyTabSequence()
    {
-      return bool(
-         "find_panel_legacy_tab_sequence",
-         _constants.findPanelLegacyTabSequenceTitle(), 
-         _constants.findPanelLegacyTabSequenceDescription(), 
-         false);
+      if (findPanelLegacyTabSequence_ == null)
+         findPanelLegacyTabSequence_ = bool(
+            "find_panel_legacy_tab_sequence",
+            _constants.findPanelLegacyTabSequenceTitle(), 
+            _constants.findPanelLegacyTabSequenceDescription(), 
+            false);
+      return findPanelLegacyTabSequence_;
    }
 
+   private PrefValue<Boolean> findPanelLegacyTabSequence_;
+
    /**
     * Control with keyboard focus displays a visual focus indicator.
     */
    public PrefValue<Boolean> showFocusRectangles()
    {
-      return bool(
-         "show_focus_rectangles",
-         _constants.showFocusRectanglesTitle(), 
-         _constants.showFocusRectanglesDescription(), 
-         true);
+      if (showFocusRectangles_ == null)
+         showFocusRectangles_ = bool(
+            "show_focus_rectangles",
+            _constants.showFocusRectanglesTitle(), 
+            _constants.showFocusRectanglesDescription(), 
+            true);
+      return showFocusRectangles_;
    }
 
+   private PrefValue<Boolean> showFocusRectangles_;
+
    /**
     * Show which panel contains keyboard focus.
     */
    public PrefValue<Boolean> showPanelFocusRectangle()
    {
-      return bool(
-         "show_panel_focus_rectangle",
-         _constants.showPanelFocusRectangleTitle(), 
-         _constants.showPanelFocusRectangleDescription(), 
-         false);
+      if (showPanelFocusRectangle_ == null)
+         showPanelFocusRectangle_ = bool(
+            "show_panel_focus_rectangle",
+            _constants.showPanelFocusRectangleTitle(), 
+            _constants.showPanelFocusRectangleDescription(), 
+            false);
+      return showPanelFocusRectangle_;
    }
 
+   private PrefValue<Boolean> showPanelFocusRectangle_;
+
    /**
     * How to deal with changes to documents on idle.
     */
    public PrefValue<String> autoSaveOnIdle()
    {
-      return enumeration(
-         "auto_save_on_idle",
-         _constants.autoSaveOnIdleTitle(), 
-         _constants.autoSaveOnIdleDescription(), 
-         new String[] {
-            AUTO_SAVE_ON_IDLE_COMMIT,
-            AUTO_SAVE_ON_IDLE_BACKUP,
-            AUTO_SAVE_ON_IDLE_NONE
-         },
-         "backup",
-         new String[] {
-            _constants.autoSaveOnIdleEnum_commit(),
-            _constants.autoSaveOnIdleEnum_backup(),
-            _constants.autoSaveOnIdleEnum_none()
-         });
-   }
+      if (autoSaveOnIdle_ == null)
+         autoSaveOnIdle_ = enumeration(
+            "auto_save_on_idle",
+            _constants.autoSaveOnIdleTitle(), 
+            _constants.autoSaveOnIdleDescription(), 
+            new String[] {
+               AUTO_SAVE_ON_IDLE_COMMIT,
+               AUTO_SAVE_ON_IDLE_BACKUP,
+               AUTO_SAVE_ON_IDLE_NONE
+            },
+            "backup",
+            new String[] {
+               _constants.autoSaveOnIdleEnum_commit(),
+               _constants.autoSaveOnIdleEnum_backup(),
+               _constants.autoSaveOnIdleEnum_none()
+            });
+      return autoSaveOnIdle_;
+   }
+
+   private PrefValue<String> autoSaveOnIdle_;
 
    public final static String AUTO_SAVE_ON_IDLE_COMMIT = "commit";
    public final static String AUTO_SAVE_ON_IDLE_BACKUP = "backup";
@@ -2920,42 +3736,54 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Integer> autoSaveIdleMs()
    {
-      return integer(
-         "auto_save_idle_ms",
-         _constants.autoSaveIdleMsTitle(), 
-         _constants.autoSaveIdleMsDescription(), 
-         1000);
+      if (autoSaveIdleMs_ == null)
+         autoSaveIdleMs_ = integer(
+            "auto_save_idle_ms",
+            _constants.autoSaveIdleMsTitle(), 
+            _constants.autoSaveIdleMsDescription(), 
+            1000);
+      return autoSaveIdleMs_;
    }
 
+   private PrefValue<Integer> autoSaveIdleMs_;
+
    /**
     * Whether to automatically save when the editor loses focus.
     */
    public PrefValue<Boolean> autoSaveOnBlur()
    {
-      return bool(
-         "auto_save_on_blur",
-         _constants.autoSaveOnBlurTitle(), 
-         _constants.autoSaveOnBlurDescription(), 
-         false);
+      if (autoSaveOnBlur_ == null)
+         autoSaveOnBlur_ = bool(
+            "auto_save_on_blur",
+            _constants.autoSaveOnBlurTitle(), 
+            _constants.autoSaveOnBlurDescription(), 
+            false);
+      return autoSaveOnBlur_;
    }
 
+   private PrefValue<Boolean> autoSaveOnBlur_;
+
    /**
     * Initial directory for new terminals.
     */
    public PrefValue<String> terminalInitialDirectory()
    {
-      return enumeration(
-         "terminal_initial_directory",
-         _constants.terminalInitialDirectoryTitle(), 
-         _constants.terminalInitialDirectoryDescription(), 
-         new String[] {
-            TERMINAL_INITIAL_DIRECTORY_PROJECT,
-            TERMINAL_INITIAL_DIRECTORY_CURRENT,
-            TERMINAL_INITIAL_DIRECTORY_HOME
-         },
-         "project");
+      if (terminalInitialDirectory_ == null)
+         terminalInitialDirectory_ = enumeration(
+            "terminal_initial_directory",
+            _constants.terminalInitialDirectoryTitle(), 
+            _constants.terminalInitialDirectoryDescription(), 
+            new String[] {
+               TERMINAL_INITIAL_DIRECTORY_PROJECT,
+               TERMINAL_INITIAL_DIRECTORY_CURRENT,
+               TERMINAL_INITIAL_DIRECTORY_HOME
+            },
+            "project");
+      return terminalInitialDirectory_;
    }
 
+   private PrefValue<String> terminalInitialDirectory_;
+
    public final static String TERMINAL_INITIAL_DIRECTORY_PROJECT = "project";
    public final static String TERMINAL_INITIAL_DIRECTORY_CURRENT = "current";
    public final static String TERMINAL_INITIAL_DIRECTORY_HOME = "home";
@@ -2965,41 +3793,53 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> fullProjectPathInWindowTitle()
    {
-      return bool(
-         "full_project_path_in_window_title",
-         _constants.fullProjectPathInWindowTitleTitle(), 
-         _constants.fullProjectPathInWindowTitleDescription(), 
-         false);
+      if (fullProjectPathInWindowTitle_ == null)
+         fullProjectPathInWindowTitle_ = bool(
+            "full_project_path_in_window_title",
+            _constants.fullProjectPathInWindowTitleTitle(), 
+            _constants.fullProjectPathInWindowTitleDescription(), 
+            false);
+      return fullProjectPathInWindowTitle_;
    }
 
+   private PrefValue<Boolean> fullProjectPathInWindowTitle_;
+
    /**
     * Whether to enable visual editing by default for new markdown documents
     */
    public PrefValue<Boolean> visualMarkdownEditingIsDefault()
    {
-      return bool(
-         "visual_markdown_editing_is_default",
-         _constants.visualMarkdownEditingIsDefaultTitle(), 
-         _constants.visualMarkdownEditingIsDefaultDescription(), 
-         false);
+      if (visualMarkdownEditingIsDefault_ == null)
+         visualMarkdownEditingIsDefault_ = bool(
+            "visual_markdown_editing_is_default",
+            _constants.visualMarkdownEditingIsDefaultTitle(), 
+            _constants.visualMarkdownEditingIsDefaultDescription(), 
+            false);
+      return visualMarkdownEditingIsDefault_;
    }
 
+   private PrefValue<Boolean> visualMarkdownEditingIsDefault_;
+
    /**
     * Default spacing for lists created in the visual editor
     */
    public PrefValue<String> visualMarkdownEditingListSpacing()
    {
-      return enumeration(
-         "visual_markdown_editing_list_spacing",
-         _constants.visualMarkdownEditingListSpacingTitle(), 
-         _constants.visualMarkdownEditingListSpacingDescription(), 
-         new String[] {
-            VISUAL_MARKDOWN_EDITING_LIST_SPACING_TIGHT,
-            VISUAL_MARKDOWN_EDITING_LIST_SPACING_SPACED
-         },
-         "spaced");
+      if (visualMarkdownEditingListSpacing_ == null)
+         visualMarkdownEditingListSpacing_ = enumeration(
+            "visual_markdown_editing_list_spacing",
+            _constants.visualMarkdownEditingListSpacingTitle(), 
+            _constants.visualMarkdownEditingListSpacingDescription(), 
+            new String[] {
+               VISUAL_MARKDOWN_EDITING_LIST_SPACING_TIGHT,
+               VISUAL_MARKDOWN_EDITING_LIST_SPACING_SPACED
+            },
+            "spaced");
+      return visualMarkdownEditingListSpacing_;
    }
 
+   private PrefValue<String> visualMarkdownEditingListSpacing_;
+
    public final static String VISUAL_MARKDOWN_EDITING_LIST_SPACING_TIGHT = "tight";
    public final static String VISUAL_MARKDOWN_EDITING_LIST_SPACING_SPACED = "spaced";
 
@@ -3008,18 +3848,22 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> visualMarkdownEditingWrap()
    {
-      return enumeration(
-         "visual_markdown_editing_wrap",
-         _constants.visualMarkdownEditingWrapTitle(), 
-         _constants.visualMarkdownEditingWrapDescription(), 
-         new String[] {
-            VISUAL_MARKDOWN_EDITING_WRAP_NONE,
-            VISUAL_MARKDOWN_EDITING_WRAP_COLUMN,
-            VISUAL_MARKDOWN_EDITING_WRAP_SENTENCE
-         },
-         "none");
+      if (visualMarkdownEditingWrap_ == null)
+         visualMarkdownEditingWrap_ = enumeration(
+            "visual_markdown_editing_wrap",
+            _constants.visualMarkdownEditingWrapTitle(), 
+            _constants.visualMarkdownEditingWrapDescription(), 
+            new String[] {
+               VISUAL_MARKDOWN_EDITING_WRAP_NONE,
+               VISUAL_MARKDOWN_EDITING_WRAP_COLUMN,
+               VISUAL_MARKDOWN_EDITING_WRAP_SENTENCE
+            },
+            "none");
+      return visualMarkdownEditingWrap_;
    }
 
+   private PrefValue<String> visualMarkdownEditingWrap_;
+
    public final static String VISUAL_MARKDOWN_EDITING_WRAP_NONE = "none";
    public final static String VISUAL_MARKDOWN_EDITING_WRAP_COLUMN = "column";
    public final static String VISUAL_MARKDOWN_EDITING_WRAP_SENTENCE = "sentence";
@@ -3029,30 +3873,38 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Integer> visualMarkdownEditingWrapAtColumn()
    {
-      return integer(
-         "visual_markdown_editing_wrap_at_column",
-         _constants.visualMarkdownEditingWrapAtColumnTitle(), 
-         _constants.visualMarkdownEditingWrapAtColumnDescription(), 
-         72);
+      if (visualMarkdownEditingWrapAtColumn_ == null)
+         visualMarkdownEditingWrapAtColumn_ = integer(
+            "visual_markdown_editing_wrap_at_column",
+            _constants.visualMarkdownEditingWrapAtColumnTitle(), 
+            _constants.visualMarkdownEditingWrapAtColumnDescription(), 
+            72);
+      return visualMarkdownEditingWrapAtColumn_;
    }
 
+   private PrefValue<Integer> visualMarkdownEditingWrapAtColumn_;
+
    /**
     * Placement of footnotes within markdown output.
     */
    public PrefValue<String> visualMarkdownEditingReferencesLocation()
    {
-      return enumeration(
-         "visual_markdown_editing_references_location",
-         _constants.visualMarkdownEditingReferencesLocationTitle(), 
-         _constants.visualMarkdownEditingReferencesLocationDescription(), 
-         new String[] {
-            VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_BLOCK,
-            VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_SECTION,
-            VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_DOCUMENT
-         },
-         "block");
+      if (visualMarkdownEditingReferencesLocation_ == null)
+         visualMarkdownEditingReferencesLocation_ = enumeration(
+            "visual_markdown_editing_references_location",
+            _constants.visualMarkdownEditingReferencesLocationTitle(), 
+            _constants.visualMarkdownEditingReferencesLocationDescription(), 
+            new String[] {
+               VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_BLOCK,
+               VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_SECTION,
+               VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_DOCUMENT
+            },
+            "block");
+      return visualMarkdownEditingReferencesLocation_;
    }
 
+   private PrefValue<String> visualMarkdownEditingReferencesLocation_;
+
    public final static String VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_BLOCK = "block";
    public final static String VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_SECTION = "section";
    public final static String VISUAL_MARKDOWN_EDITING_REFERENCES_LOCATION_DOCUMENT = "document";
@@ -3062,89 +3914,117 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> visualMarkdownEditingCanonical()
    {
-      return bool(
-         "visual_markdown_editing_canonical",
-         _constants.visualMarkdownEditingCanonicalTitle(), 
-         _constants.visualMarkdownEditingCanonicalDescription(), 
-         false);
+      if (visualMarkdownEditingCanonical_ == null)
+         visualMarkdownEditingCanonical_ = bool(
+            "visual_markdown_editing_canonical",
+            _constants.visualMarkdownEditingCanonicalTitle(), 
+            _constants.visualMarkdownEditingCanonicalDescription(), 
+            false);
+      return visualMarkdownEditingCanonical_;
    }
 
+   private PrefValue<Boolean> visualMarkdownEditingCanonical_;
+
    /**
     * Maximum content width for visual editing mode, in pixels
     */
    public PrefValue<Integer> visualMarkdownEditingMaxContentWidth()
    {
-      return integer(
-         "visual_markdown_editing_max_content_width",
-         _constants.visualMarkdownEditingMaxContentWidthTitle(), 
-         _constants.visualMarkdownEditingMaxContentWidthDescription(), 
-         700);
+      if (visualMarkdownEditingMaxContentWidth_ == null)
+         visualMarkdownEditingMaxContentWidth_ = integer(
+            "visual_markdown_editing_max_content_width",
+            _constants.visualMarkdownEditingMaxContentWidthTitle(), 
+            _constants.visualMarkdownEditingMaxContentWidthDescription(), 
+            700);
+      return visualMarkdownEditingMaxContentWidth_;
    }
 
+   private PrefValue<Integer> visualMarkdownEditingMaxContentWidth_;
+
    /**
     * Whether to show the document outline by default when opening R Markdown documents in visual mode.
     */
    public PrefValue<Boolean> visualMarkdownEditingShowDocOutline()
    {
-      return bool(
-         "visual_markdown_editing_show_doc_outline",
-         _constants.visualMarkdownEditingShowDocOutlineTitle(), 
-         _constants.visualMarkdownEditingShowDocOutlineDescription(), 
-         true);
+      if (visualMarkdownEditingShowDocOutline_ == null)
+         visualMarkdownEditingShowDocOutline_ = bool(
+            "visual_markdown_editing_show_doc_outline",
+            _constants.visualMarkdownEditingShowDocOutlineTitle(), 
+            _constants.visualMarkdownEditingShowDocOutlineDescription(), 
+            true);
+      return visualMarkdownEditingShowDocOutline_;
    }
 
+   private PrefValue<Boolean> visualMarkdownEditingShowDocOutline_;
+
    /**
     * Whether to show the margin guide in the visual mode code blocks.
     */
    public PrefValue<Boolean> visualMarkdownEditingShowMargin()
    {
-      return bool(
-         "visual_markdown_editing_show_margin",
-         _constants.visualMarkdownEditingShowMarginTitle(), 
-         _constants.visualMarkdownEditingShowMarginDescription(), 
-         false);
+      if (visualMarkdownEditingShowMargin_ == null)
+         visualMarkdownEditingShowMargin_ = bool(
+            "visual_markdown_editing_show_margin",
+            _constants.visualMarkdownEditingShowMarginTitle(), 
+            _constants.visualMarkdownEditingShowMarginDescription(), 
+            false);
+      return visualMarkdownEditingShowMargin_;
    }
 
+   private PrefValue<Boolean> visualMarkdownEditingShowMargin_;
+
    /**
     * Whether to show line numbers in the code editors used in visual mode
     */
    public PrefValue<Boolean> visualMarkdownCodeEditorLineNumbers()
    {
-      return bool(
-         "visual_markdown_code_editor_line_numbers",
-         _constants.visualMarkdownCodeEditorLineNumbersTitle(), 
-         _constants.visualMarkdownCodeEditorLineNumbersDescription(), 
-         false);
+      if (visualMarkdownCodeEditorLineNumbers_ == null)
+         visualMarkdownCodeEditorLineNumbers_ = bool(
+            "visual_markdown_code_editor_line_numbers",
+            _constants.visualMarkdownCodeEditorLineNumbersTitle(), 
+            _constants.visualMarkdownCodeEditorLineNumbersDescription(), 
+            false);
+      return visualMarkdownCodeEditorLineNumbers_;
    }
 
+   private PrefValue<Boolean> visualMarkdownCodeEditorLineNumbers_;
+
    /**
     * The default visual editing mode font size, in points
     */
    public PrefValue<Integer> visualMarkdownEditingFontSizePoints()
    {
-      return integer(
-         "visual_markdown_editing_font_size_points",
-         _constants.visualMarkdownEditingFontSizePointsTitle(), 
-         _constants.visualMarkdownEditingFontSizePointsDescription(), 
-         0);
+      if (visualMarkdownEditingFontSizePoints_ == null)
+         visualMarkdownEditingFontSizePoints_ = integer(
+            "visual_markdown_editing_font_size_points",
+            _constants.visualMarkdownEditingFontSizePointsTitle(), 
+            _constants.visualMarkdownEditingFontSizePointsDescription(), 
+            0);
+      return visualMarkdownEditingFontSizePoints_;
    }
 
+   private PrefValue<Integer> visualMarkdownEditingFontSizePoints_;
+
    /**
     * The name of the editor to use to provide code editing in visual mode
     */
    public PrefValue<String> visualMarkdownCodeEditor()
    {
-      return enumeration(
-         "visual_markdown_code_editor",
-         _constants.visualMarkdownCodeEditorTitle(), 
-         _constants.visualMarkdownCodeEditorDescription(), 
-         new String[] {
-            VISUAL_MARKDOWN_CODE_EDITOR_ACE,
-            VISUAL_MARKDOWN_CODE_EDITOR_CODEMIRROR
-         },
-         "ace");
+      if (visualMarkdownCodeEditor_ == null)
+         visualMarkdownCodeEditor_ = enumeration(
+            "visual_markdown_code_editor",
+            _constants.visualMarkdownCodeEditorTitle(), 
+            _constants.visualMarkdownCodeEditorDescription(), 
+            new String[] {
+               VISUAL_MARKDOWN_CODE_EDITOR_ACE,
+               VISUAL_MARKDOWN_CODE_EDITOR_CODEMIRROR
+            },
+            "ace");
+      return visualMarkdownCodeEditor_;
    }
 
+   private PrefValue<String> visualMarkdownCodeEditor_;
+
    public final static String VISUAL_MARKDOWN_CODE_EDITOR_ACE = "ace";
    public final static String VISUAL_MARKDOWN_CODE_EDITOR_CODEMIRROR = "codemirror";
 
@@ -3153,33 +4033,41 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<JsArrayString> zoteroLibraries()
    {
-      return object(
-         "zotero_libraries",
-         _constants.zoteroLibrariesTitle(), 
-         _constants.zoteroLibrariesDescription(), 
-         JsArrayUtil.createStringArray("My Library"));
+      if (zoteroLibraries_ == null)
+         zoteroLibraries_ = object(
+            "zotero_libraries",
+            _constants.zoteroLibrariesTitle(), 
+            _constants.zoteroLibrariesDescription(), 
+            JsArrayUtil.createStringArray("My Library"));
+      return zoteroLibraries_;
    }
 
+   private PrefValue<JsArrayString> zoteroLibraries_;
+
    /**
     * Preferred emoji skintone
     */
    public PrefValue<String> emojiSkintone()
    {
-      return enumeration(
-         "emoji_skintone",
-         _constants.emojiSkintoneTitle(), 
-         _constants.emojiSkintoneDescription(), 
-         new String[] {
-            EMOJI_SKINTONE__NONE_,
-            EMOJI_SKINTONE__DEFAULT_,
-            EMOJI_SKINTONE_LIGHT,
-            EMOJI_SKINTONE_MEDIUM_LIGHT,
-            EMOJI_SKINTONE_MEDIUM,
-            EMOJI_SKINTONE_MEDIUM_DARK,
-            EMOJI_SKINTONE_DARK
-         },
-         "(None)");
-   }
+      if (emojiSkintone_ == null)
+         emojiSkintone_ = enumeration(
+            "emoji_skintone",
+            _constants.emojiSkintoneTitle(), 
+            _constants.emojiSkintoneDescription(), 
+            new String[] {
+               EMOJI_SKINTONE__NONE_,
+               EMOJI_SKINTONE__DEFAULT_,
+               EMOJI_SKINTONE_LIGHT,
+               EMOJI_SKINTONE_MEDIUM_LIGHT,
+               EMOJI_SKINTONE_MEDIUM,
+               EMOJI_SKINTONE_MEDIUM_DARK,
+               EMOJI_SKINTONE_DARK
+            },
+            "(None)");
+      return emojiSkintone_;
+   }
+
+   private PrefValue<String> emojiSkintone_;
 
    public final static String EMOJI_SKINTONE__NONE_ = "(None)";
    public final static String EMOJI_SKINTONE__DEFAULT_ = "(Default)";
@@ -3194,68 +4082,88 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<JsArrayString> disabledAriaLiveAnnouncements()
    {
-      return object(
-         "disabled_aria_live_announcements",
-         _constants.disabledAriaLiveAnnouncementsTitle(), 
-         _constants.disabledAriaLiveAnnouncementsDescription(), 
-         JsArrayUtil.createStringArray());
+      if (disabledAriaLiveAnnouncements_ == null)
+         disabledAriaLiveAnnouncements_ = object(
+            "disabled_aria_live_announcements",
+            _constants.disabledAriaLiveAnnouncementsTitle(), 
+            _constants.disabledAriaLiveAnnouncementsDescription(), 
+            JsArrayUtil.createStringArray());
+      return disabledAriaLiveAnnouncements_;
    }
 
+   private PrefValue<JsArrayString> disabledAriaLiveAnnouncements_;
+
    /**
     * Maximum number of lines of console output announced after a command.
     */
    public PrefValue<Integer> screenreaderConsoleAnnounceLimit()
    {
-      return integer(
-         "screenreader_console_announce_limit",
-         _constants.screenreaderConsoleAnnounceLimitTitle(), 
-         _constants.screenreaderConsoleAnnounceLimitDescription(), 
-         25);
+      if (screenreaderConsoleAnnounceLimit_ == null)
+         screenreaderConsoleAnnounceLimit_ = integer(
+            "screenreader_console_announce_limit",
+            _constants.screenreaderConsoleAnnounceLimitTitle(), 
+            _constants.screenreaderConsoleAnnounceLimitDescription(), 
+            25);
+      return screenreaderConsoleAnnounceLimit_;
    }
 
+   private PrefValue<Integer> screenreaderConsoleAnnounceLimit_;
+
    /**
     * List of path components; file monitor will ignore paths containing one or more of these components.
     */
    public PrefValue<JsArrayString> fileMonitorIgnoredComponents()
    {
-      return object(
-         "file_monitor_ignored_components",
-         _constants.fileMonitorIgnoredComponentsTitle(), 
-         _constants.fileMonitorIgnoredComponentsDescription(), 
-         JsArrayUtil.createStringArray());
+      if (fileMonitorIgnoredComponents_ == null)
+         fileMonitorIgnoredComponents_ = object(
+            "file_monitor_ignored_components",
+            _constants.fileMonitorIgnoredComponentsTitle(), 
+            _constants.fileMonitorIgnoredComponentsDescription(), 
+            JsArrayUtil.createStringArray());
+      return fileMonitorIgnoredComponents_;
    }
 
+   private PrefValue<JsArrayString> fileMonitorIgnoredComponents_;
+
    /**
     * Whether to install R package dependencies one at a time.
     */
    public PrefValue<Boolean> installPkgDepsIndividually()
    {
-      return bool(
-         "install_pkg_deps_individually",
-         _constants.installPkgDepsIndividuallyTitle(), 
-         _constants.installPkgDepsIndividuallyDescription(), 
-         true);
+      if (installPkgDepsIndividually_ == null)
+         installPkgDepsIndividually_ = bool(
+            "install_pkg_deps_individually",
+            _constants.installPkgDepsIndividuallyTitle(), 
+            _constants.installPkgDepsIndividuallyDescription(), 
+            true);
+      return installPkgDepsIndividually_;
    }
 
+   private PrefValue<Boolean> installPkgDepsIndividually_;
+
    /**
     * R graphics backend.
     */
    public PrefValue<String> graphicsBackend()
    {
-      return enumeration(
-         "graphics_backend",
-         _constants.graphicsBackendTitle(), 
-         _constants.graphicsBackendDescription(), 
-         new String[] {
-            GRAPHICS_BACKEND_DEFAULT,
-            GRAPHICS_BACKEND_CAIRO,
-            GRAPHICS_BACKEND_CAIRO_PNG,
-            GRAPHICS_BACKEND_QUARTZ,
-            GRAPHICS_BACKEND_WINDOWS,
-            GRAPHICS_BACKEND_RAGG
-         },
-         "default");
-   }
+      if (graphicsBackend_ == null)
+         graphicsBackend_ = enumeration(
+            "graphics_backend",
+            _constants.graphicsBackendTitle(), 
+            _constants.graphicsBackendDescription(), 
+            new String[] {
+               GRAPHICS_BACKEND_DEFAULT,
+               GRAPHICS_BACKEND_CAIRO,
+               GRAPHICS_BACKEND_CAIRO_PNG,
+               GRAPHICS_BACKEND_QUARTZ,
+               GRAPHICS_BACKEND_WINDOWS,
+               GRAPHICS_BACKEND_RAGG
+            },
+            "default");
+      return graphicsBackend_;
+   }
+
+   private PrefValue<String> graphicsBackend_;
 
    public final static String GRAPHICS_BACKEND_DEFAULT = "default";
    public final static String GRAPHICS_BACKEND_CAIRO = "cairo";
@@ -3269,19 +4177,23 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<String> graphicsAntialiasing()
    {
-      return enumeration(
-         "graphics_antialiasing",
-         _constants.graphicsAntialiasingTitle(), 
-         _constants.graphicsAntialiasingDescription(), 
-         new String[] {
-            GRAPHICS_ANTIALIASING_DEFAULT,
-            GRAPHICS_ANTIALIASING_NONE,
-            GRAPHICS_ANTIALIASING_GRAY,
-            GRAPHICS_ANTIALIASING_SUBPIXEL
-         },
-         "default");
+      if (graphicsAntialiasing_ == null)
+         graphicsAntialiasing_ = enumeration(
+            "graphics_antialiasing",
+            _constants.graphicsAntialiasingTitle(), 
+            _constants.graphicsAntialiasingDescription(), 
+            new String[] {
+               GRAPHICS_ANTIALIASING_DEFAULT,
+               GRAPHICS_ANTIALIASING_NONE,
+               GRAPHICS_ANTIALIASING_GRAY,
+               GRAPHICS_ANTIALIASING_SUBPIXEL
+            },
+            "default");
+      return graphicsAntialiasing_;
    }
 
+   private PrefValue<String> graphicsAntialiasing_;
+
    public final static String GRAPHICS_ANTIALIASING_DEFAULT = "default";
    public final static String GRAPHICS_ANTIALIASING_NONE = "none";
    public final static String GRAPHICS_ANTIALIASING_GRAY = "gray";
@@ -3292,173 +4204,245 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<JsArrayString> browserFixedWidthFonts()
    {
-      return object(
-         "browser_fixed_width_fonts",
-         _constants.browserFixedWidthFontsTitle(), 
-         _constants.browserFixedWidthFontsDescription(), 
-         JsArrayUtil.createStringArray("Andale Mono", "Bitstream Vera Sans Mono", "Cascadia Code", "Consolas", "Courier New", "Courier", "DejaVu Sans Mono", "Droid Sans Mono", "Fira Code", "Hack", "IBM Plex Mono", "Inconsolata", "JetBrains Mono", "Lucida Console", "Lucida Sans Typewriter", "Menlo", "Monaco", "Monoid", "Operator Mono", "Pragmata", "SF Mono", "Source Code Pro", "Vera Sans Mono", "Victor Mono", "Ubuntu Mono"));
+      if (browserFixedWidthFonts_ == null)
+         browserFixedWidthFonts_ = object(
+            "browser_fixed_width_fonts",
+            _constants.browserFixedWidthFontsTitle(), 
+            _constants.browserFixedWidthFontsDescription(), 
+            JsArrayUtil.createStringArray("Andale Mono", "Bitstream Vera Sans Mono", "Cascadia Code", "Consolas", "Courier New", "Courier", "DejaVu Sans Mono", "Droid Sans Mono", "Fira Code", "Hack", "IBM Plex Mono", "Inconsolata", "JetBrains Mono", "Lucida Console", "Lucida Sans Typewriter", "Menlo", "Monaco", "Monoid", "Operator Mono", "Pragmata", "SF Mono", "Source Code Pro", "Vera Sans Mono", "Victor Mono", "Ubuntu Mono"));
+      return browserFixedWidthFonts_;
    }
 
+   private PrefValue<JsArrayString> browserFixedWidthFonts_;
+
    /**
     * The Python type.
     */
    public PrefValue<String> pythonType()
    {
-      return string(
-         "python_type",
-         _constants.pythonTypeTitle(), 
-         _constants.pythonTypeDescription(), 
-         "");
+      if (pythonType_ == null)
+         pythonType_ = string(
+            "python_type",
+            _constants.pythonTypeTitle(), 
+            _constants.pythonTypeDescription(), 
+            "");
+      return pythonType_;
    }
 
+   private PrefValue<String> pythonType_;
+
    /**
     * The Python version.
     */
    public PrefValue<String> pythonVersion()
    {
-      return string(
-         "python_version",
-         _constants.pythonVersionTitle(), 
-         _constants.pythonVersionDescription(), 
-         "");
+      if (pythonVersion_ == null)
+         pythonVersion_ = string(
+            "python_version",
+            _constants.pythonVersionTitle(), 
+            _constants.pythonVersionDescription(), 
+            "");
+      return pythonVersion_;
    }
 
+   private PrefValue<String> pythonVersion_;
+
    /**
     * The path to the default Python interpreter.
     */
    public PrefValue<String> pythonPath()
    {
-      return string(
-         "python_path",
-         _constants.pythonPathTitle(), 
-         _constants.pythonPathDescription(), 
-         "");
+      if (pythonPath_ == null)
+         pythonPath_ = string(
+            "python_path",
+            _constants.pythonPathTitle(), 
+            _constants.pythonPathDescription(), 
+            "");
+      return pythonPath_;
    }
 
+   private PrefValue<String> pythonPath_;
+
    /**
     * The maximum amount of seconds of retry for save operations.
     */
    public PrefValue<Integer> saveRetryTimeout()
    {
-      return integer(
-         "save_retry_timeout",
-         _constants.saveRetryTimeoutTitle(), 
-         _constants.saveRetryTimeoutDescription(), 
-         15);
+      if (saveRetryTimeout_ == null)
+         saveRetryTimeout_ = integer(
+            "save_retry_timeout",
+            _constants.saveRetryTimeoutTitle(), 
+            _constants.saveRetryTimeoutDescription(), 
+            15);
+      return saveRetryTimeout_;
    }
 
+   private PrefValue<Integer> saveRetryTimeout_;
+
    /**
     * Whether the Insert Pipe Operator command should use the native R pipe operator, |>
     */
    public PrefValue<Boolean> insertNativePipeOperator()
    {
-      return bool(
-         "insert_native_pipe_operator",
-         _constants.insertNativePipeOperatorTitle(), 
-         _constants.insertNativePipeOperatorDescription(), 
-         false);
+      if (insertNativePipeOperator_ == null)
+         insertNativePipeOperator_ = bool(
+            "insert_native_pipe_operator",
+            _constants.insertNativePipeOperatorTitle(), 
+            _constants.insertNativePipeOperatorDescription(), 
+            false);
+      return insertNativePipeOperator_;
    }
 
+   private PrefValue<Boolean> insertNativePipeOperator_;
+
    /**
     * Whether to keep track of recently used commands in the Command Palette
     */
    public PrefValue<Boolean> commandPaletteMru()
    {
-      return bool(
-         "command_palette_mru",
-         _constants.commandPaletteMruTitle(), 
-         _constants.commandPaletteMruDescription(), 
-         true);
+      if (commandPaletteMru_ == null)
+         commandPaletteMru_ = bool(
+            "command_palette_mru",
+            _constants.commandPaletteMruTitle(), 
+            _constants.commandPaletteMruDescription(), 
+            true);
+      return commandPaletteMru_;
    }
 
+   private PrefValue<Boolean> commandPaletteMru_;
+
    /**
     * Whether to compute and show memory usage in the Environment Pane
     */
    public PrefValue<Boolean> showMemoryUsage()
    {
-      return bool(
-         "show_memory_usage",
-         _constants.showMemoryUsageTitle(), 
-         _constants.showMemoryUsageDescription(), 
-         true);
+      if (showMemoryUsage_ == null)
+         showMemoryUsage_ = bool(
+            "show_memory_usage",
+            _constants.showMemoryUsageTitle(), 
+            _constants.showMemoryUsageDescription(), 
+            true);
+      return showMemoryUsage_;
    }
 
+   private PrefValue<Boolean> showMemoryUsage_;
+
    /**
     * How many seconds to wait between automatic requeries of memory statistics (0 to disable)
     */
    public PrefValue<Integer> memoryQueryIntervalSeconds()
    {
-      return integer(
-         "memory_query_interval_seconds",
-         _constants.memoryQueryIntervalSecondsTitle(), 
-         _constants.memoryQueryIntervalSecondsDescription(), 
-         10);
+      if (memoryQueryIntervalSeconds_ == null)
+         memoryQueryIntervalSeconds_ = integer(
+            "memory_query_interval_seconds",
+            _constants.memoryQueryIntervalSecondsTitle(), 
+            _constants.memoryQueryIntervalSecondsDescription(), 
+            10);
+      return memoryQueryIntervalSeconds_;
    }
 
+   private PrefValue<Integer> memoryQueryIntervalSeconds_;
+
    /**
     * Enable Python terminal hooks. When enabled, the RStudio-configured version of Python will be placed on the PATH.
     */
    public PrefValue<Boolean> terminalPythonIntegration()
    {
-      return bool(
-         "terminal_python_integration",
-         _constants.terminalPythonIntegrationTitle(), 
-         _constants.terminalPythonIntegrationDescription(), 
-         true);
+      if (terminalPythonIntegration_ == null)
+         terminalPythonIntegration_ = bool(
+            "terminal_python_integration",
+            _constants.terminalPythonIntegrationTitle(), 
+            _constants.terminalPythonIntegrationDescription(), 
+            true);
+      return terminalPythonIntegration_;
    }
 
+   private PrefValue<Boolean> terminalPythonIntegration_;
+
    /**
     * Enable session protocol debug logging showing all session requests and events
     */
    public PrefValue<Boolean> sessionProtocolDebug()
    {
-      return bool(
-         "session_protocol_debug",
-         _constants.sessionProtocolDebugTitle(), 
-         _constants.sessionProtocolDebugDescription(), 
-         false);
+      if (sessionProtocolDebug_ == null)
+         sessionProtocolDebug_ = bool(
+            "session_protocol_debug",
+            _constants.sessionProtocolDebugTitle(), 
+            _constants.sessionProtocolDebugDescription(), 
+            false);
+      return sessionProtocolDebug_;
+   }
+
+   private PrefValue<Boolean> sessionProtocolDebug_;
+
+   /**
+    * Whether remote procedure calls made at the same time should be combined into a single request to the R session.
+    */
+   public PrefValue<Boolean> batchRpcRequests()
+   {
+      if (batchRpcRequests_ == null)
+         batchRpcRequests_ = bool(
+            "batch_rpc_requests",
+            _constants.batchRpcRequestsTitle(), 
+            _constants.batchRpcRequestsDescription(), 
+            false);
+      return batchRpcRequests_;
    }
 
+   private PrefValue<Boolean> batchRpcRequests_;
+
    /**
     * When enabled, if the active project contains a Python virtual environment, then RStudio will automatically activate this environment on startup.
     */
    public PrefValue<Boolean> pythonProjectEnvironmentAutomaticActivate()
    {
-      return bool(
-         "python_project_environment_automatic_activate",
-         _constants.pythonProjectEnvironmentAutomaticActivateTitle(), 
-         _constants.pythonProjectEnvironmentAutomaticActivateDescription(), 
-         true);
+      if (pythonProjectEnvironmentAutomaticActivate_ == null)
+         pythonProjectEnvironmentAutomaticActivate_ = bool(
+            "python_project_environment_automatic_activate",
+            _constants.pythonProjectEnvironmentAutomaticActivateTitle(), 
+            _constants.pythonProjectEnvironmentAutomaticActivateDescription(), 
+            true);
+      return pythonProjectEnvironmentAutomaticActivate_;
    }
 
+   private PrefValue<Boolean> pythonProjectEnvironmentAutomaticActivate_;
+
    /**
     * When enabled, RStudio will detect R objects containing null external pointers when building the Environment pane, and avoid introspecting their contents further.
     */
    public PrefValue<Boolean> checkNullExternalPointers()
    {
-      return bool(
-         "check_null_external_pointers",
-         _constants.checkNullExternalPointersTitle(), 
-         _constants.checkNullExternalPointersDescription(), 
-         false);
+      if (checkNullExternalPointers_ == null)
+         checkNullExternalPointers_ = bool(
+            "check_null_external_pointers",
+            _constants.checkNullExternalPointersTitle(), 
+            _constants.checkNullExternalPointersDescription(), 
+            false);
+      return checkNullExternalPointers_;
    }
 
+   private PrefValue<Boolean> checkNullExternalPointers_;
+
    /**
     * The IDE's user-interface language.
     */
    public PrefValue<String> uiLanguage()
    {
-      return enumeration(
-         "ui_language",
-         _constants.uiLanguageTitle(), 
-         _constants.uiLanguageDescription(), 
-         new String[] {
-            UI_LANGUAGE_EN,
-            UI_LANGUAGE_FR
-         },
-         "en");
+      if (uiLanguage_ == null)
+         uiLanguage_ = enumeration(
+            "ui_language",
+            _constants.uiLanguageTitle(), 
+            _constants.uiLanguageDescription(), 
+            new String[] {
+               UI_LANGUAGE_EN,
+               UI_LANGUAGE_FR
+            },
+            "en");
+      return uiLanguage_;
    }
 
+   private PrefValue<String> uiLanguage_;
+
    public final static String UI_LANGUAGE_EN = "en";
    public final static String UI_LANGUAGE_FR = "fr";
 
@@ -3467,65 +4451,85 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> autohideMenubar()
    {
-      return bool(
-         "autohide_menubar",
-         _constants.autohideMenubarTitle(), 
-         _constants.autohideMenubarDescription(), 
-         false);
+      if (autohideMenubar_ == null)
+         autohideMenubar_ = bool(
+            "autohide_menubar",
+            _constants.autohideMenubarTitle(), 
+            _constants.autohideMenubarDescription(), 
+            false);
+      return autohideMenubar_;
    }
 
+   private PrefValue<Boolean> autohideMenubar_;
+
    /**
     * Whether RStudio Desktop will use the operating system's native File and Message dialog boxes.
     */
    public PrefValue<Boolean> nativeFileDialogs()
    {
-      return bool(
-         "native_file_dialogs",
-         _constants.nativeFileDialogsTitle(), 
-         _constants.nativeFileDialogsDescription(), 
-         true);
+      if (nativeFileDialogs_ == null)
+         nativeFileDialogs_ = bool(
+            "native_file_dialogs",
+            _constants.nativeFileDialogsTitle(), 
+            _constants.nativeFileDialogsDescription(), 
+            true);
+      return nativeFileDialogs_;
    }
 
+   private PrefValue<Boolean> nativeFileDialogs_;
+
    /**
     * When enabled, any pending console input will be discarded when an (uncaught) R error occurs.
     */
    public PrefValue<Boolean> discardPendingConsoleInputOnError()
    {
-      return bool(
-         "discard_pending_console_input_on_error",
-         _constants.discardPendingConsoleInputOnErrorTitle(), 
-         _constants.discardPendingConsoleInputOnErrorDescription(), 
-         true);
+      if (discardPendingConsoleInputOnError_ == null)
+         discardPendingConsoleInputOnError_ = bool(
+            "discard_pending_console_input_on_error",
+            _constants.discardPendingConsoleInputOnErrorTitle(), 
+            _constants.discardPendingConsoleInputOnErrorDescription(), 
+            true);
+      return discardPendingConsoleInputOnError_;
    }
 
+   private PrefValue<Boolean> discardPendingConsoleInputOnError_;
+
    /**
     * An integer value, 1-200, to set the editor scroll multiplier. The higher the value, the faster the scrolling.
     */
    public PrefValue<Integer> editorScrollMultiplier()
    {
-      return integer(
-         "editor_scroll_multiplier",
-         _constants.editorScrollMultiplierTitle(), 
-         _constants.editorScrollMultiplierDescription(), 
-         100);
+      if (editorScrollMultiplier_ == null)
+         editorScrollMultiplier_ = integer(
+            "editor_scroll_multiplier",
+            _constants.editorScrollMultiplierTitle(), 
+            _constants.editorScrollMultiplierDescription(), 
+            100);
+      return editorScrollMultiplier_;
    }
 
+   private PrefValue<Integer> editorScrollMultiplier_;
+
    /**
     * Control how text is rendered within the IDE surface.
     */
    public PrefValue<String> textRendering()
    {
-      return enumeration(
-         "text_rendering",
-         _constants.textRenderingTitle(), 
-         _constants.textRenderingDescription(), 
-         new String[] {
-            TEXT_RENDERING_AUTO,
-            TEXT_RENDERING_GEOMETRICPRECISION
-         },
-         "auto");
+      if (textRendering_ == null)
+         textRendering_ = enumeration(
+            "text_rendering",
+            _constants.textRenderingTitle(), 
+            _constants.textRenderingDescription(), 
+            new String[] {
+               TEXT_RENDERING_AUTO,
+               TEXT_RENDERING_GEOMETRICPRECISION
+            },
+            "auto");
+      return textRendering_;
    }
 
+   private PrefValue<String> textRendering_;
+
    public final static String TEXT_RENDERING_AUTO = "auto";
    public final static String TEXT_RENDERING_GEOMETRICPRECISION = "geometricPrecision";
 
@@ -3534,44 +4538,56 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> disableRendererAccessibility()
    {
-      return bool(
-         "disable_renderer_accessibility",
-         _constants.disableRendererAccessibilityTitle(), 
-         _constants.disableRendererAccessibilityDescription(), 
-         false);
+      if (disableRendererAccessibility_ == null)
+         disableRendererAccessibility_ = bool(
+            "disable_renderer_accessibility",
+            _constants.disableRendererAccessibilityTitle(), 
+            _constants.disableRendererAccessibilityDescription(), 
+            false);
+      return disableRendererAccessibility_;
    }
 
+   private PrefValue<Boolean> disableRendererAccessibility_;
+
    /**
     * When enabled, RStudio will use GitHub Copilot to provide code suggestions.
     */
    public PrefValue<Boolean> copilotEnabled()
    {
-      return bool(
-         "copilot_enabled",
-         _constants.copilotEnabledTitle(), 
-         _constants.copilotEnabledDescription(), 
-         false);
+      if (copilotEnabled_ == null)
+         copilotEnabled_ = bool(
+            "copilot_enabled",
+            _constants.copilotEnabledTitle(), 
+            _constants.copilotEnabledDescription(), 
+            false);
+      return copilotEnabled_;
    }
 
+   private PrefValue<Boolean> copilotEnabled_;
+
    /**
     * Control when Copilot code suggestions are displayed in the editor.
     */
    public PrefValue<String> copilotCompletionsTrigger()
    {
-      return enumeration(
-         "copilot_completions_trigger",
-         _constants.copilotCompletionsTriggerTitle(), 
-         _constants.copilotCompletionsTriggerDescription(), 
-         new String[] {
-            COPILOT_COMPLETIONS_TRIGGER_AUTO,
-            COPILOT_COMPLETIONS_TRIGGER_MANUAL
-         },
-         "auto",
-         new String[] {
-            _constants.copilotCompletionsTriggerEnum_auto(),
-            _constants.copilotCompletionsTriggerEnum_manual()
-         });
-   }
+      if (copilotCompletionsTrigger_ == null)
+         copilotCompletionsTrigger_ = enumeration(
+            "copilot_completions_trigger",
+            _constants.copilotCompletionsTriggerTitle(), 
+            _constants.copilotCompletionsTriggerDescription(), 
+            new String[] {
+               COPILOT_COMPLETIONS_TRIGGER_AUTO,
+               COPILOT_COMPLETIONS_TRIGGER_MANUAL
+            },
+            "auto",
+            new String[] {
+               _constants.copilotCompletionsTriggerEnum_auto(),
+               _constants.copilotCompletionsTriggerEnum_manual()
+            });
+      return copilotCompletionsTrigger_;
+   }
+
+   private PrefValue<String> copilotCompletionsTrigger_;
 
    public final static String COPILOT_COMPLETIONS_TRIGGER_AUTO = "auto";
    public final static String COPILOT_COMPLETIONS_TRIGGER_MANUAL = "manual";
@@ -3581,32 +4597,40 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Integer> copilotCompletionsDelay()
    {
-      return integer(
-         "copilot_completions_delay",
-         _constants.copilotCompletionsDelayTitle(), 
-         _constants.copilotCompletionsDelayDescription(), 
-         300);
+      if (copilotCompletionsDelay_ == null)
+         copilotCompletionsDelay_ = integer(
+            "copilot_completions_delay",
+            _constants.copilotCompletionsDelayTitle(), 
+            _constants.copilotCompletionsDelayDescription(), 
+            300);
+      return copilotCompletionsDelay_;
    }
 
+   private PrefValue<Integer> copilotCompletionsDelay_;
+
    /**
     * Control the behavior of the Tab key when both Copilot code suggestions and RStudio code completions are visible.
     */
    public PrefValue<String> copilotTabKeyBehavior()
    {
-      return enumeration(
-         "copilot_tab_key_behavior",
-         _constants.copilotTabKeyBehaviorTitle(), 
-         _constants.copilotTabKeyBehaviorDescription(), 
-         new String[] {
-            COPILOT_TAB_KEY_BEHAVIOR_SUGGESTION,
-            COPILOT_TAB_KEY_BEHAVIOR_COMPLETIONS
-         },
-         "suggestion",
-         new String[] {
-            _constants.copilotTabKeyBehaviorEnum_suggestion(),
-            _constants.copilotTabKeyBehaviorEnum_completions()
-         });
-   }
+      if (copilotTabKeyBehavior_ == null)
+         copilotTabKeyBehavior_ = enumeration(
+            "copilot_tab_key_behavior",
+            _constants.copilotTabKeyBehaviorTitle(), 
+            _constants.copilotTabKeyBehaviorDescription(), 
+            new String[] {
+               COPILOT_TAB_KEY_BEHAVIOR_SUGGESTION,
+               COPILOT_TAB_KEY_BEHAVIOR_COMPLETIONS
+            },
+            "suggestion",
+            new String[] {
+               _constants.copilotTabKeyBehaviorEnum_suggestion(),
+               _constants.copilotTabKeyBehaviorEnum_completions()
+            });
+      return copilotTabKeyBehavior_;
+   }
+
+   private PrefValue<String> copilotTabKeyBehavior_;
 
    public final static String COPILOT_TAB_KEY_BEHAVIOR_SUGGESTION = "suggestion";
    public final static String COPILOT_TAB_KEY_BEHAVIOR_COMPLETIONS = "completions";
@@ -3616,44 +4640,56 @@ public class UserPrefsAccessor extends Prefs
     */
    public PrefValue<Boolean> copilotIndexingEnabled()
    {
-      return bool(
-         "copilot_indexing_enabled",
-         _constants.copilotIndexingEnabledTitle(), 
-         _constants.copilotIndexingEnabledDescription(), 
-         false);
+      if (copilotIndexingEnabled_ == null)
+         copilotIndexingEnabled_ = bool(
+            "copilot_indexing_enabled",
+            _constants.copilotIndexingEnabledTitle(), 
+            _constants.copilotIndexingEnabledDescription(), 
+            false);
+      return copilotIndexingEnabled_;
    }
 
+   private PrefValue<Boolean> copilotIndexingEnabled_;
+
    /**
     * User-provided name for the currently opened R project.
     */
    public PrefValue<String> projectName()
    {
-      return string(
-         "project_name",
-         _constants.projectNameTitle(), 
-         _constants.projectNameDescription(), 
-         "");
+      if (projectName_ == null)
+         projectName_ = string(
+            "project_name",
+            _constants.projectNameTitle(), 
+            _constants.projectNameDescription(), 
+            "");
+      return projectName_;
    }
 
+   private PrefValue<String> projectName_;
+
    /**
     * Default working directory in background job dialog.
     */
    public PrefValue<String> runBackgroundJobDefaultWorkingDir()
    {
-      return enumeration(
-         "run_background_job_default_working_dir",
-         _constants.runBackgroundJobDefaultWorkingDirTitle(), 
-         _constants.runBackgroundJobDefaultWorkingDirDescription(), 
-         new String[] {
-            RUN_BACKGROUND_JOB_DEFAULT_WORKING_DIR_PROJECT,
-            RUN_BACKGROUND_JOB_DEFAULT_WORKING_DIR_SCRIPT
-         },
-         "project",
-         new String[] {
-            _constants.runBackgroundJobDefaultWorkingDirEnum_project(),
-            _constants.runBackgroundJobDefaultWorkingDirEnum_script()
-         });
-   }
+      if (runBackgroundJobDefaultWorkingDir_ == null)
+         runBackgroundJobDefaultWorkingDir_ = enumeration(
+            "run_background_job_default_working_dir",
+            _constants.runBackgroundJobDefaultWorkingDirTitle(), 
+            _constants.runBackgroundJobDefaultWorkingDirDescription(), 
+            new String[] {
+               RUN_BACKGROUND_JOB_DEFAULT_WORKING_DIR_PROJECT,
+               RUN_BACKGROUND_JOB_DEFAULT_WORKING_DIR_SCRIPT
+            },
+            "project",
+            new String[] {
+               _constants.runBackgroundJobDefaultWorkingDirEnum_project(),
+               _constants.runBackgroundJobDefaultWorkingDirEnum_script()
+            });
+      return runBackgroundJobDefaultWorkingDir_;
+   }
+
+   private PrefValue<String> runBackgroundJobDefaultWorkingDir_;
 
    public final static String RUN_BACKGROUND_JOB_DEFAULT_WORKING_DIR_PROJECT = "project";
    public final static String RUN_BACKGROUND_JOB_DEFAULT_WORKING_DIR_SCRIPT = "script";
@@ -4138,6 +5174,8 @@ public class UserPrefsAccessor extends Prefs
          terminalPythonIntegration().setValue(layer, source.getBool("terminal_python_integration"));
       if (source.hasKey("session_protocol_debug"))
          sessionProtocolDebug().setValue(layer, source.getBool("session_protocol_debug"));
+      if (source.hasKey("batch_rpc_requests"))
+         batchRpcRequests().setValue(layer, source.getBool("batch_rpc_requests"));
       if (source.hasKey("python_project_environment_automatic_activate"))
          pythonProjectEnvironmentAutomaticActivate().setValue(layer, source.getBool("python_project_environment_automatic_activate"));
       if (source.hasKey("check_null_external_pointers"))
@@ -4413,6 +5451,7 @@ public class UserPrefsAccessor extends Prefs
       prefs.add(memoryQueryIntervalSeconds());
       prefs.add(terminalPythonIntegration());
       prefs.add(sessionProtocolDebug());
+      prefs.add(batchRpcRequests());
       prefs.add(pythonProjectEnvironmentAutomaticActivate());
       prefs.add(checkNullExternalPointers());
       prefs.add(uiLanguage());
@@ -1991,6 +1991,14 @@ public interface UserPrefsAccessorConstants extends Constants {
    @DefaultStringValue("Enable session protocol debug logging showing all session requests and events")
    String sessionProtocolDebugDescription();
 
+   /**
+    * Whether remote procedure calls made at the same time should be combined into a single request to the R session.
+    */
+   @DefaultStringValue("Batch remote procedure calls")
+   String batchRpcRequestsTitle();
+   @DefaultStringValue("Whether remote procedure calls made at the same time should be combined into a single request to the R session.")
+   String batchRpcRequestsDescription();
+
    /**
     * When enabled, if the active project contains a Python virtual environment, then RStudio will automatically activate this environment on startup.
     */
@@ -48,13 +48,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<General> general()
    {
-      return object(
-         "general",
-         _constants.generalTitle(), 
-         _constants.generalDescription(), 
-         null);
+      if (general_ == null)
+         general_ = object(
+            "general",
+            _constants.generalTitle(), 
+            _constants.generalDescription(), 
+            null);
+      return general_;
    }
 
+   private PrefValue<General> general_;
+
    public static class General extends JavaScriptObject
    {
       protected General() {} 
@@ -70,13 +74,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Font> font()
    {
-      return object(
-         "font",
-         _constants.fontTitle(), 
-         _constants.fontDescription(), 
-         null);
+      if (font_ == null)
+         font_ = object(
+            "font",
+            _constants.fontTitle(), 
+            _constants.fontDescription(), 
+            null);
+      return font_;
    }
 
+   private PrefValue<Font> font_;
+
    public static class Font extends JavaScriptObject
    {
       protected Font() {} 
@@ -96,13 +104,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<View> view()
    {
-      return object(
-         "view",
-         _constants.viewTitle(), 
-         _constants.viewDescription(), 
-         null);
+      if (view_ == null)
+         view_ = object(
+            "view",
+            _constants.viewTitle(), 
+            _constants.viewDescription(), 
+            null);
+      return view_;
    }
 
+   private PrefValue<View> view_;
+
    public static class View extends JavaScriptObject
    {
       protected View() {} 
@@ -130,13 +142,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<RemoteSession> remoteSession()
    {
-      return object(
-         "remote_session",
-         _constants.remoteSessionTitle(), 
-         _constants.remoteSessionDescription(), 
-         null);
+      if (remoteSession_ == null)
+         remoteSession_ = object(
+            "remote_session",
+            _constants.remoteSessionTitle(), 
+            _constants.remoteSessionDescription(), 
+            null);
+      return remoteSession_;
    }
 
+   private PrefValue<RemoteSession> remoteSession_;
+
    public static class RemoteSession extends JavaScriptObject
    {
       protected RemoteSession() {} 
@@ -160,13 +176,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Renderer> renderer()
    {
-      return object(
-         "renderer",
-         _constants.rendererTitle(), 
-         _constants.rendererDescription(), 
-         null);
+      if (renderer_ == null)
+         renderer_ = object(
+            "renderer",
+            _constants.rendererTitle(), 
+            _constants.rendererDescription(), 
+            null);
+      return renderer_;
    }
 
+   private PrefValue<Renderer> renderer_;
+
    public static class Renderer extends JavaScriptObject
    {
       protected Renderer() {} 
@@ -190,13 +210,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Platform> platform()
    {
-      return object(
-         "platform",
-         _constants.platformTitle(), 
-         _constants.platformDescription(), 
-         null);
+      if (platform_ == null)
+         platform_ = object(
+            "platform",
+            _constants.platformTitle(), 
+            _constants.platformDescription(), 
+            null);
+      return platform_;
    }
 
+   private PrefValue<Platform> platform_;
+
    public static class Platform extends JavaScriptObject
    {
       protected Platform() {} 
@@ -216,37 +240,49 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<String> contextId()
    {
-      return string(
-         "context_id",
-         _constants.contextIdTitle(), 
-         _constants.contextIdDescription(), 
-         "");
+      if (contextId_ == null)
+         contextId_ = string(
+            "context_id",
+            _constants.contextIdTitle(), 
+            _constants.contextIdDescription(), 
+            "");
+      return contextId_;
    }
 
+   private PrefValue<String> contextId_;
+
    /**
     * Whether we have automatically created an .Rprofile for this user.
     */
    public PrefValue<Boolean> autoCreatedProfile()
    {
-      return bool(
-         "auto_created_profile",
-         _constants.autoCreatedProfileTitle(), 
-         _constants.autoCreatedProfileDescription(), 
-         false);
+      if (autoCreatedProfile_ == null)
+         autoCreatedProfile_ = bool(
+            "auto_created_profile",
+            _constants.autoCreatedProfileTitle(), 
+            _constants.autoCreatedProfileDescription(), 
+            false);
+      return autoCreatedProfile_;
    }
 
+   private PrefValue<Boolean> autoCreatedProfile_;
+
    /**
     * The color theme to apply.
     */
    public PrefValue<Theme> theme()
    {
-      return object(
-         "theme",
-         _constants.themeTitle(), 
-         _constants.themeDescription(), 
-         null);
+      if (theme_ == null)
+         theme_ = object(
+            "theme",
+            _constants.themeTitle(), 
+            _constants.themeDescription(), 
+            null);
+      return theme_;
    }
 
+   private PrefValue<Theme> theme_;
+
    public static class Theme extends JavaScriptObject
    {
       protected Theme() {} 
@@ -270,37 +306,49 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<String> defaultProjectLocation()
    {
-      return string(
-         "default_project_location",
-         _constants.defaultProjectLocationTitle(), 
-         _constants.defaultProjectLocationDescription(), 
-         "");
+      if (defaultProjectLocation_ == null)
+         defaultProjectLocation_ = string(
+            "default_project_location",
+            _constants.defaultProjectLocationTitle(), 
+            _constants.defaultProjectLocationDescription(), 
+            "");
+      return defaultProjectLocation_;
    }
 
+   private PrefValue<String> defaultProjectLocation_;
+
    /**
     * Whether to clear hidden objects along with visible objects when clearing the workspace. Set automatically to remember last action.
     */
    public PrefValue<Boolean> clearHidden()
    {
-      return bool(
-         "clear_hidden",
-         _constants.clearHiddenTitle(), 
-         _constants.clearHiddenDescription(), 
-         true);
+      if (clearHidden_ == null)
+         clearHidden_ = bool(
+            "clear_hidden",
+            _constants.clearHiddenTitle(), 
+            _constants.clearHiddenDescription(), 
+            true);
+      return clearHidden_;
    }
 
+   private PrefValue<Boolean> clearHidden_;
+
    /**
     * The most recently used plot export options.
     */
    public PrefValue<ExportPlotOptions> exportPlotOptions()
    {
-      return object(
-         "export_plot_options",
-         _constants.exportPlotOptionsTitle(), 
-         _constants.exportPlotOptionsDescription(), 
-         null);
+      if (exportPlotOptions_ == null)
+         exportPlotOptions_ = object(
+            "export_plot_options",
+            _constants.exportPlotOptionsTitle(), 
+            _constants.exportPlotOptionsDescription(), 
+            null);
+      return exportPlotOptions_;
    }
 
+   private PrefValue<ExportPlotOptions> exportPlotOptions_;
+
    public static class ExportPlotOptions extends JavaScriptObject
    {
       protected ExportPlotOptions() {} 
@@ -336,13 +384,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<ExportViewerOptions> exportViewerOptions()
    {
-      return object(
-         "export_viewer_options",
-         _constants.exportViewerOptionsTitle(), 
-         _constants.exportViewerOptionsDescription(), 
-         null);
+      if (exportViewerOptions_ == null)
+         exportViewerOptions_ = object(
+            "export_viewer_options",
+            _constants.exportViewerOptionsTitle(), 
+            _constants.exportViewerOptionsDescription(), 
+            null);
+      return exportViewerOptions_;
    }
 
+   private PrefValue<ExportViewerOptions> exportViewerOptions_;
+
    public static class ExportViewerOptions extends JavaScriptObject
    {
       protected ExportViewerOptions() {} 
@@ -378,13 +430,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<SavePlotAsPdfOptions> savePlotAsPdfOptions()
    {
-      return object(
-         "save_plot_as_pdf_options",
-         _constants.savePlotAsPdfOptionsTitle(), 
-         _constants.savePlotAsPdfOptionsDescription(), 
-         null);
+      if (savePlotAsPdfOptions_ == null)
+         savePlotAsPdfOptions_ = object(
+            "save_plot_as_pdf_options",
+            _constants.savePlotAsPdfOptionsTitle(), 
+            _constants.savePlotAsPdfOptionsDescription(), 
+            null);
+      return savePlotAsPdfOptions_;
    }
 
+   private PrefValue<SavePlotAsPdfOptions> savePlotAsPdfOptions_;
+
    public static class SavePlotAsPdfOptions extends JavaScriptObject
    {
       protected SavePlotAsPdfOptions() {} 
@@ -416,13 +472,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<CompileRNotebookPrefs> compileRNotebookPrefs()
    {
-      return object(
-         "compile_r_notebook_prefs",
-         _constants.compileRNotebookPrefsTitle(), 
-         _constants.compileRNotebookPrefsDescription(), 
-         null);
+      if (compileRNotebookPrefs_ == null)
+         compileRNotebookPrefs_ = object(
+            "compile_r_notebook_prefs",
+            _constants.compileRNotebookPrefsTitle(), 
+            _constants.compileRNotebookPrefsDescription(), 
+            null);
+      return compileRNotebookPrefs_;
    }
 
+   private PrefValue<CompileRNotebookPrefs> compileRNotebookPrefs_;
+
    public static class CompileRNotebookPrefs extends JavaScriptObject
    {
       protected CompileRNotebookPrefs() {} 
@@ -442,13 +502,17 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<CompileRMarkdownNotebookPrefs> compileRMarkdownNotebookPrefs()
    {
-      return object(
-         "compile_r_markdown_notebook_prefs",
-         _constants.compileRMarkdownNotebookPrefsTitle(), 
-         _constants.compileRMarkdownNotebookPrefsDescription(), 
-         null);
+      if (compileRMarkdownNotebookPrefs_ == null)
+         compileRMarkdownNotebookPrefs_ = object(
+            "compile_r_markdown_notebook_prefs",
+            _constants.compileRMarkdownNotebookPrefsTitle(), 
+            _constants.compileRMarkdownNotebookPrefsDescription(), 
+            null);
+      return compileRMarkdownNotebookPrefs_;
    }
 
+   private PrefValue<CompileRMarkdownNotebookPrefs> compileRMarkdownNotebookPrefs_;
+
    public static class CompileRMarkdownNotebookPrefs extends JavaScriptObject
    {
       protected CompileRMarkdownNotebookPrefs() {} 
@@ -464,37 +528,49 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Boolean> showPublishUi()
    {
-      return bool(
-         "show_publish_ui",
-         _constants.showPublishUiTitle(), 
-         _constants.showPublishUiDescription(), 
-         true);
+      if (showPublishUi_ == null)
+         showPublishUi_ = bool(
+            "show_publish_ui",
+            _constants.showPublishUiTitle(), 
+            _constants.showPublishUiDescription(), 
+            true);
+      return showPublishUi_;
    }
 
+   private PrefValue<Boolean> showPublishUi_;
+
    /**
     * Whether to show UI for publishing content to Posit Connect.
     */
    public PrefValue<Boolean> enableRsconnectPublishUi()
    {
-      return bool(
-         "enable_rsconnect_publish_ui",
-         _constants.enableRsconnectPublishUiTitle(), 
-         _constants.enableRsconnectPublishUiDescription(), 
-         true);
+      if (enableRsconnectPublishUi_ == null)
+         enableRsconnectPublishUi_ = bool(
+            "enable_rsconnect_publish_ui",
+            _constants.enableRsconnectPublishUiTitle(), 
+            _constants.enableRsconnectPublishUiDescription(), 
+            true);
+      return enableRsconnectPublishUi_;
    }
 
+   private PrefValue<Boolean> enableRsconnectPublishUi_;
+
    /**
     * The default (last) account used for publishing
     */
    public PrefValue<PublishAccount> publishAccount()
    {
-      return object(
-         "publish_account",
-         _constants.publishAccountTitle(), 
-         _constants.publishAccountDescription(), 
-         null);
+      if (publishAccount_ == null)
+         publishAccount_ = object(
+            "publish_account",
+            _constants.publishAccountTitle(), 
+            _constants.publishAccountDescription(), 
+            null);
+      return publishAccount_;
    }
 
+   private PrefValue<PublishAccount> publishAccount_;
+
    public static class PublishAccount extends JavaScriptObject
    {
       protected PublishAccount() {} 
@@ -514,31 +590,39 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Integer> documentOutlineWidth()
    {
-      return integer(
-         "document_outline_width",
-         _constants.documentOutlineWidthTitle(), 
-         _constants.documentOutlineWidthDescription(), 
-         110);
+      if (documentOutlineWidth_ == null)
+         documentOutlineWidth_ = integer(
+            "document_outline_width",
+            _constants.documentOutlineWidthTitle(), 
+            _constants.documentOutlineWidthDescription(), 
+            110);
+      return documentOutlineWidth_;
    }
 
+   private PrefValue<Integer> documentOutlineWidth_;
+
    /**
     * How to create new connections to data sources.
     */
    public PrefValue<String> connectVia()
    {
-      return enumeration(
-         "connect_via",
-         _constants.connectViaTitle(), 
-         _constants.connectViaDescription(), 
-         new String[] {
-            CONNECT_VIA_CONNECT_R_CONSOLE,
-            CONNECT_VIA_CONNECT_NEW_R_SCRIPT,
-            CONNECT_VIA_CONNECT_NEW_R_NOTEBOOK,
-            CONNECT_VIA_CONNECT_COPY_TO_CLIPBOARD
-         },
-         "connect-r-console");
+      if (connectVia_ == null)
+         connectVia_ = enumeration(
+            "connect_via",
+            _constants.connectViaTitle(), 
+            _constants.connectViaDescription(), 
+            new String[] {
+               CONNECT_VIA_CONNECT_R_CONSOLE,
+               CONNECT_VIA_CONNECT_NEW_R_SCRIPT,
+               CONNECT_VIA_CONNECT_NEW_R_NOTEBOOK,
+               CONNECT_VIA_CONNECT_COPY_TO_CLIPBOARD
+            },
+            "connect-r-console");
+      return connectVia_;
    }
 
+   private PrefValue<String> connectVia_;
+
    public final static String CONNECT_VIA_CONNECT_R_CONSOLE = "connect-r-console";
    public final static String CONNECT_VIA_CONNECT_NEW_R_SCRIPT = "connect-new-r-script";
    public final static String CONNECT_VIA_CONNECT_NEW_R_NOTEBOOK = "connect-new-r-notebook";
@@ -549,20 +633,24 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<String> errorHandlerType()
    {
-      return enumeration(
-         "error_handler_type",
-         _constants.errorHandlerTypeTitle(), 
-         _constants.errorHandlerTypeDescription(), 
-         new String[] {
-            ERROR_HANDLER_TYPE_MESSAGE,
-            ERROR_HANDLER_TYPE_TRACEBACK,
-            ERROR_HANDLER_TYPE_BREAK,
-            ERROR_HANDLER_TYPE_NOTEBOOK,
-            ERROR_HANDLER_TYPE_CUSTOM
-         },
-         "traceback");
+      if (errorHandlerType_ == null)
+         errorHandlerType_ = enumeration(
+            "error_handler_type",
+            _constants.errorHandlerTypeTitle(), 
+            _constants.errorHandlerTypeDescription(), 
+            new String[] {
+               ERROR_HANDLER_TYPE_MESSAGE,
+               ERROR_HANDLER_TYPE_TRACEBACK,
+               ERROR_HANDLER_TYPE_BREAK,
+               ERROR_HANDLER_TYPE_NOTEBOOK,
+               ERROR_HANDLER_TYPE_CUSTOM
+            },
+            "traceback");
+      return errorHandlerType_;
    }
 
+   private PrefValue<String> errorHandlerType_;
+
    public final static String ERROR_HANDLER_TYPE_MESSAGE = "message";
    public final static String ERROR_HANDLER_TYPE_TRACEBACK = "traceback";
    public final static String ERROR_HANDLER_TYPE_BREAK = "break";
@@ -574,42 +662,54 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Boolean> usingMingwGcc49()
    {
-      return bool(
-         "using_mingw_gcc49",
-         _constants.usingMingwGcc49Title(), 
-         _constants.usingMingwGcc49Description(), 
-         false);
+      if (usingMingwGcc49_ == null)
+         usingMingwGcc49_ = bool(
+            "using_mingw_gcc49",
+            _constants.usingMingwGcc49Title(), 
+            _constants.usingMingwGcc49Description(), 
+            false);
+      return usingMingwGcc49_;
    }
 
+   private PrefValue<Boolean> usingMingwGcc49_;
+
    /**
     * Whether or not the use of Visual Mode has been confirmed.
     */
    public PrefValue<Boolean> visualModeConfirmed()
    {
-      return bool(
-         "visual_mode_confirmed",
-         _constants.visualModeConfirmedTitle(), 
-         _constants.visualModeConfirmedDescription(), 
-         false);
+      if (visualModeConfirmed_ == null)
+         visualModeConfirmed_ = bool(
+            "visual_mode_confirmed",
+            _constants.visualModeConfirmedTitle(), 
+            _constants.visualModeConfirmedDescription(), 
+            false);
+      return visualModeConfirmed_;
    }
 
+   private PrefValue<Boolean> visualModeConfirmed_;
+
    /**
     * The default type for new bibliographies.
     */
    public PrefValue<String> bibliographyDefaultType()
    {
-      return enumeration(
-         "bibliography_default_type",
-         _constants.bibliographyDefaultTypeTitle(), 
-         _constants.bibliographyDefaultTypeDescription(), 
-         new String[] {
-            BIBLIOGRAPHY_DEFAULT_TYPE_BIB,
-            BIBLIOGRAPHY_DEFAULT_TYPE_YAML,
-            BIBLIOGRAPHY_DEFAULT_TYPE_JSON
-         },
-         "bib");
+      if (bibliographyDefaultType_ == null)
+         bibliographyDefaultType_ = enumeration(
+            "bibliography_default_type",
+            _constants.bibliographyDefaultTypeTitle(), 
+            _constants.bibliographyDefaultTypeDescription(), 
+            new String[] {
+               BIBLIOGRAPHY_DEFAULT_TYPE_BIB,
+               BIBLIOGRAPHY_DEFAULT_TYPE_YAML,
+               BIBLIOGRAPHY_DEFAULT_TYPE_JSON
+            },
+            "bib");
+      return bibliographyDefaultType_;
    }
 
+   private PrefValue<String> bibliographyDefaultType_;
+
    public final static String BIBLIOGRAPHY_DEFAULT_TYPE_BIB = "bib";
    public final static String BIBLIOGRAPHY_DEFAULT_TYPE_YAML = "yaml";
    public final static String BIBLIOGRAPHY_DEFAULT_TYPE_JSON = "json";
@@ -619,31 +719,39 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Boolean> citationDefaultInText()
    {
-      return bool(
-         "citation_default_in_text",
-         _constants.citationDefaultInTextTitle(), 
-         _constants.citationDefaultInTextDescription(), 
-         false);
+      if (citationDefaultInText_ == null)
+         citationDefaultInText_ = bool(
+            "citation_default_in_text",
+            _constants.citationDefaultInTextTitle(), 
+            _constants.citationDefaultInTextDescription(), 
+            false);
+      return citationDefaultInText_;
    }
 
+   private PrefValue<Boolean> citationDefaultInText_;
+
    /**
     * Zotero connection type (local or web)
     */
    public PrefValue<String> zoteroConnectionType()
    {
-      return enumeration(
-         "zotero_connection_type",
-         _constants.zoteroConnectionTypeTitle(), 
-         _constants.zoteroConnectionTypeDescription(), 
-         new String[] {
-            ZOTERO_CONNECTION_TYPE_AUTO,
-            ZOTERO_CONNECTION_TYPE_NONE,
-            ZOTERO_CONNECTION_TYPE_LOCAL,
-            ZOTERO_CONNECTION_TYPE_WEB
-         },
-         "auto");
+      if (zoteroConnectionType_ == null)
+         zoteroConnectionType_ = enumeration(
+            "zotero_connection_type",
+            _constants.zoteroConnectionTypeTitle(), 
+            _constants.zoteroConnectionTypeDescription(), 
+            new String[] {
+               ZOTERO_CONNECTION_TYPE_AUTO,
+               ZOTERO_CONNECTION_TYPE_NONE,
+               ZOTERO_CONNECTION_TYPE_LOCAL,
+               ZOTERO_CONNECTION_TYPE_WEB
+            },
+            "auto");
+      return zoteroConnectionType_;
    }
 
+   private PrefValue<String> zoteroConnectionType_;
+
    public final static String ZOTERO_CONNECTION_TYPE_AUTO = "auto";
    public final static String ZOTERO_CONNECTION_TYPE_NONE = "none";
    public final static String ZOTERO_CONNECTION_TYPE_LOCAL = "local";
@@ -654,49 +762,65 @@ public class UserStateAccessor extends Prefs
     */
    public PrefValue<Boolean> zoteroUseBetterBibtex()
    {
-      return bool(
-         "zotero_use_better_bibtex",
-         _constants.zoteroUseBetterBibtexTitle(), 
-         _constants.zoteroUseBetterBibtexDescription(), 
-         false);
+      if (zoteroUseBetterBibtex_ == null)
+         zoteroUseBetterBibtex_ = bool(
+            "zotero_use_better_bibtex",
+            _constants.zoteroUseBetterBibtexTitle(), 
+            _constants.zoteroUseBetterBibtexDescription(), 
+            false);
+      return zoteroUseBetterBibtex_;
    }
 
+   private PrefValue<Boolean> zoteroUseBetterBibtex_;
+
    /**
     * Key for making Zotero API calls
     */
    public PrefValue<String> zoteroApiKey()
    {
-      return string(
-         "zotero_api_key",
-         _constants.zoteroApiKeyTitle(), 
-         _constants.zoteroApiKeyDescription(), 
-         "");
+      if (zoteroApiKey_ == null)
+         zoteroApiKey_ = string(
+            "zotero_api_key",
+            _constants.zoteroApiKeyTitle(), 
+            _constants.zoteroApiKeyDescription(), 
+            "");
+      return zoteroApiKey_;
    }
 
+   private PrefValue<String> zoteroApiKey_;
+
    /**
     * Directory containing Zotero data files
     */
    public PrefValue<String> zoteroDataDir()
    {
-      return string(
-         "zotero_data_dir",
-         _constants.zoteroDataDirTitle(), 
-         _constants.zoteroDataDirDescription(), 
-         "");
+      if (zoteroDataDir_ == null)
+         zoteroDataDir_ = string(
+            "zotero_data_dir",
+            _constants.zoteroDataDirTitle(), 
+            _constants.zoteroDataDirDescription(), 
+            "");
+      return zoteroDataDir_;
    }
 
+   private PrefValue<String> zoteroDataDir_;
+
    /**
     * Sync source editor to Quarto website preview navigation.
     */
    public PrefValue<Boolean> quartoWebsiteSyncEditor()
    {
-      return bool(
-         "quarto_website_sync_editor",
-         _constants.quartoWebsiteSyncEditorTitle(), 
-         _constants.quartoWebsiteSyncEditorDescription(), 
-         false);
+      if (quartoWebsiteSyncEditor_ == null)
+         quartoWebsiteSyncEditor_ = bool(
+            "quarto_website_sync_editor",
+            _constants.quartoWebsiteSyncEditorTitle(), 
+            _constants.quartoWebsiteSyncEditorDescription(), 
+            false);
+      return quartoWebsiteSyncEditor_;
    }
 
+   private PrefValue<Boolean> quartoWebsiteSyncEditor_;
+
    public void syncPrefs(String layer, JsObject source)
    {
       if (source.hasKey("general"))
@@ -43,10 +43,12 @@ import org.rstudio.core.client.theme.ModuleTabLayoutPanel;
 import org.rstudio.core.client.widget.FontSizer;
 import org.rstudio.core.client.widget.Toolbar;
 import org.rstudio.studio.client.application.Desktop;
+import org.rstudio.studio.client.application.events.DeferredInitCompletedEvent;
 import org.rstudio.studio.client.application.events.ChangeFontSizeEvent;
 import org.rstudio.studio.client.application.events.EventBus;
 import org.rstudio.studio.client.application.ui.appended.ApplicationEndedPopupPanel;
 import org.rstudio.studio.client.common.GlobalDisplay;
+import org.rstudio.studio.client.rsconnect.RSConnect;
 import org.rstudio.studio.client.workbench.FileMRUList;
 import org.rstudio.studio.client.workbench.WorkbenchMainView;
 import org.rstudio.studio.client.workbench.commands.Commands;
@@ -70,6 +72,7 @@ import org.rstudio.studio.client.workbench.views.console.ConsoleResources;
 import org.rstudio.studio.client.workbench.views.edit.Edit;
 import org.rstudio.studio.client.workbench.views.edit.Edit.Shim;
 import org.rstudio.studio.client.workbench.views.edit.events.ShowEditorEvent;
+import org.rstudio.studio.client.workbench.views.environment.dataimport.DataImportPresenter;
 import org.rstudio.studio.client.workbench.views.help.events.ActivateHelpEvent;
 import org.rstudio.studio.client.workbench.views.plots.PlotsTab;
 import org.rstudio.studio.client.workbench.views.source.events.LastSourceDocClosedEvent;
@@ -92,13 +95,17 @@ public class WorkbenchScreen extends Composite
                           Commands commands,
                           final Provider<FileMRUList> mruList,
                           FontSizeManager fontSizeManager,
-                          OptionsLoader.Shim optionsLoader)
+                          OptionsLoader.Shim optionsLoader,
+                          DataImportPresenter.Shim dataImport,
+                          Provider<RSConnect> pRSConnect)
    {
       globalDisplay_ = globalDisplay;
       eventBus_ = eventBus;
       session_ = session;
       edit_ = edit;
       optionsLoader_ = optionsLoader;
+      dataImport_ = dataImport;
+      pRSConnect_ = pRSConnect;
 
       if (!BrowseCap.isMacintoshDesktop())
       {
@@ -152,6 +159,11 @@ public class WorkbenchScreen extends Composite
          mruList.get();
       });
 
+      eventBus.addHandler(DeferredInitCompletedEvent.TYPE, (DeferredInitCompletedEvent event) ->
+      {
+         prefetchDeferred();
+      });
+
       eventBus.addHandler(LastSourceDocClosedEvent.TYPE,
                           new LastSourceDocClosedEvent.Handler()
       {
@@ -184,7 +196,6 @@ public class WorkbenchScreen extends Composite
 
    private void prefetch()
    {
-      final SerializedCommandQueue prefetchQueue = new SerializedCommandQueue();
       Scheduler.get().scheduleDeferred(new ScheduledCommand() {
          public void execute()
          {
@@ -197,28 +208,28 @@ public class WorkbenchScreen extends Composite
          public void execute()
          {
             for (final WorkbenchTab tab : paneManager_.getAllTabs())
-               prefetchQueue.addCommand(new SerializedCommand()
+               prefetchQueue_.addCommand(new SerializedCommand()
                {
                   public void onExecute(Command continuation)
                   {
                      tab.prefetch(continuation);
                   }
                });
-            prefetchQueue.addCommand(new SerializedCommand()
+            prefetchQueue_.addCommand(new SerializedCommand()
             {
                public void onExecute(Command continuation)
                {
                   ApplicationEndedPopupPanel.prefetch(continuation);
                }
             });
-            prefetchQueue.addCommand(new SerializedCommand()
+            prefetchQueue_.addCommand(new SerializedCommand()
             {
                public void onExecute(Command continuation)
                {
                   edit_.forceLoad(true, continuation);
                }
             });
-            prefetchQueue.addCommand(new SerializedCommand()
+            prefetchQueue_.addCommand(new SerializedCommand()
             {
                public void onExecute(Command continuation)
                {
@@ -229,6 +240,33 @@ public class WorkbenchScreen extends Composite
       });
    }
 
+   // Fragments that aren't needed to render the workbench but are likely to
+   // be used soon; we wait for deferred init so that they don't compete with
+   // the session's own startup work.
+   private void prefetchDeferred()
+   {
+      if (deferredPrefetched_)
+         return;
+      deferredPrefetched_ = true;
+
+      // share the queue with the initial prefetch, so that only one fragment
+      // is downloaded at a time
+      prefetchQueue_.addCommand(new SerializedCommand()
+      {
+         public void onExecute(Command continuation)
+         {
+            dataImport_.forceLoad(true, continuation);
+         }
+      });
+      prefetchQueue_.addCommand(new SerializedCommand()
+      {
+         public void onExecute(Command continuation)
+         {
+            pRSConnect_.get().prefetchPublishUI(continuation);
+         }
+      });
+   }
+
    public void onResize()
    {
       tabsPanel_.onResize();
@@ -498,6 +536,10 @@ public class WorkbenchScreen extends Composite
    private final Session session_;
    private final Shim edit_;
    private final org.rstudio.studio.client.workbench.ui.OptionsLoader.Shim optionsLoader_;
+   private final DataImportPresenter.Shim dataImport_;
+   private final Provider<RSConnect> pRSConnect_;
+   private boolean deferredPrefetched_ = false;
+   private final SerializedCommandQueue prefetchQueue_ = new SerializedCommandQueue();
 
    private final MainSplitPanel tabsPanel_;
    private final PaneManager paneManager_;
@@ -17,12 +17,14 @@ import java.util.List;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.event.dom.client.HasClickHandlers;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Window;
 import com.google.inject.Inject;
 
 import org.rstudio.core.client.Debug;
@@ -319,30 +321,48 @@ public class ConnectionsPresenter extends BasePresenter
              @Override
              protected void onSuccess(final NewConnectionContext context)
              {
-                // show dialog
-                NewConnectionWizard newConnectionWizard = new NewConnectionWizard(
-                   context,
-                   new ProgressOperationWithInput<ConnectionOptions>() {
-                      @Override
-                      public void execute(ConnectionOptions result,
-                                          ProgressIndicator indicator)
-                      {
-                         indicator.onCompleted();
+                // the wizard (and the connection UI it pulls in) lives in
+                // its own fragment so it isn't part of the pane's download
+                GWT.runAsync(new RunAsyncCallback()
+                {
+                   public void onFailure(Throwable reason)
+                   {
+                      Window.alert(reason.toString());
+                   }
 
-                         eventBus_.fireEvent(new PerformConnectionEvent(
-                            result.getConnectVia(),
-                            result.getConnectCode())
-                         );
-                      }
-                   },
-                   installersWarning_
-                );
-               
-                newConnectionWizard.showModal();
+                   public void onSuccess()
+                   {
+                      showWizard(context);
+                   }
+                });
              }
           }
        );  
    }
+
+   private void showWizard(NewConnectionContext context)
+   {
+      // show dialog
+      NewConnectionWizard newConnectionWizard = new NewConnectionWizard(
+         context,
+         new ProgressOperationWithInput<ConnectionOptions>() {
+            @Override
+            public void execute(ConnectionOptions result,
+                                ProgressIndicator indicator)
+            {
+               indicator.onCompleted();
+
+               eventBus_.fireEvent(new PerformConnectionEvent(
+                  result.getConnectVia(),
+                  result.getConnectCode())
+               );
+            }
+         },
+         installersWarning_
+      );
+
+      newConnectionWizard.showModal();
+   }
    
    @Override
    public void onPerformConnection(PerformConnectionEvent event)
@@ -14,16 +14,14 @@
  */
 package org.rstudio.studio.client.workbench.views.console.shell.assist;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.rstudio.core.client.JsVectorBoolean;
 import org.rstudio.core.client.JsVectorInteger;
 import org.rstudio.core.client.JsVectorString;
 import org.rstudio.core.client.StringUtil;
-import org.rstudio.core.client.container.SafeMap;
 import org.rstudio.studio.client.common.codetools.Completions;
 import org.rstudio.studio.client.common.codetools.RCompletionType;
 import org.rstudio.studio.client.server.ServerRequestCallback;
@@ -37,11 +35,50 @@ import com.google.gwt.core.client.JsArrayString;
 // session. For example, if one retrieves completions for the token 'rn',
 // and the user types 'rnorm', the completion cache should be able to satisfy
 // the intermediate completion requests for 'rno', 'rnor', and 'rnorm'.
+//
+// The cache holds a bounded number of completion lists (and candidates),
+// evicting the least recently used lists first. Each list is indexed once,
+// when stored, so that narrowing it as the user types only needs to match
+// and score each candidate once.
 public class CompletionCache
 {
+   private static class Entry
+   {
+      public Entry(Completions completions)
+      {
+         this.completions = completions;
+
+         JsArrayString names = completions.getCompletions();
+         JsArrayInteger type = completions.getType();
+         JsArrayInteger context = completions.getContext();
+
+         int n = names.length();
+         this.names = new String[n];
+         this.namesLower = new String[n];
+         this.typeScores = new int[n];
+         for (int i = 0; i < n; i++)
+         {
+            String name = names.get(i);
+            this.names[i] = name;
+            this.namesLower[i] = name.toLowerCase();
+            this.typeScores[i] = RCompletionType.score(type.get(i), context.get(i));
+         }
+      }
+
+      public int size()
+      {
+         return names.length;
+      }
+
+      public final Completions completions;
+      public final String[] names;
+      public final String[] namesLower;
+      public final int[] typeScores;
+   }
+
    public CompletionCache()
    {
-      cache_ = new SafeMap<>();
+      cache_ = new LinkedHashMap<>(16, 0.75f, true);
    }
    
    public boolean satisfyRequest(String line,
@@ -50,34 +87,57 @@ public class CompletionCache
       if (StringUtil.isNullOrEmpty(line))
          return false;
       
-      for (int i = 0, n = line.length(); i < n; i++)
+      // find the longest cached line which is a prefix of this one
+      String substring = null;
+      for (String cached : cache_.keySet())
       {
-         String substring = StringUtil.substring(line, 0, n - i);
-         if (cache_.containsKey(substring))
+         if (line.startsWith(cached) &&
+             (substring == null || cached.length() > substring.length()))
          {
-            Completions completions = narrow(line, substring, cache_.get(substring));
-            requestCallback.onResponseReceived(completions);
-            return true;
+            substring = cached;
          }
       }
       
-      return false;
+      if (substring == null)
+         return false;
+      
+      Completions completions = narrow(line, substring, cache_.get(substring));
+      requestCallback.onResponseReceived(completions);
+      return true;
    }
    
    public void store(String token, Completions completions)
    {
-      cache_.put(token, completions);
+      Entry entry = new Entry(completions);
+      Entry previous = cache_.put(token, entry);
+      if (previous != null)
+         candidates_ -= previous.size();
+      candidates_ += entry.size();
+      
+      // evict the least recently used completions (but never the ones we
+      // just stored)
+      Iterator<Map.Entry<String, Entry>> it = cache_.entrySet().iterator();
+      while (cache_.size() > 1 &&
+             (cache_.size() > MAX_ENTRIES || candidates_ > MAX_CANDIDATES))
+      {
+         Map.Entry<String, Entry> eldest = it.next();
+         candidates_ -= eldest.getValue().size();
+         it.remove();
+      }
    }
    
    public void flush()
    {
       cache_.clear();
+      candidates_ = 0;
    }
    
    private Completions narrow(String line,
                               String substring,
-                              Completions original)
+                              Entry entry)
    {
+      Completions original = entry.completions;
+      
       // no need to narrow when line + substring are equivalent
       if (line.equals(substring))
          return original;
@@ -86,6 +146,28 @@ public class CompletionCache
       // completion token, and adding the delta between the new line and
       // the original completion line used.
       String token = original.getToken() + StringUtil.substring(line, substring.length());
+      String tokenLower = token.toLowerCase();
+      
+      // Find the candidates which still match, scoring each as we go
+      int n = entry.size();
+      final int[] indices = new int[n];
+      final int[] scores = new int[n];
+      int count = 0;
+      for (int i = 0; i < n; i++)
+      {
+         if (StringUtil.isSubsequence(entry.namesLower[i], tokenLower))
+         {
+            indices[count] = i;
+            scores[i] = CodeSearchOracle.scoreMatch(
+                  entry.names[i], entry.namesLower[i],
+                  token, tokenLower,
+                  false);
+            count++;
+         }
+      }
+      
+      // Sort these based on their (type, then match) scores
+      sort(indices, count, entry, scores);
       
       // Extract the vector elements of the completion string
       JsArrayString completions      = original.getCompletions();
@@ -98,72 +180,7 @@ public class CompletionCache
       JsArrayBoolean replaceToEnd    = original.getReplaceToEnd();
       JsArrayString meta             = original.getMeta();
       
-      // Now, generate narrowed versions of the above
-      final JsVectorString completionsNarrow     = JsVectorString.createVector().cast();
-      final JsVectorString displayNarrow         = JsVectorString.createVector().cast();
-      final JsVectorString packagesNarrow        = JsVectorString.createVector().cast();
-      final JsVectorBoolean quoteNarrow          = JsVectorBoolean.createVector().cast();
-      final JsVectorInteger typeNarrow           = JsVectorInteger.createVector().cast();
-      final JsArrayBoolean suggestOnAcceptNarrow = JsVectorBoolean.createVector().cast();
-      final JsArrayBoolean replaceToEndNarrow    = JsVectorBoolean.createVector().cast();
-      final JsVectorString metaNarrow            = JsVectorString.createVector().cast();
-      final JsVectorInteger contextNarrow        = JsVectorInteger.createVector().cast();
-      
-      for (int i = 0, n = completions.length(); i < n; i++)
-      {
-         boolean isSubsequence = StringUtil.isSubsequence(completions.get(i), token, true);
-         if (isSubsequence)
-         {
-            completionsNarrow.push(completions.get(i));
-            displayNarrow.push(display.get(i));
-            packagesNarrow.push(packages.get(i));
-            quoteNarrow.push(quote.get(i));
-            typeNarrow.push(type.get(i));
-            suggestOnAcceptNarrow.push(suggestOnAccept.get(i));
-            replaceToEndNarrow.push(replaceToEnd.get(i));
-            metaNarrow.push(meta.get(i));
-            contextNarrow.push(context.get(i));
-         }
-      }
-      
-      // Finally, sort these based on score
-      List<Integer> indices = new ArrayList<>();
-      for (int i = 0, n = completionsNarrow.size(); i < n; i++)
-         indices.add(i);
-      
-      // Sort our indices vector
-      Collections.sort(indices, new Comparator<Integer>()
-      {
-         @Override
-         public int compare(Integer lhs, Integer rhs)
-         {
-            int lhsContext = contextNarrow.get(lhs);
-            int rhsContext = contextNarrow.get(rhs);
-
-            int lhsType = typeNarrow.get(lhs);
-            int rhsType = typeNarrow.get(rhs);
-
-            int lhsTypeScore = RCompletionType.score(lhsType, lhsContext);
-            int rhsTypeScore = RCompletionType.score(rhsType, rhsContext);
-            if (lhsTypeScore < rhsTypeScore)
-               return -1;
-            else if (lhsTypeScore > rhsTypeScore)
-               return 1;
-
-            String lhsName = completionsNarrow.get(lhs);
-            String rhsName = completionsNarrow.get(rhs);
-            
-            int lhsScore = CodeSearchOracle.scoreMatch(lhsName, token, false);
-            int rhsScore = CodeSearchOracle.scoreMatch(rhsName, token, false);
-            
-            if (lhsScore == rhsScore)
-               return lhsName.compareTo(rhsName);
-            
-            return lhsScore < rhsScore ? -1 : 1;
-         }
-      });
-      
-      // Finally, re-arrange our vectors.
+      // Now, generate the narrowed (and sorted) versions of the above
       final JsVectorString completionsSorted = JsVectorString.createVector().cast();
       final JsVectorString displaySorted     = JsVectorString.createVector().cast();
       final JsVectorString packagesSorted    = JsVectorString.createVector().cast();
@@ -174,18 +191,18 @@ public class CompletionCache
       final JsVectorBoolean replaceToEndSorted = JsVectorBoolean.createVector().cast();
       final JsVectorString metaSorted        = JsVectorString.createVector().cast();
       
-      for (int i = 0, n = indices.size(); i < n; i++)
+      for (int i = 0; i < count; i++)
       {
-         int index = indices.get(i);
-         completionsSorted.push(completionsNarrow.get(index));
-         displaySorted.push(displayNarrow.get(index));
-         packagesSorted.push(packagesNarrow.get(index));
-         quoteSorted.push(quoteNarrow.get(index));
-         typeSorted.push(typeNarrow.get(index));
+         int index = indices[i];
+         completionsSorted.push(completions.get(index));
+         displaySorted.push(display.get(index));
+         packagesSorted.push(packages.get(index));
+         quoteSorted.push(quote.get(index));
+         typeSorted.push(type.get(index));
          contextSorted.push(context.get(index));
-         suggestOnAcceptSorted.push(suggestOnAcceptNarrow.get(index));
-         replaceToEndSorted.push(replaceToEndNarrow.get(index));
-         metaSorted.push(metaNarrow.get(index));
+         suggestOnAcceptSorted.push(suggestOnAccept.get(index));
+         replaceToEndSorted.push(replaceToEnd.get(index));
+         metaSorted.push(meta.get(index));
       }
       
       // And return the completion result
@@ -210,5 +227,54 @@ public class CompletionCache
             );
    }
    
-   private final SafeMap<String, Completions> cache_;
+   private static int compare(int lhs, int rhs, Entry entry, int[] scores)
+   {
+      int lhsTypeScore = entry.typeScores[lhs];
+      int rhsTypeScore = entry.typeScores[rhs];
+      if (lhsTypeScore != rhsTypeScore)
+         return lhsTypeScore < rhsTypeScore ? -1 : 1;
+      
+      int lhsScore = scores[lhs];
+      int rhsScore = scores[rhs];
+      if (lhsScore == rhsScore)
+         return entry.names[lhs].compareTo(entry.names[rhs]);
+      
+      return lhsScore < rhsScore ? -1 : 1;
+   }
+   
+   // sorts the first 'count' indices (a stable merge sort, so that we
+   // needn't box the indices to use Collections.sort)
+   private static void sort(int[] indices, int count, Entry entry, int[] scores)
+   {
+      int[] buffer = new int[count];
+      for (int width = 1; width < count; width *= 2)
+      {
+         for (int lo = 0; lo < count - width; lo += 2 * width)
+         {
+            int mid = lo + width;
+            int hi = Math.min(lo + 2 * width, count);
+            
+            int i = lo, j = mid, k = lo;
+            while (i < mid && j < hi)
+            {
+               if (compare(indices[j], indices[i], entry, scores) < 0)
+                  buffer[k++] = indices[j++];
+               else
+                  buffer[k++] = indices[i++];
+            }
+            while (i < mid)
+               buffer[k++] = indices[i++];
+            while (j < hi)
+               buffer[k++] = indices[j++];
+            
+            System.arraycopy(buffer, lo, indices, lo, hi - lo);
+         }
+      }
+   }
+   
+   private final LinkedHashMap<String, Entry> cache_;
+   private int candidates_ = 0;
+   
+   private static final int MAX_ENTRIES = 32;
+   private static final int MAX_CANDIDATES = 100000;
 }
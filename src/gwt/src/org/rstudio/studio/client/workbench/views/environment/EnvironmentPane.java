@@ -21,6 +21,7 @@ import java.util.List;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.event.logical.shared.ResizeEvent;
 import com.google.gwt.event.logical.shared.ResizeHandler;
+import org.rstudio.core.client.CommandWithArg;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.DebugFilePosition;
 import org.rstudio.core.client.ElementIds;
@@ -61,6 +62,7 @@ import org.rstudio.studio.client.workbench.views.environment.events.MemoryUsageC
 import org.rstudio.studio.client.workbench.views.environment.model.CallFrame;
 import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentContextData;
 import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentFrame;
+import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentObjectPage;
 import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentServerOperations;
 import org.rstudio.studio.client.workbench.views.environment.model.ObjectContents;
 import org.rstudio.studio.client.workbench.views.environment.model.RObject;
@@ -310,6 +312,13 @@ public class EnvironmentPane extends WorkbenchPane
       objects_.removeObject(objectName);
    }
 
+   @Override
+   public void applyObjectChanges(JsArray<RObject> changed,
+                                  JsArrayString removed)
+   {
+      objects_.applyObjectChanges(changed, removed);
+   }
+
    @Override
    public void setContextDepth(int contextDepth)
    {
@@ -334,6 +343,12 @@ public class EnvironmentPane extends WorkbenchPane
       isClientStateDirty_ = true;
    }
 
+   @Override
+   public void showObjectPages(int total)
+   {
+      objects_.showObjectPages(total);
+   }
+
    @Override
    public void setEnvironmentName(String environmentName, boolean local)
    {
@@ -538,6 +553,30 @@ public class EnvironmentPane extends WorkbenchPane
       });
    }
 
+   @Override
+   public void fetchObjectPage(int offset,
+                               int limit,
+                               String filter,
+                               final CommandWithArg<EnvironmentObjectPage> onCompleted)
+   {
+      server_.listEnvironmentPage(offset, limit, filter,
+            new ServerRequestCallback<EnvironmentObjectPage>()
+      {
+         @Override
+         public void onResponseReceived(EnvironmentObjectPage page)
+         {
+            onCompleted.execute(page);
+         }
+
+         @Override
+         public void onError(ServerError error)
+         {
+            Debug.logError(error);
+            onCompleted.execute(null);
+         }
+      });
+   }
+
    // Private methods ---------------------------------------------------------
 
    private void executeFunctionForObject(String function, String objectName)
@@ -27,7 +27,6 @@ import org.rstudio.core.client.command.CommandBinder;
 import org.rstudio.core.client.command.Handler;
 import org.rstudio.core.client.files.FileSystemItem;
 import org.rstudio.core.client.js.JsObject;
-import org.rstudio.core.client.js.JsUtil;
 import org.rstudio.core.client.regex.Pattern;
 import org.rstudio.core.client.widget.OperationWithInput;
 import org.rstudio.core.client.widget.ProgressIndicator;
@@ -117,9 +116,11 @@ public class EnvironmentPresenter extends BasePresenter
       void addObject(RObject object);
       void addObjects(JsArray<RObject> objects);
       void clearObjects();
+      void showObjectPages(int total);
       void clearSelection();
       void setContextDepth(int contextDepth);
       void removeObject(String object);
+      void applyObjectChanges(JsArray<RObject> changed, JsArrayString removed);
       void setEnvironmentName(String name, boolean local);
       void setEnvironmentMonitoring(boolean monitoring);
       boolean environmentMonitoring();
@@ -156,7 +157,7 @@ public class EnvironmentPresenter extends BasePresenter
                                Source source,
                                DebugCommander debugCommander,
                                FileTypeRegistry fileTypeRegistry,
-                               DataImportPresenter dataImportPresenter)
+                               DataImportPresenter.Shim dataImportPresenter)
    {
       super(view);
       binder.bind(commands, this);
@@ -226,7 +227,8 @@ public class EnvironmentPresenter extends BasePresenter
                   event.getCallFrames(),
                   event.useProvidedSource(),
                   event.getFunctionCode());
-            setViewFromEnvironmentList(event.getEnvironmentList());
+            setViewFromEnvironmentList(event.getEnvironmentList(),
+                                       event.getEnvironmentSize());
             requeryContextTimer_.cancel();
          }
       });
@@ -262,16 +264,8 @@ public class EnvironmentPresenter extends BasePresenter
       eventBus.addHandler(EnvironmentChangedEvent.TYPE, (EnvironmentChangedEvent event) ->
       {
          EnvironmentChangedEvent.Data data = event.getData();
-
-         for (RObject object : JsUtil.asIterable(data.getChangedObjects()))
-         {
-            view_.addObject(object);
-         }
-
-         for (String object : JsUtil.asIterable(data.getRemovedObjects()))
-         {
-            view_.removeObject(object);
-         }
+         view_.applyObjectChanges(data.getChangedObjects(),
+                                  data.getRemovedObjects());
       });
 
       eventBus.addHandler(BrowserLineChangedEvent.TYPE,
@@ -718,16 +712,19 @@ public class EnvironmentPresenter extends BasePresenter
          // environment was loaded from .RData and therefore not available
          // during session init; we also want to fetch a fresh list in this
          // case).
-         JsArray<RObject> environmentList =
-              session_.getSessionInfo().getEnvironmentState().environmentList();
-         if (environmentList == null ||
-             environmentList.length() == 0)
+         EnvironmentContextData environmentState =
+              session_.getSessionInfo().getEnvironmentState();
+         JsArray<RObject> environmentList = environmentState.environmentList();
+         int environmentSize = environmentState.environmentSize();
+         if ((environmentList == null ||
+              environmentList.length() == 0) &&
+             environmentSize <= 0)
          {
             refreshViewIfEnabled();
          }
          else
          {
-            setViewFromEnvironmentList(environmentList);
+            setViewFromEnvironmentList(environmentList, environmentSize);
          }
          initialized_ = true;
       }
@@ -756,7 +753,8 @@ public class EnvironmentPresenter extends BasePresenter
             environmentState.callFrames(),
             environmentState.useProvidedSource(),
             environmentState.functionCode());
-      setViewFromEnvironmentList(environmentState.environmentList());
+      setViewFromEnvironmentList(environmentState.environmentList(),
+                                 environmentState.environmentSize());
       initialized_ = true;
    }
 
@@ -1047,10 +1045,17 @@ public class EnvironmentPresenter extends BasePresenter
       }
    }
 
-   private void setViewFromEnvironmentList(JsArray<RObject> objects)
+   // the server leaves the list empty for environments too large to send
+   // all at once; in that case, the view fetches the objects in pages
+   private void setViewFromEnvironmentList(JsArray<RObject> objects,
+                                           int environmentSize)
    {
       view_.clearObjects();
-      view_.addObjects(objects);
+      int count = objects == null ? 0 : objects.length();
+      if (environmentSize > count)
+         view_.showObjectPages(environmentSize);
+      else
+         view_.addObjects(objects);
    }
 
    /***
@@ -1207,7 +1212,7 @@ public class EnvironmentPresenter extends BasePresenter
    private final DebugCommander debugCommander_;
    private final Session session_;
    private final FileTypeRegistry fileTypeRegistry_;
-   private final DataImportPresenter dataImportPresenter_;
+   private final DataImportPresenter.Shim dataImportPresenter_;
 
    private int contextDepth_;
    private boolean refreshingView_;
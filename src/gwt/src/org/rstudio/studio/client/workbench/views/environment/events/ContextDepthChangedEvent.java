@@ -50,6 +50,11 @@ public class ContextDepthChangedEvent extends
       return contextData_.environmentList();
    }
 
+   public int getEnvironmentSize()
+   {
+      return contextData_.environmentSize();
+   }
+
    public JsArray<CallFrame> getCallFrames()
    {
       return contextData_.callFrames();
@@ -49,6 +49,12 @@ public class EnvironmentContextData extends JavaScriptObject
       return this.environment_list;
    }-*/;
 
+   // the number of objects in the environment; when this is larger than the
+   // environment list, the objects must be requested in pages
+   public final native int environmentSize() /*-{
+      return this.environment_size || 0;
+   }-*/;
+
    public final native String environmentName() /*-{
       return this.environment_name;
    }-*/;
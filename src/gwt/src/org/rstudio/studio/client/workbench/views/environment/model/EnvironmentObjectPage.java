@@ -0,0 +1,37 @@
+/*
+ * EnvironmentObjectPage.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.environment.model;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+
+// a page of the objects in an environment, as returned by list_environment_page
+public class EnvironmentObjectPage extends JavaScriptObject
+{
+   protected EnvironmentObjectPage() {}
+
+   public native final int getOffset() /*-{
+      return this.offset;
+   }-*/;
+
+   // the total number of objects (matching the filter) in the environment
+   public native final int getTotal() /*-{
+      return this.total;
+   }-*/;
+
+   public native final JsArray<RObject> getObjects() /*-{
+      return this.objects;
+   }-*/;
+}
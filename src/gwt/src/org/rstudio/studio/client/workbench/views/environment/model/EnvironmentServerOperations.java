@@ -25,6 +25,11 @@ public interface EnvironmentServerOperations
 {
    void listEnvironment(ServerRequestCallback<JsArray<RObject> > callback);
 
+   void listEnvironmentPage(int offset,
+                            int limit,
+                            String filter,
+                            ServerRequestCallback<EnvironmentObjectPage> callback);
+
    void removeAllObjects(boolean includeHidden,
                          ServerRequestCallback<Void> requestCallback);
 
@@ -22,11 +22,17 @@ import org.rstudio.core.client.cellview.ScrollingDataGrid;
 import org.rstudio.core.client.theme.res.ThemeStyles;
 import org.rstudio.studio.client.workbench.views.environment.EnvironmentPane;
 
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.cell.client.FieldUpdater;
+import com.google.gwt.dom.builder.shared.TableRowBuilder;
+import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.text.shared.AbstractSafeHtmlRenderer;
+import com.google.gwt.user.cellview.client.AbstractCellTable;
+import com.google.gwt.user.cellview.client.AbstractCellTableBuilder;
 import com.google.gwt.user.cellview.client.Column;
+import com.google.gwt.view.client.Range;
 
 public abstract class EnvironmentObjectDisplay 
                       extends ScrollingDataGrid<RObjectEntry>
@@ -74,6 +80,104 @@ public abstract class EnvironmentObjectDisplay
    public abstract List<String> getSelectedObjects();
    public abstract void clearSelection();
 
+   // builds the rows of the object table. when only a window of the objects
+   // is rendered, the table is padded above and below the window so that it
+   // scrolls as though all the objects were present.
+   protected abstract class ObjectTableBuilder
+           extends AbstractCellTableBuilder<RObjectEntry>
+   {
+      public ObjectTableBuilder(AbstractCellTable<RObjectEntry> cellTable)
+      {
+         super(cellTable);
+      }
+
+      @Override
+      protected final void buildRowImpl(RObjectEntry rowValue, int absRowIndex)
+      {
+         Range range = getVisibleRange();
+         if (absRowIndex == range.getStart())
+            buildPaddingRow(range.getStart());
+
+         buildObjectRow(rowValue, absRowIndex);
+
+         if (absRowIndex == range.getStart() + getVisibleItemCount() - 1)
+            buildPaddingRow(getRowCount() - absRowIndex - 1);
+      }
+
+      protected abstract void buildObjectRow(RObjectEntry rowValue,
+                                             int absRowIndex);
+
+      private void buildPaddingRow(int numRows)
+      {
+         if (!windowed_ || numRows <= 0)
+            return;
+
+         TableRowBuilder row = startRow();
+         row.style().height(numRows * rowHeight_, Unit.PX).endStyle();
+         row.startTD().colSpan(Math.max(1, cellTable.getColumnCount())).endTD();
+         row.endTR();
+      }
+   }
+
+   // when windowed, only the objects scrolled into view (and a few either
+   // side) are rendered
+   public void setWindowed(boolean windowed)
+   {
+      if (windowed == windowed_)
+         return;
+
+      windowed_ = windowed;
+      if (windowed_)
+      {
+         if (!scrollHandlerAdded_)
+         {
+            scrollHandlerAdded_ = true;
+            getScrollPanel().addScrollHandler((event) ->
+            {
+               if (!windowed_ || windowUpdatePending_)
+                  return;
+               windowUpdatePending_ = true;
+               AnimationScheduler.get().requestAnimationFrame((timestamp) ->
+               {
+                  windowUpdatePending_ = false;
+                  updateWindow();
+               });
+            });
+         }
+         setVisibleRange(0, WINDOW_SIZE);
+      }
+      else
+      {
+         setVisibleRange(0, EnvironmentObjects.MAX_ENVIRONMENT_OBJECTS);
+      }
+   }
+
+   private void updateWindow()
+   {
+      if (!windowed_)
+         return;
+
+      // measure the rendered rows the first time we have some
+      if (!rowHeightMeasured_ && getVisibleItemCount() > 0)
+      {
+         int height = getRowElement(0).getOffsetHeight();
+         if (height > 0)
+         {
+            rowHeight_ = height;
+            rowHeightMeasured_ = true;
+         }
+      }
+
+      // start the window a little above the first visible row, moving it
+      // only in steps of half the overscan so small scrolls don't re-render
+      int firstVisible = getScrollPanel().getVerticalScrollPosition() / rowHeight_;
+      int start = Math.max(0, firstVisible - WINDOW_OVERSCAN);
+      start -= start % (WINDOW_OVERSCAN / 2);
+
+      if (start != getVisibleRange().getStart())
+         setVisibleRange(start, WINDOW_SIZE);
+   }
+
    public void setEnvironmentName(String environmentName)
    {
       environmentName_ = environmentName;
@@ -109,4 +213,13 @@ public abstract class EnvironmentObjectDisplay
    protected Host host_;
    protected EnvironmentStyle environmentStyle_;
    protected String environmentName_ = "";
+
+   private boolean windowed_ = false;
+   private boolean scrollHandlerAdded_ = false;
+   private boolean windowUpdatePending_ = false;
+   private boolean rowHeightMeasured_ = false;
+   private int rowHeight_ = 22;
+
+   private static final int WINDOW_OVERSCAN = 40;
+   private static final int WINDOW_SIZE = 160;
 }
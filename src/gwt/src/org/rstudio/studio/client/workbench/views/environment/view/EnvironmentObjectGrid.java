@@ -34,7 +34,6 @@ import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.resources.client.ClientBundle;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.user.cellview.client.AbstractCellTable;
-import com.google.gwt.user.cellview.client.AbstractCellTableBuilder;
 import com.google.gwt.user.cellview.client.AbstractHeaderOrFooterBuilder;
 import com.google.gwt.user.cellview.client.Column;
 import com.google.gwt.user.cellview.client.Header;
@@ -318,7 +317,7 @@ public class EnvironmentObjectGrid extends EnvironmentObjectDisplay
 
    // builds individual rows of the object table
    private class EnvironmentObjectGridBuilder
-           extends AbstractCellTableBuilder<RObjectEntry>
+           extends ObjectTableBuilder
    {
 
       public EnvironmentObjectGridBuilder(
@@ -328,7 +327,7 @@ public class EnvironmentObjectGrid extends EnvironmentObjectDisplay
       }
 
       @Override
-      protected void buildRowImpl(RObjectEntry rowValue, int absRowIndex)
+      protected void buildObjectRow(RObjectEntry rowValue, int absRowIndex)
       {
          if (!rowValue.visible)
             return;
@@ -38,7 +38,6 @@ import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.text.shared.AbstractSafeHtmlRenderer;
 import com.google.gwt.text.shared.SafeHtmlRenderer;
 import com.google.gwt.user.cellview.client.AbstractCellTable;
-import com.google.gwt.user.cellview.client.AbstractCellTableBuilder;
 import com.google.gwt.user.cellview.client.Column;
 import com.google.gwt.view.client.NoSelectionModel;
 
@@ -334,7 +333,7 @@ public class EnvironmentObjectList extends EnvironmentObjectDisplay
 
    // builds individual rows of the object table
    private class EnvironmentObjectTableBuilder
-           extends AbstractCellTableBuilder<RObjectEntry>
+           extends ObjectTableBuilder
    {
       public EnvironmentObjectTableBuilder(
              AbstractCellTable<RObjectEntry> cellTable)
@@ -343,7 +342,7 @@ public class EnvironmentObjectList extends EnvironmentObjectDisplay
       }
 
       // (re)build the given row
-      public void buildRowImpl(RObjectEntry rowValue, int absRowIndex)
+      protected void buildObjectRow(RObjectEntry rowValue, int absRowIndex)
       {
          // build nothing for invisible rows
          if (!rowValue.visible)
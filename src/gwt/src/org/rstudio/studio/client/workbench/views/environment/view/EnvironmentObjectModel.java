@@ -0,0 +1,195 @@
+/*
+ * EnvironmentObjectModel.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+
+package org.rstudio.studio.client.workbench.views.environment.view;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+// the environment pane's list of objects, kept in sort order, with an index
+// from object name to entry so that individual objects can be located,
+// added and removed without scanning the list
+class EnvironmentObjectModel
+{
+   public EnvironmentObjectModel(List<RObjectEntry> entries,
+                                 RObjectEntrySort sort)
+   {
+      entries_ = entries;
+      sort_ = sort;
+   }
+
+   public int size()
+   {
+      return entries_.size();
+   }
+
+   public RObjectEntry get(String name)
+   {
+      return index_.get(name);
+   }
+
+   // returns the position of the named object in the list, or -1 if there's
+   // no such object
+   public int indexOf(String name)
+   {
+      RObjectEntry entry = index_.get(name);
+      return entry == null ? -1 : indexOf(entry);
+   }
+
+   // returns the position of the entry in the list, or -1 if it isn't in
+   // the list
+   public int indexOf(RObjectEntry entry)
+   {
+      if (index_.get(entry.rObject.getName()) != entry)
+         return -1;
+
+      // find the first entry which doesn't sort before this one, then walk
+      // over any entries which compare equal to it
+      int idx = lowerBound(entry);
+      for (int i = idx; i < entries_.size(); i++)
+      {
+         RObjectEntry candidate = entries_.get(i);
+         if (candidate == entry)
+            return i;
+         if (sort_.compare(entry, candidate) != 0)
+            break;
+      }
+
+      // the list is out of order (shouldn't happen); fall back to a scan
+      return entries_.indexOf(entry);
+   }
+
+   // adds an entry in sort order, replacing any existing entry with the same
+   // name; returns the position of the new entry
+   public int put(RObjectEntry entry)
+   {
+      remove(entry.rObject.getName());
+      int idx = upperBound(entry);
+      entries_.add(idx, entry);
+      index_.put(entry.rObject.getName(), entry);
+      return idx;
+   }
+
+   // replaces the entry at the given position with one for the same object;
+   // the entry is moved if its sort position has changed. returns the new
+   // position of the entry.
+   public int replace(int idx, RObjectEntry entry)
+   {
+      boolean inOrder =
+            (idx == 0 ||
+             sort_.compare(entries_.get(idx - 1), entry) <= 0) &&
+            (idx == entries_.size() - 1 ||
+             sort_.compare(entry, entries_.get(idx + 1)) <= 0);
+
+      if (!inOrder)
+         return put(entry);
+
+      entries_.set(idx, entry);
+      index_.put(entry.rObject.getName(), entry);
+      return idx;
+   }
+
+   // removes the named object; returns the position it occupied, or -1 if
+   // there was no such object
+   public int remove(String name)
+   {
+      int idx = indexOf(name);
+      if (idx >= 0)
+      {
+         entries_.remove(idx);
+         index_.remove(name);
+      }
+      return idx;
+   }
+
+   // replaces the contents of the model with the given entries
+   public void setAll(Collection<RObjectEntry> entries)
+   {
+      index_.clear();
+      for (RObjectEntry entry : entries)
+         index_.put(entry.rObject.getName(), entry);
+
+      entries_.clear();
+      entries_.addAll(index_.values());
+      sort();
+   }
+
+   public void clear()
+   {
+      entries_.clear();
+      index_.clear();
+   }
+
+   // re-sorts the list; must be called whenever the sort order changes
+   public void sort()
+   {
+      Collections.sort(entries_, sort_);
+   }
+
+   // returns the position of the first entry in the given category; only
+   // meaningful when the list is sorted by category
+   public int firstIndexOfCategory(int category)
+   {
+      int lo = 0;
+      int hi = entries_.size();
+      while (lo < hi)
+      {
+         int mid = (lo + hi) >>> 1;
+         if (entries_.get(mid).getCategory() < category)
+            lo = mid + 1;
+         else
+            hi = mid;
+      }
+      return lo;
+   }
+
+   // the first position whose entry doesn't sort before the given entry
+   private int lowerBound(RObjectEntry entry)
+   {
+      int lo = 0;
+      int hi = entries_.size();
+      while (lo < hi)
+      {
+         int mid = (lo + hi) >>> 1;
+         if (sort_.compare(entries_.get(mid), entry) < 0)
+            lo = mid + 1;
+         else
+            hi = mid;
+      }
+      return lo;
+   }
+
+   // the first position whose entry sorts after the given entry
+   private int upperBound(RObjectEntry entry)
+   {
+      int lo = 0;
+      int hi = entries_.size();
+      while (lo < hi)
+      {
+         int mid = (lo + hi) >>> 1;
+         if (sort_.compare(entry, entries_.get(mid)) < 0)
+            hi = mid;
+         else
+            lo = mid + 1;
+      }
+      return lo;
+   }
+
+   private final List<RObjectEntry> entries_;
+   private final RObjectEntrySort sort_;
+   private final HashMap<String, RObjectEntry> index_ = new HashMap<>();
+}
@@ -0,0 +1,187 @@
+/*
+ * EnvironmentObjectPager.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+
+package org.rstudio.studio.client.workbench.views.environment.view;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentObjectPage;
+import org.rstudio.studio.client.workbench.views.environment.model.RObject;
+
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.view.client.AsyncDataProvider;
+import com.google.gwt.view.client.HasData;
+import com.google.gwt.view.client.Range;
+
+// supplies the environment pane with objects fetched from the server a page
+// at a time, as they're scrolled into view; used for environments too large
+// to send to the client all at once. only a handful of pages are kept on the
+// client.
+class EnvironmentObjectPager extends AsyncDataProvider<RObjectEntry>
+{
+   public EnvironmentObjectPager(EnvironmentObjectsObserver observer)
+   {
+      super(RObjectEntry.KEY_PROVIDER);
+      observer_ = observer;
+   }
+
+   // discards all fetched objects and starts over with the given filter
+   public void reset(int total, String filter)
+   {
+      filter_ = filter;
+      total_ = total;
+      updateRowCount(total, false);
+      invalidate();
+   }
+
+   public void setFilter(String filter)
+   {
+      reset(total_, filter);
+   }
+
+   // discards all fetched objects (e.g. because the environment changed)
+   // and re-fetches the objects currently in view
+   public void invalidate()
+   {
+      // remember which objects were expanded, so they stay expanded once
+      // they're re-fetched
+      expanded_.clear();
+      for (List<RObjectEntry> page : pages_.values())
+      {
+         for (RObjectEntry entry : page)
+         {
+            if (entry.expanded)
+               expanded_.add(entry.rObject.getName());
+         }
+      }
+
+      generation_++;
+      pages_.clear();
+      pending_.clear();
+      for (HasData<RObjectEntry> display : getDataDisplays())
+         onRangeChanged(display);
+   }
+
+   @Override
+   protected void onRangeChanged(HasData<RObjectEntry> display)
+   {
+      Range range = display.getVisibleRange();
+      int start = range.getStart();
+      int end = Math.min(start + range.getLength(), total_);
+
+      // fetch any pages we don't yet have
+      boolean complete = true;
+      for (int page = start / PAGE_SIZE; page * PAGE_SIZE < end; page++)
+      {
+         if (!pages_.containsKey(page))
+         {
+            complete = false;
+            fetchPage(page);
+         }
+      }
+
+      if (complete)
+         pushRange(display);
+   }
+
+   private void fetchPage(final int page)
+   {
+      if (pending_.contains(page))
+         return;
+      pending_.add(page);
+
+      final int generation = generation_;
+      observer_.fetchObjectPage(page * PAGE_SIZE, PAGE_SIZE, filter_,
+            (EnvironmentObjectPage result) ->
+      {
+         // ignore results for a superseded set of pages
+         if (generation != generation_)
+            return;
+         pending_.remove(page);
+         if (result == null)
+            return;
+
+         JsArray<RObject> objects = result.getObjects();
+         ArrayList<RObjectEntry> entries = new ArrayList<>();
+         for (int i = 0; i < objects.length(); i++)
+         {
+            RObjectEntry entry = new RObjectEntry(objects.get(i), true);
+            entry.expanded = !entry.contentsAreDeferred &&
+                             expanded_.contains(entry.rObject.getName());
+            entries.add(entry);
+         }
+         pages_.put(page, entries);
+         evictPages(page);
+
+         if (result.getTotal() != total_)
+         {
+            total_ = result.getTotal();
+            updateRowCount(total_, true);
+         }
+
+         for (HasData<RObjectEntry> display : getDataDisplays())
+            onRangeChanged(display);
+      });
+   }
+
+   // pushes the objects in the display's visible range to the display
+   private void pushRange(HasData<RObjectEntry> display)
+   {
+      Range range = display.getVisibleRange();
+      int start = range.getStart();
+      int end = Math.min(start + range.getLength(), total_);
+
+      List<RObjectEntry> rows = new ArrayList<>();
+      for (int i = start; i < end; i++)
+      {
+         List<RObjectEntry> page = pages_.get(i / PAGE_SIZE);
+         int idx = i % PAGE_SIZE;
+         if (page == null || idx >= page.size())
+            break;
+         rows.add(page.get(idx));
+      }
+      updateRowData(display, start, rows);
+   }
+
+   // drops the pages furthest from the most recently fetched page once we're
+   // holding more than we need
+   private void evictPages(int page)
+   {
+      while (pages_.size() > MAX_PAGES)
+      {
+         int furthest = page;
+         for (int candidate : pages_.keySet())
+         {
+            if (Math.abs(candidate - page) > Math.abs(furthest - page))
+               furthest = candidate;
+         }
+         pages_.remove(furthest);
+      }
+   }
+
+   private final EnvironmentObjectsObserver observer_;
+   private final HashMap<Integer, List<RObjectEntry>> pages_ = new HashMap<>();
+   private final HashSet<Integer> pending_ = new HashSet<>();
+   private final HashSet<String> expanded_ = new HashSet<>();
+   private String filter_ = "";
+   private int total_ = 0;
+   private int generation_ = 0;
+
+   public static final int PAGE_SIZE = 200;
+   private static final int MAX_PAGES = 8;
+}
@@ -16,7 +16,7 @@
 package org.rstudio.studio.client.workbench.views.environment.view;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 import com.google.gwt.core.client.GWT;
@@ -30,6 +30,7 @@ import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiField;
 import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.*;
+import com.google.gwt.view.client.AbstractDataProvider;
 import com.google.gwt.view.client.ListDataProvider;
 
 import org.rstudio.core.client.Debug;
@@ -91,6 +92,8 @@ public class EnvironmentObjects extends ResizeComposite
       objectDisplayType_ = OBJECT_LIST_VIEW;
       objectDataProvider_ = new ListDataProvider<>();
       objectSort_ = new RObjectEntrySort();
+      objectModel_ = new EnvironmentObjectModel(objectDataProvider_.getList(),
+                                                objectSort_);
 
       // timer used to scroll table element into view
       // a timer is required as we need to wait until table elements are
@@ -139,49 +142,18 @@ public class EnvironmentObjects extends ResizeComposite
 
    public void addObject(RObject obj)
    {
-      int idx = indexOfExistingObject(obj.getName());
-      final RObjectEntry newEntry = entryFromRObject(obj);
-      boolean added = false;
-
-      // if the object is already in the environment, just update the value
-      if (idx >= 0)
+      if (pager_ != null)
       {
-         final RObjectEntry oldEntry = objectDataProvider_.getList().get(idx);
-
-         if (oldEntry.rObject.getType() == obj.getType())
-         {
-            // type hasn't changed
-            if (oldEntry.expanded &&
-                newEntry.contentsAreDeferred)
-            {
-               // we're replacing an object that has server-deferred contents--
-               // refill it immediately. (another approach would be to push the
-               // set of currently expanded objects to the server so these
-               // objects would show up on the client already expanded)
-               fillEntryContents(newEntry, idx, false);
-            }
-            else
-            {
-               // contents aren't deferred, just use the expanded state directly
-               newEntry.expanded = oldEntry.expanded;
-            }
-            objectDataProvider_.getList().set(idx, newEntry);
-            added = true;
-         }
-         else
-         {
-            // types did change, do a full add/remove
-            objectDataProvider_.getList().remove(idx);
-         }
-
+         invalidatePages();
+         return;
       }
-      if (!added)
+
+      int idx = addObjectEntry(obj);
+      if (objectModel_.size() > MAX_ENVIRONMENT_OBJECTS)
       {
-         RObjectEntry entry = entryFromRObject(obj);
-         idx = indexOfNewObject(entry);
-         objectDataProvider_.getList().add(idx, entry);
+         showObjectPages(objectModel_.size());
+         return;
       }
-      updateCategoryLeaders(true);
 
       // scroll into view
       scrollTimer_.setRow(idx);
@@ -190,18 +162,124 @@ public class EnvironmentObjects extends ResizeComposite
 
    public void removeObject(String objName)
    {
-      int idx = indexOfExistingObject(objName);
-      if (idx >= 0)
+      if (pager_ != null)
       {
-         objectDataProvider_.getList().remove(idx);
+         invalidatePages();
+         return;
       }
 
-      updateCategoryLeaders(true);
+      RObjectEntry entry = objectModel_.get(objName);
+      if (entry == null)
+         return;
+
+      objectModel_.remove(objName);
+      updateCategoryLeaders(entry, null);
+   }
+
+   // applies a set of assignments and removals at once
+   public void applyObjectChanges(JsArray<RObject> changed,
+                                  JsArrayString removed)
+   {
+      if (pager_ != null)
+      {
+         invalidatePages();
+         return;
+      }
+
+      int numChanged = changed.length();
+      int numRemoved = removed.length();
+
+      // for a handful of changes, update the list in place
+      if (numChanged + numRemoved <= MAX_INCREMENTAL_CHANGES)
+      {
+         for (int i = 0; i < numChanged; i++)
+            addObjectEntry(changed.get(i));
+         for (int i = 0; i < numRemoved; i++)
+            removeObject(removed.get(i));
+
+         // scroll the last assigned object into view
+         if (numChanged > 0)
+         {
+            scrollTimer_.setRow(objectModel_.indexOf(
+                  changed.get(numChanged - 1).getName()));
+            scrollTimer_.schedule(100);
+         }
+         return;
+      }
+
+      // otherwise, rebuild the list (and sort it) once
+      HashMap<String, RObjectEntry> entries = new HashMap<>();
+      for (RObjectEntry entry : objectDataProvider_.getList())
+         entries.put(entry.rObject.getName(), entry);
+
+      for (int i = 0; i < numRemoved; i++)
+         entries.remove(removed.get(i));
+
+      ArrayList<RObjectEntry> deferredEntries = new ArrayList<>();
+      for (int i = 0; i < numChanged; i++)
+      {
+         RObject obj = changed.get(i);
+         RObjectEntry newEntry = entryFromRObject(obj);
+         RObjectEntry oldEntry = entries.get(obj.getName());
+         if (oldEntry != null && oldEntry.rObject.getType() == obj.getType())
+         {
+            if (oldEntry.expanded && newEntry.contentsAreDeferred)
+               deferredEntries.add(newEntry);
+            else
+               newEntry.expanded = oldEntry.expanded;
+         }
+         entries.put(obj.getName(), newEntry);
+      }
+
+      objectModel_.setAll(entries.values());
+      if (objectModel_.size() > MAX_ENVIRONMENT_OBJECTS)
+      {
+         showObjectPages(objectModel_.size());
+         return;
+      }
+      updateCategoryLeaders(false);
+
+      for (RObjectEntry entry : deferredEntries)
+         fillEntryContents(entry, objectModel_.indexOf(entry), false);
    }
 
    public void clearObjects()
    {
-      objectDataProvider_.getList().clear();
+      objectModel_.clear();
+
+      // go back to showing the objects held on the client
+      if (pager_ != null)
+      {
+         if (objectDisplay_ != null)
+         {
+            pager_.removeDataDisplay(objectDisplay_);
+            objectDisplay_.setWindowed(false);
+            objectDataProvider_.addDataDisplay(objectDisplay_);
+         }
+         pager_ = null;
+      }
+   }
+
+   // shows the objects in an environment too large to hold on the client;
+   // objects are fetched from the server, a page at a time, as they're
+   // scrolled into view
+   public void showObjectPages(int total)
+   {
+      objectModel_.clear();
+
+      if (pager_ == null)
+      {
+         pager_ = new EnvironmentObjectPager(observer_);
+         if (objectDisplay_ != null)
+         {
+            objectDataProvider_.removeDataDisplay(objectDisplay_);
+            objectDisplay_.setWindowed(true);
+         }
+      }
+
+      pager_.reset(total, filterText_);
+      if (objectDisplay_ != null && !pager_.getDataDisplays().contains(objectDisplay_))
+         pager_.addDataDisplay(objectDisplay_);
    }
 
    public void clearSelection()
@@ -220,10 +298,10 @@ public class EnvironmentObjects extends ResizeComposite
          RObjectEntry entry = entryFromRObject(objects.get(i));
          objectEntryList.add(entry);
       }
-      Collections.sort(objectEntryList, objectSort_);
+      objectEntryList.addAll(0, objectDataProvider_.getList());
 
       // push the list into the UI and update category leaders
-      objectDataProvider_.getList().addAll(objectEntryList);
+      objectModel_.setAll(objectEntryList);
       updateCategoryLeaders(false);
 
       if (useStatePersistence())
@@ -273,6 +351,13 @@ public class EnvironmentObjects extends ResizeComposite
    {
       filterText_ = filterText.toLowerCase();
 
+      // the server does the filtering when it's supplying the objects
+      if (pager_ != null)
+      {
+         pager_.setFilter(filterText_);
+         return;
+      }
+
       // Iterate over each entry in the list, and toggle its visibility based
       // on whether it matches the current filter text.
       List<RObjectEntry> objects = objectDataProvider_.getList();
@@ -331,7 +416,7 @@ public class EnvironmentObjects extends ResizeComposite
       // clean up previous object display, if we had one
       if (objectDisplay_ != null)
       {
-         objectDataProvider_.removeDataDisplay(objectDisplay_);
+         dataProvider().removeDataDisplay(objectDisplay_);
          splitPanel.remove(objectDisplay_);
       }
 
@@ -382,9 +467,10 @@ public class EnvironmentObjects extends ResizeComposite
       }
 
       objectDisplayType_ = type;
-      Collections.sort(objectDataProvider_.getList(), objectSort_);
+      objectModel_.sort();
       updateCategoryLeaders(false);
-      objectDataProvider_.addDataDisplay(objectDisplay_);
+      objectDisplay_.setWindowed(pager_ != null);
+      dataProvider().addDataDisplay(objectDisplay_);
 
       objectDisplay_.getScrollPanel().addScrollHandler(new ScrollHandler()
       {
@@ -467,7 +553,7 @@ public class EnvironmentObjects extends ResizeComposite
    {
       objectSort_.setSortColumn(col);
       observer_.setViewDirty();
-      Collections.sort(objectDataProvider_.getList(), objectSort_);
+      objectModel_.sort();
    }
 
    @Override
@@ -486,14 +572,14 @@ public class EnvironmentObjects extends ResizeComposite
    {
       objectSort_.setAscending(ascending);
       observer_.setViewDirty();
-      Collections.sort(objectDataProvider_.getList(), objectSort_);
+      objectModel_.sort();
    }
 
    public void setSort(int column, boolean ascending)
    {
       objectSort_.setSortColumn(column);
       objectSort_.setAscending(ascending);
-      Collections.sort(objectDataProvider_.getList(), objectSort_);
+      objectModel_.sort();
    }
 
    @Override
@@ -510,49 +596,132 @@ public class EnvironmentObjects extends ResizeComposite
          {
             entry.expanded = true;
             entry.isExpanding = false;
-            redrawRowSafely(idx);
+
+            // the entry may have moved while its contents were being fetched
+            int row = objectModel_.indexOf(entry);
+            redrawRowSafely(row >= 0 ? row : idx);
          }
       });
    }
 
    // Private methods: object management --------------------------------------
 
-   private int indexOfExistingObject(String objectName)
+   // adds or updates the entry for an object; returns its position
+   private int addObjectEntry(RObject obj)
    {
-      List<RObjectEntry> objects = objectDataProvider_.getList();
+      final RObjectEntry newEntry = entryFromRObject(obj);
+      final RObjectEntry oldEntry = objectModel_.get(obj.getName());
 
-      // find the position of the object in the list--we can't use binary
-      // search here since we're matching on names and the list isn't sorted
-      // by name (it's sorted by type, then name)
-      int index;
-      boolean foundObject = false;
-      for (index = 0; index < objects.size(); index++)
+      // if the object is already in the environment, just update the value
+      if (oldEntry != null && oldEntry.rObject.getType() == obj.getType())
       {
-         if (objects.get(index).rObject.getName() == objectName)
+         // type hasn't changed
+         boolean refill = oldEntry.expanded && newEntry.contentsAreDeferred;
+         if (!refill)
+         {
+            // contents aren't deferred, just use the expanded state directly
+            newEntry.expanded = oldEntry.expanded;
+         }
+
+         int idx = objectModel_.replace(objectModel_.indexOf(oldEntry),
+                                        newEntry);
+         if (refill)
          {
-            foundObject = true;
+            // we're replacing an object that has server-deferred contents--
+            // refill it immediately. (another approach would be to push the
+            // set of currently expanded objects to the server so these
+            // objects would show up on the client already expanded)
+            fillEntryContents(newEntry, idx, false);
+         }
+         updateCategoryLeaders(oldEntry, newEntry);
+         return idx;
+      }
+
+      // new object (or its type changed); insert it in sort order
+      int idx = objectModel_.put(newEntry);
+      updateCategoryLeaders(oldEntry, newEntry);
+      return idx;
+   }
+
+   // after a single object is added, replaced, or removed, re-tag the leaders
+   // of the categories it belonged to (either entry may be null)
+   private void updateCategoryLeaders(RObjectEntry oldEntry,
+                                      RObjectEntry newEntry)
+   {
+      if (objectDisplayType_ != OBJECT_LIST_VIEW)
+         return;
+
+      if (oldEntry != null)
+         updateCategoryLeader(oldEntry.getCategory());
+      if (newEntry != null &&
+          (oldEntry == null || newEntry.getCategory() != oldEntry.getCategory()))
+      {
+         updateCategoryLeader(newEntry.getCategory());
+      }
+
+      // the first object is the first visible one in the list
+      List<RObjectEntry> objects = objectDataProvider_.getList();
+      RObjectEntry first = null;
+      for (int i = 0; i < objects.size(); i++)
+      {
+         if (objects.get(i).visible)
+         {
+            first = objects.get(i);
             break;
          }
       }
 
-      return foundObject ? index : -1;
+      if (first != firstObject_)
+      {
+         if (firstObject_ != null)
+         {
+            firstObject_.isFirstObject = false;
+            redrawEntrySafely(firstObject_);
+         }
+         if (first != null)
+         {
+            first.isFirstObject = true;
+            redrawEntrySafely(first);
+         }
+         firstObject_ = first;
+      }
    }
 
-   // returns the position a new object entry should occupy in the table
-   private int indexOfNewObject(RObjectEntry obj)
+   // tags the first visible object in a category as its leader; relies on
+   // objects being grouped by category in the list view
+   private void updateCategoryLeader(int category)
    {
       List<RObjectEntry> objects = objectDataProvider_.getList();
-      int numObjects = objects.size();
-      int idx;
-      // consider: can we use binary search here?
-      for (idx = 0; idx < numObjects; idx++)
+      RObjectEntry leader = null;
+      for (int i = objectModel_.firstIndexOfCategory(category);
+           i < objects.size();
+           i++)
       {
-         if (objectSort_.compare(obj, objects.get(idx)) < 0)
+         RObjectEntry entry = objects.get(i);
+         if (entry.getCategory() != category)
+            break;
+         if (entry.visible)
          {
+            leader = entry;
             break;
          }
       }
-      return idx;
+
+      RObjectEntry oldLeader = categoryLeaders_[category];
+      if (leader == oldLeader)
+         return;
+
+      if (oldLeader != null)
+      {
+         oldLeader.isCategoryLeader = false;
+         redrawEntrySafely(oldLeader);
+      }
+      if (leader != null)
+      {
+         leader.isCategoryLeader = true;
+         redrawEntrySafely(leader);
+      }
+      categoryLeaders_[category] = leader;
    }
 
    // after adds or removes, we need to tag the new category-leading objects
@@ -568,6 +737,8 @@ public class EnvironmentObjects extends ResizeComposite
       // whether or not we've found a leader for each category
       Boolean[] leaders = { false, false, false, false };
       boolean foundFirstObject = false;
+      categoryLeaders_ = new RObjectEntry[leaders.length];
+      firstObject_ = null;
 
       for (int i = 0; i < objects.size(); i++)
       {
@@ -578,6 +749,7 @@ public class EnvironmentObjects extends ResizeComposite
          {
             entry.isFirstObject = true;
             foundFirstObject = true;
+            firstObject_ = entry;
          }
          else
          {
@@ -590,6 +762,7 @@ public class EnvironmentObjects extends ResizeComposite
          if (!leaders[category])
          {
             leaders[category] = true;
+            categoryLeaders_[category] = entry;
             if (!leader)
             {
                entry.isCategoryLeader = true;
@@ -679,21 +852,17 @@ public class EnvironmentObjects extends ResizeComposite
          {
             if (deferredExpandedObjects_ != null)
             {
-               // loop through the objects in the list and check to see if each
-               // is marked expanded in the persisted list of expanded objects
-               List<RObjectEntry> objects = objectDataProvider_.getList();
-               for (int idxObj = 0; idxObj < objects.size(); idxObj++)
+               // mark each of the persisted expanded objects as expanded
+               for (int idxExpanded = 0;
+                    idxExpanded < deferredExpandedObjects_.length();
+                    idxExpanded++)
                {
-                  for (int idxExpanded = 0;
-                       idxExpanded < deferredExpandedObjects_.length();
-                       idxExpanded++)
+                  RObjectEntry entry = objectModel_.get(
+                        deferredExpandedObjects_.get(idxExpanded));
+                  if (entry != null)
                   {
-                     if (objects.get(idxObj).rObject.getName() ==
-                         deferredExpandedObjects_.get(idxExpanded))
-                     {
-                        objects.get(idxObj).expanded = true;
-                        redrawRowSafely(idxObj);
-                     }
+                     entry.expanded = true;
+                     redrawEntrySafely(entry);
                   }
                }
             }
@@ -719,14 +888,14 @@ public class EnvironmentObjects extends ResizeComposite
       return new RObjectEntry(obj, matchesFilter(obj));
    }
 
-   // for very large environments, the number of objects may exceed the number
-   // of physical rows; avoid redrawing rows outside the bounds of the
-   // container's physical limit
+   // only some of the objects may be rendered (e.g. when only the objects
+   // in view are fetched); avoid redrawing rows which aren't rendered
    private void redrawRowSafely(int idx)
    {
+      int start = objectDisplay_.getVisibleRange().getStart();
       boolean oob =
-            idx >= MAX_ENVIRONMENT_OBJECTS ||
-            idx >= objectDisplay_.getRowCount();
+            idx < start ||
+            idx >= start + objectDisplay_.getVisibleItemCount();
 
       if (oob)
          return;
@@ -734,6 +903,36 @@ public class EnvironmentObjects extends ResizeComposite
       objectDisplay_.redrawRow(idx);
    }
 
+   private AbstractDataProvider<RObjectEntry> dataProvider()
+   {
+      if (pager_ != null)
+         return pager_;
+      return objectDataProvider_;
+   }
+
+   // re-fetch the objects in view once the current batch of changes to the
+   // environment has been received
+   private void invalidatePages()
+   {
+      if (invalidatePagesPending_)
+         return;
+
+      invalidatePagesPending_ = true;
+      Scheduler.get().scheduleDeferred(() ->
+      {
+         invalidatePagesPending_ = false;
+         if (pager_ != null)
+            pager_.invalidate();
+      });
+   }
+
+   private void redrawEntrySafely(RObjectEntry entry)
+   {
+      int idx = objectModel_.indexOf(entry);
+      if (idx >= 0)
+         redrawRowSafely(idx);
+   }
+
    private final static String EMPTY_ENVIRONMENT_MESSAGE =
            constants_.environmentIsEmpty();
 
@@ -749,6 +948,13 @@ public class EnvironmentObjects extends ResizeComposite
 
    private ListDataProvider<RObjectEntry> objectDataProvider_;
    private RObjectEntrySort objectSort_;
+   private EnvironmentObjectModel objectModel_;
+   private EnvironmentObjectPager pager_;
+   private boolean invalidatePagesPending_ = false;
+
+   // the objects currently tagged as category leaders (in the list view)
+   private RObjectEntry[] categoryLeaders_ = new RObjectEntry[4];
+   private RObjectEntry firstObject_;
 
    private EnvironmentObjectsObserver observer_;
    private int contextDepth_;
@@ -765,5 +971,10 @@ public class EnvironmentObjects extends ResizeComposite
    private Integer deferredObjectDisplayType_ = OBJECT_LIST_VIEW;
    private int gridRenderRetryCount_ = 0;
 
+   // environments with more objects than this are fetched from the server
+   // in pages rather than held on the client
    public final static int MAX_ENVIRONMENT_OBJECTS = 1024;
+
+   // beyond this many changes at once, it's cheaper to rebuild the list
+   private final static int MAX_INCREMENTAL_CHANGES = 64;
 }
\ No newline at end of file
@@ -14,7 +14,9 @@
  */
 package org.rstudio.studio.client.workbench.views.environment.view;
 
+import org.rstudio.core.client.CommandWithArg;
 import org.rstudio.core.client.widget.Operation;
+import org.rstudio.studio.client.workbench.views.environment.model.EnvironmentObjectPage;
 import org.rstudio.studio.client.workbench.views.environment.model.RObject;
 
 public interface EnvironmentObjectsObserver
@@ -28,4 +30,6 @@ public interface EnvironmentObjectsObserver
    boolean getShowInternalFunctions();
    void setShowInternalFunctions(boolean show);
    void fillObjectContents(RObject object, Operation onCompleted);
+   void fetchObjectPage(int offset, int limit, String filter,
+                        CommandWithArg<EnvironmentObjectPage> onCompleted);
 }
@@ -166,7 +166,7 @@ public class Files
                 ConsoleDispatcher consoleDispatcher,
                 WorkbenchContext workbenchContext,
                 PaneManager paneManager,
-                DataImportPresenter dataImportPresenter)
+                DataImportPresenter.Shim dataImportPresenter)
    {
       super(view);
       view_ = view;
@@ -1242,7 +1242,7 @@ public class Files
    private static final String KEY_PATH = "path";
    private static final String KEY_SORT_ORDER = "sortOrder";
    private JsArray<ColumnSortInfo> columnSortOrder_ = null;
-   private DataImportPresenter dataImportPresenter_;
+   private DataImportPresenter.Shim dataImportPresenter_;
    private boolean inputPending_ = false;
 
    private final PaneManager paneManager_;
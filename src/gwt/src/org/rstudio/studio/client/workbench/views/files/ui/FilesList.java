@@ -16,6 +16,8 @@ package org.rstudio.studio.client.workbench.views.files.ui;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -28,7 +30,7 @@ import org.rstudio.core.client.cellview.LabeledBoolean;
 import org.rstudio.core.client.cellview.LinkColumn;
 import org.rstudio.core.client.files.FileSystemItem;
 import org.rstudio.core.client.widget.OperationWithInput;
-import org.rstudio.core.client.widget.RStudioDataGrid;
+import org.rstudio.core.client.widget.VirtualizedDataGrid;
 import org.rstudio.studio.client.ResizableHeader;
 import org.rstudio.studio.client.common.filetypes.FileIcon;
 import org.rstudio.studio.client.common.filetypes.FileIconResourceCell;
@@ -46,7 +48,6 @@ import com.google.gwt.event.logical.shared.ResizeEvent;
 import com.google.gwt.event.logical.shared.ResizeHandler;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
-import com.google.gwt.user.cellview.client.DataGrid;
 import com.google.gwt.user.cellview.client.Column;
 import com.google.gwt.user.cellview.client.ColumnSortEvent;
 import com.google.gwt.user.cellview.client.ColumnSortList;
@@ -79,11 +80,9 @@ public class FilesList extends Composite
       dataProvider_ = new ListDataProvider<>();
       sortHandler_ = new ColumnSortEvent.ListHandler<>(dataProvider_.getList());
 
-      // create cell table
-      filesDataGrid_ = new RStudioDataGrid<>(
-                                          15,
-                                          FilesListDataGridResources.INSTANCE,
-                                          KEY_PROVIDER);
+      // create cell table (only the rows in view are drawn, so that large
+      // directories don't overload the DOM)
+      filesDataGrid_ = new FilesDataGrid();
       selectionModel_ = new MultiSelectionModel<>(KEY_PROVIDER);
       filesDataGrid_.setSelectionModel(
          selectionModel_,
@@ -383,13 +382,12 @@ public class FilesList extends Composite
       // clear the selection
       selectNone();
 
-      // set containing path
+      // set containing path (noting whether we've changed directories)
+      boolean pathChanged = containingPath_ == null ||
+            !containingPath_.getPath().equals(containingPath.getPath());
       containingPath_ = containingPath;
       parentPath_ = containingPath_.getParentPath();
 
-      // set page size (+1 for parent path)
-      filesDataGrid_.setPageSize(files.length() + 1);
-
       // get underlying list
       List<FileSystemItem> fileList = dataProvider_.getList();
       fileList.clear();
@@ -405,6 +403,11 @@ public class FilesList extends Composite
       // apply sort list
       applyColumnSortList();
 
+      // show a new directory's listing from the top
+      if (pathChanged)
+         filesDataGrid_.setVerticalScrollPosition(0);
+      filesDataGrid_.redraw();
+
       // fire selection changed
       observer_.onFileSelectionChanged();
    }
@@ -428,74 +431,116 @@ public class FilesList extends Composite
    {
       // first make sure there are no leftover items in the selected set
       Set<FileSystemItem> selectedSet = selectionModel_.getSelectedSet();
-      selectedSet.retainAll(dataProvider_.getList());
+      selectedSet.retainAll(new HashSet<>(dataProvider_.getList()));
 
       return new ArrayList<>(selectedSet);
    }
 
    public void updateWithAction(FileChange viewAction)
    {
-      final FileSystemItem file = viewAction.getFile();
+      // a build or checkout can change thousands of files at once; collect
+      // the changes and apply them together
+      pendingChanges_.add(viewAction);
+      if (!applyChangesScheduled_)
+      {
+         applyChangesScheduled_ = true;
+         Scheduler.get().scheduleDeferred(() -> applyPendingChanges());
+      }
+   }
+
+   private void applyPendingChanges()
+   {
+      applyChangesScheduled_ = false;
+      ArrayList<FileChange> changes = pendingChanges_;
+      pendingChanges_ = new ArrayList<>();
+
+      // index the current listing by file (keeping its order)
       final List<FileSystemItem> files = getFiles();
-      switch(viewAction.getType())
+      LinkedHashMap<String, FileSystemItem> items = new LinkedHashMap<>();
+      for (FileSystemItem item : files)
+      {
+         if (item != parentPath_)
+            items.put(keyForFile(item), item);
+      }
+
+      boolean changed = false;
+      boolean added = false;
+      for (FileChange change : changes)
       {
-      case FileChange.ADD:
-         if (file.getParentPath().equalTo(containingPath_))
+         final FileSystemItem file = change.getFile();
+         String key = keyForFile(file);
+         switch(change.getType())
          {
-            int row = rowForFile(file);
-            if (row == -1)
-            {
-               files.add(file);
-               filesDataGrid_.setPageSize(files.size() + 1);
-            }
-            else
+         case FileChange.ADD:
+            if (file.getParentPath().equalTo(containingPath_))
             {
                // since we eagerly perform renames at the client UI
                // layer then sometimes an "added" file is really just
                // a rename. in this case the file already exists due
                // to the eager rename in the client but still needs its
                // metadata updated
-               files.set(row, file);
+               FileSystemItem previous = items.put(key, file);
+               if (previous == null)
+                  added = true;
+               else
+                  preserveSelection(previous, file);
+               changed = true;
             }
-         }
-         break;
+            break;
 
-      case FileChange.MODIFIED:
-         {
-            int row = rowForFile(file);
-            if (row != -1)
+         case FileChange.MODIFIED:
             {
-               // the selection model loses the selection state when we update
-               // the row, so save and restore it manually.
-               boolean selected = selectionModel_.isSelected(file);
-               files.set(row, file);
-               selectionModel_.setSelected(file, selected);
+               FileSystemItem previous = items.get(key);
+               if (previous != null)
+               {
+                  items.put(key, file);
+                  preserveSelection(previous, file);
+                  changed = true;
+               }
             }
-         }
-         break;
+            break;
 
-      case FileChange.DELETE:
-         {
-            int row = rowForFile(file);
-            if (row != -1)
+         case FileChange.DELETE:
             {
-               files.remove(row);
-
-               // if a file is deleted and then re-added within the same
-               // event loop (as occurs when gedit saves a text file) the
-               // table doesn't always update correctly (it has a duplicate
-               // of the item deleted / re-added). the call to flush overcomes
-               // this issue
-               dataProvider_.flush();
+               // (a file deleted and then re-added within the same batch,
+               // as occurs when gedit saves a text file, just ends up
+               // replaced)
+               if (items.remove(key) != null)
+                  changed = true;
             }
-         }
-         break;
+            break;
 
-      default:
-         Debug.log("Unexpected file change type: " + viewAction.getType());
+         default:
+            Debug.log("Unexpected file change type: " + change.getType());
 
-         break;
+            break;
+         }
       }
+
+      if (!changed)
+         return;
+
+      // replace the listing in one step
+      ArrayList<FileSystemItem> newFiles = new ArrayList<>(items.size() + 1);
+      if (parentPath_ != null)
+         newFiles.add(parentPath_);
+      newFiles.addAll(items.values());
+      files.clear();
+      files.addAll(newFiles);
+
+      // new files need to be sorted into place
+      if (added)
+         applyColumnSortList();
+
+      dataProvider_.flush();
+   }
+
+   // the selection model loses the selection state when we update a row,
+   // so restore it manually
+   private void preserveSelection(FileSystemItem previous, FileSystemItem file)
+   {
+      if (selectionModel_.isSelected(previous))
+         selectionModel_.setSelected(file, true);
    }
 
    public void renameFile(FileSystemItem from, FileSystemItem to)
@@ -513,14 +558,12 @@ public class FilesList extends Composite
       return dataProvider_.getList();
    }
 
-   private int rowForFile(FileSystemItem file)
+   // files are considered the same when they have the same path (as with
+   // KEY_PROVIDER); note that paths differing only in case name different
+   // files on case-sensitive filesystems
+   private static String keyForFile(FileSystemItem file)
    {
-      List<FileSystemItem> files = getFiles();
-      for (int i=0; i<files.size(); i++)
-         if (files.get(i).equalTo(file))
-            return i;
-
-      return -1;
+      return (file.isDirectory() ? "d" : "f") + file.getPath();
    }
 
    private void applyColumnSortList()
@@ -617,6 +660,28 @@ public class FilesList extends Composite
          }
     };
 
+    private class FilesDataGrid extends VirtualizedDataGrid<FileSystemItem>
+    {
+       public FilesDataGrid()
+       {
+          super(FilesListDataGridResources.INSTANCE, KEY_PROVIDER);
+       }
+
+       @Override
+       public int getRowHeight()
+       {
+          return ROW_HEIGHT_PIXELS;
+       }
+
+       @Override
+       public int getTotalNumberOfRows()
+       {
+          if (dataProvider_ == null)
+             return 0;
+          return dataProvider_.getList().size();
+       }
+    }
+
     // comparator which ensures that the parent path is always on top
     private abstract class FilesListComparator implements Comparator<FileSystemItem>
     {
@@ -684,7 +749,7 @@ public class FilesList extends Composite
    private FileSystemItem containingPath_ = null;
    private FileSystemItem parentPath_ = null;
 
-   private final DataGrid<FileSystemItem> filesDataGrid_;
+   private final FilesDataGrid filesDataGrid_;
    private final LinkColumn<FileSystemItem> nameColumn_;
    private final TextColumn<FileSystemItem> sizeColumn_;
    private final TextColumn<FileSystemItem> modifiedColumn_;
@@ -697,6 +762,9 @@ public class FilesList extends Composite
    private final ListDataProvider<FileSystemItem> dataProvider_;
    private final ColumnSortEvent.ListHandler<FileSystemItem> sortHandler_;
 
+   private ArrayList<FileChange> pendingChanges_ = new ArrayList<>();
+   private boolean applyChangesScheduled_ = false;
+
    private final Files.Display.Observer observer_;
    private final ResizeLayoutPanel layoutPanel_;
 
@@ -704,6 +772,7 @@ public class FilesList extends Composite
    private static final int ICON_COLUMN_WIDTH_PIXELS = 26;
    private static final int SIZE_COLUMN_WIDTH_PIXELS = 80;
    private static final int MODIFIED_COLUMN_WIDTH_PIXELS = 160;
+   private static final int ROW_HEIGHT_PIXELS = 25;
 
    private static final int BOUNDARY_WIDTH_PIXELS = 500;
    private static final int MINIMUM_NAME_COLUMN_WIDTH_PIXELS =
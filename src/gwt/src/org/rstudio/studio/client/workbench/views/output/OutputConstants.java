@@ -215,13 +215,13 @@ public interface OutputConstants extends com.google.gwt.i18n.client.Messages {
     String customFilterPatterValue();
 
     /**
-     * Translated "More than 1000 matching lines were found. Only the first 1000 lines are shown.".
+     * Translated "Only the first {0} matching lines are shown. Click here to show more.".
      *
-     * @return translated "More than 1000 matching lines were found. Only the first 1000 lines are shown."
+     * @return translated "Only the first {0} matching lines are shown. Click here to show more."
      */
-    @DefaultMessage("More than 1000 matching lines were found. Only the first 1000 lines are shown.")
-    @Key("overFlowMessage")
-    String overFlowMessage();
+    @DefaultMessage("Only the first {0} matching lines are shown. Click here to show more.")
+    @Key("moreResultsMessage")
+    String moreResultsMessage(int count);
 
     /**
      * Translated "Find Results".
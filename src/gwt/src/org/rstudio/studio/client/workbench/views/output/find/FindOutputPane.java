@@ -15,26 +15,22 @@
 package org.rstudio.studio.client.workbench.views.output.find;
 
 import com.google.gwt.core.client.GWT;
-import com.google.gwt.dom.client.NativeEvent;
-import com.google.gwt.dom.client.TableRowElement;
 import com.google.gwt.event.dom.client.*;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.gwt.user.client.Command;
 import com.google.gwt.user.client.ui.Label;
-import com.google.gwt.user.client.ui.ScrollPanel;
-import com.google.gwt.user.client.ui.SimplePanel;
+import com.google.gwt.user.client.ui.SimpleLayoutPanel;
 import com.google.gwt.user.client.ui.TextBox;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
 import org.rstudio.core.client.CodeNavigationTarget;
 import org.rstudio.core.client.DebouncedCommand;
-import org.rstudio.core.client.dom.DomUtils;
 import org.rstudio.core.client.events.EnsureVisibleEvent;
 import org.rstudio.core.client.events.HasSelectionCommitHandlers;
 import org.rstudio.core.client.events.SelectionCommitEvent;
 import org.rstudio.core.client.theme.res.ThemeStyles;
 import org.rstudio.core.client.widget.*;
-import org.rstudio.core.client.widget.events.SelectionChangedEvent;
 import org.rstudio.studio.client.application.events.EventBus;
 import org.rstudio.studio.client.workbench.commands.Commands;
 import org.rstudio.studio.client.workbench.ui.WorkbenchPane;
@@ -149,52 +145,22 @@ public class FindOutputPane extends WorkbenchPane
       FindOutputResources resources = GWT.create(FindOutputResources.class);
       resources.styles().ensureInjected();
 
-      table_ = new FastSelectTable<>(
-            new FindOutputCodec(resources),
-            resources.styles().selectedRow(),
-            true,
-            false,
-            constants_.findInFilesResultsTitle());
-      FontSizer.applyNormalFontSize(table_);
-      table_.addStyleName(resources.styles().findOutput());
-      table_.addClickHandler(new ClickHandler()
+      grid_ = new FindResultsGrid(context_, resources.styles());
+      FontSizer.applyNormalFontSize(grid_);
+      grid_.addSelectionCommitHandler((SelectionCommitEvent<CodeNavigationTarget> event) ->
       {
-         @Override
-         public void onClick(ClickEvent event)
-         {
-            if (event.getNativeButton() != NativeEvent.BUTTON_LEFT)
-               return;
-
-            if (dblClick_.checkForDoubleClick(event.getNativeEvent()))
-               fireSelectionCommitted();
-         }
-
-         private final DoubleClickState dblClick_ = new DoubleClickState();
-      });
-
-      table_.addKeyDownHandler(new KeyDownHandler()
-      {
-         @Override
-         public void onKeyDown(KeyDownEvent event)
-         {
-            if (event.getNativeKeyCode() == KeyCodes.KEY_ENTER)
-               fireSelectionCommitted();
-            event.stopPropagation();
-            event.preventDefault();
-         }
+         SelectionCommitEvent.fire(FindOutputPane.this, event.getSelectedItem());
       });
 
       replaceMode_ = false;
       setSecondaryToolbarVisible(replaceMode_);
 
-      container_ =  new SimplePanel();
+      container_ =  new SimpleLayoutPanel();
       container_.addStyleName("ace_editor_theme");
       container_.setSize("100%", "100%");
       statusPanel_ = new StatusPanel();
       statusPanel_.setSize("100%", "100%");
-      scrollPanel_ = new ScrollPanel(table_);
-      scrollPanel_.setSize("100%", "100%");
-      container_.setWidget(scrollPanel_);
+      container_.setWidget(grid_);
       return container_;
    }
 
@@ -209,10 +175,10 @@ public class FindOutputPane extends WorkbenchPane
    {
       FindOutputResources resources = GWT.create(FindOutputResources.class);
       if (value)
-         table_.addStyleName(resources.styles().findOutputReplace());
+         grid_.addStyleName(resources.styles().findOutputReplace());
       else
       {
-         table_.removeStyleName(resources.styles().findOutputReplace());
+         grid_.removeStyleName(resources.styles().findOutputReplace());
          addReplaceMatches("");
       }
       // this needs to be done after addReplaceMatches is called
@@ -222,39 +188,28 @@ public class FindOutputPane extends WorkbenchPane
    @Override
    public void addMatches(ArrayList<FindResult> findResults)
    {
-      int matchesToAdd = Math.min(findResults.size(), MAX_COUNT - matchCount_);
-
-      if (matchesToAdd > 0)
-      {
-         matchCount_ += matchesToAdd;
-
-         if (matchCount_ > 0 && container_.getWidget() != scrollPanel_)
-            container_.setWidget(scrollPanel_);
+      if (findResults.isEmpty())
+         return;
 
-         if (!replaceMode_ || regexPreviewMode_)
-            context_.addMatches(findResults.subList(0, matchesToAdd));
-         table_.addItems(findResults.subList(0, matchesToAdd), false);
-      }
+      if (container_.getWidget() != grid_)
+         container_.setWidget(grid_);
 
-      if (matchCount_ >= MAX_COUNT)
-         showOverflow();
+      context_.addMatches(findResults);
+      grid_.refresh();
    }
 
    public void addReplaceMatches(String value)
    {
-      table_.clear();
-      matchCount_ = 0;
       context_.updateFileMatches(value);
-      addMatches(context_.getFindResults());
+      grid_.refresh();
    }
 
    @Override
    public void clearMatches()
    {
       context_.reset();
-      table_.clear();
-      overflow_ = false;
-      matchCount_ = 0;
+      grid_.setMoreResultsAvailable(false);
+      grid_.refresh();
       statusPanel_.setStatusText("");
       container_.setWidget(statusPanel_);
    }
@@ -262,10 +217,22 @@ public class FindOutputPane extends WorkbenchPane
    @Override
    public void showSearchCompleted()
    {
-      if (matchCount_ == 0)
+      if (context_.getResultCount() == 0)
          statusPanel_.setStatusText(constants_.noResultsFoundText());
    }
 
+   @Override
+   public void setMoreResultsAvailable(boolean moreAvailable)
+   {
+      grid_.setMoreResultsAvailable(moreAvailable);
+   }
+
+   @Override
+   public void setMoreResultsHandler(Command handler)
+   {
+      grid_.setMoreResultsHandler(handler);
+   }
+
    @Override
    public void onSelected()
    {
@@ -273,10 +240,7 @@ public class FindOutputPane extends WorkbenchPane
 
       if (!regexPreviewMode_)
       {
-         table_.focus();
-         ArrayList<Integer> indices = table_.getSelectedRowIndexes();
-         if (indices.isEmpty())
-            table_.selectNextRow();
+         grid_.selectFirstMatch();
       }
    }
 
@@ -301,35 +265,6 @@ public class FindOutputPane extends WorkbenchPane
       refreshButton_.setVisible(!visible);
    }
 
-   @Override
-   public void ensureSelectedRowIsVisible()
-   {
-      ArrayList<TableRowElement> rows = table_.getSelectedRows();
-      if (rows.size() > 0)
-      {
-         DomUtils.ensureVisibleVert(scrollPanel_.getElement(),
-                                    rows.get(0),
-                                    20);
-      }
-   }
-
-   @Override
-   public HandlerRegistration addSelectionChangedHandler(SelectionChangedEvent.Handler handler)
-   {
-      return table_.addSelectionChangedHandler(handler);
-   }
-
-   @Override
-   public void showOverflow()
-   {
-      if (overflow_)
-         return;
-      overflow_ = true;
-      ArrayList<FindResult> items = new ArrayList<>();
-      items.add(null);
-      table_.addItems(items, false);
-   }
-
    @Override
    public void updateSearchLabel(String query, String path, boolean wholeWord)
    {
@@ -509,13 +444,6 @@ public class FindOutputPane extends WorkbenchPane
       };
    }
 
-   private void fireSelectionCommitted()
-   {
-      ArrayList<CodeNavigationTarget> values = table_.getSelectedValues();
-      if (values.size() == 1)
-         SelectionCommitEvent.fire(this, values.get(0));
-   }
-
    private class StatusPanel extends HorizontalCenterPanel
    {
       public StatusPanel()
@@ -532,18 +460,15 @@ public class FindOutputPane extends WorkbenchPane
       private final Label label_;
    }
 
-   private FastSelectTable<FindResult, CodeNavigationTarget, Object> table_;
+   private FindResultsGrid grid_;
    private FindResultContext context_;
    private final Commands commands_;
    private final EventBus eventBus_;
    private Label searchLabel_;
    private ToolbarButton stopSearch_;
    private ToolbarButton refreshButton_;
-   private SimplePanel container_;
-   private ScrollPanel scrollPanel_;
+   private SimpleLayoutPanel container_;
    private StatusPanel statusPanel_;
-   private boolean overflow_ = false;
-   private int matchCount_;
 
    private LeftRightToggleButton showFindButton_;
    private LeftRightToggleButton showReplaceButton_;
@@ -558,8 +483,5 @@ public class FindOutputPane extends WorkbenchPane
    private ProgressBar replaceProgress_;
 
    private DebouncedCommand displayPreview_;
-
-   // This must be the same as MAX_COUNT in SessionFind.cpp
-   private static final int MAX_COUNT = 1000;
    private static final OutputConstants constants_ = GWT.create(OutputConstants.class);
 }
@@ -29,7 +29,6 @@ import org.rstudio.core.client.js.JsObject;
 import org.rstudio.core.client.widget.Operation;
 import org.rstudio.core.client.widget.OperationWithInput;
 import org.rstudio.core.client.widget.ProgressBar;
-import org.rstudio.core.client.widget.events.SelectionChangedEvent;
 import org.rstudio.studio.client.application.events.EventBus;
 import org.rstudio.studio.client.common.GlobalDisplay;
 import org.rstudio.studio.client.common.SimpleRequestCallback;
@@ -65,7 +64,7 @@ import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.event.dom.client.HasClickHandlers;
 import com.google.gwt.event.logical.shared.ValueChangeEvent;
 import com.google.gwt.event.logical.shared.ValueChangeHandler;
-import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Command;
 import com.google.inject.Inject;
 
 public class FindOutputPresenter extends BasePresenter
@@ -81,11 +80,8 @@ public class FindOutputPresenter extends BasePresenter
       HasClickHandlers getStopSearchButton();
       void setStopSearchButtonVisible(boolean visible);
 
-      void ensureSelectedRowIsVisible();
-
-      HandlerRegistration addSelectionChangedHandler(SelectionChangedEvent.Handler handler);
-
-      void showOverflow();
+      void setMoreResultsAvailable(boolean moreAvailable);
+      void setMoreResultsHandler(Command handler);
 
       void showSearchCompleted();
 
@@ -139,9 +135,10 @@ public class FindOutputPresenter extends BasePresenter
       workbenchContext_ = workbenchContext;
       fileServer_ = fileServer;
 
-      view_.addSelectionChangedHandler(selectionChangedEvent ->
+      view_.setMoreResultsHandler(() ->
       {
-         view_.ensureSelectedRowIsVisible();
+         if (resultsHandle_ != null)
+            server_.findMoreResults(resultsHandle_, new VoidServerRequestCallback());
       });
 
       view_.addSelectionCommitHandler((SelectionCommitEvent<CodeNavigationTarget> event) ->
@@ -168,7 +165,8 @@ public class FindOutputPresenter extends BasePresenter
          @Override
          public void onFindResult(FindResultEvent event)
          {
-            if (!StringUtil.equals(event.getHandle(), currentFindHandle_))
+            // further pages of results may arrive after the find has ended
+            if (!StringUtil.equals(event.getHandle(), resultsHandle_))
                return;
 
             view_.ensureVisible(true);
@@ -183,6 +181,7 @@ public class FindOutputPresenter extends BasePresenter
                dialogState_.updateResultsCount(count);
             }
             view_.addMatches(event.getResults());
+            view_.setMoreResultsAvailable(event.hasMore());
          }
       });
 
@@ -225,6 +224,7 @@ public class FindOutputPresenter extends BasePresenter
                excludeFilePatterns.push(pattern);
 
             currentFindHandle_ = generateHandle();
+            resultsHandle_ = currentFindHandle_;
             server_.previewReplace(currentFindHandle_,
                                    dialogState_.getQuery(),
                                    dialogState_.isRegex(),
@@ -315,6 +315,8 @@ public class FindOutputPresenter extends BasePresenter
 
                         String serverQuery = dialogState_.getQuery();
                         currentFindHandle_ = generateHandle();
+                        resultsHandle_ = null;
+                        view_.setMoreResultsAvailable(false);
                         server_.completeReplace(currentFindHandle_,
                                                 serverQuery,
                                                 dialogState_.isRegex(),
@@ -351,7 +353,11 @@ public class FindOutputPresenter extends BasePresenter
          public void onReplaceProgress(ReplaceProgressEvent event)
          {
             view_.showProgress();
-            view_.getProgress().setProgress(event.replacedCount(), event.totalReplaceCount());
+            // the total only counts the results the client has been sent,
+            // and a replace goes on to any results not yet sent
+            view_.getProgress().setProgress(
+                  Math.min(event.replacedCount(), event.totalReplaceCount()),
+                  event.totalReplaceCount());
          }
       });
 
@@ -473,8 +479,10 @@ public class FindOutputPresenter extends BasePresenter
       view_.ensureVisible(false);
 
       currentFindHandle_ = state.getHandle();
+      resultsHandle_ = currentFindHandle_;
       view_.clearMatches();
       view_.addMatches(state.getResults().toArrayList());
+      view_.setMoreResultsAvailable(state.hasMoreResults());
 
       updateSearchLabel(state.getInput(), state.getPath(), state.isWholeWord(), state.isRegex());
 
@@ -504,6 +512,7 @@ public class FindOutputPresenter extends BasePresenter
       view_.disableReplace();
 
       currentFindHandle_ = generateHandle();
+      resultsHandle_ = currentFindHandle_;
       String serverQuery = dialogState_.getQuery();
 
       server_.beginFind(
@@ -689,6 +698,7 @@ public class FindOutputPresenter extends BasePresenter
    {
       stop();
       stopReplace();
+      resultsHandle_ = null;
       view_.clearMatches();
       view_.clearSearchLabel();
    }
@@ -722,6 +732,9 @@ public class FindOutputPresenter extends BasePresenter
    }
 
    private String currentFindHandle_;
+
+   // the handle of the find whose results are shown (which may have ended)
+   private String resultsHandle_;
    private FindInFilesDialog.State dialogState_;
 
    private final Display view_;
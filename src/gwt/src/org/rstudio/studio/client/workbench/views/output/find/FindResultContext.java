@@ -14,112 +14,43 @@
  */
 package org.rstudio.studio.client.workbench.views.output.find;
 
-import com.google.gwt.view.client.AbstractDataProvider;
-import com.google.gwt.view.client.ListDataProvider;
-import com.google.gwt.view.client.ProvidesKey;
 import org.rstudio.studio.client.workbench.views.output.find.model.FindResult;
 
-import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.HashMap;
 
+// Holds the results of a find, grouped by file, and lays them out as the
+// rows of the results list: a header row for each file, followed (unless the
+// file is collapsed) by a row for each of its matches.
 public class FindResultContext
 {
-   public class File
+   private static class File
    {
       public File(String path)
       {
          path_ = path;
       }
 
-      public String getPath()
-      {
-         return path_;
-      }
-
-      public void addMatch(int line, int column, String value)
+      public void addResult(int index)
       {
-         int lineWidth = (line + "").length();
-         maxLineWidth_ = Math.max(lineWidth, maxLineWidth_);
-         matchData_.getList().add(new Match(this, line, column, value));
+         if (count_ == results_.length)
+         {
+            int[] results = new int[results_.length * 2];
+            System.arraycopy(results_, 0, results, 0, count_);
+            results_ = results;
+         }
+         results_[count_++] = index;
       }
 
-      public int getCount()
+      public int getRowCount()
       {
-         return matchData_.getList().size();
-      }
-
-      public AbstractDataProvider<Match> getDataProvider()
-      {
-         return matchData_;
-      }
-
-      public void refresh()
-      {
-         matchData_.refresh();
-      }
-
-      public void clear()
-      {
-         matchData_.getList().clear();
+         return expanded_ ? count_ + 1 : 1;
       }
 
       private final String path_;
-      private final ListDataProvider<Match> matchData_ =
-            new ListDataProvider<>(new ProvidesKey<Match>()
-            {
-               @Override
-               public Object getKey(Match item)
-               {
-                  return item.getParent().getPath() + ":" + item.getLine();
-               }
-            });
-   }
-
-   public class Match
-   {
-      public Match(File parent, int line, int column, String value)
-      {
-         parent_ = parent;
-         line_ = line;
-         column_ = column;
-         value_ = value;
-      }
-
-      public File getParent()
-      {
-         return parent_;
-      }
-
-      public int getLine()
-      {
-         return line_;
-      }
-
-      public int getColumn()
-      {
-         return column_;
-      }
-
-      public String getValue()
-      {
-         return value_;
-      }
-
-      public void setReplace(String value)
-      {
-         replace_ = value;
-      }
-
-      public String getReplace()
-      {
-         return replace_;
-      }
-
-      private final File parent_;
-      private final int line_;
-      private final int column_;
-      private final String value_;
-      private String replace_;
+      private int[] results_ = new int[4];
+      private int count_ = 0;
+      private boolean expanded_ = true;
    }
 
    FindResultContext()
@@ -127,57 +58,40 @@ public class FindResultContext
       findResults_ = new ArrayList<>();
    }
 
-   private File getFile(String path)
-   {
-      File file = filesByName_.get(path);
-      if (file == null)
-      {
-         file = new File(path);
-         data_.getList().add(file);
-         filesByName_.put(path, file);
-      }
-      return file;
-   }
-
    public int getMaxLineWidth()
    {
       return maxLineWidth_;
    }
 
-   public AbstractDataProvider<File> getDataProvider()
-   {
-      return data_;
-   }
-
    public void reset()
    {
-      data_.getList().clear();
+      files_.clear();
       findResults_.clear();
       filesByName_.clear();
       maxLineWidth_ = 0;
+      rowStarts_ = null;
    }
 
    public void addMatches(Iterable<FindResult> findResults)
    {
-      int origMaxLineWidth = maxLineWidth_;
-
       for (FindResult fr : findResults)
       {
-         File file = getFile(fr.getFile());
+         File file = filesByName_.get(fr.getFile());
+         if (file == null)
+         {
+            file = new File(fr.getFile());
+            files_.add(file);
+            filesByName_.put(fr.getFile(), file);
+         }
 
-         file.addMatch(fr.getLine(), 0, fr.getLineValue());
-
-         int index = data_.getList().indexOf(file);
-         if (index >= 0) // not that we are expecting otherwise...
-            data_.getList().set(index, file);
+         file.addResult(findResults_.size());
          findResults_.add(fr.clone());
-      }
 
-      if (maxLineWidth_ != origMaxLineWidth)
-      {
-         for (File aFile : data_.getList())
-            aFile.refresh();
+         int lineWidth = (fr.getLine() + "").length();
+         maxLineWidth_ = Math.max(lineWidth, maxLineWidth_);
       }
+
+      rowStarts_ = null;
    }
 
    public void updateFileMatches(String replace)
@@ -191,15 +105,94 @@ public class FindResultContext
       return findResults_;
    }
 
-   private final ListDataProvider<File> data_ = new ListDataProvider<>(new ProvidesKey<File>()
+   public int getResultCount()
+   {
+      return findResults_.size();
+   }
+
+   // Rows ----
+
+   public int getRowCount()
+   {
+      int[] starts = getRowStarts();
+      return starts[starts.length - 1];
+   }
+
+   // the index of the file shown on the given row
+   public int getFileForRow(int row)
+   {
+      // find the last file starting at or before the row
+      int[] starts = getRowStarts();
+      int lo = 0;
+      int hi = files_.size() - 1;
+      while (lo < hi)
+      {
+         int mid = (lo + hi + 1) / 2;
+         if (starts[mid] <= row)
+            lo = mid;
+         else
+            hi = mid - 1;
+      }
+      return lo;
+   }
+
+   public int getRowForFile(int file)
    {
-      @Override
-      public Object getKey(File item)
+      return getRowStarts()[file];
+   }
+
+   // the result shown on the given row, or null for a file's header row
+   public FindResult getResultForRow(int row)
+   {
+      int file = getFileForRow(row);
+      int offset = row - getRowStarts()[file];
+      if (offset == 0)
+         return null;
+      return findResults_.get(files_.get(file).results_[offset - 1]);
+   }
+
+   public String getFilePath(int file)
+   {
+      return files_.get(file).path_;
+   }
+
+   public int getFileMatchCount(int file)
+   {
+      return files_.get(file).count_;
+   }
+
+   public boolean isFileExpanded(int file)
+   {
+      return files_.get(file).expanded_;
+   }
+
+   public void setFileExpanded(int file, boolean expanded)
+   {
+      File f = files_.get(file);
+      if (f.expanded_ == expanded)
+         return;
+
+      f.expanded_ = expanded;
+      rowStarts_ = null;
+   }
+
+   // the row at which each file starts (and, at the end, the total number
+   // of rows); recomputed only when files are added, expanded, or collapsed
+   private int[] getRowStarts()
+   {
+      if (rowStarts_ == null)
       {
-         return item.getPath();
+         int n = files_.size();
+         rowStarts_ = new int[n + 1];
+         for (int i = 0; i < n; i++)
+            rowStarts_[i + 1] = rowStarts_[i] + files_.get(i).getRowCount();
       }
-   });
+      return rowStarts_;
+   }
+
+   private final ArrayList<File> files_ = new ArrayList<>();
    private final ArrayList<FindResult> findResults_;
    private final HashMap<String, File> filesByName_ = new HashMap<>();
    private int maxLineWidth_;
+   private int[] rowStarts_;
 }
@@ -0,0 +1,426 @@
+/*
+ * FindResultsGrid.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.output.find;
+
+import java.util.ArrayList;
+
+import org.rstudio.core.client.CodeNavigationTarget;
+import org.rstudio.core.client.FilePosition;
+import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.command.KeyboardShortcut;
+import org.rstudio.core.client.dom.DomUtils;
+import org.rstudio.core.client.events.HasSelectionCommitHandlers;
+import org.rstudio.core.client.events.SelectionCommitEvent;
+import org.rstudio.core.client.widget.VirtualizedDataGrid;
+import org.rstudio.studio.client.workbench.views.output.OutputConstants;
+import org.rstudio.studio.client.workbench.views.output.find.FindOutputResources.Styles;
+import org.rstudio.studio.client.workbench.views.output.find.model.FindResult;
+
+import com.google.gwt.cell.client.AbstractCell;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.NodeList;
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.dom.client.TableRowElement;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.DoubleClickEvent;
+import com.google.gwt.event.dom.client.KeyCodes;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.gwt.user.cellview.client.IdentityColumn;
+import com.google.gwt.user.client.Command;
+import com.google.gwt.user.client.Event;
+import com.google.gwt.view.client.AbstractDataProvider;
+import com.google.gwt.view.client.CellPreviewEvent;
+import com.google.gwt.view.client.HasData;
+import com.google.gwt.view.client.Range;
+
+// Displays the results held in a FindResultContext: a (collapsible) header
+// row for each file, followed by a row for each of its matching lines. Only
+// the rows in view are ever drawn, so the grid copes with any number of
+// results; the values it holds are just row indices, which are resolved
+// against the context as the rows are drawn.
+public class FindResultsGrid extends VirtualizedDataGrid<Integer>
+      implements HasSelectionCommitHandlers<CodeNavigationTarget>,
+                 CellPreviewEvent.Handler<Integer>,
+                 ClickHandler
+{
+   private class RowCell extends AbstractCell<Integer>
+   {
+      @Override
+      public void render(Context context, Integer value, SafeHtmlBuilder sb)
+      {
+         int row = value;
+         if (row >= context_.getRowCount())
+         {
+            sb.appendEscaped(constants_.moreResultsMessage(
+                  context_.getResultCount()));
+            return;
+         }
+
+         FindResult result = context_.getResultForRow(row);
+         if (result == null)
+         {
+            int file = context_.getFileForRow(row);
+            sb.appendHtmlConstant("<span " + TOGGLE_ATTRIBUTE + ">");
+            sb.appendEscaped(context_.isFileExpanded(file) ? "\u25BE " : "\u25B8 ");
+            sb.appendHtmlConstant("</span>");
+            sb.appendEscaped(context_.getFilePath(file));
+            sb.appendEscaped(" (" + context_.getFileMatchCount(file) + ")");
+            return;
+         }
+
+         // line numbers are right-aligned in a column as wide as the widest
+         sb.appendHtmlConstant(
+               "<span class=\"" + styles_.line() + "\" " +
+               "style=\"display: inline-block; min-width: " +
+               (context_.getMaxLineWidth() + 2) + "ch;\">");
+         sb.appendEscaped(result.getLine() + ": ");
+         sb.appendHtmlConstant("</span>");
+
+         sb.appendHtmlConstant("<span class=\"" + styles_.lineValue() + "\">");
+         if (!result.getReplaceIndicator())
+            sb.append(result.getLineHTML());
+         else
+            sb.append(result.getLineReplaceHTML());
+         sb.appendHtmlConstant("</span>");
+      }
+   }
+
+   // provides the row indices for the range of rows in view
+   private class RowProvider extends AbstractDataProvider<Integer>
+   {
+      @Override
+      protected void onRangeChanged(HasData<Integer> display)
+      {
+         Range range = display.getVisibleRange();
+         int start = range.getStart();
+         int end = Math.min(start + range.getLength(), getTotalNumberOfRows());
+
+         ArrayList<Integer> rows = new ArrayList<>();
+         for (int i = start; i < end; i++)
+            rows.add(i);
+         updateRowData(display, start, rows);
+      }
+
+      public void refresh(HasData<Integer> display)
+      {
+         updateRowCount(getTotalNumberOfRows(), true);
+         redraw();
+
+         // the rows in view may not have changed, but their number may have
+         onRangeChanged(display);
+      }
+   }
+
+   public FindResultsGrid(FindResultContext context, Styles styles)
+   {
+      context_ = context;
+      styles_ = styles;
+
+      setSize("100%", "100%");
+      addStyleName(styles_.findOutput());
+
+      IdentityColumn<Integer> column = new IdentityColumn<>(new RowCell());
+      addColumn(column);
+      setColumnWidth(column, 100, Unit.PCT);
+
+      setRowStyles((Integer value, int rowIndex) ->
+      {
+         String names = rowIndex == getKeyboardSelectedIndex()
+               ? styles_.selectedRow()
+               : "";
+
+         int row = value;
+         if (row >= context_.getRowCount())
+            names += " " + styles_.overflowWarning();
+         else if (context_.getResultForRow(row) == null)
+            names += " " + styles_.headerRow();
+         return names;
+      });
+
+      provider_ = new RowProvider();
+      provider_.addDataDisplay(this);
+
+      setKeyboardSelectionHandler(this);
+      addDomHandler(this, ClickEvent.getType());
+      addDomHandler((DoubleClickEvent event) ->
+      {
+         // double clicks on the disclosure toggle were handled as clicks
+         Element targetEl = event.getNativeEvent().getEventTarget().cast();
+         int row = rowForEvent(targetEl);
+         if (row != -1 && !isToggle(targetEl))
+            activate(row);
+      }, DoubleClickEvent.getType());
+   }
+
+   // Public methods ----
+
+   // redraws the grid after the context has changed
+   public void refresh()
+   {
+      provider_.refresh(this);
+   }
+
+   public void setMoreResultsAvailable(boolean moreAvailable)
+   {
+      if (moreAvailable == moreAvailable_)
+         return;
+
+      moreAvailable_ = moreAvailable;
+      refresh();
+   }
+
+   public void setMoreResultsHandler(Command handler)
+   {
+      moreResultsHandler_ = handler;
+   }
+
+   // selects the first matching line, if nothing is selected yet
+   public void selectFirstMatch()
+   {
+      if (context_.getResultCount() == 0)
+         return;
+
+      int row = getKeyboardSelectedIndex();
+      if (row == 0 && context_.getResultForRow(0) == null)
+         row = context_.isFileExpanded(0) ? 1 : 0;
+      setKeyboardSelectedIndex(row);
+   }
+
+   @Override
+   public HandlerRegistration addSelectionCommitHandler(
+         SelectionCommitEvent.Handler<CodeNavigationTarget> handler)
+   {
+      return addHandler(handler, SelectionCommitEvent.getType());
+   }
+
+   @Override
+   public void setKeyboardSelectedRow(int row, int subrow, boolean stealFocus)
+   {
+      // the selected row style is applied as rows are drawn; keep it up to
+      // date on the rows already drawn
+      setRowSelected(getKeyboardSelectedIndex(), false);
+      super.setKeyboardSelectedRow(row, subrow, stealFocus);
+      setRowSelected(getKeyboardSelectedIndex(), true);
+   }
+
+   @Override
+   public int getRowHeight()
+   {
+      return 20;
+   }
+
+   @Override
+   public int getTotalNumberOfRows()
+   {
+      if (context_ == null)
+         return 0;
+      return context_.getRowCount() + (moreAvailable_ ? 1 : 0);
+   }
+
+   // Handlers ----
+
+   @Override
+   public void onClick(ClickEvent event)
+   {
+      Element targetEl = event.getNativeEvent().getEventTarget().cast();
+      int row = rowForEvent(targetEl);
+      if (row == -1)
+         return;
+
+      setKeyboardSelectedIndex(row);
+      if (row >= context_.getRowCount() || isToggle(targetEl))
+         activate(row);
+   }
+
+   @Override
+   public void onCellPreview(CellPreviewEvent<Integer> preview)
+   {
+      Event event = Event.getCurrentEvent();
+      if (event.getTypeInt() != Event.ONKEYDOWN ||
+          KeyboardShortcut.getModifierValue(event) != 0)
+      {
+         return;
+      }
+
+      int row = getKeyboardSelectedIndex();
+      int pageSize = Math.max(1, getOffsetHeight() / getRowHeight() - 1);
+      switch (event.getKeyCode())
+      {
+      case KeyCodes.KEY_UP:
+         setKeyboardSelectedIndex(row - 1);
+         break;
+
+      case KeyCodes.KEY_DOWN:
+         setKeyboardSelectedIndex(row + 1);
+         break;
+
+      case KeyCodes.KEY_PAGEUP:
+         setKeyboardSelectedIndex(row - pageSize);
+         break;
+
+      case KeyCodes.KEY_PAGEDOWN:
+         setKeyboardSelectedIndex(row + pageSize);
+         break;
+
+      case KeyCodes.KEY_HOME:
+         setKeyboardSelectedIndex(0);
+         break;
+
+      case KeyCodes.KEY_END:
+         setKeyboardSelectedIndex(getTotalNumberOfRows() - 1);
+         break;
+
+      case KeyCodes.KEY_LEFT:
+         collapse(row);
+         break;
+
+      case KeyCodes.KEY_RIGHT:
+         expand(row);
+         break;
+
+      case KeyCodes.KEY_ENTER:
+         activate(row);
+         break;
+
+      default:
+         return;
+      }
+
+      preview.setCanceled(true);
+      event.stopPropagation();
+      event.preventDefault();
+   }
+
+   // Private methods ----
+
+   // opens the selected match, toggles the selected file, or shows more
+   // results, depending on what sort of row is selected
+   private void activate(int row)
+   {
+      if (row >= context_.getRowCount())
+      {
+         if (moreResultsHandler_ != null)
+            moreResultsHandler_.execute();
+         return;
+      }
+
+      if (context_.getResultForRow(row) != null)
+      {
+         commit(row);
+         return;
+      }
+
+      int file = context_.getFileForRow(row);
+      setFileExpanded(file, !context_.isFileExpanded(file));
+   }
+
+   private void commit(int row)
+   {
+      FindResult result = context_.getResultForRow(row);
+      SelectionCommitEvent.fire(this, new CodeNavigationTarget(
+            result.getFile(),
+            FilePosition.create(result.getLine(), 1)));
+   }
+
+   private void collapse(int row)
+   {
+      if (row >= context_.getRowCount())
+         return;
+
+      int file = context_.getFileForRow(row);
+      if (context_.isFileExpanded(file))
+         setFileExpanded(file, false);
+      else
+         setKeyboardSelectedIndex(context_.getRowForFile(file));
+   }
+
+   private void expand(int row)
+   {
+      if (row >= context_.getRowCount())
+         return;
+
+      int file = context_.getFileForRow(row);
+      if (!context_.isFileExpanded(file))
+         setFileExpanded(file, true);
+      else if (context_.getResultForRow(row) == null)
+         setKeyboardSelectedIndex(row + 1);
+   }
+
+   private void setFileExpanded(int file, boolean expanded)
+   {
+      context_.setFileExpanded(file, expanded);
+      refresh();
+
+      // keep the file's header selected
+      setKeyboardSelectedIndex(context_.getRowForFile(file));
+   }
+
+   private void setRowSelected(int index, boolean selected)
+   {
+      TableRowElement rowEl = getDrawnRow(index);
+      if (rowEl == null)
+         return;
+
+      if (selected)
+         rowEl.addClassName(styles_.selectedRow());
+      else
+         rowEl.removeClassName(styles_.selectedRow());
+   }
+
+   private TableRowElement getDrawnRow(int index)
+   {
+      String attr = Integer.toString(index);
+      NodeList<TableRowElement> rows = getTableBodyElement().getRows();
+      for (int i = 0, n = rows.getLength(); i < n; i++)
+      {
+         TableRowElement row = rows.getItem(i);
+         if (row.getAttribute(ROW_ATTRIBUTE) == attr)
+            return row;
+      }
+      return null;
+   }
+
+   private boolean isToggle(Element targetEl)
+   {
+      return targetEl != null && DomUtils.findParentElement(targetEl, true,
+            (Element el) -> el.hasAttribute(TOGGLE_ATTRIBUTE)) != null;
+   }
+
+   private int rowForEvent(Element targetEl)
+   {
+      if (targetEl == null)
+         return -1;
+
+      Element rowEl = DomUtils.findParentElement(targetEl, true,
+            (Element el) -> el.hasAttribute(ROW_ATTRIBUTE));
+      if (rowEl == null)
+         return -1;
+
+      return StringUtil.parseInt(rowEl.getAttribute(ROW_ATTRIBUTE), -1);
+   }
+
+   private final FindResultContext context_;
+   private final Styles styles_;
+   private final RowProvider provider_;
+   private boolean moreAvailable_ = false;
+   private Command moreResultsHandler_;
+
+   private static final String ROW_ATTRIBUTE = "__gwt_row";
+   private static final String TOGGLE_ATTRIBUTE = "data-toggle";
+   private static final OutputConstants constants_ = GWT.create(OutputConstants.class);
+}
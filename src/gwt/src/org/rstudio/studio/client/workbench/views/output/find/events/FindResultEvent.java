@@ -41,12 +41,19 @@ public class FindResultEvent extends GwtEvent<FindResultEvent.Handler>
       public native final RpcObjectList<FindResult> getResults() /*-{
          return this.results;
       }-*/;
+
+      public native final boolean getMore() /*-{
+         return !!this.more;
+      }-*/;
    }
 
-   public FindResultEvent(String handle, ArrayList<FindResult> results)
+   public FindResultEvent(String handle,
+                          ArrayList<FindResult> results,
+                          boolean more)
    {
       handle_ = handle;
       results_ = results;
+      more_ = more;
    }
 
    public String getHandle()
@@ -59,6 +66,12 @@ public class FindResultEvent extends GwtEvent<FindResultEvent.Handler>
       return results_;
    }
 
+   // whether the server has further results it hasn't sent yet
+   public boolean hasMore()
+   {
+      return more_;
+   }
+
    @Override
    public Type<Handler> getAssociatedType()
    {
@@ -73,6 +86,7 @@ public class FindResultEvent extends GwtEvent<FindResultEvent.Handler>
 
    private final String handle_;
    private final ArrayList<FindResult> results_;
+   private final boolean more_;
 
    public static final Type<Handler> TYPE = new Type<>();
 }
\ No newline at end of file
@@ -37,6 +37,11 @@ public interface FindInFilesServerOperations
    void stopFind(String findOperationHandle,
                  ServerRequestCallback<Void> requestCallback);
 
+   // asks for the next page of results of a find (delivered as a
+   // FindResultEvent)
+   void findMoreResults(String findOperationHandle,
+                        ServerRequestCallback<Void> requestCallback);
+
    void clearFindResults(ServerRequestCallback<Void> requestCallback);
 
    void previewReplace(String handle,
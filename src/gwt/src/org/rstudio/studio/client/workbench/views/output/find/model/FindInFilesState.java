@@ -38,6 +38,11 @@ public class FindInFilesState extends JavaScriptObject
       return this.results;
    }-*/;
 
+   // whether the server has more results than the ones included here
+   public native final boolean hasMoreResults() /*-{
+      return !!this.more;
+   }-*/;
+
    public native final boolean isRunning() /*-{
       return this.running;
    }-*/;
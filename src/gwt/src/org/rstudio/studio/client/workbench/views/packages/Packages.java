@@ -78,6 +78,7 @@ import org.rstudio.studio.client.workbench.views.packages.model.PackageInstallOp
 import org.rstudio.studio.client.workbench.views.packages.model.PackageInstallRequest;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageLibraryUtils;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageLibraryUtils.PackageLibraryType;
+import org.rstudio.studio.client.workbench.views.packages.model.PackageSearchIndex;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageState;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageStatus;
 import org.rstudio.studio.client.workbench.views.packages.model.PackageUpdate;
@@ -820,15 +821,12 @@ public class Packages
       view_.setPackageStatus(status);
 
       // also update the list of allPackages_
-      for (int i = 0; i<allPackages_.size(); i++)
+      int row = packageIndex_.rowOf(status.getName(), status.getLib());
+      if (row != -1)
       {
-         PackageInfo packageInfo = allPackages_.get(i);
-         if (packageInfo.getName() == status.getName() &&
-             packageInfo.getLibrary() == status.getLib())
-         {
-            allPackages_.set(i, status.isLoaded() ? packageInfo.asLoaded() :
-                                                    packageInfo.asUnloaded());
-         }
+         PackageInfo packageInfo = allPackages_.get(row);
+         allPackages_.set(row, status.isLoaded() ? packageInfo.asLoaded() :
+                                                   packageInfo.asUnloaded());
       }
    }
 
@@ -839,38 +837,10 @@ public class Packages
       // apply filter (if any)
       if (packageFilter_.length() > 0)
       {
-         packages = new ArrayList<>();
-
-         // first do prefix search
-         for (PackageInfo pkgInfo : allPackages_)
-         {
-            if (pkgInfo.getName().toLowerCase().startsWith(packageFilter_))
-               packages.add(pkgInfo);
-         }
-
-         // then do contains search on name & desc
-         for (PackageInfo pkgInfo : allPackages_)
-         {
-            if (pkgInfo.getName().toLowerCase().contains(packageFilter_) ||
-                pkgInfo.getDesc().toLowerCase().contains(packageFilter_))
-            {
-               if (!packages.contains(pkgInfo))
-                  packages.add(pkgInfo);
-            }
-         }
-
-         // sort results by library (to preserve grouping)
-         Collections.sort(packages, new Comparator<PackageInfo>()
-               {
-                  @Override
-                  public int compare(PackageInfo o1, PackageInfo o2)
-                  {
-                     return PackageLibraryUtils.typeOfLibrary(
-                                   session_, o1.getLibrary()).compareTo(
-                             PackageLibraryUtils.typeOfLibrary(
-                                   session_, o2.getLibrary()));
-                  }
-               });
+         int[] rows = packageIndex_.search(packageFilter_);
+         packages = new ArrayList<>(rows.length);
+         for (int row : rows)
+            packages.add(allPackages_.get(row));
       }
       else
       {
@@ -1224,8 +1194,9 @@ public class Packages
       });
 
       // Mark  which packages are first in their respective libraries (used
-      // later to render headers)
+      // later to render headers), and index the packages for filtering
       PackageLibraryType libraryType = PackageLibraryType.None;
+      packageIndex_ = new PackageSearchIndex();
       for (PackageInfo pkgInfo: allPackages_)
       {
          PackageLibraryType pkgLibraryType = PackageLibraryUtils.typeOfLibrary(
@@ -1235,6 +1206,10 @@ public class Packages
             pkgInfo.setFirstInLibrary(true);
             libraryType = pkgLibraryType;
          }
+         packageIndex_.add(pkgInfo.getName(),
+                           pkgInfo.getDesc(),
+                           pkgInfo.getLibrary(),
+                           pkgLibraryType.ordinal());
       }
 
       projectContext_ = newState.getProjectContext();
@@ -1258,6 +1233,7 @@ public class Packages
    private final PackratServerOperations packratServer_;
    private final RenvServerOperations renvServer_;
    private ArrayList<PackageInfo> allPackages_ = new ArrayList<>();
+   private PackageSearchIndex packageIndex_ = new PackageSearchIndex();
    private ProjectContext projectContext_;
    private String packageFilter_ = new String();
    private HandlerRegistration consolePromptHandlerReg_ = null;
@@ -0,0 +1,162 @@
+/*
+ * PackageSearchIndex.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.packages.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * PackageSearchIndex holds the (lowercased) names and descriptions of the
+ * packages in the Packages pane, and finds the packages matching a filter.
+ *
+ * Packages are added in display order, which groups them by library; within
+ * each library, packages whose names start with the filter are listed ahead
+ * of packages whose name or description merely contains it.
+ *
+ * Since a filter usually extends the one before it (as the user types), the
+ * index remembers its last set of matches and, when the new filter can only
+ * match a subset of them, searches just those.
+ */
+public class PackageSearchIndex
+{
+   /**
+    * Adds a package to the end of the index.
+    *
+    * @param name The package's name
+    * @param desc The package's description
+    * @param library The library the package is installed in
+    * @param group The library's group (e.g. its type); packages in the same
+    *   group must be added together
+    */
+   public void add(String name, String desc, String library, int group)
+   {
+      int row = names_.size();
+      names_.add(name == null ? "" : name.toLowerCase());
+      descs_.add(desc == null ? "" : desc.toLowerCase());
+      groups_.add(group);
+      rows_.put(key(name, library), row);
+      lastFilter_ = null;
+   }
+
+   /**
+    * Returns the number of packages in the index.
+    */
+   public int size()
+   {
+      return names_.size();
+   }
+
+   /**
+    * Returns the row at which a package was added, or -1 if it isn't in the
+    * index.
+    */
+   public int rowOf(String name, String library)
+   {
+      Integer row = rows_.get(key(name, library));
+      return row == null ? -1 : row;
+   }
+
+   /**
+    * Finds the packages matching a (lowercase) filter.
+    *
+    * @return The rows of the matching packages, in display order
+    */
+   public int[] search(String filter)
+   {
+      int n = names_.size();
+      int[] candidates;
+      if (lastFilter_ != null && filter.contains(lastFilter_))
+      {
+         // anything matching the new filter matches the old one too
+         candidates = lastMatches_;
+      }
+      else
+      {
+         candidates = new int[n];
+         for (int i = 0; i < n; i++)
+            candidates[i] = i;
+      }
+
+      // classify each candidate: 0 for no match, 1 for a prefix match, and
+      // 2 for a match elsewhere in the name or description
+      int[] kinds = new int[candidates.length];
+      int matchCount = 0;
+      for (int i = 0; i < candidates.length; i++)
+      {
+         int row = candidates[i];
+         String name = names_.get(row);
+         if (name.startsWith(filter))
+            kinds[i] = PREFIX_MATCH;
+         else if (name.contains(filter) || descs_.get(row).contains(filter))
+            kinds[i] = CONTAINS_MATCH;
+         else
+            continue;
+         matchCount++;
+      }
+
+      // list the matches group by group (candidates are in row order, so
+      // each group's candidates are together), prefix matches first
+      int[] result = new int[matchCount];
+      int[] sorted = new int[matchCount];
+      int count = 0;
+      int sortedCount = 0;
+      int groupStart = 0;
+      for (int i = 0; i <= candidates.length; i++)
+      {
+         if (i < candidates.length &&
+             groups_.get(candidates[i]).intValue() ==
+             groups_.get(candidates[groupStart]).intValue())
+         {
+            if (kinds[i] != 0)
+               sorted[sortedCount++] = candidates[i];
+            continue;
+         }
+
+         for (int kind = PREFIX_MATCH; kind <= CONTAINS_MATCH; kind++)
+         {
+            for (int j = groupStart; j < i; j++)
+            {
+               if (kinds[j] == kind)
+                  result[count++] = candidates[j];
+            }
+         }
+
+         groupStart = i;
+         if (i < candidates.length && kinds[i] != 0)
+            sorted[sortedCount++] = candidates[i];
+      }
+
+      // keep the matches in row order for narrowing later searches
+      lastFilter_ = filter;
+      lastMatches_ = sorted;
+      return result;
+   }
+
+   private static String key(String name, String library)
+   {
+      return library + "\n" + name;
+   }
+
+   private final ArrayList<String> names_ = new ArrayList<>();
+   private final ArrayList<String> descs_ = new ArrayList<>();
+   private final ArrayList<Integer> groups_ = new ArrayList<>();
+   private final HashMap<String, Integer> rows_ = new HashMap<>();
+
+   private String lastFilter_ = null;
+   private int[] lastMatches_ = null;
+
+   private static final int PREFIX_MATCH = 1;
+   private static final int CONTAINS_MATCH = 2;
+}
@@ -710,11 +710,11 @@ public class Source implements InsertSourceEvent.Handler,
                    SourceWindowManager.isMainSourceWindow())
                {
                   String name = doc.getSourceDisplayName();
-                  sourceEditor = columnManager_.addTab(doc, true, OPEN_REPLAY,
-                                                       columnManager_.getByName(name));
+                  sourceEditor = columnManager_.restoreTab(doc,
+                                                           columnManager_.getByName(name));
                }
                else
-                  sourceEditor = columnManager_.addTab(doc, true, OPEN_REPLAY, null);
+                  sourceEditor = columnManager_.restoreTab(doc, null);
             }
             catch (Exception e)
             {
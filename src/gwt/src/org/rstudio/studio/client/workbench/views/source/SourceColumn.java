@@ -62,6 +62,7 @@ import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.ui.unsaved.UnsavedChangesDialog;
 import org.rstudio.studio.client.workbench.views.source.editors.EditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.EditingTargetSource;
+import org.rstudio.studio.client.workbench.views.source.editors.PlaceholderEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.codebrowser.CodeBrowserEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.text.TextEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.text.events.FileTypeChangedEvent;
@@ -219,12 +220,12 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public void closeTab(Widget child, boolean interactive)
    {
-      display_.closeTab(child, interactive);
+      display_.closeTab(PlaceholderEditingTarget.getTabWidget(child), interactive);
    }
 
    public void closeTab(Widget child, boolean interactive, Command onClosed)
    {
-      display_.closeTab(child, interactive, onClosed);
+      display_.closeTab(PlaceholderEditingTarget.getTabWidget(child), interactive, onClosed);
    }
 
    public int getTabCount()
@@ -244,7 +245,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public void selectTab(Widget widget)
    {
-      display_.selectTab(widget);
+      display_.selectTab(PlaceholderEditingTarget.getTabWidget(widget));
    }
 
    public void showOverflowPopout()
@@ -333,7 +334,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
        if (activeEditor_ != null)
        {
           activeEditor_.onActivate();
-          display_.selectTab(activeEditor_.asWidget());
+          selectTab(activeEditor_.asWidget());
        }
    }
 
@@ -487,7 +488,85 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
    public EditingTarget addTab(SourceDocument doc, Integer position, int mode)
    {
-      final EditingTarget target = editingTargetSource_.getEditingTarget(
+      return addTab(createEditingTarget(doc), doc, position, mode);
+   }
+
+   /**
+    * Adds a tab for a document restored at startup. Restored text documents
+    * arrive without their contents, and get a placeholder that is replaced by
+    * a real editor when the tab is first activated or its editor is needed.
+    */
+   public EditingTarget restoreTab(SourceDocument doc)
+   {
+      FileType type = EditingTargetSource.getTypeFromDocument(
+            RStudioGinjector.INSTANCE.getFileTypeRegistry(), doc);
+      if (!PlaceholderEditingTarget.isDeferrable(type))
+         return addTab(doc, true, Source.OPEN_REPLAY);
+
+      PlaceholderEditingTarget placeholder = new PlaceholderEditingTarget();
+      placeholder.initialize(this, doc, fileContext_, type, null);
+      addTab(placeholder, doc, null, Source.OPEN_REPLAY);
+
+      // untitled documents without a stored name are named by their editor,
+      // so load those right away
+      if (!placeholder.hasName())
+         placeholder.withTarget(null);
+
+      return placeholder;
+   }
+
+   /**
+    * Fetches the contents of a placeholder's document and replaces the
+    * placeholder with a real editor.
+    */
+   public void loadPlaceholder(final PlaceholderEditingTarget placeholder)
+   {
+      server_.getSourceDocument(
+            placeholder.getId(),
+            new SimpleRequestCallback<SourceDocument>(
+                  constants_.errorWhileOpeningFile())
+            {
+               @Override
+               public void onResponseReceived(SourceDocument doc)
+               {
+                  // the tab may have been closed while the document loaded
+                  int index = editors_.indexOf(placeholder);
+                  if (index == -1)
+                     return;
+
+                  EditingTarget target = createEditingTarget(doc);
+                  editors_.set(index, target);
+                  placeholder.setTarget(target);
+                  attachTarget(target, doc, placeholder.asWidget());
+                  display_.renameTab(placeholder.asWidget(),
+                                     target.getIcon(),
+                                     target.getName().getValue(),
+                                     target.getPath());
+
+                  if (activeEditor_ == placeholder)
+                  {
+                     activeEditor_ = target;
+                     target.onActivate();
+                     manageCommands(true);
+                     schedulePrefetch();
+                  }
+                  fireDocTabsChanged();
+
+                  placeholder.executePendingCommands();
+               }
+
+               @Override
+               public void onError(ServerError error)
+               {
+                  placeholder.onLoadFailed();
+                  super.onError(error);
+               }
+            });
+   }
+
+   private EditingTarget createEditingTarget(SourceDocument doc)
+   {
+      return editingTargetSource_.getEditingTarget(
             this,
             doc,
             fileContext_,
@@ -496,7 +575,13 @@ public class SourceColumn implements BeforeShowEvent.Handler,
                String prefix = et.getDefaultNamePrefix();
                return getNextDefaultName(prefix);
             });
+   }
 
+   private EditingTarget addTab(final EditingTarget target,
+                                SourceDocument doc,
+                                Integer position,
+                                int mode)
+   {
       final Widget widget = createWidget(target);
 
       if (position == null)
@@ -528,6 +613,27 @@ public class SourceColumn implements BeforeShowEvent.Handler,
                       true);
       fireDocTabsChanged();
 
+      attachTarget(target, doc, widget);
+
+      events_.fireEvent(new SourceDocAddedEvent(doc, mode, name_));
+
+      // adding a tab may enable commands that are only available when
+      // multiple documents are open; if this is the second document, go check
+      if (editors_.size() == 2)
+         manageMultiTabCommands(true);
+
+      // if the target had an editing session active, attempt to resume it
+      if (doc.getCollabParams() != null)
+         target.beginCollabSession(doc.getCollabParams());
+
+      return target;
+   }
+
+   // connects an editor to the tab hosting it
+   private void attachTarget(final EditingTarget target,
+                             SourceDocument doc,
+                             final Widget widget)
+   {
       target.getName().addValueChangeHandler(event -> {
          display_.renameTab(widget,
                             target.getIcon(),
@@ -546,24 +652,41 @@ public class SourceColumn implements BeforeShowEvent.Handler,
 
       target.addCloseHandler(voidCloseEvent -> closeTab(widget, false));
 
-      events_.fireEvent(new SourceDocAddedEvent(doc, mode, name_));
-
       if (target instanceof TextEditingTarget && doc.isReadOnly())
       {
          ((TextEditingTarget) target).setIntendedAsReadOnly(
             JsUtil.toList(doc.getReadOnlyAlternatives()));
       }
+   }
 
-      // adding a tab may enable commands that are only available when
-      // multiple documents are open; if this is the second document, go check
-      if (editors_.size() == 2)
-         manageMultiTabCommands(true);
+   // loads the placeholders on either side of the active tab, one at a time,
+   // so that moving to a neighboring tab doesn't wait on the server
+   private void schedulePrefetch()
+   {
+      prefetchTimer_.schedule(PREFETCH_DELAY_MS);
+   }
 
-      // if the target had an editing session active, attempt to resume it
-      if (doc.getCollabParams() != null)
-         target.beginCollabSession(doc.getCollabParams());
+   private void prefetchAdjacent()
+   {
+      int index = getPhysicalTabIndex();
+      if (index < 0)
+         return;
 
-      return target;
+      for (int position : new int[] { index + 1, index - 1 })
+      {
+         if (position < 0 || position >= editors_.size())
+            continue;
+
+         int editorIndex = position < tabOrder_.size() ?
+               tabOrder_.get(position) : position;
+         EditingTarget target = editors_.get(editorIndex);
+         if (target instanceof PlaceholderEditingTarget)
+         {
+            ((PlaceholderEditingTarget) target).withTarget(
+                  loaded -> schedulePrefetch());
+            return;
+         }
+      }
    }
 
    public void closeDoc(String docId)
@@ -1165,6 +1288,7 @@ public class SourceColumn implements BeforeShowEvent.Handler,
          activeEditor_ = editors_.get(event.getSelectedItem());
          activeEditor_.onActivate();
          manager_.setActive(name_);
+         schedulePrefetch();
 
          // let any listeners know this tab was activated
          events_.fireEvent(new DocTabActivatedEvent(
@@ -1398,11 +1522,21 @@ public class SourceColumn implements BeforeShowEvent.Handler,
    private RemoteFileSystemContext fileContext_;
    private SourceServerOperations server_;
    private Timer debugSelectionTimer_ = null;
+   private final Timer prefetchTimer_ = new Timer()
+   {
+      @Override
+      public void run()
+      {
+         prefetchAdjacent();
+      }
+   };
    private EventBus events_;
    private UserPrefs userPrefs_;
    private EditingTargetSource editingTargetSource_;
    private Provider<Session> pSession_;
 
    private SourceColumnManager manager_;
+
+   private static final int PREFETCH_DELAY_MS = 1000;
    private static final ViewsSourceConstants constants_ = GWT.create(ViewsSourceConstants.class);
 }
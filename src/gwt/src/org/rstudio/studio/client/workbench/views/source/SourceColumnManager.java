@@ -89,6 +89,7 @@ import org.rstudio.studio.client.workbench.views.environment.events.DebugModeCha
 import org.rstudio.studio.client.workbench.views.output.find.events.FindInFilesEvent;
 import org.rstudio.studio.client.workbench.views.source.editors.EditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.EditingTargetSource;
+import org.rstudio.studio.client.workbench.views.source.editors.PlaceholderEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.codebrowser.CodeBrowserEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.data.DataEditingTarget;
 import org.rstudio.studio.client.workbench.views.source.editors.explorer.ObjectExplorerEditingTarget;
@@ -819,6 +820,13 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
       return column.addTab(doc, atEnd, mode);
    }
 
+   public EditingTarget restoreTab(SourceDocument doc, SourceColumn column)
+   {
+      if (column == null || getByName(column.getName()) == null)
+         column = getActive();
+      return column.restoreTab(doc);
+   }
+
    public EditingTarget findEditor(String docId)
    {
       for (SourceColumn column : columnList_)
@@ -894,11 +902,13 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
       {
          for (EditingTarget target : column.getEditors())
          {
-            if (target instanceof TextEditingTarget)
+            if (target instanceof TextEditingTarget ||
+                target instanceof PlaceholderEditingTarget)
             {
                if (StringUtil.equals(target.getId(), id))
                {
-                  ((TextEditingTarget) target).getEditorContext();
+                  withLoadedEditor(target, (EditingTarget editor) ->
+                     ((TextEditingTarget) editor).getEditorContext());
                   return true;
                }
             }
@@ -2244,14 +2254,25 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
    {
       EditingTarget editor = findEditor(id);
       if (editor != null)
-         onEditorLocated.execute(editor);
+         withLoadedEditor(editor, onEditorLocated::execute);
    }
 
    public void inEditorForPath(String path, OperationWithInput<EditingTarget> onEditorLocated)
    {
       EditingTarget editor = findEditorByPath(path);
       if (editor != null)
-         onEditorLocated.execute(editor);
+         withLoadedEditor(editor, onEditorLocated::execute);
+   }
+
+   // documents restored at startup may not have an editor yet; load it
+   // before running the command
+   private void withLoadedEditor(EditingTarget editor,
+                                 CommandWithArg<EditingTarget> command)
+   {
+      if (editor instanceof PlaceholderEditingTarget)
+         ((PlaceholderEditingTarget) editor).withTarget(command);
+      else
+         command.execute(editor);
    }
 
    public void withTarget(String id, CommandWithArg<TextEditingTarget> command)
@@ -2274,14 +2295,17 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
          return;
       }
 
-      if (!(target instanceof TextEditingTarget))
+      withLoadedEditor(target, (EditingTarget editor) ->
       {
-         if (onFailure != null)
-            onFailure.execute();
-         return;
-      }
+         if (!(editor instanceof TextEditingTarget))
+         {
+            if (onFailure != null)
+               onFailure.execute();
+            return;
+         }
 
-      command.execute((TextEditingTarget) target);
+         command.execute((TextEditingTarget) editor);
+      });
    }
 
    public HashSet<AppCommand> getDynamicCommands()
@@ -2618,7 +2642,7 @@ public class SourceColumnManager implements CommandPaletteEntrySource,
                column.selectTab(target.asWidget());
                pMruList_.get().add(thisPath);
                if (resultCallback != null)
-                  resultCallback.onSuccess(target);
+                  withLoadedEditor(target, resultCallback::onSuccess);
 
                return true;
             }
@@ -989,6 +989,15 @@ public interface ViewsSourceConstants extends com.google.gwt.i18n.client.Message
     @Key("urlViewerDisplayed")
     String urlViewerDisplayed();
 
+    /**
+     * Translated "Loading document".
+     *
+     * @return translated "Loading document"
+     */
+    @DefaultMessage("Loading document")
+    @Key("loadingDocument")
+    String loadingDocument();
+
     /**
      * Translated "URL Browser".
      *
@@ -52,16 +52,16 @@ public class EditingTargetInlineChunkExecution
       events_ = events;
       events_.addHandler(ConsoleWriteOutputEvent.TYPE, this);
       events_.addHandler(ConsoleWriteErrorEvent.TYPE, this);
-      events_.addHandler(ChunkExecStateChangedEvent.TYPE, this);
+      events_.addKeyedHandler(ChunkExecStateChangedEvent.TYPE, docId_, this);
    }
 
    public EditingTargetInlineChunkExecution(DocDisplay display, String docId)
    {
-      RStudioGinjector.INSTANCE.injectMembers(this);
-
       display_ = display;
       docId_ = docId;
       outputs_ = new HashMap<>();
+
+      RStudioGinjector.INSTANCE.injectMembers(this);
    }
 
    public void execute(Range range)
@@ -161,8 +161,7 @@ public class EditingTargetInlineChunkExecution
    public void onChunkExecStateChanged(ChunkExecStateChangedEvent event)
    {
       // ignore if not targeted at one of our chunks
-      if (event.getDocId() != docId_ ||
-          !outputs_.containsKey(event.getChunkId()))
+      if (!outputs_.containsKey(event.getChunkId()))
          return;
 
       ChunkInlineOutput output = outputs_.get(event.getChunkId());
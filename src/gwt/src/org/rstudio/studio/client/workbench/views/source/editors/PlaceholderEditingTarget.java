@@ -0,0 +1,570 @@
+/*
+ * PlaceholderEditingTarget.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.source.editors;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import org.rstudio.core.client.CommandWithArg;
+import org.rstudio.core.client.StringUtil;
+import org.rstudio.core.client.command.AppCommand;
+import org.rstudio.core.client.events.EnsureHeightEvent;
+import org.rstudio.core.client.events.EnsureVisibleEvent;
+import org.rstudio.core.client.files.FileSystemContext;
+import org.rstudio.core.client.files.FileSystemItem;
+import org.rstudio.studio.client.common.ReadOnlyValue;
+import org.rstudio.studio.client.common.Value;
+import org.rstudio.studio.client.common.filetypes.FileIcon;
+import org.rstudio.studio.client.common.filetypes.FileType;
+import org.rstudio.studio.client.common.filetypes.TextFileType;
+import org.rstudio.studio.client.palette.model.CommandPaletteEntryProvider;
+import org.rstudio.studio.client.workbench.views.source.SourceColumn;
+import org.rstudio.studio.client.workbench.views.source.ViewsSourceConstants;
+import org.rstudio.studio.client.workbench.views.source.editors.EditingTargetSource.EditingTargetNameProvider;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ace.Position;
+import org.rstudio.studio.client.workbench.views.source.events.CollabEditStartParams;
+import org.rstudio.studio.client.workbench.views.source.model.SourceDocument;
+import org.rstudio.studio.client.workbench.views.source.model.SourcePosition;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.event.logical.shared.CloseEvent;
+import com.google.gwt.event.logical.shared.CloseHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerManager;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwt.user.client.Command;
+import com.google.gwt.user.client.ui.HasValue;
+import com.google.gwt.user.client.ui.SimpleLayoutPanel;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Stands in for the editor of a document restored at startup. The placeholder
+ * holds only the document's metadata (it arrives without contents), which is
+ * enough to show its tab; the document is fetched and its real editor built
+ * by the owning column the first time the tab is activated or the editor is
+ * otherwise needed.
+ *
+ * Once built, the real editor replaces the placeholder in the column, and its
+ * widget is hosted inside the placeholder's panel, which remains the tab's
+ * child widget.
+ */
+public class PlaceholderEditingTarget implements EditingTarget
+{
+   public static class TabPanel extends SimpleLayoutPanel
+   {
+   }
+
+   /**
+    * Returns the tab widget that hosts the given editor widget; editors built
+    * from a placeholder live inside the placeholder's panel.
+    */
+   public static Widget getTabWidget(Widget widget)
+   {
+      if (widget != null && widget.getParent() instanceof TabPanel)
+         return widget.getParent();
+      return widget;
+   }
+
+   public static boolean isDeferrable(FileType type)
+   {
+      // only text editors use the document's contents, so other documents
+      // are restored directly
+      return type instanceof TextFileType;
+   }
+
+   @Override
+   public void initialize(SourceColumn column,
+                          SourceDocument document,
+                          FileSystemContext fileContext,
+                          FileType type,
+                          EditingTargetNameProvider defaultNameProvider)
+   {
+      // placeholders are only created for text documents (see isDeferrable)
+      column_ = column;
+      doc_ = document;
+      type_ = (TextFileType) type;
+      dirtyState_.setValue(document.isDirty(), false);
+
+      if (document.getPath() != null)
+         name_.setValue(FileSystemItem.getNameFromPath(document.getPath()), false);
+      else
+         name_.setValue(StringUtil.notNull(
+               document.getProperties().getString("tempName")), false);
+   }
+
+   public SourceDocument getDocument()
+   {
+      return doc_;
+   }
+
+   public boolean isLoaded()
+   {
+      return target_ != null;
+   }
+
+   public boolean hasName()
+   {
+      return !StringUtil.isNullOrEmpty(name_.getValue());
+   }
+
+   /**
+    * Executes the command with the real editor for this document, building
+    * it first if necessary. The command may be null, in which case the
+    * editor is built only.
+    */
+   public void withTarget(CommandWithArg<EditingTarget> command)
+   {
+      if (target_ != null)
+      {
+         if (command != null)
+            command.execute(target_);
+         return;
+      }
+
+      if (command != null)
+         pendingCommands_.add(command);
+
+      if (!loading_)
+      {
+         loading_ = true;
+         column_.loadPlaceholder(this);
+      }
+   }
+
+   /**
+    * Called by the owning column once the real editor has been built; hosts
+    * the editor's widget in the tab.
+    */
+   public void setTarget(EditingTarget target)
+   {
+      loading_ = false;
+      target_ = target;
+      panel_.setWidget(target.asWidget());
+   }
+
+   /**
+    * Called by the owning column once the real editor is in place, to run the
+    * commands that were waiting on it.
+    */
+   public void executePendingCommands()
+   {
+      ArrayList<CommandWithArg<EditingTarget>> commands =
+            new ArrayList<>(pendingCommands_);
+      pendingCommands_.clear();
+      for (CommandWithArg<EditingTarget> command : commands)
+         command.execute(target_);
+   }
+
+   /**
+    * Called by the owning column if the document could not be loaded; any
+    * pending commands are dropped.
+    */
+   public void onLoadFailed()
+   {
+      loading_ = false;
+      pendingCommands_.clear();
+   }
+
+   @Override
+   public String getId()
+   {
+      return doc_.getId();
+   }
+
+   @Override
+   public HasValue<String> getName()
+   {
+      return name_;
+   }
+
+   @Override
+   public String getTitle()
+   {
+      return name_.getValue();
+   }
+
+   @Override
+   public String getPath()
+   {
+      return doc_.getPath();
+   }
+
+   @Override
+   public String getContext()
+   {
+      return null;
+   }
+
+   @Override
+   public FileIcon getIcon()
+   {
+      return type_.getDefaultFileIcon();
+   }
+
+   @Override
+   public String getTabTooltip()
+   {
+      return getPath();
+   }
+
+   @Override
+   public FileType getFileType()
+   {
+      return type_;
+   }
+
+   @Override
+   public TextFileType getTextFileType()
+   {
+      return type_;
+   }
+
+   @Override
+   public void adaptToExtendedFileType(String extendedType)
+   {
+      withTarget(target -> target.adaptToExtendedFileType(extendedType));
+   }
+
+   @Override
+   public String getExtendedFileType()
+   {
+      return doc_.getExtendedType();
+   }
+
+   @Override
+   public boolean isShinyPrerenderedDoc()
+   {
+      return false;
+   }
+
+   @Override
+   public HashSet<AppCommand> getSupportedCommands()
+   {
+      // no commands until the editor is loaded
+      return new HashSet<>();
+   }
+
+   @Override
+   public void manageCommands()
+   {
+   }
+
+   @Override
+   public boolean canCompilePdf()
+   {
+      return false;
+   }
+
+   @Override
+   public void verifyCppPrerequisites()
+   {
+   }
+
+   @Override
+   public void verifyPythonPrerequisites()
+   {
+   }
+
+   @Override
+   public void verifyD3Prerequisites()
+   {
+   }
+
+   @Override
+   public void verifyNewSqlPrerequisites()
+   {
+   }
+
+   @Override
+   public void focus()
+   {
+      withTarget(target ->
+      {
+         if (column_.getActiveEditor() == target)
+            target.focus();
+      });
+   }
+
+   @Override
+   public void onActivate()
+   {
+      // defer loading, since restoring documents activates each tab in turn
+      // as it's added; only the tab that remains active is loaded
+      active_ = true;
+      Scheduler.get().scheduleDeferred(() ->
+      {
+         if (active_)
+            withTarget(null);
+      });
+   }
+
+   @Override
+   public void onDeactivate()
+   {
+      active_ = false;
+   }
+
+   @Override
+   public void onInitiallyLoaded()
+   {
+      withTarget(target -> target.onInitiallyLoaded());
+   }
+
+   @Override
+   public void recordCurrentNavigationPosition()
+   {
+   }
+
+   @Override
+   public void navigateToPosition(SourcePosition position,
+                                  boolean recordCurrent)
+   {
+      withTarget(target -> target.navigateToPosition(position, recordCurrent));
+   }
+
+   @Override
+   public void navigateToPosition(SourcePosition position,
+                                  boolean recordCurrent,
+                                  boolean highlightLine)
+   {
+      withTarget(target -> target.navigateToPosition(position,
+                                                     recordCurrent,
+                                                     highlightLine));
+   }
+
+   @Override
+   public void navigateToPosition(SourcePosition position,
+                                  boolean recordCurrent,
+                                  boolean highlightLine,
+                                  boolean moveCursor,
+                                  Command onNavigationCompleted)
+   {
+      withTarget(target -> target.navigateToPosition(position,
+                                                     recordCurrent,
+                                                     highlightLine,
+                                                     moveCursor,
+                                                     onNavigationCompleted));
+   }
+
+   @Override
+   public void restorePosition(SourcePosition position)
+   {
+      withTarget(target -> target.restorePosition(position));
+   }
+
+   @Override
+   public SourcePosition currentPosition()
+   {
+      return null;
+   }
+
+   @Override
+   public boolean isAtSourceRow(SourcePosition position)
+   {
+      return false;
+   }
+
+   @Override
+   public void forceLineHighlighting()
+   {
+      withTarget(target -> target.forceLineHighlighting());
+   }
+
+   @Override
+   public void setSourceOnSave(boolean sourceOnSave)
+   {
+      withTarget(target -> target.setSourceOnSave(sourceOnSave));
+   }
+
+   @Override
+   public void setCursorPosition(Position position)
+   {
+      withTarget(target -> target.setCursorPosition(position));
+   }
+
+   @Override
+   public void ensureCursorVisible()
+   {
+      withTarget(target -> target.ensureCursorVisible());
+   }
+
+   @Override
+   public Position search(String regex)
+   {
+      return null;
+   }
+
+   @Override
+   public Position search(Position startPos, String regex)
+   {
+      return null;
+   }
+
+   @Override
+   public void highlightDebugLocation(SourcePosition startPos,
+                                      SourcePosition endPos,
+                                      boolean executing)
+   {
+      withTarget(target -> target.highlightDebugLocation(startPos,
+                                                         endPos,
+                                                         executing));
+   }
+
+   @Override
+   public void endDebugHighlighting()
+   {
+   }
+
+   @Override
+   public void beginCollabSession(CollabEditStartParams params)
+   {
+      withTarget(target -> target.beginCollabSession(params));
+   }
+
+   @Override
+   public void endCollabSession()
+   {
+   }
+
+   @Override
+   public boolean onBeforeDismiss()
+   {
+      if (!dirtyState_.getValue())
+         return true;
+
+      // unsaved changes: load the editor and let it handle the close (and
+      // prompt to save)
+      withTarget(target -> column_.closeTab(target.asWidget(), true));
+      return false;
+   }
+
+   @Override
+   public void onDismiss(int dismissType)
+   {
+      pendingCommands_.clear();
+   }
+
+   @Override
+   public ReadOnlyValue<Boolean> dirtyState()
+   {
+      return dirtyState_;
+   }
+
+   @Override
+   public boolean isSaveCommandActive()
+   {
+      return dirtyState_.getValue();
+   }
+
+   @Override
+   public void forceSaveCommandActive()
+   {
+   }
+
+   @Override
+   public void save(Command onCompleted)
+   {
+      withTarget(target -> target.save(onCompleted));
+   }
+
+   @Override
+   public void saveWithPrompt(Command onCompleted, Command onCancelled)
+   {
+      withTarget(target -> target.saveWithPrompt(onCompleted, onCancelled));
+   }
+
+   @Override
+   public void revertChanges(Command onCompleted)
+   {
+      withTarget(target -> target.revertChanges(onCompleted));
+   }
+
+   @Override
+   public long getFileSizeLimit()
+   {
+      return Long.MAX_VALUE;
+   }
+
+   @Override
+   public long getLargeFileSize()
+   {
+      return Long.MAX_VALUE;
+   }
+
+   @Override
+   public String getDefaultNamePrefix()
+   {
+      return null;
+   }
+
+   @Override
+   public String getCurrentStatus()
+   {
+      return constants_.loadingDocument();
+   }
+
+   @Override
+   public CommandPaletteEntryProvider getPaletteEntryProvider()
+   {
+      return null;
+   }
+
+   @Override
+   public Widget asWidget()
+   {
+      return panel_;
+   }
+
+   @Override
+   public HandlerRegistration addEnsureVisibleHandler(EnsureVisibleEvent.Handler handler)
+   {
+      return handlers_.addHandler(EnsureVisibleEvent.TYPE, handler);
+   }
+
+   @Override
+   public HandlerRegistration addEnsureHeightHandler(EnsureHeightEvent.Handler handler)
+   {
+      return handlers_.addHandler(EnsureHeightEvent.TYPE, handler);
+   }
+
+   @Override
+   public HandlerRegistration addCloseHandler(CloseHandler<Void> handler)
+   {
+      return handlers_.addHandler(CloseEvent.getType(), handler);
+   }
+
+   @Override
+   public void fireEvent(GwtEvent<?> event)
+   {
+      handlers_.fireEvent(event);
+   }
+
+   private SourceColumn column_;
+   private SourceDocument doc_;
+   private TextFileType type_;
+   private EditingTarget target_;
+   private boolean loading_;
+   private boolean active_;
+
+   private final TabPanel panel_ = new TabPanel();
+   private final Value<String> name_ = new Value<>(null);
+   private final Value<Boolean> dirtyState_ = new Value<>(false);
+   private final HandlerManager handlers_ = new HandlerManager(this);
+   private final ArrayList<CommandWithArg<EditingTarget>> pendingCommands_ =
+         new ArrayList<>();
+
+   private static final ViewsSourceConstants constants_ = GWT.create(ViewsSourceConstants.class);
+}
@@ -688,7 +688,7 @@ public class ObjectExplorerDataGrid
       }
 
       // otherwise, just select the row the user clicked on
-      setKeyboardSelectedRow(row);
+      setKeyboardSelectedIndex(row);
       setKeyboardSelectedColumn(0);
    }
 
@@ -704,7 +704,7 @@ public class ObjectExplorerDataGrid
       int code = event.getKeyCode();
       int modifier = KeyboardShortcut.getModifierValue(event);
       int type = event.getTypeInt();
-      int row = getKeyboardSelectedRow();
+      int row = getKeyboardSelectedIndex();
       boolean eventHandled = false;
 
       if (type == Event.ONKEYDOWN || type == Event.ONKEYPRESS)
@@ -890,7 +890,7 @@ public class ObjectExplorerDataGrid
    private void selectRowRelative(int delta)
    {
       setKeyboardSelectedColumn(0);
-      setKeyboardSelectedRow(getKeyboardSelectedRow() + delta);
+      setKeyboardSelectedIndex(getKeyboardSelectedIndex() + delta);
    }
 
    private void selectParentOrClose(int row)
@@ -914,7 +914,7 @@ public class ObjectExplorerDataGrid
       {
          if (list.get(i).equals(parent))
          {
-            setKeyboardSelectedRow(i);
+            setKeyboardSelectedIndex(i);
             break;
          }
       }
@@ -1190,7 +1190,7 @@ public class ObjectExplorerDataGrid
                      {
                         if (getData().size() > 0)
                         {
-                           setKeyboardSelectedRow(0, true);
+                           setKeyboardSelectedIndex(0, true);
                         }
                      }
                   });
@@ -1287,8 +1287,8 @@ public class ObjectExplorerDataGrid
 
    public Data getCurrentSelection()
    {
-      int selectedRow = getKeyboardSelectedRow();
-      return (selectedRow == -1)
+      int selectedRow = getKeyboardSelectedIndex();
+      return (selectedRow < 0 || selectedRow >= getData().size())
             ? null
             : getData().get(selectedRow);
    }
@@ -14,8 +14,10 @@
  */
 package org.rstudio.studio.client.workbench.views.source.editors.text;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import org.rstudio.core.client.ClassIds;
@@ -30,6 +32,7 @@ import org.rstudio.studio.client.RStudioGinjector;
 import org.rstudio.studio.client.application.events.EventBus;
 import org.rstudio.studio.client.application.events.InterruptStatusEvent;
 import org.rstudio.studio.client.application.events.RestartStatusEvent;
+import org.rstudio.studio.client.common.FilePathUtils;
 import org.rstudio.studio.client.common.Value;
 import org.rstudio.studio.client.rmarkdown.model.NotebookFrameMetadata;
 import org.rstudio.studio.client.rmarkdown.model.NotebookHtmlMetadata;
@@ -283,40 +286,128 @@ public class ChunkOutputWidget extends Composite
    {
       if (StringUtil.isNullOrEmpty(htmlOutput))
          return;
+      pinOutput();
       presenter_.showCallbackHtml(htmlOutput, parentElement);
    }
 
    public void showChunkOutput(RmdChunkOutput output, int mode, int scope,
          boolean complete, boolean ensureVisible)
    {
-      if (output.getType() == RmdChunkOutput.TYPE_MULTIPLE_UNIT)
+      if (output.isReplay())
       {
-         JsArray<RmdChunkOutputUnit> units = output.getUnits();
-      
-         // prepare chunk for output on replay
-         if (output.isReplay() && state_ == CHUNK_EMPTY && units.length() > 0)
-            state_ = CHUNK_PRE_OUTPUT;
-
-         // loop over the output units and emit the appropriate contents for
-         // each
-         for (int i = 0; i < units.length(); i++)
+         // keep replayed output around so it can be rendered again after the
+         // widget is released; if the widget isn't materialized, that's all
+         // we need to do for now
+         if (replayOutputs_ != null)
+            replayOutputs_.add(output);
+         if (!materialized_)
          {
-            showChunkOutputUnit(units.get(i), mode, output.isReplay(), 
-                  ensureVisible);
+            if (hasUnitOfType(output, RmdChunkOutputUnit.TYPE_ERROR))
+               hasErrors_ = true;
+            return;
          }
+      }
+      else
+      {
+         pinOutput();
+      }
 
-         // if complete, wrap everything up; if not (could happen for partial
-         // replay) just sync up the height
-         if (complete)
-            onOutputFinished(ensureVisible, scope);
-         else
-            syncHeight(true, ensureVisible);
+      renderChunkOutput(output, mode, scope, complete, ensureVisible);
+   }
+
+   /**
+    * Defers rendering of replayed output until the widget is materialized
+    * (see materialize()), reserving the given height for it in the meantime.
+    * Only widgets that haven't shown any output yet can be deferred.
+    *
+    * @param height The height, in pixels, of the output when last rendered
+    * @return Whether the output was deferred
+    */
+   public boolean deferOutput(int height)
+   {
+      if (!materialized_ ||
+          replayOutputs_ == null ||
+          state_ != CHUNK_EMPTY ||
+          chunkOutputSize_ != ChunkOutputSize.Default)
+      {
+         return false;
       }
-      else if (output.getType() == RmdChunkOutput.TYPE_SINGLE_UNIT)
+
+      materialized_ = false;
+      if (expansionState_.getValue() == EXPANDED)
       {
-         showChunkOutputUnit(output.getUnit(), mode, output.isReplay(), 
-               ensureVisible);
+         renderedHeight_ = Math.max(ChunkOutputUi.MIN_CHUNK_HEIGHT,
+               height - FRAME_MARGIN);
+         frame_.getElement().getStyle().setHeight(renderedHeight_, Unit.PX);
+      }
+      setVisible(true);
+      return true;
+   }
+
+   /**
+    * Renders output that was deferred or released. The widget keeps its
+    * height unless the output turns out to have a different size.
+    */
+   public void materialize()
+   {
+      if (materialized_)
+         return;
+      materialized_ = true;
+
+      if (replayOutputs_ == null || replayOutputs_.isEmpty())
+      {
+         renderedHeight_ = 0;
+         setVisible(false);
+         host_.onOutputHeightChanged(this, 0, false);
+         return;
+      }
+
+      for (RmdChunkOutput output: replayOutputs_)
+      {
+         renderChunkOutput(output, NotebookQueueUnit.EXEC_MODE_BATCH,
+               NotebookQueueUnit.EXEC_SCOPE_PARTIAL, false, false);
+      }
+      onOutputFinished(false, NotebookQueueUnit.EXEC_SCOPE_PARTIAL);
+
+      // the replayed plots have their original URLs; bring them up to date
+      for (String url: plotUrls_.values())
+      {
+         presenter_.updatePlot(url, style.pendingResize());
+      }
+   }
+
+   /**
+    * Discards the rendered output (including any plots and HTML widget
+    * frames), leaving an empty frame of the same height. Only output that
+    * came entirely from a replay can be released, since it's rendered again
+    * from the replay when the widget is next materialized.
+    *
+    * @return Whether the output was released
+    */
+   public boolean release()
+   {
+      if (!materialized_ ||
+          replayOutputs_ == null ||
+          replayOutputs_.isEmpty() ||
+          state_ != CHUNK_READY ||
+          pendingRenders_ > 0 ||
+          !isVisible())
+      {
+         return false;
       }
+
+      presenter_.clearOutput();
+      Widget widg = attachPresenter(new ChunkOutputStream(this, chunkOutputSize_));
+      setUpEvents(widg.getElement());
+      state_ = CHUNK_EMPTY;
+      lastOutputType_ = RmdChunkOutputUnit.TYPE_NONE;
+      materialized_ = false;
+      return true;
+   }
+
+   public boolean isMaterialized()
+   {
+      return materialized_;
    }
 
    @Override
@@ -328,6 +419,10 @@ public class ChunkOutputWidget extends Composite
    public void syncHeight(final boolean scrollToBottom, 
                           final boolean ensureVisible)
    {
+      // output that isn't rendered keeps the height reserved for it
+      if (!materialized_)
+         return;
+
       // special behavior for chunks which don't have output included by 
       // default: hide unless chunk includes errors or is not being run as 
       // a unit
@@ -384,7 +479,7 @@ public class ChunkOutputWidget extends Composite
          frame_.getElement().getStyle().setHeight(height, Unit.PX);
          
       // allocate some extra space so the cursor doesn't touch the output frame
-      host_.onOutputHeightChanged(this, height + 7, ensureVisible);
+      host_.onOutputHeightChanged(this, height + FRAME_MARGIN, ensureVisible);
    }
    
    public static boolean isEditorStyleCached()
@@ -425,6 +520,12 @@ public class ChunkOutputWidget extends Composite
 
    public void setCodeExecuting(int mode, int scope)
    {
+      // any output we have is about to be replaced, so there's no need to
+      // render deferred output
+      materialized_ = true;
+      replayOutputs_ = null;
+      plotUrls_.clear();
+
       // expand if currently collapsed
       if (expansionState_.getValue() == COLLAPSED)
          toggleExpansionState(false);
@@ -518,11 +619,18 @@ public class ChunkOutputWidget extends Composite
    
    public boolean hasPlots()
    {
+      if (!materialized_)
+         return hasReplayedUnitOfType(RmdChunkOutputUnit.TYPE_PLOT);
       return presenter_.hasPlots();
    }
    
    public void updatePlot(String url)
    {
+      // remember the latest URL for each plot, so that it can be applied
+      // again whenever released output is rendered from its replay
+      plotUrls_.put(FilePathUtils.friendlyFileName(url), url);
+      if (!materialized_)
+         return;
       presenter_.updatePlot(url, style.pendingResize());
    }
 
@@ -636,6 +744,76 @@ public class ChunkOutputWidget extends Composite
 
    // Private methods ---------------------------------------------------------
 
+   private void renderChunkOutput(RmdChunkOutput output, int mode, int scope,
+         boolean complete, boolean ensureVisible)
+   {
+      if (output.getType() == RmdChunkOutput.TYPE_MULTIPLE_UNIT)
+      {
+         JsArray<RmdChunkOutputUnit> units = output.getUnits();
+      
+         // prepare chunk for output on replay
+         if (output.isReplay() && state_ == CHUNK_EMPTY && units.length() > 0)
+            state_ = CHUNK_PRE_OUTPUT;
+
+         // loop over the output units and emit the appropriate contents for
+         // each
+         for (int i = 0; i < units.length(); i++)
+         {
+            showChunkOutputUnit(units.get(i), mode, output.isReplay(), 
+                  ensureVisible);
+         }
+
+         // if complete, wrap everything up; if not (could happen for partial
+         // replay) just sync up the height
+         if (complete)
+            onOutputFinished(ensureVisible, scope);
+         else
+            syncHeight(true, ensureVisible);
+      }
+      else if (output.getType() == RmdChunkOutput.TYPE_SINGLE_UNIT)
+      {
+         showChunkOutputUnit(output.getUnit(), mode, output.isReplay(), 
+               ensureVisible);
+      }
+   }
+
+   // renders deferred output (if any) and stops retaining replayed output,
+   // since the widget is about to show output that can't be replayed
+   private void pinOutput()
+   {
+      materialize();
+      replayOutputs_ = null;
+   }
+
+   private boolean hasReplayedUnitOfType(int type)
+   {
+      if (replayOutputs_ == null)
+         return false;
+      for (RmdChunkOutput output: replayOutputs_)
+      {
+         if (hasUnitOfType(output, type))
+            return true;
+      }
+      return false;
+   }
+
+   private boolean hasUnitOfType(RmdChunkOutput output, int type)
+   {
+      if (output.getType() == RmdChunkOutput.TYPE_SINGLE_UNIT)
+         return output.getUnit().getType() == type;
+
+      if (output.getType() == RmdChunkOutput.TYPE_MULTIPLE_UNIT)
+      {
+         JsArray<RmdChunkOutputUnit> units = output.getUnits();
+         for (int i = 0; i < units.length(); i++)
+         {
+            if (units.get(i).getType() == type)
+               return true;
+         }
+      }
+      return false;
+   }
+
    private void showChunkOutputUnit(RmdChunkOutputUnit unit, int mode,
          boolean replay, boolean ensureVisible)
    {
@@ -864,6 +1042,7 @@ public class ChunkOutputWidget extends Composite
       }
       else
       {
+         materialize();
          clearCollapsedStyles();
          expansionState_.setValue(EXPANDED, true);
          syncHeight(true, ensureVisible);
@@ -1080,8 +1259,16 @@ public class ChunkOutputWidget extends Composite
    private int lastOutputType_ = RmdChunkOutputUnit.TYPE_NONE;
    private boolean hasErrors_ = false;
    private boolean hideSatellitePopup_ = false;
+   private boolean materialized_ = true;
    private String classId_;
    
+   // output replayed from the server, kept so that it can be rendered again
+   // after the widget is released; null once the widget shows live output
+   private ArrayList<RmdChunkOutput> replayOutputs_ = new ArrayList<>();
+
+   // the latest URL of each plot (by file name), as updated after a resize
+   private final LinkedHashMap<String, String> plotUrls_ = new LinkedHashMap<>();
+   
    private Timer collapseTimer_ = null;
    private final String documentId_;
    private final String chunkId_;
@@ -1094,6 +1281,7 @@ public class ChunkOutputWidget extends Composite
    public final static int COLLAPSED  = 1;
 
    private final static int ANIMATION_DUR = 400;
+   private final static int FRAME_MARGIN = 7;
    
    public final static int CHUNK_EMPTY       = 1;
    public final static int CHUNK_READY       = 2;
@@ -54,9 +54,11 @@ public class ChunkDefinition extends JavaScriptObject
    
    public final ChunkDefinition with(int row, String chunkLabel)
    {
-      return ChunkDefinition.create(row, getRowCount(), getVisible(), 
-            getExpansionState(), getOptions(), getDocumentId(),
+      ChunkDefinition def = ChunkDefinition.create(row, getRowCount(),
+            getVisible(), getExpansionState(), getOptions(), getDocumentId(),
             getChunkId(), chunkLabel);
+      def.setHeight(getHeight());
+      return def;
    }
    
    public native final int getRow()  /*-{
@@ -95,6 +97,18 @@ public class ChunkDefinition extends JavaScriptObject
       this.expansion_state = state;
    }-*/;
 
+   // the height (in pixels) of the chunk's output when it was last rendered;
+   // used to reserve space for output that hasn't been rendered yet. not
+   // considered when comparing definitions, since it changes with the width
+   // of the editor.
+   public native final int getHeight() /*-{
+      return this.height || 0;
+   }-*/;
+   
+   public native final void setHeight(int height) /*-{
+      this.height = height;
+   }-*/;
+
    public native final RmdChunkOptions getOptions() /*-{
       return this.options || {};
    }-*/;
@@ -101,6 +101,10 @@ public class ChunkOutputCodeUi extends ChunkOutputUi
 
       applyHeight(height);
       display_.onLineWidgetChanged(lineWidget_.getLineWidget());
+
+      // remember the height so it can be reserved for the output the next
+      // time the document is opened (see deferOutput)
+      getDefinition().setHeight(widget.isVisible() ? height : 0);
       
       // if we need to ensure that this output is visible, wait for the event
       // loop to finish (so Ace gets a chance to adjust the line widgets and
@@ -170,6 +174,51 @@ public class ChunkOutputCodeUi extends ChunkOutputUi
       }
    }
 
+   /**
+    * Called before replayed output is shown. If the output is far from the
+    * viewport and we know how tall it was when last rendered, reserves that
+    * much space for it and defers rendering it until it comes near the
+    * viewport (see syncMaterialized).
+    */
+   public void deferOutput()
+   {
+      int height = getDefinition().getHeight();
+      if (height <= 0 || 
+          !wrapped_ ||
+          !outputWidget_.isMaterialized() ||
+          isNearViewport(MATERIALIZE_DISTANCE))
+      {
+         return;
+      }
+
+      if (outputWidget_.deferOutput(height))
+      {
+         applyHeight(height);
+         display_.onLineWidgetChanged(lineWidget_.getLineWidget());
+      }
+   }
+
+   /**
+    * Renders the output if it has come near the viewport, or releases it if
+    * it is now far from the viewport. 
+    */
+   public void syncMaterialized()
+   {
+      // nothing to do if the editor is hidden or doesn't own the output
+      if (!attached_ || !wrapped_ || display_.getBounds().getHeight() <= 0)
+         return;
+
+      if (!outputWidget_.isMaterialized())
+      {
+         if (isNearViewport(MATERIALIZE_DISTANCE))
+            outputWidget_.materialize();
+      }
+      else if (!isNearViewport(RELEASE_DISTANCE))
+      {
+         outputWidget_.release();
+      }
+   }
+
    public LineWidget getLineWidget()
    {
       return lineWidget_.getLineWidget();
@@ -214,10 +263,36 @@ public class ChunkOutputCodeUi extends ChunkOutputUi
       height_ = heightPx;
    }
 
+   // returns whether the output is within the given number of viewport
+   // heights of the viewport (hidden editors have no viewport, so nothing is
+   // near it)
+   private boolean isNearViewport(int distance)
+   {
+      Rectangle viewport = display_.getBounds();
+      if (viewport.getHeight() <= 0)
+         return false;
+
+      // the output is drawn beneath the row it's attached to
+      Rectangle row = display_.getPositionBounds(
+            Position.create(getCurrentRow(), 0));
+      int top = row.getBottom();
+      int bottom = top + height_;
+      int margin = viewport.getHeight() * distance;
+
+      return bottom >= viewport.getTop() - margin &&
+             top <= viewport.getBottom() + margin;
+   }
+
    private HandlerRegistration renderHandlerReg_ = null;
    private boolean wrapped_;
 
    private final PinnedLineWidget lineWidget_;
    private final DocDisplay display_;
    private final SimplePanel wrapper_;
+
+   // distances from the viewport, in viewport heights, at which output is
+   // rendered and released; the gap keeps output near the edge from
+   // being rendered and released repeatedly while scrolling
+   private final static int MATERIALIZE_DISTANCE = 1;
+   private final static int RELEASE_DISTANCE = 4;
 }
@@ -197,6 +197,10 @@ public class ChunkOutputPanmirrorUi extends ChunkOutputUi
 
       // Clear any applied height (chunk height is natural in visual mode)
       outputWidget_.getElement().getStyle().clearHeight();
+
+      // Render any output that was deferred or released in code view, since
+      // there's no viewport tracking in visual mode
+      outputWidget_.materialize();
    }
    
    private VisualModeChunk chunk_;
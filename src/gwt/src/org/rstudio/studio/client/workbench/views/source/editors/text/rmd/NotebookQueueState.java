@@ -75,8 +75,8 @@ public class NotebookQueueState implements NotebookRangeExecutedEvent.Handler,
       scopeHelper_ = new TextEditingTargetScopeHelper(display);
       rmdHelper_ = new TextEditingTargetRMarkdownHelper();
       
-      events_.addHandler(NotebookRangeExecutedEvent.TYPE, this);
-      events_.addHandler(ChunkExecStateChangedEvent.TYPE, this);
+      events_.addKeyedHandler(NotebookRangeExecutedEvent.TYPE, sentinel_.getId(), this);
+      events_.addKeyedHandler(ChunkExecStateChangedEvent.TYPE, sentinel_.getId(), this);
       
       syncWidth();
    }
@@ -238,6 +238,18 @@ public class TextEditingTargetNotebook
          }
       }));
 
+      // render chunk outputs as they come near the viewport, and release them
+      // when they're far from it (debounced since scrolling fires this
+      // continuously)
+      releaseOnDismiss.add(docDisplay_.addScrollYHandler((event) ->
+      {
+         syncMaterializedOutputs_.schedule(100);
+      }));
+      releaseOnDismiss.add(docDisplay_.addFoldChangeHandler((event) ->
+      {
+         syncMaterializedOutputs_.schedule(100);
+      }));
+
       // rendering of chunk output line widgets (we wait until after the first
       // render to ensure that ace places the line widgets correctly)
       renderReg_ = docDisplay_.addRenderFinishedHandler(this);
@@ -303,18 +315,21 @@ public class TextEditingTargetNotebook
       queue_ = new NotebookQueueState(docDisplay_, editingTarget_,
             docUpdateSentinel_, server, events, this);
 
+      // events addressed to a specific document are only delivered to the
+      // notebook for that document
+      String docId = docUpdateSentinel_.getId();
       releaseOnDismiss_.add(
-            events_.addHandler(RmdChunkOutputEvent.TYPE, this));
+            events_.addKeyedHandler(RmdChunkOutputEvent.TYPE, docId, this));
       releaseOnDismiss_.add(
-            events_.addHandler(RmdChunkOutputFinishedEvent.TYPE, this));
+            events_.addKeyedHandler(RmdChunkOutputFinishedEvent.TYPE, docId, this));
       releaseOnDismiss_.add(
-            events_.addHandler(ChunkPlotRefreshedEvent.TYPE, this));
+            events_.addKeyedHandler(ChunkPlotRefreshedEvent.TYPE, docId, this));
       releaseOnDismiss_.add(
-            events_.addHandler(ChunkPlotRefreshFinishedEvent.TYPE, this));
+            events_.addKeyedHandler(ChunkPlotRefreshFinishedEvent.TYPE, docId, this));
       releaseOnDismiss_.add(
-            events_.addHandler(SendToChunkConsoleEvent.TYPE, this));
+            events_.addKeyedHandler(SendToChunkConsoleEvent.TYPE, docId, this));
       releaseOnDismiss_.add(
-            events_.addHandler(ChunkChangeEvent.TYPE, this));
+            events_.addKeyedHandler(ChunkChangeEvent.TYPE, docId, this));
       releaseOnDismiss_.add(
             events_.addHandler(ChunkContextChangeEvent.TYPE, this));
       releaseOnDismiss_.add(
@@ -381,6 +396,10 @@ public class TextEditingTargetNotebook
       // remember that we haven't maximized the pane in this session
       maximizedPane_ = false;
 
+      // outputs aren't rendered while the editor is hidden, so catch up with
+      // any that are now in view
+      syncMaterializedOutputs_.schedule(100);
+
       // listen for clicks on notebook progress UI
       registerProgressHandlers();
 
@@ -666,10 +685,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onSendToChunkConsole(final SendToChunkConsoleEvent event)
    {
-      // not for our doc
-      if (event.getDocId() != docUpdateSentinel_.getId())
-         return;
-
       // execute setup chunk first if necessary
       if (needsSetupChunkExecuted() && !isSetupChunkScope(event.getScope()))
       {
@@ -691,10 +706,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onRmdChunkOutput(RmdChunkOutputEvent event)
    {
-      // ignore if not targeted at this document
-      if (event.getOutput().getDocId() != docUpdateSentinel_.getId())
-         return;
-
       // if nothing at all was returned, this means the chunk doesn't exist on
       // the server, so clean it up here.
       if (event.getOutput().isEmpty() && !queue_.isExecuting())
@@ -752,20 +763,25 @@ public class TextEditingTargetNotebook
          if (ensureVisible && mode == NotebookQueueUnit.EXEC_MODE_BATCH)
             ensureVisible = false;
 
-         outputs().get(chunkId).getOutputWidget()
-                              .showChunkOutput(event.getOutput(), mode,
-                                  NotebookQueueUnit.EXEC_SCOPE_PARTIAL,
-                                  !queue_.isChunkExecuting(chunkId),
-                                  ensureVisible);
+         // replayed output that's far out of view is rendered when it's
+         // scrolled into view
+         ChunkOutputUi output = outputs().get(chunkId);
+         if (event.getOutput().isReplay() &&
+             output instanceof ChunkOutputCodeUi)
+         {
+            ((ChunkOutputCodeUi)output).deferOutput();
+         }
+
+         output.getOutputWidget().showChunkOutput(event.getOutput(), mode,
+               NotebookQueueUnit.EXEC_SCOPE_PARTIAL,
+               !queue_.isChunkExecuting(chunkId),
+               ensureVisible);
       }
    }
 
    @Override
    public void onRmdChunkOutputFinished(RmdChunkOutputFinishedEvent event)
    {
-      // ignore if not targeted at this document
-      if (event.getData().getDocId() != docUpdateSentinel_.getId())
-         return;
       boolean ensureVisible = true;
 
       RmdChunkOutputFinishedEvent.Data data = event.getData();
@@ -834,10 +850,6 @@ public class TextEditingTargetNotebook
 
       currentPlotsReplayId_ = null;
 
-      // ignore if targeted at another document
-      if (event.getData().getDocId() != docUpdateSentinel_.getId())
-         return;
-
       lastPlotWidth_ = event.getData().getWidth();
 
       // clean up flag
@@ -857,10 +869,6 @@ public class TextEditingTargetNotebook
       if (currentPlotsReplayId_ != event.getData().getReplayId())
          return;
 
-      // ignore if targeted at another document
-      if (event.getData().getDocId() != docUpdateSentinel_.getId())
-         return;
-
       // find chunk containing plot and push the new plot in
       String chunkId = event.getData().getChunkId();
       if (chunkHasOutput(chunkId))
@@ -871,9 +879,6 @@ public class TextEditingTargetNotebook
    @Override
    public void onChunkChange(ChunkChangeEvent event)
    {
-      if (event.getDocId() != docUpdateSentinel_.getId())
-         return;
-
       switch(event.getChangeType())
       {
          case ChunkChangeEvent.CHANGE_CREATE:
@@ -932,6 +937,9 @@ public class TextEditingTargetNotebook
       // lightly debounce local resizes since they're somewhat expensive
       resizePlotsLocal_.schedule(50);
 
+      // the viewport may now include outputs that weren't rendered
+      syncMaterializedOutputs_.schedule(100);
+
       // heavily debounce remote resizes since they're very expensive
       // (this actually spins up a separate R process to re-render all the
       // plots at the new resolution)
@@ -1918,6 +1926,22 @@ public class TextEditingTargetNotebook
       }
    };
 
+   private Timer syncMaterializedOutputs_ = new Timer()
+   {
+      @Override
+      public void run()
+      {
+         // outputs in visual mode are always rendered
+         if (editingTarget_.isVisualEditorActive())
+            return;
+
+         for (ChunkOutputUi output: codeOutputs_.values())
+         {
+            ((ChunkOutputCodeUi)output).syncMaterialized();
+         }
+      }
+   };
+
    private Timer resizePlotsRemote_ = new Timer()
    {
       @Override
@@ -39,6 +39,7 @@ import org.rstudio.studio.client.workbench.views.source.ViewsSourceConstants;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 
 public class CheckSpelling
 {
@@ -206,9 +207,10 @@ public class CheckSpelling
                   if (checkForCancel())
                      return;
 
+                  HashSet<String> incorrect = new HashSet<>(response.getIncorrect());
                   for (int i = 0; i < words.size(); i++)
                   {
-                     if (response.getIncorrect().contains(words.get(i)))
+                     if (incorrect.contains(words.get(i)))
                      {
                         handleMisspelledWord(checkWords.get(i));
                         return;
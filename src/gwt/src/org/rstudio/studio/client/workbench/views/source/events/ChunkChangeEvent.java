@@ -16,6 +16,7 @@ package org.rstudio.studio.client.workbench.views.source.events;
 
 import org.rstudio.core.client.js.JavaScriptSerializable;
 import org.rstudio.studio.client.application.events.CrossWindowEvent;
+import org.rstudio.studio.client.application.events.KeyedEvent;
 
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
@@ -23,6 +24,7 @@ import com.google.gwt.event.shared.GwtEvent;
 @JavaScriptSerializable
 public class ChunkChangeEvent 
              extends CrossWindowEvent<ChunkChangeEvent.Handler>
+             implements KeyedEvent
 {
    public interface Handler extends EventHandler
    {
@@ -81,6 +83,12 @@ public class ChunkChangeEvent
       handler.onChunkChange(this);
    }
 
+   @Override
+   public String getRoutingKey()
+   {
+      return getDocId();
+   }
+
    @Override
    public GwtEvent.Type<ChunkChangeEvent.Handler> getAssociatedType()
    {
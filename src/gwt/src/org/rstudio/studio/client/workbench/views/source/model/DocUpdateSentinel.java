@@ -23,6 +23,7 @@ import org.rstudio.core.client.DebouncedCommand;
 import org.rstudio.core.client.Debug;
 import org.rstudio.core.client.StringUtil;
 import org.rstudio.core.client.js.JsObject;
+import org.rstudio.core.client.patch.DeltaPatch;
 import org.rstudio.core.client.patch.SubstringDiff;
 import org.rstudio.core.client.widget.Operation;
 import org.rstudio.core.client.widget.ProgressIndicator;
@@ -41,7 +42,9 @@ import org.rstudio.studio.client.workbench.prefs.model.UserPrefs;
 import org.rstudio.studio.client.workbench.views.source.ViewsSourceConstants;
 import org.rstudio.studio.client.workbench.views.source.editors.text.DocDisplay;
 import org.rstudio.studio.client.workbench.views.source.editors.text.Fold;
+import org.rstudio.studio.client.workbench.views.source.editors.text.ace.AceDocumentChangeEventNative;
 import org.rstudio.studio.client.workbench.views.source.editors.text.ace.VimMarks;
+import org.rstudio.studio.client.workbench.views.source.editors.text.events.DocumentChangedEvent;
 import org.rstudio.studio.client.workbench.views.source.editors.text.events.FoldChangeEvent;
 import org.rstudio.studio.client.workbench.views.source.editors.text.events.SourceOnSaveChangedEvent;
 import org.rstudio.studio.client.workbench.views.source.editors.text.rmd.ChunkDefinition;
@@ -63,7 +66,8 @@ import com.google.gwt.user.client.Window.ClosingHandler;
 
 public class DocUpdateSentinel
       implements ValueChangeHandler<Void>,
-      FoldChangeEvent.Handler
+      FoldChangeEvent.Handler,
+      DocumentChangedEvent.Handler
 {
    private class ReopenFileCallback extends ServerRequestCallback<SourceDocument>
    {
@@ -85,6 +89,9 @@ public class DocUpdateSentinel
          docDisplay_.setCode(sourceDoc_.getContents(), true);
          dirtyState_.markClean();
 
+         // the edits recorded so far don't apply to the reopened document
+         patch_ = null;
+
          if (progress_ != null)
             progress_.onCompleted();
 
@@ -167,6 +174,7 @@ public class DocUpdateSentinel
 
       docDisplay_.addValueChangeHandler(this);
       docDisplay_.addFoldChangeHandler(this);
+      docDisplay_.addDocumentChangedHandler(this);
 
       // Web only
       if (!Desktop.isDesktop())
@@ -491,11 +499,20 @@ public class DocUpdateSentinel
       JsArray<ChunkDefinition> oldChunkDefs =
             sourceDoc_.getNotebookDoc().getChunkDefs();
 
-      SubstringDiff diff = new SubstringDiff(oldContents, newContents);
+      // If we've recorded every edit made since the contents were last
+      // acknowledged by the server, send just those edits; otherwise, fall
+      // back to diffing the old and new contents.
+      final DeltaPatch patch = patchSynced_ ? patch_ : null;
+      SubstringDiff diff = patch == null
+            ? new SubstringDiff(oldContents, newContents)
+            : null;
+      boolean unchanged = patch == null
+            ? diff.isValid() && diff.isEmpty()
+            : patch.isEmpty();
 
       // Don't auto-save when there are no changes. In addition to being
       // wasteful, it causes the server to think the document is dirty.
-      if (path == null && fileType == null && diff.isValid() && diff.isEmpty()
+      if (path == null && fileType == null && unchanged
           && foldSpec == oldFoldSpec
           && (newChunkDefs == null ||
               ChunkDefinition.equalTo(newChunkDefs, oldChunkDefs)))
@@ -518,6 +535,13 @@ public class DocUpdateSentinel
       }
 
 
+      // Start recording a new set of edits, relative to the contents we're
+      // about to send. These can only be used once the server has
+      // acknowledged the save.
+      final DeltaPatch nextPatch = new DeltaPatch();
+      patch_ = nextPatch;
+      patchSynced_ = false;
+
       try
       {
          if (path != null)
@@ -531,114 +555,141 @@ public class DocUpdateSentinel
          Debug.logException(e);
       }
 
-      server_.saveDocumentDiff(
-            sourceDoc_.getId(),
-            path,
-            fileType,
-            encoding,
-            foldSpec,
-            newChunkDefs,
-            diff.getReplacement(),
-            diff.getOffset(),
-            diff.getLength(),
-            diff.isValid(),
-            hash,
-            retryWrite,
-            new ServerRequestCallback<String>()
+      ServerRequestCallback<String> callback = new ServerRequestCallback<String>()
+      {
+         @Override
+         public void onError(ServerError error)
+         {
+            // Always log save errors.
+            Debug.logError(error);
+
+            // Report errors to indicator.
+            if (progress != null)
             {
-               @Override
-               public void onError(ServerError error)
-               {
-                  // Always log save errors.
-                  Debug.logError(error);
+               String errorMessage =
+                     constants_.errorSavingPathPlusMessage(path, error.getUserMessage());
 
-                  // Report errors to indicator.
-                  if (progress != null)
-                  {
-                     String errorMessage =
-                           constants_.errorSavingPathPlusMessage(path, error.getUserMessage());
+               progress.onError(errorMessage);
+            }
 
-                     progress.onError(errorMessage);
-                  }
+            // Attempt to report save error.
+            try
+            {
+               if (path != null)
+               {
+                  eventBus_.fireEvent(new SaveFailedEvent(path, getId()));
+               }
+            }
+            catch (Exception e)
+            {
+               Debug.logException(e);
+            }
 
-                  // Attempt to report save error.
-                  try
-                  {
-                     if (path != null)
-                     {
-                        eventBus_.fireEvent(new SaveFailedEvent(path, getId()));
-                     }
-                  }
-                  catch (Exception e)
-                  {
-                     Debug.logException(e);
-                  }
+            changesPending_ = false;
+         }
 
-                  changesPending_ = false;
+         @Override
+         public void onResponseReceived(String newHash)
+         {
+            if (newHash != null)
+            {
+               // If the document hasn't changed further since the version
+               // we saved, then we know we're all synced up.
+               try
+               {
+                  if (!thisChangeTracker.hasChanged())
+                     changeTracker_.reset();
+
+                  // update the foldSpec and newChunkDefs so we
+                  // can use them for change detection the next
+                  // time around
+                  sourceDoc_.setFoldSpec(foldSpec);
+                  sourceDoc_.getNotebookDoc().setChunkDefs(newChunkDefs);
+
+                  // edits recorded since this save began are relative to
+                  // the contents the server now has (unless another save
+                  // has begun in the meantime)
+                  if (patch_ == nextPatch)
+                     patchSynced_ = true;
+
+                  onSuccessfulUpdate(newContents,
+                                     newHash,
+                                     path,
+                                     fileType,
+                                     encoding);
                }
-
-               @Override
-               public void onResponseReceived(String newHash)
+               catch(Exception ex)
                {
-                  if (newHash != null)
-                  {
-                     // If the document hasn't changed further since the version
-                     // we saved, then we know we're all synced up.
-                     try
-                     {
-                        if (!thisChangeTracker.hasChanged())
-                           changeTracker_.reset();
-
-                        // update the foldSpec and newChunkDefs so we
-                        // can use them for change detection the next
-                        // time around
-                        sourceDoc_.setFoldSpec(foldSpec);
-                        sourceDoc_.getNotebookDoc().setChunkDefs(newChunkDefs);
-
-                        onSuccessfulUpdate(newContents,
-                                           newHash,
-                                           path,
-                                           fileType,
-                                           encoding);
-                     }
-                     catch(Exception ex)
-                     {
-                        // log exception, but continue (we want to guarantee the
-                        // progress indicator is updated)
-                        Debug.log("Exception in post-save update " + path +
-                                  " to " + newHash + ": " + ex.getMessage());
-                     }
-                     if (progress != null)
-                        progress.onCompleted();
-
-                     // let anyone interested know we just saved
-                     SaveFileEvent saveEvent = new SaveFileEvent(path, fileType, encoding);
-                     docDisplay_.fireEvent(saveEvent);
-                     eventBus_.fireEvent(saveEvent);
-                  }
-                  else if (hash != sourceDoc_.getHash())
-                  {
-                     // We just hit a race condition where two updates
-                     // happened at once. Try again
-                     doSave(path, fileType, encoding, retryWrite, progress);
-                  }
-                  else
-                  {
-                     /*Debug.log("Diff-based save failed--falling back to " +
-                               "snapshot save");*/
-                     server_.saveDocument(
-                           sourceDoc_.getId(),
-                           path,
-                           fileType,
-                           encoding,
-                           foldSpec,
-                           newChunkDefs,
-                           newContents,
-                           retryWrite,
-                           this);
-                  }
+                  // log exception, but continue (we want to guarantee the
+                  // progress indicator is updated)
+                  Debug.log("Exception in post-save update " + path +
+                            " to " + newHash + ": " + ex.getMessage());
                }
-            });
+               if (progress != null)
+                  progress.onCompleted();
+
+               // let anyone interested know we just saved
+               SaveFileEvent saveEvent = new SaveFileEvent(path, fileType, encoding);
+               docDisplay_.fireEvent(saveEvent);
+               eventBus_.fireEvent(saveEvent);
+            }
+            else if (hash != sourceDoc_.getHash())
+            {
+               // We just hit a race condition where two updates
+               // happened at once. Try again
+               doSave(path, fileType, encoding, retryWrite, progress);
+            }
+            else
+            {
+               /*Debug.log("Diff-based save failed--falling back to " +
+                         "snapshot save");*/
+               server_.saveDocument(
+                     sourceDoc_.getId(),
+                     path,
+                     fileType,
+                     encoding,
+                     foldSpec,
+                     newChunkDefs,
+                     newContents,
+                     retryWrite,
+                     this);
+            }
+         }
+      };
+
+      if (patch != null)
+      {
+         server_.saveDocumentDiff(
+               sourceDoc_.getId(),
+               path,
+               fileType,
+               encoding,
+               foldSpec,
+               newChunkDefs,
+               patch,
+               newContents.length(),
+               StringUtil.crc32Utf16(newContents),
+               hash,
+               retryWrite,
+               callback);
+      }
+      else
+      {
+         server_.saveDocumentDiff(
+               sourceDoc_.getId(),
+               path,
+               fileType,
+               encoding,
+               foldSpec,
+               newChunkDefs,
+               diff.getReplacement(),
+               diff.getOffset(),
+               diff.getLength(),
+               diff.isValid(),
+               hash,
+               retryWrite,
+               callback);
+      }
 
       return true;
    }
@@ -858,6 +909,31 @@ public class DocUpdateSentinel
       nudgeAutosave();
    }
 
+   @Override
+   public void onDocumentChanged(DocumentChangedEvent event)
+   {
+      if (patch_ == null)
+         return;
+
+      AceDocumentChangeEventNative delta = event.getEvent();
+      if (delta.getAction() == "insert")
+      {
+         patch_.insert(delta.start.getRow(), delta.start.getColumn(),
+                       delta.end.getRow(), delta.end.getColumn(),
+                       delta.lines.join("\n"));
+      }
+      else
+      {
+         patch_.remove(delta.start.getRow(), delta.start.getColumn(),
+                       delta.end.getRow(), delta.end.getColumn());
+      }
+
+      // past a point, it's cheaper to diff the whole document; stop
+      // recording until the next save
+      if (patch_.size() > MAX_PATCH_HUNKS)
+         patch_ = null;
+   }
+
    @Override
    public void onFoldChange(FoldChangeEvent event)
    {
@@ -990,10 +1066,16 @@ public class DocUpdateSentinel
    private final HashMap<String, ValueChangeHandlerManager<String>>
                  propertyChangeHandlers_;
    private final ChunkDefinition.Provider chunkDefProvider_;
+
+   // edits made since the save of the contents they apply to began, and
+   // whether the server has acknowledged that save
+   private DeltaPatch patch_ = null;
+   private boolean patchSynced_ = false;
    private boolean loggedAutosaveError_ = false;
 
    public final static String PROPERTY_TRUE = "true";
    public final static String PROPERTY_FALSE = "false";
+   private static final int MAX_PATCH_HUNKS = 1000;
    private static final ViewsSourceConstants constants_ = GWT.create(ViewsSourceConstants.class);
 
 }
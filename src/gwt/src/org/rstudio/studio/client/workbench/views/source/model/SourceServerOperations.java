@@ -19,6 +19,7 @@ import com.google.gwt.core.client.JsArray;
 import com.google.gwt.core.client.JsArrayString;
 
 import org.rstudio.core.client.js.JsObject;
+import org.rstudio.core.client.patch.DeltaPatch;
 import org.rstudio.studio.client.common.codetools.CodeToolsServerOperations;
 import org.rstudio.studio.client.common.crypto.CryptoServerOperations;
 import org.rstudio.studio.client.events.GetEditorContextEvent;
@@ -134,6 +135,27 @@ public interface SourceServerOperations extends FilesServerOperations,
                          boolean retryWrite,
                          ServerRequestCallback<String> requestCallback);
 
+   /**
+    * Same as saveDocumentDiff, but rather than a single replacement span,
+    * sends the ordered list of edits recorded from the editor since the
+    * document last had the given hash. The length and checksum (see
+    * StringUtil.crc32Utf16) are those of the document the patch is expected
+    * to produce; if the patched document doesn't match them, no hash is
+    * returned.
+    */
+   void saveDocumentDiff(String id,
+                         String path,
+                         String fileType,
+                         String encoding,
+                         String foldSpec,
+                         JsArray<ChunkDefinition> chunkOutput,
+                         DeltaPatch patch,
+                         int length,
+                         String checksum,
+                         String hash,
+                         boolean retryWrite,
+                         ServerRequestCallback<String> requestCallback);
+
    void checkForExternalEdit(
          String id,
          ServerRequestCallback<CheckForExternalEditResult> requestCallback);
@@ -265,6 +265,8 @@ public class TerminalSession extends XTermWidget
    public void disconnect(boolean permanent)
    {
       inputQueue_.setLength(0);
+      inputBatchTimer_.cancel();
+      inputRequestPending_ = false;
       inputSequence_ = ShellInput.IGNORE_SEQUENCE;
       socket_.disconnect(permanent);
       registrations_.removeHandler();
@@ -389,11 +391,35 @@ public class TerminalSession extends XTermWidget
    }
 
    /**
-    * Send user input to the server, breaking down into chunks. We do this
-    * for when a large amount of text is pasted into the terminal; we don't
-    * want to overwhelm the RPC.
+    * Send user input to the server. In RPC mode, input isn't sent while a
+    * request is in flight, and input typed within INPUT_BATCH_MS of the first
+    * keystroke is sent with it, so fast typing (or a held key) doesn't turn
+    * into a request per keystroke.
     */
    private void sendUserInput()
+   {
+      if (inputQueue_.length() == 0)
+      {
+         return;
+      }
+
+      if (consoleProcess_.getChannelMode() == ConsoleProcessInfo.CHANNEL_RPC)
+      {
+         // the pending request's callback sends whatever has queued up
+         if (!inputRequestPending_ && !inputBatchTimer_.isRunning())
+            inputBatchTimer_.schedule(INPUT_BATCH_MS);
+         return;
+      }
+
+      writeUserInput();
+   }
+
+   /**
+    * Write queued user input to the server, breaking down into chunks. We do
+    * this for when a large amount of text is pasted into the terminal; we
+    * don't want to overwhelm the RPC.
+    */
+   private void writeUserInput()
    {
       final int MAXCHUNK = 128;
       String userInput;
@@ -443,18 +469,23 @@ public class TerminalSession extends XTermWidget
          }
       }
 
+      if (consoleProcess_.getChannelMode() == ConsoleProcessInfo.CHANNEL_RPC)
+         inputRequestPending_ = true;
+
       socket_.dispatchInput(inputSequence_, userInput, doLocalEcho(),
             new VoidServerRequestCallback() {
 
                @Override
                public void onResponseReceived(Void response)
                {
-                  sendUserInput();
+                  inputRequestPending_ = false;
+                  writeUserInput();
                }
 
                @Override
                public void onError(ServerError error)
                {
+                  inputRequestPending_ = false;
                   Debug.logError(error);
                   writeError(error.getUserMessage());
                }
@@ -572,6 +603,23 @@ public class TerminalSession extends XTermWidget
       socket_.unregisterHandlers();
    }
 
+   @Override
+   public void writeln(String str)
+   {
+      // keep anything written directly in order with the process's output
+      if (socket_ != null)
+         socket_.flushOutput();
+      super.writeln(str);
+   }
+
+   @Override
+   public void clear()
+   {
+      if (socket_ != null)
+         socket_.flushOutput();
+      super.clear();
+   }
+
    protected void writeError(String msg)
    {
       writeln(constants_.writeErrorMessage(AnsiCode.ForeColor.RED, msg, AnsiCode.DEFAULTCOLORS));
@@ -956,6 +1004,15 @@ public class TerminalSession extends XTermWidget
    private boolean restartSequenceWritten_;
    private final StringBuilder inputQueue_ = new StringBuilder();
    private int inputSequence_ = ShellInput.IGNORE_SEQUENCE;
+   private boolean inputRequestPending_;
+   private final Timer inputBatchTimer_ = new Timer()
+   {
+      @Override
+      public void run()
+      {
+         writeUserInput();
+      }
+   };
    private boolean newTerminal_ = true;
    private boolean showAltAfterReload_;
    private final boolean createdByApi_;
@@ -966,5 +1023,6 @@ public class TerminalSession extends XTermWidget
    private UserPrefs uiPrefs_;
    private SessionInfo sessionInfo_;
    private GlobalDisplay globalDisplay_;
+   private static final int INPUT_BATCH_MS = 15;
    private static final TerminalConstants constants_ = com.google.gwt.core.client.GWT.create(TerminalConstants.class);
 }
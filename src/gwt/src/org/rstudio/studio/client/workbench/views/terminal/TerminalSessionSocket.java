@@ -32,6 +32,7 @@ import org.rstudio.studio.client.server.VoidServerRequestCallback;
 import org.rstudio.studio.client.workbench.views.terminal.events.TerminalDataInputEvent;
 import org.rstudio.studio.client.workbench.views.terminal.xterm.XTermWidget;
 
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.sksamuel.gwt.websockets.CloseEvent;
@@ -296,6 +297,9 @@ public class TerminalSessionSocket
                              boolean localEcho,
                              VoidServerRequestCallback requestCallback)
    {
+      // anything echoed must follow the output received before it
+      flushOutput();
+
       if (localEcho)
          localEcho_.echo(input);
       else
@@ -325,11 +329,54 @@ public class TerminalSessionSocket
    }
 
    /**
-    * Send output to the terminal emulator.
+    * Send output to the terminal emulator. Output is collected and written
+    * to the terminal once per animation frame, so a process producing lots
+    * of output in small chunks doesn't have the terminal redraw for each.
     * @param output text to send to the terminal
     * @param detectLocalEcho local-echo detection
     */
    public void dispatchOutput(String output, boolean detectLocalEcho)
+   {
+      if (pendingOutput_.length() > 0 && detectLocalEcho != pendingDetectLocalEcho_)
+         flushOutput();
+
+      pendingOutput_.append(output);
+      pendingDetectLocalEcho_ = detectLocalEcho;
+
+      // don't let output pile up indefinitely (e.g. while the browser isn't
+      // delivering animation frames to a hidden tab)
+      if (pendingOutput_.length() >= MAX_PENDING_OUTPUT)
+      {
+         flushOutput();
+         return;
+      }
+
+      if (!outputFrameRequested_)
+      {
+         outputFrameRequested_ = true;
+         AnimationScheduler.get().requestAnimationFrame((double timestamp) ->
+         {
+            outputFrameRequested_ = false;
+            flushOutput();
+         });
+      }
+   }
+
+   /**
+    * Write any output collected by dispatchOutput to the terminal emulator
+    * now; used before writing anything else to the terminal.
+    */
+   public void flushOutput()
+   {
+      if (pendingOutput_.length() == 0)
+         return;
+
+      String output = pendingOutput_.toString();
+      pendingOutput_.setLength(0);
+      writeOutput(output, pendingDetectLocalEcho_);
+   }
+
+   private void writeOutput(String output, boolean detectLocalEcho)
    {
       if (detectLocalEcho && PASSWORD_PATTERN.test(output))
       {
@@ -382,6 +429,7 @@ public class TerminalSessionSocket
    public void disconnect(boolean permanent)
    {
       diagnostic_.log(permanent ? constants_.permanentlyDisconnectedLabel() : constants_.disconnectedLabel());
+      flushOutput();
       if (socket_ != null)
          socket_.close();
       socket_ = null;
@@ -428,6 +476,12 @@ public class TerminalSessionSocket
    private final TerminalLocalEcho localEcho_;
    private final TerminalDiagnostics diagnostic_ = new TerminalDiagnostics();
 
+   // output waiting to be written to the terminal
+   private final StringBuilder pendingOutput_ = new StringBuilder();
+   private boolean pendingDetectLocalEcho_;
+   private boolean outputFrameRequested_;
+   private static final int MAX_PENDING_OUTPUT = 256 * 1024;
+
    // RegEx to match common password prompts
    private static final String PASSWORD_REGEX = "(?:password:)|(?:passphrase:)";
 
@@ -326,4 +326,15 @@ public class StringUtilTests extends GWTTestCase
       assertEquals(StringUtil.charAt(str, 2), 'c');
       assertEquals(StringUtil.charAt(str, 3), 'd');
    }
+
+   public void testCrc32Utf16()
+   {
+      // CRC-32 of the UTF-16LE encoding, as the session computes it
+      assertEquals("551272df", StringUtil.crc32Utf16("hello"));
+      assertEquals("583c356f", StringUtil.crc32Utf16("h\u00e9\u20ac\ud834\udd1ex"));
+
+      // characters differing only in their high byte must not collide
+      assertFalse(StringUtil.crc32Utf16("\u0061").equals(
+            StringUtil.crc32Utf16("\u0161")));
+   }
 }
@@ -0,0 +1,184 @@
+/*
+ * RpcRequestBatcherTests.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.jsonrpc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONNumber;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONString;
+import com.google.gwt.json.client.JSONValue;
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class RpcRequestBatcherTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   // a local stand-in for the session's rpc endpoint; answers requests
+   // (batched or not) without going over the network
+   private static class LocalEndpoint implements RpcRequestBatcher.Transport
+   {
+      @Override
+      public void send(RpcRequest request, RpcRequestCallback callback)
+      {
+         sent.add(request);
+
+         JSONObject response = new JSONObject();
+         if (RpcRequest.BATCH_METHOD.equals(request.getMethod()))
+         {
+            JSONArray requests = request.getParams().get(0).isArray();
+            JSONArray responses = new JSONArray();
+            for (int i = 0; i < requests.size(); i++)
+            {
+               JSONObject batched = requests.get(i).isObject();
+               String method = batched.get("method").isString().stringValue();
+               responses.set(i, execute(method));
+            }
+            response.put("result", responses);
+         }
+         else
+         {
+            response = execute(request.getMethod());
+         }
+
+         callback.onResponseReceived(
+               request, RpcResponse.parseStrict(response.toString()));
+      }
+
+      private JSONObject execute(String method)
+      {
+         JSONObject response = new JSONObject();
+         if (results.containsKey(method))
+         {
+            response.put("result", results.get(method));
+         }
+         else
+         {
+            JSONObject error = new JSONObject();
+            error.put("code", new JSONNumber(RpcError.EXECUTION_ERROR));
+            error.put("message", new JSONString("failed: " + method));
+            response.put("error", error);
+         }
+         return response;
+      }
+
+      final HashMap<String, JSONValue> results = new HashMap<>();
+      final ArrayList<RpcRequest> sent = new ArrayList<>();
+   }
+
+   private static class RecordingCallback implements RpcRequestCallback
+   {
+      @Override
+      public void onError(RpcRequest request, RpcError error)
+      {
+         this.error = error;
+      }
+
+      @Override
+      public void onResponseReceived(RpcRequest request, RpcResponse response)
+      {
+         this.response = response;
+      }
+
+      RpcError error;
+      RpcResponse response;
+   }
+
+   private static RpcRequest request(String method)
+   {
+      return new RpcRequest("rpc/" + method, method, new JSONArray(), null,
+                            false, null, null, "client", "1.0", true);
+   }
+
+   public void testRequestsInSameTickShareEnvelope()
+   {
+      LocalEndpoint endpoint = new LocalEndpoint();
+      endpoint.results.put("list_files", new JSONNumber(1));
+      endpoint.results.put("get_prefs", new JSONNumber(2));
+      RpcRequestBatcher batcher = new RpcRequestBatcher(endpoint, null);
+
+      RecordingCallback first = new RecordingCallback();
+      RecordingCallback second = new RecordingCallback();
+      batcher.send(request("list_files"), first);
+      batcher.send(request("get_prefs"), second);
+      batcher.flush();
+
+      assertEquals(1, endpoint.sent.size());
+      assertEquals("rpc/batch", endpoint.sent.get(0).getUrl());
+      assertEquals(1, first.response.<Double>getResult().intValue());
+      assertEquals(2, second.response.<Double>getResult().intValue());
+   }
+
+   public void testErrorsAreIsolated()
+   {
+      LocalEndpoint endpoint = new LocalEndpoint();
+      endpoint.results.put("list_files", new JSONNumber(1));
+      RpcRequestBatcher batcher = new RpcRequestBatcher(endpoint, null);
+
+      RecordingCallback good = new RecordingCallback();
+      RecordingCallback bad = new RecordingCallback();
+      batcher.send(request("unknown_method"), bad);
+      batcher.send(request("list_files"), good);
+      batcher.flush();
+
+      assertNull(good.response.getError());
+      assertNotNull(bad.response.getError());
+      assertEquals(RpcError.EXECUTION_ERROR, bad.response.getError().getCode());
+   }
+
+   public void testSingleRequestIsNotWrapped()
+   {
+      LocalEndpoint endpoint = new LocalEndpoint();
+      endpoint.results.put("list_files", new JSONNumber(1));
+      RpcRequestBatcher batcher = new RpcRequestBatcher(endpoint, null);
+
+      RecordingCallback callback = new RecordingCallback();
+      batcher.send(request("list_files"), callback);
+      batcher.flush();
+
+      assertEquals(1, endpoint.sent.size());
+      assertEquals("list_files", endpoint.sent.get(0).getMethod());
+      assertNotNull(callback.response);
+   }
+
+   public void testCancelledRequestIsDropped()
+   {
+      LocalEndpoint endpoint = new LocalEndpoint();
+      endpoint.results.put("list_files", new JSONNumber(1));
+      endpoint.results.put("get_prefs", new JSONNumber(2));
+      RpcRequestBatcher batcher = new RpcRequestBatcher(endpoint, null);
+
+      RecordingCallback kept = new RecordingCallback();
+      RecordingCallback cancelled = new RecordingCallback();
+      RpcRequest request = request("get_prefs");
+      batcher.send(request("list_files"), kept);
+      batcher.send(request, cancelled);
+      request.cancel();
+      batcher.flush();
+
+      // the remaining request goes out on its own
+      assertEquals(1, endpoint.sent.size());
+      assertEquals("list_files", endpoint.sent.get(0).getMethod());
+      assertNotNull(kept.response);
+      assertNull(cancelled.response);
+      assertNull(cancelled.error);
+   }
+}
@@ -0,0 +1,109 @@
+/*
+ * DeltaPatchTests.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.patch;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class DeltaPatchTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   // applies the patch the way the session does
+   private static String apply(String contents, DeltaPatch patch)
+   {
+      for (int i = 0; i < patch.size(); i++)
+      {
+         DeltaPatch.Hunk hunk = patch.get(i);
+         int start = offset(contents, hunk.getStartRow(), hunk.getStartColumn());
+         int end = offset(contents, hunk.getEndRow(), hunk.getEndColumn());
+         contents = contents.substring(0, start) +
+                    hunk.getText() +
+                    contents.substring(end);
+      }
+      return contents;
+   }
+
+   private static int offset(String contents, int row, int column)
+   {
+      int offset = 0;
+      for (int i = 0; i < row; i++)
+         offset = contents.indexOf('\n', offset) + 1;
+      return offset + column;
+   }
+
+   public void testTypingIsMergedIntoOneHunk()
+   {
+      DeltaPatch patch = new DeltaPatch();
+      patch.insert(1, 0, 1, 1, "a");
+      patch.insert(1, 1, 1, 2, "b");
+      patch.insert(1, 2, 2, 0, "\n");
+      patch.insert(2, 0, 2, 1, "c");
+
+      assertEquals(1, patch.size());
+      assertEquals("x\nab\ncy\nz", apply("x\ny\nz", patch));
+   }
+
+   public void testBackspaceIsMergedIntoOneHunk()
+   {
+      DeltaPatch patch = new DeltaPatch();
+      patch.remove(0, 4, 0, 5);
+      patch.remove(0, 3, 0, 4);
+      patch.remove(0, 2, 0, 3);
+
+      assertEquals(1, patch.size());
+      assertEquals("he world", apply("hello world", patch));
+   }
+
+   public void testForwardDeleteIsMergedIntoOneHunk()
+   {
+      DeltaPatch patch = new DeltaPatch();
+      patch.remove(0, 1, 0, 2);
+      patch.remove(0, 1, 0, 2);
+      patch.remove(0, 1, 1, 0);
+      patch.remove(0, 1, 0, 2);
+
+      assertEquals(1, patch.size());
+      assertEquals("ae", apply("abc\nde", patch));
+   }
+
+   public void testBackspaceOverTypedTextTrimsInsertion()
+   {
+      DeltaPatch patch = new DeltaPatch();
+      patch.insert(0, 3, 0, 6, "xyz");
+      patch.remove(0, 5, 0, 6);
+      assertEquals(1, patch.size());
+      assertEquals("abcxydef", apply("abcdef", patch));
+
+      patch.remove(0, 3, 0, 5);
+      assertTrue(patch.isEmpty());
+   }
+
+   public void testDistantEditsAreSeparateHunks()
+   {
+      String contents = "first\nsecond\nthird\nfourth";
+
+      DeltaPatch patch = new DeltaPatch();
+      patch.insert(0, 0, 0, 1, "#");
+      patch.remove(3, 0, 3, 6);
+      patch.insert(3, 0, 3, 4, "last");
+
+      assertEquals(2, patch.size());
+      assertEquals("#first\nsecond\nthird\nlast", apply(contents, patch));
+   }
+}
@@ -0,0 +1,81 @@
+/*
+ * RowHeightIndexTests.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.core.client.widget;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class RowHeightIndexTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   public void testDefaultHeights()
+   {
+      RowHeightIndex index = new RowHeightIndex(20);
+      index.reset(100);
+
+      assertEquals(0, index.offsetOf(0));
+      assertEquals(200, index.offsetOf(10));
+      assertEquals(2000, index.getTotalHeight());
+      assertEquals(0, index.rowAt(19));
+      assertEquals(1, index.rowAt(20));
+      assertEquals(50, index.rowAt(1010));
+   }
+
+   public void testRecordedHeights()
+   {
+      RowHeightIndex index = new RowHeightIndex(20);
+      index.reset(10);
+      index.setHeight(2, 50);
+      index.setHeight(7, 5);
+
+      assertEquals(40, index.offsetOf(2));
+      assertEquals(90, index.offsetOf(3));
+      assertEquals(215, index.getTotalHeight());
+      assertEquals(2, index.rowAt(40));
+      assertEquals(2, index.rowAt(89));
+      assertEquals(3, index.rowAt(90));
+      assertEquals(7, index.rowAt(172));
+      assertEquals(8, index.rowAt(175));
+   }
+
+   public void testRowAtMatchesOffsets()
+   {
+      RowHeightIndex index = new RowHeightIndex(24);
+      index.reset(37);
+      for (int i = 0; i < 37; i += 3)
+         index.setHeight(i, 10 + i);
+
+      for (int row = 0; row < 37; row++)
+      {
+         assertEquals(row, index.rowAt(index.offsetOf(row)));
+         assertEquals(row, index.rowAt(index.offsetOf(row + 1) - 1));
+      }
+   }
+
+   public void testOffsetsAreClamped()
+   {
+      RowHeightIndex index = new RowHeightIndex(20);
+      assertEquals(0, index.rowAt(100));
+
+      index.reset(5);
+      assertEquals(0, index.rowAt(-10));
+      assertEquals(4, index.rowAt(10000));
+      assertEquals(100, index.offsetOf(50));
+   }
+}
@@ -22,12 +22,17 @@ import org.rstudio.core.client.StringUtilTests;
 import org.rstudio.core.client.URIUtilsTests;
 import org.rstudio.core.client.VirtualConsoleTests;
 import org.rstudio.core.client.dom.DomUtilsTests;
+import org.rstudio.core.client.jsonrpc.RpcRequestBatcherTests;
+import org.rstudio.core.client.patch.DeltaPatchTests;
+import org.rstudio.core.client.widget.RowHeightIndexTests;
 import org.rstudio.studio.client.application.ApplicationUtilsTests;
 import org.rstudio.studio.client.application.model.SessionScopeTests;
 import org.rstudio.studio.client.common.r.RTokenizerTests;
+import org.rstudio.studio.client.palette.ui.CommandPaletteIndexTests;
 import org.rstudio.studio.client.projects.model.ProjectMRUEntryTests;
 import org.rstudio.studio.client.workbench.views.jobs.model.JobManagerTests;
 import org.rstudio.studio.client.workbench.views.jobs.view.JobsListTests;
+import org.rstudio.studio.client.workbench.views.packages.model.PackageSearchIndexTests;
 // Disabled in v1.3 due to failures. See #4249.
 // import org.rstudio.studio.client.workbench.views.source.editors.text.assist.RChunkHeaderParserTests;
 import org.rstudio.studio.client.workbench.views.terminal.TerminalLocalEchoTests;
@@ -63,6 +68,11 @@ public class RStudioUnitTestSuite extends GWTTestSuite
       suite.addTestSuite(TestMocks.class);
       suite.addTestSuite(ApplicationUtilsTests.class);
       suite.addTestSuite(ProjectMRUEntryTests.class);
+      suite.addTestSuite(RpcRequestBatcherTests.class);
+      suite.addTestSuite(DeltaPatchTests.class);
+      suite.addTestSuite(RowHeightIndexTests.class);
+      suite.addTestSuite(CommandPaletteIndexTests.class);
+      suite.addTestSuite(PackageSearchIndexTests.class);
 
       return suite;
    }
@@ -0,0 +1,91 @@
+/*
+ * CommandPaletteIndexTests.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.palette.ui;
+
+import java.util.Arrays;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class CommandPaletteIndexTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   private CommandPaletteIndex createIndex()
+   {
+      return new CommandPaletteIndex(Arrays.asList(
+            "Restart R",                  // 0 (MRU)
+            "Source File",                // 1
+            "Restart R and Clear Output", // 2
+            "setting Show margin",        // 3
+            "Insert Section",             // 4
+            "Console Restart R"),         // 5
+            1);
+   }
+
+   public void testNoKeywordsMatchesAll()
+   {
+      CommandPaletteIndex index = createIndex();
+      int[] matches = index.search(new String[] { "" });
+      assertEquals(6, matches.length);
+      for (int i = 0; i < matches.length; i++)
+         assertEquals(i, matches[i]);
+   }
+
+   public void testAllKeywordsMustMatch()
+   {
+      CommandPaletteIndex index = createIndex();
+      int[] matches = index.search(new String[] { "restart", "clear" });
+      assertEquals(1, matches.length);
+      assertEquals(2, matches[0]);
+
+      assertEquals(0, index.search(new String[] { "nothing" }).length);
+   }
+
+   public void testRanking()
+   {
+      CommandPaletteIndex index = createIndex();
+
+      // the MRU item comes first, then word starts ahead of mid-word matches
+      int[] matches = index.search(new String[] { "s" });
+      assertEquals(0, matches[0]);
+      assertEquals(1, matches[1]);
+      assertEquals(3, matches[2]);
+
+      // "sec" starts a word in "Insert Section" but not in others
+      matches = index.search(new String[] { "sec" });
+      assertEquals(1, matches.length);
+      assertEquals(4, matches[0]);
+   }
+
+   public void testNarrowingMatchesFullSearch()
+   {
+      CommandPaletteIndex index = createIndex();
+      String[][] queries = {
+            { "r" }, { "re" }, { "res" }, { "res", "c" }, { "res", "cl" },
+            { "r" }, { "so" }, { "sou" }, { "" }, { "in" }
+      };
+
+      for (String[] query : queries)
+      {
+         int[] incremental = index.search(query);
+         int[] full = createIndex().search(query);
+         assertTrue(Arrays.equals(full, incremental));
+      }
+   }
+}
@@ -0,0 +1,78 @@
+/*
+ * PackageSearchIndexTests.java
+ *
+ * Copyright (C) 2022 by Posit Software, PBC
+ *
+ * Unless you have received this program directly from Posit Software pursuant
+ * to the terms of a commercial license agreement with Posit Software, then
+ * this program is licensed to you under the terms of version 3 of the
+ * GNU Affero General Public License. This program is distributed WITHOUT
+ * ANY EXPRESS OR IMPLIED WARRANTY, INCLUDING THOSE OF NON-INFRINGEMENT,
+ * MERCHANTABILITY OR FITNESS FOR A PARTICULAR PURPOSE. Please refer to the
+ * AGPL (http://www.gnu.org/licenses/agpl-3.0.txt) for more details.
+ *
+ */
+package org.rstudio.studio.client.workbench.views.packages.model;
+
+import java.util.Arrays;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+public class PackageSearchIndexTests extends GWTTestCase
+{
+   @Override
+   public String getModuleName()
+   {
+      return "org.rstudio.studio.RStudioTests";
+   }
+
+   private PackageSearchIndex createIndex()
+   {
+      PackageSearchIndex index = new PackageSearchIndex();
+      index.add("dplyr", "A Grammar of Data Manipulation", "/proj/lib", 0);
+      index.add("plyr", "Tools for Splitting Data", "/proj/lib", 0);
+      index.add("ggplot2", "Create Elegant Data Visualisations", "/usr/lib", 1);
+      index.add("plotly", "Interactive Web Graphics", "/usr/lib", 1);
+      index.add("tidyr", "Tidy Messy Data", "/usr/lib", 1);
+      return index;
+   }
+
+   private static String rows(int[] rows)
+   {
+      return Arrays.toString(rows);
+   }
+
+   public void testPrefixMatchesFirstWithinLibrary()
+   {
+      PackageSearchIndex index = createIndex();
+      assertEquals("[1, 0, 3, 2]", rows(index.search("pl")));
+   }
+
+   public void testMatchesDescriptions()
+   {
+      PackageSearchIndex index = createIndex();
+      assertEquals("[0, 1, 2, 4]", rows(index.search("data")));
+      assertEquals("[3]", rows(index.search("web")));
+   }
+
+   public void testNarrowedAndWidenedSearches()
+   {
+      PackageSearchIndex index = createIndex();
+      assertEquals("[1, 0, 3, 2]", rows(index.search("p")));
+      assertEquals("[1, 0, 3, 2]", rows(index.search("pl")));
+      assertEquals("[1, 0]", rows(index.search("plyr")));
+      assertEquals("[4]", rows(index.search("tid")));
+      assertEquals("[]", rows(index.search("zzz")));
+      assertEquals("[]", rows(index.search("zzzz")));
+      assertEquals("[1, 0, 3, 2]", rows(index.search("pl")));
+   }
+
+   public void testRowOf()
+   {
+      PackageSearchIndex index = createIndex();
+      assertEquals(5, index.size());
+      assertEquals(3, index.rowOf("plotly", "/usr/lib"));
+      assertEquals(-1, index.rowOf("plotly", "/proj/lib"));
+      assertEquals(-1, index.rowOf("shiny", "/usr/lib"));
+   }
+}